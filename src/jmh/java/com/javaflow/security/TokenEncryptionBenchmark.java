@@ -0,0 +1,70 @@
+package com.javaflow.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link TokenEncryptionService}: encryption, decryption through the token cache
+ * and decryption with the cache disabled (cipher only).
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=TokenEncryptionBenchmark
+ * </pre>
+ *
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class TokenEncryptionBenchmark {
+
+    private static final String KEY = "MTIzNDU2Nzg5MDEyMzQ1Njc4OTAxMjM0NTY3ODkwMTI=";
+
+    /** Telegram tokens are around 46 characters. */
+    @Param({"46", "512"})
+    int tokenLength;
+
+    private TokenEncryptionService cached;
+    private TokenEncryptionService uncached;
+    private String token;
+    private String encrypted;
+
+    @Setup
+    public void setUp() {
+        cached = new TokenEncryptionService(KEY, 1000, 300);
+        uncached = new TokenEncryptionService(KEY, 0, 300);
+        token = "7".repeat(tokenLength);
+        encrypted = cached.encrypt(token);
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return cached.encrypt(token);
+    }
+
+    @Benchmark
+    public String decryptCached() {
+        return cached.decrypt(encrypted);
+    }
+
+    @Benchmark
+    public String decryptUncached() {
+        return uncached.decrypt(encrypted);
+    }
+}
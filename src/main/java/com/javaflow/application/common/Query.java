@@ -5,6 +5,9 @@ package com.javaflow.application.common;
  * 
  * Queries represent requests to read data from the system.
  * They should be immutable and not cause any side effects.
+ * 
+ * Use cases whose input is a Query run in a read-only transaction
+ * (see {@link QueryTransactionAspect}), which is served by the read replica when configured.
  */
 public interface Query {
 }
\ No newline at end of file
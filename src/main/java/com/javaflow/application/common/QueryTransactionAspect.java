@@ -0,0 +1,54 @@
+package com.javaflow.application.common;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs every {@link UseCase} whose input is a {@link Query} inside a read-only transaction.
+ *
+ * <p>Read-only transactions let Hibernate skip dirty checking and, when a read replica is
+ * configured, are routed to it (see {@code ReadReplicaDataSourceConfig}). If the use case is
+ * called from inside a read-write transaction it joins that transaction and keeps reading
+ * from the primary, so callers always see their own writes.</p>
+ */
+@Aspect
+@Component
+public class QueryTransactionAspect {
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    public QueryTransactionAspect(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Around("execution(* com.javaflow.application.common.UseCase+.execute(..)) && args(query)")
+    public Object executeReadOnly(ProceedingJoinPoint joinPoint, Query query) throws Throwable {
+        try {
+            return readOnlyTransaction.execute(status -> {
+                try {
+                    return joinPoint.proceed();
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new CheckedQueryException(e);
+                }
+            });
+        } catch (CheckedQueryException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Carries a checked exception out of the transaction callback.
+     */
+    private static class CheckedQueryException extends RuntimeException {
+        CheckedQueryException(Throwable cause) {
+            super(cause);
+        }
+    }
+}
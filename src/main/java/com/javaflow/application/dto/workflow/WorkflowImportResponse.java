@@ -0,0 +1,41 @@
+package com.javaflow.application.dto.workflow;
+
+import com.javaflow.application.workflow.result.WorkflowImportResult;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Response DTO for a bulk workflow import
+ */
+@Value
+@Builder
+public class WorkflowImportResponse {
+
+    int importedCount;
+    int activatedCount;
+    String deploymentId;
+    List<WorkflowResponse> workflows;
+    List<String> warnings;
+
+    public static WorkflowImportResponse from(WorkflowImportResult result) {
+        return WorkflowImportResponse.builder()
+                .importedCount(result.getWorkflows().size())
+                .activatedCount(result.getActivatedCount())
+                .deploymentId(result.getDeploymentId())
+                .workflows(result.getWorkflows().stream()
+                        .map(workflow -> WorkflowResponse.builder()
+                                .id(workflow.getId())
+                                .name(workflow.getName())
+                                .description(workflow.getDescription())
+                                .status(workflow.getStatus().toString())
+                                .version(workflow.getVersion())
+                                .createdAt(workflow.getCreatedAt())
+                                .createdBy(workflow.getCreatedByUsername())
+                                .build())
+                        .toList())
+                .warnings(result.getWarnings())
+                .build();
+    }
+}
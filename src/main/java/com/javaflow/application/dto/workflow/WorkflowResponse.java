@@ -1,6 +1,7 @@
 package com.javaflow.application.dto.workflow;
 
 import com.javaflow.model.Workflow;
+import com.javaflow.service.dto.WorkflowSummary;
 import lombok.Builder;
 import lombok.Value;
 
@@ -45,6 +46,23 @@ public class WorkflowResponse {
                 .build();
     }
     
+    public static WorkflowResponse from(WorkflowSummary workflow) {
+        return WorkflowResponse.builder()
+                .id(workflow.id())
+                .name(workflow.name())
+                .description(workflow.description())
+                .status(workflow.status().toString())
+                .version(workflow.version())
+                .createdAt(workflow.createdAt())
+                .updatedAt(workflow.updatedAt())
+                .createdBy(workflow.createdBy() != null ? workflow.createdBy() : "System")
+                .executionCount(Math.toIntExact(workflow.executionCount()))
+                .successfulExecutions(workflow.successfulExecutions())
+                .failedExecutions(workflow.failedExecutions())
+                .successRate(workflow.successRate())
+                .build();
+    }
+    
     public static WorkflowResponse fromBasic(Workflow workflow) {
         return WorkflowResponse.builder()
                 .id(workflow.getId())
@@ -3,15 +3,18 @@ package com.javaflow.application.handlers;
 import com.javaflow.domain.events.WorkflowActivatedEvent;
 import com.javaflow.domain.events.WorkflowExecutedEvent;
 import com.javaflow.monitoring.MetricsService;
+import com.javaflow.outbox.OutboxDelivery;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 /**
  * Event handler for workflow-related domain events.
  * Handles logging, metrics collection, and other cross-cutting concerns.
+ *
+ * Events arrive through the transactional outbox on the relay thread, after the transaction that
+ * raised them has committed. Delivery is at-least-once, so handlers must tolerate duplicates.
  */
 @Component
 @RequiredArgsConstructor
@@ -22,13 +25,12 @@ public class WorkflowEventHandler {
 
     /**
      * Handles the event when a workflow is activated.
-     * This method is executed asynchronously to avoid blocking the main thread.
      *
-     * @param event The workflow activation event.
+     * @param delivery The workflow activation event, delivered from the outbox.
      */
     @EventListener
-    @Async
-    public void handle(WorkflowActivatedEvent event) {
+    public void handleActivated(OutboxDelivery<WorkflowActivatedEvent> delivery) {
+        WorkflowActivatedEvent event = delivery.event();
         log.info("✅ Workflow Activated Event Received: Name='{}', ID={}", event.workflowName(), event.workflowId());
         
         // Record metrics
@@ -40,10 +42,11 @@ public class WorkflowEventHandler {
     /**
      * Handles the event when a workflow is executed.
      *
-     * @param event The workflow execution event.
+     * @param delivery The workflow execution event, delivered from the outbox.
      */
     @EventListener
-    public void handle(WorkflowExecutedEvent event) {
+    public void handleExecuted(OutboxDelivery<WorkflowExecutedEvent> delivery) {
+        WorkflowExecutedEvent event = delivery.event();
         log.info("🚀 Workflow Executed Event Received: WorkflowID={}, Status={}", event.workflowId(), event.status());
         
         // Record metrics
@@ -3,13 +3,13 @@ package com.javaflow.application.workflow;
 import com.javaflow.application.common.UseCase;
 import com.javaflow.application.workflow.command.ActivateWorkflowCommand;
 import com.javaflow.application.workflow.result.WorkflowResult;
+import com.javaflow.cache.WorkflowCache;
 import com.javaflow.model.Workflow;
 import com.javaflow.repository.WorkflowRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.flowable.engine.RepositoryService;
 import org.flowable.engine.repository.Deployment;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,7 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
  * 1. Workflow validation
  * 2. BPMN deployment to Flowable engine
  * 3. Status update to ACTIVE
- * 4. Cache invalidation
+ * 4. Incremental cache update
  */
 @Component
 @RequiredArgsConstructor
@@ -29,10 +29,10 @@ public class ActivateWorkflowUseCase implements UseCase<ActivateWorkflowCommand,
 
     private final WorkflowRepository workflowRepository;
     private final RepositoryService repositoryService;
+    private final WorkflowCache workflowCache;
 
     @Override
     @Transactional
-    @CacheEvict(value = "workflows", key = "#command.workflowId")
     public WorkflowResult execute(ActivateWorkflowCommand command) {
         log.info("Activating workflow with ID: {}", command.getWorkflowId());
         
@@ -52,6 +52,7 @@ public class ActivateWorkflowUseCase implements UseCase<ActivateWorkflowCommand,
         
         // 4. Save the activated workflow
         Workflow savedWorkflow = workflowRepository.save(workflow);
+        workflowCache.workflowChanged(savedWorkflow);
         
         log.info("Workflow '{}' activated successfully", workflow.getName());
         
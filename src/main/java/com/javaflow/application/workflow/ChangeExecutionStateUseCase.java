@@ -0,0 +1,94 @@
+package com.javaflow.application.workflow;
+
+import com.javaflow.application.common.UseCase;
+import com.javaflow.application.workflow.command.ChangeExecutionStateCommand;
+import com.javaflow.application.workflow.result.WorkflowExecutionResult;
+import com.javaflow.domain.exception.WorkflowExecutionNotFoundException;
+import com.javaflow.model.WorkflowExecution;
+import com.javaflow.monitoring.MetricsService;
+import com.javaflow.repository.WorkflowExecutionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.flowable.engine.RuntimeService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Use case for suspending and resuming a workflow execution.
+ * 
+ * Each attempt runs in its own transaction:
+ * 1. Loads the execution
+ * 2. Applies the domain transition (suspend/resume, validates the current status)
+ * 3. Suspends or activates the process instance in Flowable
+ * 4. Flushes the execution, failing on a concurrent update of its {@code @Version}
+ * 
+ * On an optimistic locking conflict the attempt is retried with the current state, up to
+ * {@code javaflow.executions.transition-max-attempts} times. It is not retried when called
+ * inside an existing transaction, since the conflict marks that transaction for rollback.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChangeExecutionStateUseCase implements UseCase<ChangeExecutionStateCommand, WorkflowExecutionResult> {
+
+    private final WorkflowExecutionRepository executionRepository;
+    private final RuntimeService runtimeService;
+    private final MetricsService metricsService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${javaflow.executions.transition-max-attempts:3}")
+    private int transitionMaxAttempts = 3;
+
+    @Override
+    public WorkflowExecutionResult execute(ChangeExecutionStateCommand command) {
+        log.info("Changing state of execution {}: {}", command.getExecutionId(), command.getAction());
+        
+        for (int attempt = 1; ; attempt++) {
+            try {
+                // The result is built inside the transaction, where the workflow and user can still be loaded
+                return transactionTemplate.execute(status -> WorkflowExecutionResult.from(applyTransition(command)));
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= transitionMaxAttempts || TransactionSynchronizationManager.isActualTransactionActive()) {
+                    throw e;
+                }
+                log.debug("Concurrent update of execution {}, retrying (attempt {})", command.getExecutionId(), attempt + 1);
+                metricsService.recordOptimisticLockRetry("workflow_execution");
+                backOff(attempt);
+            }
+        }
+    }
+
+    private WorkflowExecution applyTransition(ChangeExecutionStateCommand command) {
+        WorkflowExecution execution = executionRepository.findById(command.getExecutionId())
+                .orElseThrow(() -> new WorkflowExecutionNotFoundException(command.getExecutionId()));
+        
+        // Domain methods validate the current status
+        switch (command.getAction()) {
+            case SUSPEND -> {
+                execution.suspend();
+                runtimeService.suspendProcessInstanceById(execution.getProcessInstanceId());
+            }
+            case RESUME -> {
+                execution.resume();
+                runtimeService.activateProcessInstanceById(execution.getProcessInstanceId());
+            }
+        }
+        
+        return executionRepository.saveAndFlush(execution);
+    }
+
+    private static void backOff(int attempt) {
+        try {
+            // Jitter so that the competing transactions do not collide again
+            Thread.sleep(ThreadLocalRandom.current().nextLong(1, 10L * attempt + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying execution transition", e);
+        }
+    }
+}
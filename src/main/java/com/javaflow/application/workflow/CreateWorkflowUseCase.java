@@ -3,6 +3,7 @@ package com.javaflow.application.workflow;
 import com.javaflow.application.common.UseCase;
 import com.javaflow.application.workflow.command.CreateWorkflowCommand;
 import com.javaflow.application.workflow.result.WorkflowResult;
+import com.javaflow.cache.WorkflowCache;
 import com.javaflow.domain.service.WorkflowValidationService;
 import com.javaflow.model.User;
 import com.javaflow.model.Workflow;
@@ -10,7 +11,6 @@ import com.javaflow.repository.UserRepository;
 import com.javaflow.repository.WorkflowRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,7 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
  * 1. Input validation
  * 2. User verification
  * 3. Workflow creation with proper defaults
- * 4. Cache invalidation
+ * 4. Incremental cache update
  */
 @Component
 @RequiredArgsConstructor
@@ -31,10 +31,10 @@ public class CreateWorkflowUseCase implements UseCase<CreateWorkflowCommand, Wor
     private final WorkflowRepository workflowRepository;
     private final UserRepository userRepository;
     private final WorkflowValidationService validationService;
+    private final WorkflowCache workflowCache;
 
     @Override
     @Transactional
-    @CacheEvict(value = "workflows", allEntries = true)
     public WorkflowResult execute(CreateWorkflowCommand command) {
         log.info("Creating workflow: {}", command.getName());
         
@@ -50,6 +50,9 @@ public class CreateWorkflowUseCase implements UseCase<CreateWorkflowCommand, Wor
         // 4. Save and return result
         Workflow savedWorkflow = workflowRepository.save(workflow);
         
+        // 5. Add it to the cached lists once committed (no full invalidation)
+        workflowCache.workflowCreated(savedWorkflow);
+        
         log.info("Workflow created successfully with ID: {}", savedWorkflow.getId());
         
         return WorkflowResult.from(savedWorkflow);
@@ -3,6 +3,7 @@ package com.javaflow.application.workflow;
 import com.javaflow.application.common.UseCase;
 import com.javaflow.application.workflow.command.ExecuteWorkflowCommand;
 import com.javaflow.application.workflow.result.WorkflowExecutionResult;
+import com.javaflow.logging.SystemLogAppender;
 import com.javaflow.model.User;
 import com.javaflow.model.Workflow;
 import com.javaflow.model.WorkflowExecution;
@@ -15,6 +16,8 @@ import org.flowable.engine.RuntimeService;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * Use case for executing a workflow.
@@ -24,7 +27,8 @@ import org.springframework.transaction.annotation.Transactional;
  * 2. Validates the user exists
  * 3. Starts the process instance in Flowable
  * 4. Creates and persists the execution record
- * 5. Returns the execution result
+ * 5. Links the system logs of the run to the record once it is committed
+ * 6. Returns the execution result
  */
 @Component
 @RequiredArgsConstructor
@@ -35,6 +39,7 @@ public class ExecuteWorkflowUseCase implements UseCase<ExecuteWorkflowCommand, W
     private final UserRepository userRepository;
     private final WorkflowExecutionRepository executionRepository;
     private final RuntimeService runtimeService;
+    private final SystemLogAppender logAppender;
 
     @Override
     @Transactional
@@ -53,7 +58,10 @@ public class ExecuteWorkflowUseCase implements UseCase<ExecuteWorkflowCommand, W
         // 4. Create and persist execution record
         WorkflowExecution execution = createExecutionRecord(workflow, processInstance, startedBy);
         
-        // 5. Return result
+        // 5. Link logs written by synchronous steps before the record existed
+        afterCommit(() -> logAppender.linkExecution(execution.getProcessInstanceId(), execution.getId()));
+        
+        // 6. Return result
         WorkflowExecutionResult result = WorkflowExecutionResult.from(execution);
         
         log.info("Workflow execution started successfully. Execution ID: {}, Process Instance ID: {}", 
@@ -113,6 +121,19 @@ public class ExecuteWorkflowUseCase implements UseCase<ExecuteWorkflowCommand, W
         return executionRepository.save(execution);
     }
 
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
     // Custom exceptions for better error handling
     public static class WorkflowNotFoundException extends RuntimeException {
         public WorkflowNotFoundException(String message) {
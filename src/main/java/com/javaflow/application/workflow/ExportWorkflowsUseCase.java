@@ -0,0 +1,49 @@
+package com.javaflow.application.workflow;
+
+import com.javaflow.application.common.UseCase;
+import com.javaflow.application.workflow.bundle.WorkflowBundleEntry;
+import com.javaflow.application.workflow.query.ExportWorkflowsQuery;
+import com.javaflow.model.Workflow;
+import com.javaflow.repository.WorkflowRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Use case for exporting workflow definitions as bundle entries (see
+ * {@link com.javaflow.application.workflow.bundle.WorkflowBundleCodec}).
+ *
+ * Runs in a read-only transaction (it takes a {@link com.javaflow.application.common.Query}).
+ * Entries are ordered by name so that exports of the same environment are comparable.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExportWorkflowsUseCase implements UseCase<ExportWorkflowsQuery, List<WorkflowBundleEntry>> {
+
+    private final WorkflowRepository workflowRepository;
+
+    @Override
+    public List<WorkflowBundleEntry> execute(ExportWorkflowsQuery query) {
+        List<Workflow> workflows;
+        if (query.getWorkflowIds() != null && !query.getWorkflowIds().isEmpty()) {
+            workflows = workflowRepository.findAllById(query.getWorkflowIds());
+        } else if (query.getStatus() != null) {
+            workflows = workflowRepository.findByStatus(query.getStatus());
+        } else {
+            workflows = workflowRepository.findAll().stream()
+                    .filter(workflow -> workflow.getStatus() != Workflow.WorkflowStatus.ARCHIVED)
+                    .toList();
+        }
+
+        log.info("Exporting {} workflows", workflows.size());
+
+        return workflows.stream()
+                .sorted(Comparator.comparing(Workflow::getName))
+                .map(WorkflowBundleEntry::from)
+                .toList();
+    }
+}
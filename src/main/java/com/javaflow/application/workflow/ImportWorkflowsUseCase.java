@@ -0,0 +1,235 @@
+package com.javaflow.application.workflow;
+
+import com.javaflow.application.common.UseCase;
+import com.javaflow.application.workflow.bundle.WorkflowBundleEntry;
+import com.javaflow.application.workflow.command.ImportWorkflowsCommand;
+import com.javaflow.application.workflow.result.WorkflowImportResult;
+import com.javaflow.application.workflow.result.WorkflowResult;
+import com.javaflow.cache.WorkflowCache;
+import com.javaflow.domain.service.WorkflowValidationService;
+import com.javaflow.model.User;
+import com.javaflow.model.Workflow;
+import com.javaflow.repository.UserRepository;
+import com.javaflow.repository.WorkflowRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.flowable.engine.RepositoryService;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.DeploymentBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Use case for importing many workflows at once (environment promotion).
+ *
+ * This use case handles:
+ * 1. Validation of every BPMN definition in parallel on a dedicated fork-join pool
+ * 2. Duplicate-name check for the whole set with a single query
+ * 3. Creation of all workflows in one transaction (all or nothing)
+ * 4. Activation of the workflows marked active through a single Flowable deployment
+ * 5. A new generation of the cached workflow lists
+ */
+@Component
+@Slf4j
+public class ImportWorkflowsUseCase implements UseCase<ImportWorkflowsCommand, WorkflowImportResult> {
+
+    /** Maximum number of validation errors reported back to the caller. */
+    static final int MAX_REPORTED_ERRORS = 50;
+
+    private final WorkflowRepository workflowRepository;
+    private final UserRepository userRepository;
+    private final WorkflowValidationService validationService;
+    private final RepositoryService repositoryService;
+    private final WorkflowCache workflowCache;
+    private final ForkJoinPool validationPool;
+
+    public ImportWorkflowsUseCase(
+            WorkflowRepository workflowRepository,
+            UserRepository userRepository,
+            WorkflowValidationService validationService,
+            RepositoryService repositoryService,
+            WorkflowCache workflowCache,
+            @Value("${javaflow.workflow.bulk.validation-parallelism:0}") int validationParallelism) {
+        this.workflowRepository = workflowRepository;
+        this.userRepository = userRepository;
+        this.validationService = validationService;
+        this.repositoryService = repositoryService;
+        this.workflowCache = workflowCache;
+        // Own pool so that a large import does not starve the common pool (0 = one thread per core)
+        this.validationPool = new ForkJoinPool(validationParallelism > 0
+                ? validationParallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        validationPool.shutdown();
+    }
+
+    @Override
+    @Transactional
+    public WorkflowImportResult execute(ImportWorkflowsCommand command) {
+        List<WorkflowBundleEntry> entries = command.getWorkflows();
+        if (entries == null || entries.isEmpty()) {
+            throw new InvalidWorkflowBundleException("The bundle contains no workflows", List.of());
+        }
+        log.info("Importing {} workflows", entries.size());
+
+        // 1. Names must be unique inside the bundle and in the database (one query for all of them)
+        checkDuplicateNames(entries);
+
+        // 2. Load user
+        User importedBy = loadUser(command.getImportedByUserId());
+
+        // 3. Build and validate every workflow in parallel
+        List<ValidatedWorkflow> validated = validateAll(entries, importedBy);
+        List<String> errors = validated.stream().flatMap(v -> v.errors().stream()).toList();
+        if (!errors.isEmpty()) {
+            throw new InvalidWorkflowBundleException(
+                    String.format("%d of %d workflows are invalid",
+                            validated.stream().filter(v -> !v.errors().isEmpty()).count(), entries.size()),
+                    errors.size() > MAX_REPORTED_ERRORS ? errors.subList(0, MAX_REPORTED_ERRORS) : errors);
+        }
+        List<String> warnings = validated.stream().flatMap(v -> v.warnings().stream()).toList();
+
+        // 4. Save all workflows as DRAFT (IDs are needed by the activation events)
+        List<Workflow> workflows = workflowRepository.saveAll(
+                validated.stream().map(ValidatedWorkflow::workflow).toList());
+
+        // 5. Activate the ones marked active, deploying all of them together
+        List<Workflow> toActivate = new ArrayList<>();
+        for (int i = 0; i < workflows.size(); i++) {
+            if (entries.get(i).active()) {
+                toActivate.add(workflows.get(i));
+            }
+        }
+        String deploymentId = null;
+        if (!toActivate.isEmpty()) {
+            toActivate.forEach(Workflow::activate);
+            deploymentId = deployToFlowableEngine(toActivate);
+            workflowRepository.saveAll(toActivate);
+        }
+
+        // New IDs only: the cached entries stay valid, the lists start a new generation
+        workflowCache.listsChanged();
+
+        log.info("Imported {} workflows ({} activated, deployment {})",
+                workflows.size(), toActivate.size(), deploymentId);
+
+        return WorkflowImportResult.builder()
+                .workflows(workflows.stream().map(WorkflowResult::from).toList())
+                .activatedCount(toActivate.size())
+                .deploymentId(deploymentId)
+                .warnings(warnings)
+                .build();
+    }
+
+    private void checkDuplicateNames(List<WorkflowBundleEntry> entries) {
+        Set<String> names = new LinkedHashSet<>();
+        Set<String> repeated = new LinkedHashSet<>();
+        for (WorkflowBundleEntry entry : entries) {
+            if (entry.name() == null || entry.name().trim().isEmpty()) {
+                throw new InvalidWorkflowBundleException("Every workflow in the bundle needs a name", List.of());
+            }
+            if (!names.add(entry.name().trim())) {
+                repeated.add(entry.name().trim());
+            }
+        }
+        if (!repeated.isEmpty()) {
+            throw new InvalidWorkflowBundleException("Workflow names repeated in the bundle: " + repeated, List.of());
+        }
+
+        List<String> existing = workflowRepository.findExistingNames(names);
+        if (!existing.isEmpty()) {
+            throw new CreateWorkflowUseCase.WorkflowAlreadyExistsException(
+                "Workflows with these names already exist: " + new HashSet<>(existing)
+            );
+        }
+    }
+
+    private User loadUser(Long userId) {
+        if (userId == null) {
+            throw new CreateWorkflowUseCase.InvalidWorkflowDataException("Imported by user ID is required");
+        }
+
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new CreateWorkflowUseCase.UserNotFoundException("User not found with ID: " + userId));
+    }
+
+    private List<ValidatedWorkflow> validateAll(List<WorkflowBundleEntry> entries, User importedBy) {
+        // A parallel stream submitted to a ForkJoinPool runs its tasks in that pool; order is preserved
+        return validationPool.submit(() -> entries.parallelStream()
+                        .map(entry -> validate(entry, importedBy))
+                        .toList())
+                .join();
+    }
+
+    private ValidatedWorkflow validate(WorkflowBundleEntry entry, User importedBy) {
+        Workflow workflow = Workflow.builder()
+                .name(entry.name().trim())
+                .description(entry.description())
+                .bpmnXml(entry.bpmnXml())
+                .status(Workflow.WorkflowStatus.DRAFT)
+                .createdBy(importedBy)
+                .build();
+
+        WorkflowValidationService.ValidationResult bpmn = validationService.validateBpmn(entry.bpmnXml());
+        WorkflowValidationService.ValidationResult rules = validationService.validateWorkflowBusinessRules(workflow);
+
+        String prefix = workflow.getName() + ": ";
+        List<String> errors = new ArrayList<>();
+        bpmn.getErrors().forEach(error -> errors.add(prefix + error));
+        rules.getErrors().forEach(error -> errors.add(prefix + error));
+        List<String> warnings = new ArrayList<>();
+        bpmn.getWarnings().forEach(warning -> warnings.add(prefix + warning));
+        rules.getWarnings().forEach(warning -> warnings.add(prefix + warning));
+
+        return new ValidatedWorkflow(workflow, errors, warnings);
+    }
+
+    private String deployToFlowableEngine(List<Workflow> workflows) {
+        try {
+            DeploymentBuilder builder = repositoryService.createDeployment()
+                    .name("bulk-import-" + LocalDateTime.now());
+            for (Workflow workflow : workflows) {
+                builder.addString(workflow.getName() + ".bpmn20.xml", workflow.getBpmnXml());
+            }
+            Deployment deployment = builder.deploy();
+
+            log.info("{} workflows deployed to Flowable with deployment ID: {}",
+                    workflows.size(), deployment.getId());
+            return deployment.getId();
+
+        } catch (Exception e) {
+            log.error("Failed to deploy {} imported workflows to Flowable engine", workflows.size(), e);
+            throw new ActivateWorkflowUseCase.WorkflowDeploymentException(
+                "Failed to deploy imported workflows to process engine: " + e.getMessage(), e
+            );
+        }
+    }
+
+    private record ValidatedWorkflow(Workflow workflow, List<String> errors, List<String> warnings) {
+    }
+
+    // Custom exceptions
+    public static class InvalidWorkflowBundleException extends RuntimeException {
+        private final List<String> errors;
+
+        public InvalidWorkflowBundleException(String message, List<String> errors) {
+            super(errors.isEmpty() ? message : message + ": " + String.join("; ", errors));
+            this.errors = List.copyOf(errors);
+        }
+
+        public List<String> getErrors() {
+            return errors;
+        }
+    }
+}
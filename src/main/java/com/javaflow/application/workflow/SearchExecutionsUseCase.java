@@ -0,0 +1,78 @@
+package com.javaflow.application.workflow;
+
+import com.javaflow.application.common.UseCase;
+import com.javaflow.application.workflow.query.SearchExecutionsQuery;
+import com.javaflow.application.workflow.result.ExecutionSearchResult;
+import com.javaflow.model.WorkflowExecution;
+import com.javaflow.repository.WorkflowExecutionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import static com.javaflow.repository.WorkflowExecutionSpecifications.*;
+
+/**
+ * Use case for searching workflow executions.
+ *
+ * Filters by workflow, status set, start time range, starting user and error message prefix.
+ * Runs in a read-only transaction (it takes a {@link com.javaflow.application.common.Query}),
+ * so it is served by the read replica when one is configured.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SearchExecutionsUseCase implements UseCase<SearchExecutionsQuery, ExecutionSearchResult> {
+
+    static final int MAX_PAGE_SIZE = 200;
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "startedAt");
+
+    private final WorkflowExecutionRepository executionRepository;
+
+    @Override
+    public ExecutionSearchResult execute(SearchExecutionsQuery query) {
+        validate(query);
+        log.debug("Searching executions: {}", query);
+
+        Specification<WorkflowExecution> spec = Specification.where(hasWorkflow(query.getWorkflowId()))
+                .and(hasStatusIn(query.getStatuses()))
+                .and(startedFrom(query.getStartedFrom()))
+                .and(startedBefore(query.getStartedTo()))
+                .and(startedBy(query.getStartedByUserId()))
+                .and(errorStartsWith(query.getErrorPrefix()));
+
+        Page<WorkflowExecution> page = executionRepository.findAll(
+                spec, PageRequest.of(query.getPage(), query.getSize(), NEWEST_FIRST));
+
+        return ExecutionSearchResult.builder()
+                .executions(page.getContent())
+                .page(query.getPage())
+                .size(query.getSize())
+                .totalElements(page.getTotalElements())
+                .build();
+    }
+
+    private void validate(SearchExecutionsQuery query) {
+        if (query.getPage() < 0) {
+            throw new InvalidSearchException("Page must not be negative");
+        }
+        if (query.getSize() < 1 || query.getSize() > MAX_PAGE_SIZE) {
+            throw new InvalidSearchException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (query.getStartedFrom() != null && query.getStartedTo() != null
+                && !query.getStartedFrom().isBefore(query.getStartedTo())) {
+            throw new InvalidSearchException("'from' must be before 'to'");
+        }
+    }
+
+    // Custom exceptions
+    public static class InvalidSearchException extends RuntimeException {
+        public InvalidSearchException(String message) {
+            super(message);
+        }
+    }
+}
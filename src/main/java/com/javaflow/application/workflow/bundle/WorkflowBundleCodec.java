@@ -0,0 +1,190 @@
+package com.javaflow.application.workflow.bundle;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Reads and writes workflow bundles: a ZIP archive with one BPMN file per workflow plus a
+ * {@value #MANIFEST} file holding the metadata.
+ *
+ * <pre>
+ * workflows.json
+ * bpmn/Order_Approval.bpmn20.xml
+ * bpmn/Customer_Onboarding.bpmn20.xml
+ * </pre>
+ *
+ * <p>The manifest lists, in order, each workflow's name, description, BPMN file and whether it
+ * should be active. BPMN files not referenced by the manifest are ignored.</p>
+ *
+ * @since 1.1.0
+ */
+@Component
+public class WorkflowBundleCodec {
+
+    public static final String MANIFEST = "workflows.json";
+    static final String BPMN_DIRECTORY = "bpmn/";
+    static final String BPMN_SUFFIX = ".bpmn20.xml";
+    static final int FORMAT_VERSION = 1;
+
+    private final ObjectMapper objectMapper;
+    private final int maxWorkflows;
+    private final long maxEntryBytes;
+
+    public WorkflowBundleCodec(
+            ObjectMapper objectMapper,
+            @Value("${javaflow.workflow.bulk.max-workflows:1000}") int maxWorkflows,
+            @Value("${javaflow.workflow.bulk.max-bpmn-bytes:5242880}") long maxEntryBytes) {
+        this.objectMapper = objectMapper;
+        this.maxWorkflows = maxWorkflows;
+        this.maxEntryBytes = maxEntryBytes;
+    }
+
+    /**
+     * Reads a bundle.
+     *
+     * @param archive ZIP stream (not closed)
+     * @return Entries in manifest order
+     * @throws InvalidBundleException if the archive is malformed, too large or incomplete
+     */
+    public List<WorkflowBundleEntry> read(InputStream archive) {
+        byte[] manifestBytes = null;
+        Map<String, String> files = new HashMap<>();
+
+        try {
+            ZipInputStream zip = new ZipInputStream(archive, StandardCharsets.UTF_8);
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (entry.isDirectory()) {
+                    continue;
+                }
+                String path = entry.getName();
+                if (path.equals(MANIFEST)) {
+                    manifestBytes = readLimited(zip, path);
+                } else if (path.endsWith(BPMN_SUFFIX)) {
+                    if (files.size() >= maxWorkflows) {
+                        throw new InvalidBundleException("Bundle contains more than " + maxWorkflows + " BPMN files");
+                    }
+                    files.put(path, new String(readLimited(zip, path), StandardCharsets.UTF_8));
+                }
+            }
+        } catch (IOException e) {
+            throw new InvalidBundleException("Could not read workflow bundle: " + e.getMessage());
+        }
+
+        if (manifestBytes == null) {
+            throw new InvalidBundleException("Bundle has no " + MANIFEST);
+        }
+
+        Manifest manifest;
+        try {
+            manifest = objectMapper.readValue(manifestBytes, Manifest.class);
+        } catch (IOException e) {
+            throw new InvalidBundleException("Invalid " + MANIFEST + ": " + e.getMessage());
+        }
+        if (manifest.workflows() == null || manifest.workflows().isEmpty()) {
+            throw new InvalidBundleException(MANIFEST + " lists no workflows");
+        }
+        if (manifest.workflows().size() > maxWorkflows) {
+            throw new InvalidBundleException("Bundle contains more than " + maxWorkflows + " workflows");
+        }
+
+        List<WorkflowBundleEntry> entries = new ArrayList<>(manifest.workflows().size());
+        for (ManifestEntry item : manifest.workflows()) {
+            String bpmnXml = item.file() != null ? files.get(item.file()) : null;
+            if (bpmnXml == null) {
+                throw new InvalidBundleException(String.format(
+                        "BPMN file '%s' of workflow '%s' is missing from the bundle", item.file(), item.name()));
+            }
+            entries.add(new WorkflowBundleEntry(item.name(), item.description(), bpmnXml, item.active()));
+        }
+        return entries;
+    }
+
+    /**
+     * Writes a bundle.
+     *
+     * @param entries Workflows to export
+     * @param out     Destination (not closed)
+     * @throws IOException if the stream cannot be written
+     */
+    public void write(Collection<WorkflowBundleEntry> entries, OutputStream out) throws IOException {
+        List<ManifestEntry> items = new ArrayList<>(entries.size());
+        Set<String> usedFiles = new HashSet<>();
+
+        ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        for (WorkflowBundleEntry entry : entries) {
+            String file = uniqueFileName(entry.name(), usedFiles);
+            items.add(new ManifestEntry(entry.name(), entry.description(), file, entry.active()));
+
+            zip.putNextEntry(new ZipEntry(file));
+            zip.write(entry.bpmnXml().getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+
+        // Manifest last: it is only complete once every file name is known
+        zip.putNextEntry(new ZipEntry(MANIFEST));
+        zip.write(objectMapper.writerWithDefaultPrettyPrinter()
+                .writeValueAsBytes(new Manifest(FORMAT_VERSION, LocalDateTime.now(), items)));
+        zip.closeEntry();
+        zip.finish();
+    }
+
+    private byte[] readLimited(ZipInputStream zip, String path) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        byte[] chunk = new byte[8192];
+        int read;
+        while ((read = zip.read(chunk)) != -1) {
+            if (buffer.size() + read > maxEntryBytes) {
+                throw new InvalidBundleException(String.format(
+                        "Bundle entry '%s' exceeds %d bytes", path, maxEntryBytes));
+            }
+            buffer.write(chunk, 0, read);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static String uniqueFileName(String workflowName, Set<String> usedFiles) {
+        String base = BPMN_DIRECTORY + workflowName.trim().replaceAll("[^A-Za-z0-9\\-_]", "_");
+        String file = base + BPMN_SUFFIX;
+        for (int i = 2; !usedFiles.add(file); i++) {
+            file = base + "_" + i + BPMN_SUFFIX;
+        }
+        return file;
+    }
+
+    // ========== MANIFEST FORMAT ==========
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Manifest(int format, LocalDateTime exportedAt, List<ManifestEntry> workflows) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record ManifestEntry(String name, String description, String file, boolean active) {
+    }
+
+    // Custom exceptions
+    public static class InvalidBundleException extends RuntimeException {
+        public InvalidBundleException(String message) {
+            super(message);
+        }
+    }
+}
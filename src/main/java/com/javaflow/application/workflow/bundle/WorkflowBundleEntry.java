@@ -0,0 +1,25 @@
+package com.javaflow.application.workflow.bundle;
+
+import com.javaflow.model.Workflow;
+
+/**
+ * One workflow definition inside a bundle archive.
+ *
+ * @param name        Workflow name (unique in the target environment)
+ * @param description Optional description
+ * @param bpmnXml     BPMN 2.0 definition
+ * @param active      Whether the workflow is activated on import
+ * @since 1.1.0
+ */
+public record WorkflowBundleEntry(
+        String name,
+        String description,
+        String bpmnXml,
+        boolean active
+) {
+
+    public static WorkflowBundleEntry from(Workflow workflow) {
+        return new WorkflowBundleEntry(workflow.getName(), workflow.getDescription(),
+                workflow.getBpmnXml(), workflow.isActive());
+    }
+}
@@ -0,0 +1,35 @@
+package com.javaflow.application.workflow.command;
+
+import com.javaflow.application.common.Command;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Command to suspend or resume a workflow execution
+ */
+@Value
+@Builder
+public class ChangeExecutionStateCommand implements Command {
+    
+    Long executionId;
+    Action action;
+    
+    public enum Action {
+        SUSPEND,
+        RESUME
+    }
+    
+    public static ChangeExecutionStateCommand suspend(Long executionId) {
+        return ChangeExecutionStateCommand.builder()
+                .executionId(executionId)
+                .action(Action.SUSPEND)
+                .build();
+    }
+    
+    public static ChangeExecutionStateCommand resume(Long executionId) {
+        return ChangeExecutionStateCommand.builder()
+                .executionId(executionId)
+                .action(Action.RESUME)
+                .build();
+    }
+}
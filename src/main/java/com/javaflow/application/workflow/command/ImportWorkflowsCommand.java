@@ -0,0 +1,26 @@
+package com.javaflow.application.workflow.command;
+
+import com.javaflow.application.common.Command;
+import com.javaflow.application.workflow.bundle.WorkflowBundleEntry;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Command to import a set of workflows (usually read from a bundle archive) in one transaction
+ */
+@Value
+@Builder
+public class ImportWorkflowsCommand implements Command {
+    
+    List<WorkflowBundleEntry> workflows;
+    Long importedByUserId;
+    
+    public static ImportWorkflowsCommand of(List<WorkflowBundleEntry> workflows, Long userId) {
+        return ImportWorkflowsCommand.builder()
+                .workflows(workflows)
+                .importedByUserId(userId)
+                .build();
+    }
+}
@@ -10,6 +10,9 @@
  *   <li>{@link com.javaflow.application.workflow.CreateWorkflowUseCase} - Creates a new workflow definition</li>
  *   <li>{@link com.javaflow.application.workflow.ActivateWorkflowUseCase} - Activates a workflow for execution</li>
  *   <li>{@link com.javaflow.application.workflow.ExecuteWorkflowUseCase} - Executes a workflow instance</li>
+ *   <li>{@link com.javaflow.application.workflow.SearchExecutionsUseCase} - Searches executions (read-only query)</li>
+ *   <li>{@link com.javaflow.application.workflow.ImportWorkflowsUseCase} - Imports a bundle of workflows in one transaction and one deployment</li>
+ *   <li>{@link com.javaflow.application.workflow.ExportWorkflowsUseCase} - Exports workflows as bundle entries (read-only query)</li>
  * </ul>
  * 
  * <h2>Design Pattern</h2>
@@ -0,0 +1,20 @@
+package com.javaflow.application.workflow.query;
+
+import com.javaflow.application.common.Query;
+import com.javaflow.model.Workflow;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Set;
+
+/**
+ * Query to export workflow definitions.
+ * With no filters every workflow is exported; archived workflows are only exported when asked for by ID or status.
+ */
+@Value
+@Builder
+public class ExportWorkflowsQuery implements Query {
+
+    Set<Long> workflowIds;
+    Workflow.WorkflowStatus status;
+}
@@ -0,0 +1,27 @@
+package com.javaflow.application.workflow.query;
+
+import com.javaflow.application.common.Query;
+import com.javaflow.model.WorkflowExecution;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Query to search workflow executions.
+ * All filters are optional; results are ordered by start time, newest first.
+ */
+@Value
+@Builder
+public class SearchExecutionsQuery implements Query {
+
+    Long workflowId;
+    Set<WorkflowExecution.ExecutionStatus> statuses;
+    LocalDateTime startedFrom;
+    LocalDateTime startedTo;
+    Long startedByUserId;
+    String errorPrefix;
+    int page;
+    int size;
+}
@@ -0,0 +1,20 @@
+package com.javaflow.application.workflow.result;
+
+import com.javaflow.model.WorkflowExecution;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Result of execution search use case (one page)
+ */
+@Value
+@Builder
+public class ExecutionSearchResult {
+
+    List<WorkflowExecution> executions;
+    int page;
+    int size;
+    long totalElements;
+}
@@ -0,0 +1,19 @@
+package com.javaflow.application.workflow.result;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Result of a bulk workflow import
+ */
+@Value
+@Builder
+public class WorkflowImportResult {
+    
+    List<WorkflowResult> workflows;
+    int activatedCount;
+    String deploymentId;
+    List<String> warnings;
+}
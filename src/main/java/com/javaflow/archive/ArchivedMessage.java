@@ -0,0 +1,77 @@
+package com.javaflow.archive;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.javaflow.model.BotConfiguration;
+import com.javaflow.model.Message;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * A message moved out of the {@code messages} table into a cold archive segment.
+ *
+ * @param id                  Original message ID
+ * @param botId               Bot configuration ID
+ * @param externalId          ID of the message on the external platform
+ * @param chatId              Chat ID
+ * @param userId              User ID on the external platform
+ * @param direction           INBOUND or OUTBOUND
+ * @param messageType         TEXT, IMAGE, etc.
+ * @param content             Message content
+ * @param metadata            Additional metadata, as JSON text
+ * @param workflowExecutionId Related workflow execution ID, if any
+ * @param createdAt           Creation timestamp
+ */
+public record ArchivedMessage(
+        Long id,
+        Long botId,
+        String externalId,
+        String chatId,
+        String userId,
+        Message.MessageDirection direction,
+        Message.MessageType messageType,
+        String content,
+        String metadata,
+        Long workflowExecutionId,
+        LocalDateTime createdAt
+) {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> METADATA_TYPE = new TypeReference<>() {
+    };
+
+    /**
+     * Rebuilds a detached {@link Message} for read-only use.
+     * The workflow execution association is not restored.
+     *
+     * @param bot The bot the message belongs to
+     */
+    public Message toMessage(BotConfiguration bot) {
+        return Message.builder()
+                .id(id)
+                .bot(bot)
+                .externalId(externalId)
+                .chatId(chatId)
+                .userId(userId)
+                .direction(direction)
+                .messageType(messageType)
+                .content(content)
+                .metadata(parseMetadata(metadata))
+                .createdAt(createdAt)
+                .build();
+    }
+
+    private static Map<String, Object> parseMetadata(String json) {
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        try {
+            return JSON.readValue(json, METADATA_TYPE);
+        } catch (JsonProcessingException e) {
+            // Archived before metadata was stored as JSON; keep the raw text
+            return Map.of("raw", json);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.javaflow.archive;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registry of the message archive segments on disk.
+ *
+ * <p>Segments found in {@code javaflow.archive.messages.directory} are memory-mapped at startup;
+ * new ones are added by {@link MessageArchiver} as it moves rows out of the {@code messages} table.
+ * Reads only touch the blocks of the requested chat.</p>
+ *
+ * @since 1.1.0
+ */
+@Component
+@Slf4j
+public class MessageArchiveStore {
+
+    private final Path directory;
+    private final List<MessageSegmentReader> segments = new CopyOnWriteArrayList<>();
+
+    public MessageArchiveStore(
+            @Value("${javaflow.archive.messages.directory:data/archive/messages}") String directory) {
+        this.directory = Paths.get(directory);
+    }
+
+    /**
+     * Opens every segment already present in the archive directory.
+     */
+    @PostConstruct
+    public void loadSegments() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + MessageSegmentFormat.SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                register(file);
+            }
+        } catch (IOException e) {
+            log.error("Failed to scan message archive directory {}", directory, e);
+        }
+        log.info("Loaded {} message archive segments from {}", segments.size(), directory);
+    }
+
+    @PreDestroy
+    public void close() {
+        for (MessageSegmentReader segment : segments) {
+            try {
+                segment.close();
+            } catch (IOException e) {
+                log.warn("Failed to close archive segment {}", segment.path(), e);
+            }
+        }
+        segments.clear();
+    }
+
+    /**
+     * Directory where new segments must be written.
+     */
+    public Path directory() {
+        return directory;
+    }
+
+    /**
+     * Maps a newly written segment and makes it visible to readers.
+     *
+     * @return true if the segment was opened, false if it is unreadable
+     */
+    public boolean register(Path segment) {
+        try {
+            segments.add(MessageSegmentReader.open(segment));
+            return true;
+        } catch (IOException e) {
+            log.error("Skipping unreadable archive segment {}", segment, e);
+            return false;
+        }
+    }
+
+    /**
+     * Returns the archived messages of a chat, newest first.
+     */
+    public List<ArchivedMessage> findByChatId(String chatId) {
+        List<ArchivedMessage> messages = new ArrayList<>();
+        for (MessageSegmentReader segment : segments) {
+            if (segment.contains(chatId)) {
+                messages.addAll(segment.read(chatId, null, null));
+            }
+        }
+        messages.sort(Comparator.comparing(ArchivedMessage::createdAt).reversed());
+        return messages;
+    }
+
+    /**
+     * Number of segments currently mapped.
+     */
+    public int segmentCount() {
+        return segments.size();
+    }
+}
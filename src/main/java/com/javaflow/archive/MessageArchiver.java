@@ -0,0 +1,139 @@
+package com.javaflow.archive;
+
+import com.javaflow.model.Message;
+import com.javaflow.monitoring.MetricsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Moves messages older than {@code older-than-days} from the {@code messages} table into
+ * compressed archive segments.
+ *
+ * <p>Each run reads the oldest rows in batches, writes one segment per batch, maps it through
+ * {@link MessageArchiveStore} and only then deletes the archived rows. If the delete fails the rows
+ * stay in both places; {@code BotService} drops duplicates by ID when merging hot and cold data,
+ * and the next run archives them again.</p>
+ *
+ * @since 1.1.0
+ */
+@Service
+@ConditionalOnProperty(prefix = "javaflow.archive.messages", name = "enabled", havingValue = "true")
+@Slf4j
+public class MessageArchiver {
+
+    private static final String SELECT_SQL =
+            "SELECT id, bot_id, external_id, chat_id, user_id, direction, message_type, content, metadata, " +
+            "workflow_execution_id, created_at FROM messages WHERE created_at < ? ORDER BY id LIMIT ?";
+
+    /**
+     * Deletes a whole batch in one statement. The batch holds every row before the cutoff up to its last
+     * ID, so this matches exactly the archived rows; the {@code created_at} bound also prunes partitions.
+     */
+    private static final String DELETE_SQL = "DELETE FROM messages WHERE created_at < ? AND id <= ?";
+
+    private static final RowMapper<ArchivedMessage> ROW_MAPPER = (rs, rowNum) -> new ArchivedMessage(
+            rs.getLong("id"),
+            rs.getLong("bot_id"),
+            rs.getString("external_id"),
+            rs.getString("chat_id"),
+            rs.getString("user_id"),
+            Message.MessageDirection.valueOf(rs.getString("direction")),
+            rs.getString("message_type") != null ? Message.MessageType.valueOf(rs.getString("message_type")) : null,
+            rs.getString("content"),
+            rs.getString("metadata"),
+            rs.getObject("workflow_execution_id") != null ? rs.getLong("workflow_execution_id") : null,
+            rs.getTimestamp("created_at").toLocalDateTime()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MessageArchiveStore archiveStore;
+    private final MetricsService metricsService;
+    private final int olderThanDays;
+    private final int batchSize;
+
+    public MessageArchiver(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            MessageArchiveStore archiveStore,
+            MetricsService metricsService,
+            @Value("${javaflow.archive.messages.older-than-days:30}") int olderThanDays,
+            @Value("${javaflow.archive.messages.batch-size:50000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.archiveStore = archiveStore;
+        this.metricsService = metricsService;
+        this.olderThanDays = olderThanDays;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Archives every message older than the configured age, one segment per batch.
+     */
+    @Scheduled(cron = "${javaflow.archive.messages.cron:0 0 3 * * *}")
+    public void archiveOldMessages() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(olderThanDays);
+        int total = 0;
+
+        try {
+            Files.createDirectories(archiveStore.directory());
+            int archived;
+            do {
+                archived = archiveBatch(cutoff);
+                total += archived;
+            } while (archived == batchSize);
+        } catch (IOException e) {
+            log.error("Message archiving aborted after {} messages", total, e);
+        }
+
+        if (total > 0) {
+            log.info("Archived {} messages older than {}", total, cutoff);
+        }
+    }
+
+    /**
+     * Archives one batch of messages created before the cutoff.
+     *
+     * @return Number of messages archived
+     */
+    int archiveBatch(LocalDateTime cutoff) throws IOException {
+        List<ArchivedMessage> batch = jdbcTemplate.query(SELECT_SQL, ROW_MAPPER, Timestamp.valueOf(cutoff), batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, List<ArchivedMessage>> byChat = batch.stream()
+                .collect(Collectors.groupingBy(ArchivedMessage::chatId, LinkedHashMap::new, Collectors.toList()));
+
+        Path segment = archiveStore.directory().resolve(
+                "messages-" + System.currentTimeMillis() + "-" + batch.get(0).id() + MessageSegmentFormat.SEGMENT_SUFFIX);
+        MessageSegmentWriter.write(segment, byChat);
+        if (!archiveStore.register(segment)) {
+            throw new IOException("Archive segment was written but cannot be read back: " + segment);
+        }
+
+        long lastId = batch.get(batch.size() - 1).id();
+        transactionTemplate.executeWithoutResult(
+                status -> jdbcTemplate.update(DELETE_SQL, Timestamp.valueOf(cutoff), lastId));
+
+        metricsService.recordMessagesArchived(batch.size());
+        log.debug("Archived {} messages from {} chats into {}", batch.size(), byChat.size(), segment.getFileName());
+        return batch.size();
+    }
+}
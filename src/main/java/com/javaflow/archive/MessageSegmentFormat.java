@@ -0,0 +1,142 @@
+package com.javaflow.archive;
+
+import com.javaflow.model.Message;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * On-disk layout of a message archive segment.
+ *
+ * <pre>
+ * +-----------------+----------------------------------+---------+-----------------------------------+
+ * | MAGIC (8 bytes) | block 0 | block 1 | ... | block n | index   | indexOffset (8) | MAGIC (8 bytes) |
+ * +-----------------+----------------------------------+---------+-----------------------------------+
+ * </pre>
+ *
+ * <ul>
+ *   <li>Each block holds every archived message of one chat, ordered by creation time,
+ *       encoded as records and compressed with Deflate.</li>
+ *   <li>The index lists one entry per block: chat ID, first and last creation time
+ *       (epoch seconds, UTC), record count, offset, compressed and uncompressed length.</li>
+ * </ul>
+ *
+ * <p>Segments are written once to a temporary file and atomically moved into place;
+ * they are never modified afterwards.</p>
+ */
+final class MessageSegmentFormat {
+
+    static final byte[] MAGIC = "JFMSEG01".getBytes(StandardCharsets.US_ASCII);
+    static final int TRAILER_LENGTH = Long.BYTES + MAGIC.length;
+    static final String SEGMENT_SUFFIX = ".seg";
+
+    private static final int NULL_LENGTH = -1;
+    private static final long NO_ID = -1L;
+
+    private MessageSegmentFormat() {
+    }
+
+    /**
+     * Index entry describing one compressed block.
+     */
+    record BlockEntry(
+            String chatId,
+            long firstEpochSecond,
+            long lastEpochSecond,
+            int count,
+            long offset,
+            int compressedLength,
+            int uncompressedLength
+    ) {
+
+        boolean overlaps(LocalDateTime from, LocalDateTime to) {
+            return (from == null || lastEpochSecond >= toEpochSecond(from))
+                    && (to == null || firstEpochSecond <= toEpochSecond(to));
+        }
+
+        void writeTo(DataOutput out) throws IOException {
+            writeString(out, chatId);
+            out.writeLong(firstEpochSecond);
+            out.writeLong(lastEpochSecond);
+            out.writeInt(count);
+            out.writeLong(offset);
+            out.writeInt(compressedLength);
+            out.writeInt(uncompressedLength);
+        }
+
+        static BlockEntry readFrom(DataInput in) throws IOException {
+            return new BlockEntry(readString(in), in.readLong(), in.readLong(), in.readInt(),
+                    in.readLong(), in.readInt(), in.readInt());
+        }
+    }
+
+    static void writeRecord(DataOutput out, ArchivedMessage message) throws IOException {
+        out.writeLong(message.id());
+        out.writeLong(message.botId());
+        writeString(out, message.externalId());
+        writeString(out, message.userId());
+        writeString(out, message.direction().name());
+        writeString(out, message.messageType() != null ? message.messageType().name() : null);
+        writeString(out, message.content());
+        writeString(out, message.metadata());
+        out.writeLong(message.workflowExecutionId() != null ? message.workflowExecutionId() : NO_ID);
+        out.writeLong(toEpochSecond(message.createdAt()));
+        out.writeInt(message.createdAt().getNano());
+    }
+
+    static ArchivedMessage readRecord(DataInput in, String chatId) throws IOException {
+        long id = in.readLong();
+        long botId = in.readLong();
+        String externalId = readString(in);
+        String userId = readString(in);
+        Message.MessageDirection direction = Message.MessageDirection.valueOf(readString(in));
+        String messageType = readString(in);
+        String content = readString(in);
+        String metadata = readString(in);
+        long workflowExecutionId = in.readLong();
+        long epochSecond = in.readLong();
+        int nano = in.readInt();
+
+        return new ArchivedMessage(
+                id,
+                botId,
+                externalId,
+                chatId,
+                userId,
+                direction,
+                messageType != null ? Message.MessageType.valueOf(messageType) : null,
+                content,
+                metadata,
+                workflowExecutionId != NO_ID ? workflowExecutionId : null,
+                LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC)
+        );
+    }
+
+    static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
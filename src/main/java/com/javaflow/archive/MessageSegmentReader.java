@@ -0,0 +1,160 @@
+package com.javaflow.archive;
+
+import com.javaflow.archive.MessageSegmentFormat.BlockEntry;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Read-only view of a message archive segment backed by a memory-mapped file.
+ *
+ * <p>Only the block index is decoded when the segment is opened; blocks are inflated
+ * straight from the mapped region on demand. Instances are safe for concurrent reads.</p>
+ */
+final class MessageSegmentReader implements Closeable {
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer mapped;
+    private final Map<String, BlockEntry> index;
+
+    private MessageSegmentReader(Path path, FileChannel channel, MappedByteBuffer mapped, Map<String, BlockEntry> index) {
+        this.path = path;
+        this.channel = channel;
+        this.mapped = mapped;
+        this.index = index;
+    }
+
+    /**
+     * Maps a segment file and loads its index.
+     *
+     * @throws IOException if the file cannot be mapped or is not a valid segment
+     */
+    static MessageSegmentReader open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            int minimumSize = MessageSegmentFormat.MAGIC.length + Integer.BYTES + MessageSegmentFormat.TRAILER_LENGTH;
+            if (size < minimumSize || size > Integer.MAX_VALUE) {
+                throw new IOException("Invalid archive segment size " + size + ": " + path);
+            }
+
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            checkMagic(mapped, 0, path);
+            checkMagic(mapped, (int) size - MessageSegmentFormat.MAGIC.length, path);
+
+            int indexOffset = (int) mapped.getLong((int) size - MessageSegmentFormat.TRAILER_LENGTH);
+            byte[] indexBytes = new byte[(int) size - MessageSegmentFormat.TRAILER_LENGTH - indexOffset];
+            mapped.get(indexOffset, indexBytes);
+
+            Map<String, BlockEntry> index = new HashMap<>();
+            try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(indexBytes))) {
+                int entries = in.readInt();
+                for (int i = 0; i < entries; i++) {
+                    BlockEntry entry = BlockEntry.readFrom(in);
+                    index.put(entry.chatId(), entry);
+                }
+            }
+            return new MessageSegmentReader(path, channel, mapped, index);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    Path path() {
+        return path;
+    }
+
+    /**
+     * Returns true if the segment holds messages of the given chat.
+     */
+    boolean contains(String chatId) {
+        return index.containsKey(chatId);
+    }
+
+    /**
+     * Reads the archived messages of a chat, optionally restricted to a time range.
+     *
+     * @param chatId Chat ID
+     * @param from   Inclusive lower bound, or null
+     * @param to     Inclusive upper bound, or null
+     * @return Messages ordered by creation time (oldest first)
+     */
+    List<ArchivedMessage> read(String chatId, LocalDateTime from, LocalDateTime to) {
+        BlockEntry entry = index.get(chatId);
+        if (entry == null || !entry.overlaps(from, to)) {
+            return List.of();
+        }
+
+        byte[] block = inflate(entry);
+        List<ArchivedMessage> messages = new ArrayList<>(entry.count());
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(block))) {
+            for (int i = 0; i < entry.count(); i++) {
+                ArchivedMessage message = MessageSegmentFormat.readRecord(in, chatId);
+                if ((from == null || !message.createdAt().isBefore(from))
+                        && (to == null || !message.createdAt().isAfter(to))) {
+                    messages.add(message);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupted block for chat " + chatId + " in " + path, e);
+        }
+        return messages;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private byte[] inflate(BlockEntry entry) {
+        ByteBuffer compressed = mapped.slice((int) entry.offset(), entry.compressedLength());
+        byte[] block = new byte[entry.uncompressedLength()];
+
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            int inflated = 0;
+            while (inflated < block.length && !inflater.finished()) {
+                int n = inflater.inflate(block, inflated, block.length - inflated);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                inflated += n;
+            }
+            if (inflated != block.length) {
+                throw new IllegalStateException("Truncated block for chat " + entry.chatId() + " in " + path);
+            }
+            return block;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupted block for chat " + entry.chatId() + " in " + path, e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static void checkMagic(MappedByteBuffer mapped, int position, Path path) throws IOException {
+        byte[] magic = new byte[MessageSegmentFormat.MAGIC.length];
+        mapped.get(position, magic);
+        if (!Arrays.equals(magic, MessageSegmentFormat.MAGIC)) {
+            throw new IOException("Not a message archive segment: " + path);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.javaflow.archive;
+
+import com.javaflow.archive.MessageSegmentFormat.BlockEntry;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Writes an immutable message archive segment (see {@link MessageSegmentFormat}).
+ */
+final class MessageSegmentWriter {
+
+    private MessageSegmentWriter() {
+    }
+
+    /**
+     * Writes the messages grouped by chat into a new segment file.
+     *
+     * <p>The file is written and synced under a temporary name and then atomically moved to
+     * {@code target}, so readers never observe a partially written segment.</p>
+     *
+     * @param target         Final path of the segment
+     * @param messagesByChat Messages to archive, grouped by chat ID
+     * @throws IOException if the segment cannot be written
+     */
+    static void write(Path target, Map<String, List<ArchivedMessage>> messagesByChat) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+
+            writeFully(channel, ByteBuffer.wrap(MessageSegmentFormat.MAGIC));
+
+            List<BlockEntry> index = new ArrayList<>(messagesByChat.size());
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try {
+                for (Map.Entry<String, List<ArchivedMessage>> chat : messagesByChat.entrySet()) {
+                    index.add(writeBlock(channel, deflater, chat.getKey(), chat.getValue()));
+                }
+            } finally {
+                deflater.end();
+            }
+
+            long indexOffset = channel.position();
+            ByteArrayOutputStream indexBytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(indexBytes)) {
+                out.writeInt(index.size());
+                for (BlockEntry entry : index) {
+                    entry.writeTo(out);
+                }
+                out.writeLong(indexOffset);
+                out.write(MessageSegmentFormat.MAGIC);
+            }
+            writeFully(channel, ByteBuffer.wrap(indexBytes.toByteArray()));
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static BlockEntry writeBlock(FileChannel channel, Deflater deflater,
+                                         String chatId, List<ArchivedMessage> messages) throws IOException {
+        List<ArchivedMessage> ordered = messages.stream()
+                .sorted(Comparator.comparing(ArchivedMessage::createdAt))
+                .toList();
+
+        ByteArrayOutputStream raw = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(raw)) {
+            for (ArchivedMessage message : ordered) {
+                MessageSegmentFormat.writeRecord(out, message);
+            }
+        }
+        byte[] uncompressed = raw.toByteArray();
+
+        deflater.reset();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, uncompressed.length / 4));
+        try (DeflaterOutputStream out = new DeflaterOutputStream(compressed, deflater)) {
+            out.write(uncompressed);
+        }
+
+        long offset = channel.position();
+        writeFully(channel, ByteBuffer.wrap(compressed.toByteArray()));
+
+        return new BlockEntry(
+                chatId,
+                MessageSegmentFormat.toEpochSecond(ordered.get(0).createdAt()),
+                MessageSegmentFormat.toEpochSecond(ordered.get(ordered.size() - 1).createdAt()),
+                ordered.size(),
+                offset,
+                compressed.size(),
+                uncompressed.length
+        );
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.javaflow.bot.adapter;
 
 import com.javaflow.bot.port.BotPort;
 import com.javaflow.domain.events.BotMessageReceivedEvent;
+import com.javaflow.model.Message;
 import org.springframework.context.ApplicationEventPublisher;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,18 +10,26 @@ import org.springframework.stereotype.Component;
 import org.telegram.telegrambots.bots.TelegramLongPollingBot;
 import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
 import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.api.objects.User;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
 
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
  * Adapter for the Telegram Bot platform.
  * Implements the BotPort for outbound messages and listens for inbound messages.
+ * With {@code javaflow.bot.telegram.mode=webhook} it is not registered for long polling and only sends;
+ * updates arrive through {@link com.javaflow.bot.telegram.TelegramWebhookController}.
  */
 @Component("telegramBotAdapter")
 @Slf4j
 public class TelegramBotAdapter extends TelegramLongPollingBot implements BotPort {
 
+    private static final int TOO_MANY_REQUESTS = 429;
+
     private final ApplicationEventPublisher eventPublisher;
     
     @Value("${javaflow.bot.telegram.token:}")
@@ -63,21 +72,44 @@ public class TelegramBotAdapter extends TelegramLongPollingBot implements BotPor
                     chatId,
                     userId,
                     messageText,
-                    messageId.toString()
+                    messageId.toString(),
+                    metadataOf(update.getMessage())
                 );
                 eventPublisher.publishEvent(event);
                 log.debug("Published BotMessageReceivedEvent for chat {}", chatId);
             } catch (Exception e) {
                 log.error("Error processing inbound Telegram message", e);
-                sendMessage(chatId, "An error occurred while processing your message. Please try again later.");
+                try {
+                    sendMessage(chatId, "An error occurred while processing your message. Please try again later.");
+                } catch (SendFailedException replyFailure) {
+                    log.warn("Could not notify chat {} of the error: {}", chatId, replyFailure.getMessage());
+                }
             }
         }
     }
 
 
+    /**
+     * Datos de Telegram que se guardan como metadata del mensaje (consultables por clave)
+     */
+    private static Map<String, Object> metadataOf(org.telegram.telegrambots.meta.api.objects.Message message) {
+        Map<String, Object> metadata = new HashMap<>();
+        if (message.getMessageThreadId() != null) {
+            metadata.put(Message.METADATA_THREAD_ID, message.getMessageThreadId());
+        }
+        User from = message.getFrom();
+        if (from != null && from.getLanguageCode() != null) {
+            metadata.put(Message.METADATA_LANGUAGE, from.getLanguageCode());
+        }
+        if (message.getReplyToMessage() != null) {
+            metadata.put(Message.METADATA_REPLY_TO, message.getReplyToMessage().getMessageId());
+        }
+        return metadata;
+    }
 
     /**
      * Sends a simple text message to a specific chat via Telegram.
+     * Rate limits (429) carry Telegram's {@code retry_after}; the outbound dispatcher waits and resends.
      */
     @Override
     public void sendMessage(String chatId, String text) {
@@ -87,10 +119,16 @@ public class TelegramBotAdapter extends TelegramLongPollingBot implements BotPor
 
         try {
             execute(message);
-            log.info("Message sent to Telegram chat {}", chatId);
+            log.debug("Message sent to Telegram chat {}", chatId);
+        } catch (TelegramApiRequestException e) {
+            Integer retryAfter = e.getParameters() != null ? e.getParameters().getRetryAfter() : null;
+            if (Integer.valueOf(TOO_MANY_REQUESTS).equals(e.getErrorCode()) || retryAfter != null) {
+                throw new SendFailedException("Telegram rate limit for chat " + chatId,
+                        Duration.ofSeconds(retryAfter != null ? retryAfter : 1), e);
+            }
+            throw new SendFailedException("Telegram rejected the message to chat " + chatId + ": " + e.getApiResponse(), e);
         } catch (TelegramApiException e) {
-            log.error("Error sending message to Telegram chat {}", chatId, e);
-            // Optionally, rethrow as a custom exception
+            throw new SendFailedException("Error sending message to Telegram chat " + chatId, e);
         }
     }
 
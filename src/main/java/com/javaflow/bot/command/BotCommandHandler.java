@@ -1,6 +1,7 @@
 package com.javaflow.bot.command;
 
 import com.javaflow.model.BotConfiguration;
+import com.javaflow.service.MessageContext;
 
 /**
  * Interface for handling bot commands.
@@ -44,11 +45,24 @@ public interface BotCommandHandler {
     
     /**
      * Context object containing all information needed to handle a command.
+     * Replies go through {@code BotService.sendMessage(context.message(), text)}, which reuses the
+     * bot and adapter already resolved for the message.
      */
     record CommandContext(
-        Long botId,
-        String chatId,
         String messageText,
-        BotConfiguration bot
-    ) {}
+        MessageContext message
+    ) {
+
+        public Long botId() {
+            return message.botId();
+        }
+
+        public String chatId() {
+            return message.chatId();
+        }
+
+        public BotConfiguration bot() {
+            return message.bot();
+        }
+    }
 }
@@ -30,7 +30,7 @@ public class HelpCommandHandler implements BotCommandHandler {
     public void handle(CommandContext context) {
         log.debug("Handling /help command for bot {} in chat {}", context.botId(), context.chatId());
         
-        String botType = context.bot().getType().name().toLowerCase();
+        String botType = context.message().botType();
         metricsService.recordBotCommand(botType, "help");
         
         String helpMessage = """
@@ -46,6 +46,6 @@ public class HelpCommandHandler implements BotCommandHandler {
             • /workflows - Listar workflows disponibles
             """;
         
-        botService.sendMessage(context.botId(), context.chatId(), helpMessage);
+        botService.sendMessage(context.message(), helpMessage);
     }
 }
@@ -30,7 +30,7 @@ public class StartCommandHandler implements BotCommandHandler {
     public void handle(CommandContext context) {
         log.debug("Handling /start command for bot {} in chat {}", context.botId(), context.chatId());
         
-        String botType = context.bot().getType().name().toLowerCase();
+        String botType = context.message().botType();
         metricsService.recordBotCommand(botType, "start");
         
         String welcomeMessage = """
@@ -42,6 +42,6 @@ public class StartCommandHandler implements BotCommandHandler {
             /workflows - Listar workflows disponibles
             """;
         
-        botService.sendMessage(context.botId(), context.chatId(), welcomeMessage);
+        botService.sendMessage(context.message(), welcomeMessage);
     }
 }
@@ -1,9 +1,9 @@
 package com.javaflow.bot.command;
 
-import com.javaflow.model.Workflow;
 import com.javaflow.monitoring.MetricsService;
 import com.javaflow.service.BotService;
 import com.javaflow.service.WorkflowService;
+import com.javaflow.service.dto.WorkflowSummary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Lazy;
@@ -33,11 +33,11 @@ public class StatusCommandHandler implements BotCommandHandler {
     public void handle(CommandContext context) {
         log.debug("Handling /status command for bot {} in chat {}", context.botId(), context.chatId());
         
-        String botType = context.bot().getType().name().toLowerCase();
+        String botType = context.message().botType();
         metricsService.recordBotCommand(botType, "status");
         
-        long activeWorkflows = workflowService.getAllWorkflows().stream()
-                .filter(w -> w.getStatus() == Workflow.WorkflowStatus.ACTIVE)
+        long activeWorkflows = workflowService.getWorkflowSummaries().stream()
+                .filter(WorkflowSummary::isActive)
                 .count();
         
         String statusMessage = String.format(
@@ -45,6 +45,6 @@ public class StatusCommandHandler implements BotCommandHandler {
             activeWorkflows
         );
         
-        botService.sendMessage(context.botId(), context.chatId(), statusMessage);
+        botService.sendMessage(context.message(), statusMessage);
     }
 }
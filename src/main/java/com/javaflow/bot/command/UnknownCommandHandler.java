@@ -31,10 +31,10 @@ public class UnknownCommandHandler implements BotCommandHandler {
         log.debug("Handling unknown command '{}' for bot {} in chat {}", 
                   context.messageText(), context.botId(), context.chatId());
         
-        String botType = context.bot().getType().name().toLowerCase();
+        String botType = context.message().botType();
         metricsService.recordBotCommand(botType, "unknown");
         
         String message = "Comando desconocido. Usa /help para ver los comandos disponibles.";
-        botService.sendMessage(context.botId(), context.chatId(), message);
+        botService.sendMessage(context.message(), message);
     }
 }
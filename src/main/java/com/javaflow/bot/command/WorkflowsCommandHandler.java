@@ -32,18 +32,18 @@ public class WorkflowsCommandHandler implements BotCommandHandler {
     public void handle(CommandContext context) {
         log.debug("Handling /workflows command for bot {} in chat {}", context.botId(), context.chatId());
         
-        String botType = context.bot().getType().name().toLowerCase();
+        String botType = context.message().botType();
         metricsService.recordBotCommand(botType, "workflows");
         
         StringBuilder response = new StringBuilder("📋 Workflows disponibles:\n\n");
-        workflowService.getAllWorkflows().forEach(w ->
+        workflowService.getWorkflowSummaries().forEach(w ->
             response.append("• ")
-                    .append(w.getName())
+                    .append(w.name())
                     .append(" (")
-                    .append(w.getStatus())
+                    .append(w.status())
                     .append(")\n")
         );
         
-        botService.sendMessage(context.botId(), context.chatId(), response.toString());
+        botService.sendMessage(context.message(), response.toString());
     }
 }
@@ -0,0 +1,202 @@
+package com.javaflow.bot.inbound;
+
+import com.javaflow.domain.events.BotMessageReceivedEvent;
+import com.javaflow.monitoring.MetricsService;
+import com.javaflow.service.BotService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Procesa los mensajes entrantes fuera del hilo que los recibe (long polling o webhook), con un
+ * executor por franjas: cada chat ({@code botId + chatId}) cae siempre en la misma franja, que tiene un
+ * único hilo y una cola acotada. Los mensajes de un chat se procesan en orden y los de chats distintos
+ * en paralelo, así que un chat lento solo retrasa a los que comparten su franja.
+ *
+ * <p>Con la cola de la franja llena, {@link #onBotMessageReceived} espera hasta
+ * {@code enqueue-timeout-ms} (frena el long polling, y Telegram conserva los updates) y después descarta
+ * el mensaje; {@link #trySubmit} no espera, para que el webhook pueda responder 503 y Telegram lo
+ * reintente. Los descartes se cuentan en {@code javaflow.bot.inbound.overflow}.</p>
+ *
+ * @since 1.1.0
+ */
+@Component
+@Slf4j
+public class InboundMessageDispatcher {
+
+    static final String ERROR_REPLY = "An error occurred while processing your message. Please try again later.";
+
+    private final BotService botService;
+    private final MetricsService metricsService;
+    private final long enqueueTimeoutMillis;
+    private final Stripe[] stripes;
+
+    public InboundMessageDispatcher(
+            BotService botService,
+            MetricsService metricsService,
+            @Value("${javaflow.bot.inbound.stripes:16}") int stripeCount,
+            @Value("${javaflow.bot.inbound.queue-capacity:1000}") int queueCapacity,
+            @Value("${javaflow.bot.inbound.enqueue-timeout-ms:1000}") long enqueueTimeoutMillis) {
+        this.botService = botService;
+        this.metricsService = metricsService;
+        this.enqueueTimeoutMillis = enqueueTimeoutMillis;
+        this.stripes = new Stripe[Math.max(1, stripeCount)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe(i, queueCapacity);
+        }
+        metricsService.registerInboundQueue(this, InboundMessageDispatcher::queuedMessages);
+    }
+
+    @PostConstruct
+    void start() {
+        for (Stripe stripe : stripes) {
+            stripe.start();
+        }
+        log.info("Inbound dispatcher started with {} stripes", stripes.length);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        for (Stripe stripe : stripes) {
+            stripe.stop();
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        for (Stripe stripe : stripes) {
+            stripe.thread.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+        }
+        int discarded = 0;
+        for (Stripe stripe : stripes) {
+            if (stripe.thread.isAlive()) {
+                stripe.thread.interrupt();
+            }
+            discarded += stripe.queue.size();
+        }
+        if (discarded > 0) {
+            log.warn("Discarding {} queued inbound messages on shutdown", discarded);
+        }
+    }
+
+    /**
+     * Inbound messages published by the bot adapters.
+     */
+    @EventListener
+    public void onBotMessageReceived(BotMessageReceivedEvent event) {
+        if (!submit(event, enqueueTimeoutMillis)) {
+            log.warn("Inbound queue full, dropping message {} of chat {} (bot {})",
+                    event.externalId(), event.chatId(), event.botId());
+        }
+    }
+
+    /**
+     * Queues a message without waiting.
+     *
+     * @return false if the chat's queue is full; the message was not queued
+     */
+    public boolean trySubmit(BotMessageReceivedEvent event) {
+        return submit(event, 0);
+    }
+
+    private boolean submit(BotMessageReceivedEvent event, long timeoutMillis) {
+        Stripe stripe = stripeFor(event.botId(), event.chatId());
+        boolean queued;
+        try {
+            queued = stripe.queue.offer(new Task(event, System.nanoTime()), timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        }
+        if (!queued) {
+            metricsService.recordInboundOverflow(stripe.index);
+        }
+        return queued;
+    }
+
+    /**
+     * Messages waiting in every stripe.
+     */
+    public int queuedMessages() {
+        int queued = 0;
+        for (Stripe stripe : stripes) {
+            queued += stripe.queue.size();
+        }
+        return queued;
+    }
+
+    Stripe stripeFor(Long botId, String chatId) {
+        int hash = Objects.hash(botId, chatId);
+        // Mezcla los bits altos: los chatId de Telegram suelen diferir solo en los bajos
+        hash ^= hash >>> 16;
+        return stripes[Math.floorMod(hash, stripes.length)];
+    }
+
+    private void process(Task task) {
+        BotMessageReceivedEvent event = task.event();
+        metricsService.recordInboundQueueWait(System.nanoTime() - task.queuedAtNanos());
+        try {
+            botService.handleBotMessageReceived(event);
+        } catch (RuntimeException e) {
+            log.error("Error processing inbound message {} of chat {} (bot {})",
+                    event.externalId(), event.chatId(), event.botId(), e);
+            try {
+                botService.sendMessage(event.botId(), event.chatId(), ERROR_REPLY);
+            } catch (RuntimeException replyFailure) {
+                log.warn("Could not notify chat {} of the error: {}", event.chatId(), replyFailure.getMessage());
+            }
+        }
+    }
+
+    private record Task(BotMessageReceivedEvent event, long queuedAtNanos) {
+    }
+
+    /**
+     * One worker thread and its bounded queue.
+     */
+    final class Stripe {
+
+        private final int index;
+        private final BlockingQueue<Task> queue;
+        private final Thread thread;
+        private volatile boolean running = true;
+
+        Stripe(int index, int capacity) {
+            this.index = index;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.thread = new Thread(this::run, "inbound-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        void start() {
+            thread.start();
+        }
+
+        private void run() {
+            while (running || !queue.isEmpty()) {
+                try {
+                    Task task = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (task != null) {
+                        process(task);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        void stop() {
+            running = false;
+        }
+
+        int index() {
+            return index;
+        }
+    }
+}
@@ -0,0 +1,400 @@
+package com.javaflow.bot.outbound;
+
+import com.javaflow.bot.port.BotPort;
+import com.javaflow.monitoring.MetricsService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Envía los mensajes salientes dentro de los límites de la plataforma (en Telegram, ~1 mensaje por
+ * segundo por chat y ~30 por segundo por bot): cada chat y cada bot tienen un token bucket, y un mensaje
+ * sale cuando hay token en los dos. Quien envía no espera: {@link #submit} encola y devuelve un
+ * {@link CompletableFuture} que se completa cuando la plataforma acepta el mensaje.
+ *
+ * <p>Los mensajes de un chat salen de uno en uno y en orden de prioridad y llegada; un chat sin token
+ * no frena a los demás chats de su bot. Un hilo planificador decide qué sale y un pool pequeño hace las
+ * llamadas a la API, así que una llamada lenta no retrasa la planificación.</p>
+ *
+ * <p>Si la plataforma responde con un límite ({@link BotPort.SendFailedException#retryAfter()}, el 429
+ * de Telegram), el bot entero se pausa durante {@code retry_after} (Telegram no dice qué límite se
+ * superó) y el mensaje vuelve a la cabeza de su chat, hasta {@code max-attempts} intentos. El resto de
+ * errores completan el future con la excepción.</p>
+ *
+ * @since 1.1.0
+ */
+@Component
+@Slf4j
+public class OutboundMessageDispatcher {
+
+    /**
+     * Orden de salida dentro de un chat y entre los chats de un bot.
+     */
+    public enum Priority {
+        /** Respuestas a un usuario que está esperando */
+        HIGH,
+        NORMAL,
+        /** Difusiones y avisos que pueden esperar */
+        LOW
+    }
+
+    /** Chats and bots whose buckets are full and idle are forgotten this often. */
+    private static final long IDLE_SWEEP_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private static final Comparator<OutboundMessage> MESSAGE_ORDER =
+            Comparator.comparing(OutboundMessage::priority).thenComparingLong(OutboundMessage::sequence);
+
+    private final MetricsService metricsService;
+    private final double chatRate;
+    private final int chatBurst;
+    private final double botRate;
+    private final int botBurst;
+    private final int queueCapacity;
+    private final int maxAttempts;
+
+    // Estado guardado por el monitor de esta instancia
+    private final Map<ChatKey, ChatState> chats = new HashMap<>();
+    private final Map<Long, BotState> bots = new HashMap<>();
+    private final PriorityQueue<ChatState> timers = new PriorityQueue<>((a, b) -> Long.signum(a.wakeAt - b.wakeAt));
+    private long sequence;
+    private int queued;
+    private long lastSweep = System.nanoTime();
+    private volatile boolean running = true;
+
+    private final Thread scheduler;
+    private final ExecutorService senders;
+
+    public OutboundMessageDispatcher(
+            MetricsService metricsService,
+            @Value("${javaflow.bot.outbound.chat-messages-per-second:1}") double chatRate,
+            @Value("${javaflow.bot.outbound.chat-burst:1}") int chatBurst,
+            @Value("${javaflow.bot.outbound.bot-messages-per-second:30}") double botRate,
+            @Value("${javaflow.bot.outbound.bot-burst:1}") int botBurst,
+            @Value("${javaflow.bot.outbound.sender-threads:4}") int senderThreads,
+            @Value("${javaflow.bot.outbound.queue-capacity:10000}") int queueCapacity,
+            @Value("${javaflow.bot.outbound.max-attempts:5}") int maxAttempts) {
+        this.metricsService = metricsService;
+        this.chatRate = chatRate;
+        this.chatBurst = chatBurst;
+        this.botRate = botRate;
+        this.botBurst = botBurst;
+        this.queueCapacity = queueCapacity;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        AtomicInteger senderCount = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(Math.max(1, senderThreads), runnable -> {
+            Thread thread = new Thread(runnable, "outbound-sender-" + senderCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler = new Thread(this::run, "outbound-scheduler");
+        this.scheduler.setDaemon(true);
+        this.scheduler.start();
+        metricsService.registerOutboundQueue(this, OutboundMessageDispatcher::queuedMessages);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        synchronized (this) {
+            running = false;
+            notifyAll();
+        }
+        scheduler.join(TimeUnit.SECONDS.toMillis(5));
+        senders.shutdown();
+        if (!senders.awaitTermination(10, TimeUnit.SECONDS)) {
+            senders.shutdownNow();
+        }
+
+        List<OutboundMessage> discarded = new ArrayList<>();
+        synchronized (this) {
+            for (ChatState chat : chats.values()) {
+                if (chat.head != null) {
+                    discarded.add(chat.head);
+                }
+                discarded.addAll(chat.pending);
+            }
+            chats.clear();
+            bots.clear();
+            timers.clear();
+            queued = 0;
+        }
+        if (!discarded.isEmpty()) {
+            log.warn("Discarding {} queued outbound messages on shutdown", discarded.size());
+            IllegalStateException shutDown = new IllegalStateException("Outbound dispatcher shut down");
+            discarded.forEach(message -> message.future.completeExceptionally(shutDown));
+        }
+    }
+
+    /**
+     * Queues a message without waiting for the rate limits.
+     *
+     * @return completes when the platform accepts the message, or exceptionally with the send error
+     *         ({@link OutboundQueueFullException} if the queue is full)
+     */
+    public CompletableFuture<Void> submit(Long botId, String chatId, BotPort adapter, String text, Priority priority) {
+        OutboundMessage message;
+        synchronized (this) {
+            if (!running) {
+                return CompletableFuture.failedFuture(new IllegalStateException("Outbound dispatcher shut down"));
+            }
+            if (queued >= queueCapacity) {
+                metricsService.recordOutboundFailure(adapter.getBotType(), "overflow");
+                return CompletableFuture.failedFuture(new OutboundQueueFullException(queueCapacity));
+            }
+            long now = System.nanoTime();
+            ChatState chat = chats.computeIfAbsent(new ChatKey(botId, chatId), key -> new ChatState(key, now));
+            message = new OutboundMessage(adapter, text, priority, sequence++, now);
+            chat.pending.add(message);
+            queued++;
+            promote(chat, now);
+            notifyAll();
+        }
+        return message.future.copy();
+    }
+
+    /**
+     * Messages waiting for their turn (not counting the ones being sent).
+     */
+    public synchronized int queuedMessages() {
+        return queued;
+    }
+
+    private void run() {
+        synchronized (this) {
+            while (running) {
+                long now = System.nanoTime();
+                while (!timers.isEmpty() && timers.peek().wakeAt - now <= 0) {
+                    ChatState chat = timers.poll();
+                    chat.timerSet = false;
+                    promote(chat, now);
+                }
+                long sleep = Math.min(dispatchReady(now), IDLE_SWEEP_NANOS);
+                if (!timers.isEmpty()) {
+                    sleep = Math.min(sleep, timers.peek().wakeAt - now);
+                }
+                sweepIdle(now);
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(this, Math.max(1, sleep));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Hands to the senders every ready chat whose bot has a token.
+     *
+     * @return nanoseconds until the next bot token, if some bot is waiting for one
+     */
+    private long dispatchReady(long now) {
+        long sleep = Long.MAX_VALUE;
+        for (BotState bot : bots.values()) {
+            while (!bot.ready.isEmpty()) {
+                long wait = bot.bucket.nanosUntilAvailable(now);
+                if (wait > 0) {
+                    sleep = Math.min(sleep, wait);
+                    break;
+                }
+                ChatState chat = bot.ready.poll();
+                OutboundMessage message = chat.head;
+                chat.head = null;
+                chat.inFlight = message;
+                bot.bucket.take(now);
+                chat.bucket.take(now);
+                queued--;
+                try {
+                    senders.execute(() -> send(chat, message));
+                } catch (RejectedExecutionException e) {
+                    // Pool cerrado: se libera el chat para que sus mensajes no se queden esperando
+                    metricsService.recordOutboundFailure(message.adapter.getBotType(), "error");
+                    abandon(chat, message, e);
+                }
+            }
+        }
+        return sleep;
+    }
+
+    /**
+     * Moves the chat's next message to its bot's ready queue if the chat is free and has a token;
+     * without a token, wakes the chat up when it gets one.
+     */
+    private void promote(ChatState chat, long now) {
+        if (chat.inFlight != null || chat.head != null || chat.pending.isEmpty()) {
+            return;
+        }
+        long wait = chat.bucket.nanosUntilAvailable(now);
+        if (wait > 0) {
+            if (!chat.timerSet) {
+                chat.wakeAt = now + wait;
+                chat.timerSet = true;
+                timers.add(chat);
+            }
+            return;
+        }
+        chat.head = chat.pending.poll();
+        bots.computeIfAbsent(chat.key.botId(), botId -> new BotState(now)).ready.add(chat);
+    }
+
+    private void send(ChatState chat, OutboundMessage message) {
+        RuntimeException failure = null;
+        try {
+            metricsService.recordOutboundQueueWait(System.nanoTime() - message.queuedAt);
+            message.adapter.sendMessage(chat.key.chatId(), message.text);
+        } catch (RuntimeException e) {
+            failure = e;
+        } catch (Error e) {
+            abandon(chat, message, e);
+            throw e;
+        }
+        completed(chat, message, failure);
+    }
+
+    /**
+     * Fails a message that could not be sent or completed normally and frees its chat for the next one.
+     */
+    private void abandon(ChatState chat, OutboundMessage message, Throwable failure) {
+        synchronized (this) {
+            if (chat.inFlight == message) {
+                chat.inFlight = null;
+            }
+            promote(chat, System.nanoTime());
+            notifyAll();
+        }
+        message.future.completeExceptionally(failure);
+    }
+
+    private void completed(ChatState chat, OutboundMessage message, RuntimeException failure) {
+        String botType = message.adapter.getBotType();
+        BotPort.SendFailedException rateLimit = failure instanceof BotPort.SendFailedException sendFailure
+                && sendFailure.isRateLimited() ? sendFailure : null;
+        boolean retry = rateLimit != null && message.attempts < maxAttempts && running;
+        synchronized (this) {
+            long now = System.nanoTime();
+            chat.inFlight = null;
+            if (retry) {
+                bots.computeIfAbsent(chat.key.botId(), botId -> new BotState(now)).bucket
+                        .pauseUntil(now + rateLimit.retryAfter().toNanos());
+                message.attempts++;
+                message.queuedAt = now;
+                chat.pending.add(message);
+                queued++;
+            }
+            promote(chat, now);
+            notifyAll();
+        }
+
+        if (rateLimit != null) {
+            metricsService.recordOutboundRateLimited(botType);
+        }
+        if (retry) {
+            log.warn("Rate limited sending to chat {} (bot {}), pausing the bot for {} ms (attempt {} of {})",
+                    chat.key.chatId(), chat.key.botId(), rateLimit.retryAfter().toMillis(), message.attempts - 1, maxAttempts);
+        } else if (failure != null) {
+            log.warn("Could not send message to chat {} (bot {}): {}", chat.key.chatId(), chat.key.botId(), failure.getMessage());
+            metricsService.recordOutboundFailure(botType, rateLimit != null ? "rate_limited" : "error");
+            message.future.completeExceptionally(failure);
+        } else {
+            message.future.complete(null);
+        }
+    }
+
+    private void sweepIdle(long now) {
+        if (now - lastSweep < IDLE_SWEEP_NANOS) {
+            return;
+        }
+        lastSweep = now;
+        chats.values().removeIf(chat -> chat.inFlight == null && chat.head == null && chat.pending.isEmpty()
+                && !chat.timerSet && chat.bucket.isFull(now));
+        for (Iterator<BotState> it = bots.values().iterator(); it.hasNext(); ) {
+            BotState bot = it.next();
+            if (bot.ready.isEmpty() && bot.bucket.isFull(now)) {
+                it.remove();
+            }
+        }
+    }
+
+    private record ChatKey(Long botId, String chatId) {
+    }
+
+    /**
+     * A chat's pending messages, its bucket and the message it has in the ready queue or in flight.
+     */
+    private final class ChatState {
+
+        private final ChatKey key;
+        private final TokenBucket bucket;
+        private final PriorityQueue<OutboundMessage> pending = new PriorityQueue<>(MESSAGE_ORDER);
+        private OutboundMessage head;
+        private OutboundMessage inFlight;
+        private boolean timerSet;
+        private long wakeAt;
+
+        ChatState(ChatKey key, long now) {
+            this.key = key;
+            this.bucket = new TokenBucket(chatRate, chatBurst, now);
+        }
+    }
+
+    /**
+     * A bot's bucket and its chats ready to send, ordered by their next message.
+     */
+    private final class BotState {
+
+        private final TokenBucket bucket;
+        private final PriorityQueue<ChatState> ready =
+                new PriorityQueue<>(Comparator.comparing((ChatState chat) -> chat.head, MESSAGE_ORDER));
+
+        BotState(long now) {
+            this.bucket = new TokenBucket(botRate, botBurst, now);
+        }
+    }
+
+    private static final class OutboundMessage {
+
+        private final BotPort adapter;
+        private final String text;
+        private final Priority priority;
+        private final long sequence;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private long queuedAt;
+        private int attempts = 1;
+
+        OutboundMessage(BotPort adapter, String text, Priority priority, long sequence, long queuedAt) {
+            this.adapter = adapter;
+            this.text = text;
+            this.priority = priority;
+            this.sequence = sequence;
+            this.queuedAt = queuedAt;
+        }
+
+        Priority priority() {
+            return priority;
+        }
+
+        long sequence() {
+            return sequence;
+        }
+    }
+
+    public static class OutboundQueueFullException extends RuntimeException {
+        public OutboundQueueFullException(int capacity) {
+            super("Outbound message queue is full (" + capacity + " messages)");
+        }
+    }
+}
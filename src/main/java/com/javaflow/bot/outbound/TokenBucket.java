@@ -0,0 +1,77 @@
+package com.javaflow.bot.outbound;
+
+/**
+ * Token bucket over {@link System#nanoTime()}: {@code capacity} tokens, refilled at {@code perSecond}.
+ * A pause (the platform's {@code retry_after}) holds back every token until it ends.
+ *
+ * <p>Not thread-safe; {@link OutboundMessageDispatcher} only touches it under its lock.</p>
+ */
+final class TokenBucket {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final double tokensPerNano;
+    private final double capacity;
+    private double tokens;
+    private long refilledAt;
+    private long pausedUntil;
+
+    TokenBucket(double perSecond, int capacity, long now) {
+        if (perSecond <= 0) {
+            throw new IllegalArgumentException("Rate must be positive: " + perSecond);
+        }
+        this.tokensPerNano = perSecond / NANOS_PER_SECOND;
+        this.capacity = Math.max(1, capacity);
+        this.tokens = this.capacity;
+        this.refilledAt = now;
+        this.pausedUntil = now;
+    }
+
+    /**
+     * Nanoseconds until a token is available (0 if there is one now).
+     */
+    long nanosUntilAvailable(long now) {
+        refill(now);
+        long paused = pausedUntil - now;
+        if (paused > 0) {
+            return paused;
+        }
+        if (tokens >= 1) {
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerNano));
+    }
+
+    /**
+     * Takes a token; call only after {@link #nanosUntilAvailable} returned 0.
+     */
+    void take(long now) {
+        refill(now);
+        tokens -= 1;
+    }
+
+    /**
+     * Holds back every token until {@code until} (extends a pause, never shortens it).
+     */
+    void pauseUntil(long until) {
+        if (until - pausedUntil > 0) {
+            pausedUntil = until;
+        }
+    }
+
+    /**
+     * Full and not paused: forgetting the bucket and creating a new one changes nothing.
+     */
+    boolean isFull(long now) {
+        refill(now);
+        return tokens >= capacity && pausedUntil - now <= 0;
+    }
+
+    private void refill(long now) {
+        long elapsed = now - refilledAt;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+            refilledAt = now;
+        }
+    }
+}
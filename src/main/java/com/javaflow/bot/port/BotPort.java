@@ -1,5 +1,6 @@
 package com.javaflow.bot.port;
 
+import java.time.Duration;
 import java.util.Map;
 
 /**
@@ -13,6 +14,7 @@ public interface BotPort {
      *
      * @param chatId The unique identifier for the target chat.
      * @param text   The message content to send.
+     * @throws SendFailedException if the platform did not accept the message.
      */
     void sendMessage(String chatId, String text);
 
@@ -32,4 +34,32 @@ public interface BotPort {
      */
     String getBotType();
 
+    /**
+     * The platform did not accept a message. {@link #retryAfter()} is set when it asked to slow down
+     * (Telegram answers 429 with {@code retry_after}); the message can be sent again after that delay.
+     */
+    class SendFailedException extends RuntimeException {
+
+        private final Duration retryAfter;
+
+        public SendFailedException(String message, Throwable cause) {
+            this(message, null, cause);
+        }
+
+        public SendFailedException(String message, Duration retryAfter, Throwable cause) {
+            super(message, cause);
+            this.retryAfter = retryAfter;
+        }
+
+        /**
+         * Delay requested by the platform, or null if it was not a rate limit.
+         */
+        public Duration retryAfter() {
+            return retryAfter;
+        }
+
+        public boolean isRateLimited() {
+            return retryAfter != null;
+        }
+    }
 }
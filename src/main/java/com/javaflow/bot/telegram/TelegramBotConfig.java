@@ -12,6 +12,9 @@ import org.telegram.telegrambots.updatesreceivers.DefaultBotSession;
 
 /**
  * Configuración del Bot de Telegram
+ *
+ * <p>En modo {@code polling} (por defecto) el adaptador consulta Telegram en un bucle de long polling;
+ * en modo {@code webhook} Telegram envía los updates a {@link TelegramWebhookController}.</p>
  */
 @Configuration
 @ConditionalOnProperty(prefix = "javaflow.bot.telegram", name = "enabled", havingValue = "true")
@@ -22,6 +25,7 @@ public class TelegramBotConfig {
     private final TelegramBotAdapter telegramBotAdapter;
 
     @Bean
+    @ConditionalOnProperty(prefix = "javaflow.bot.telegram", name = "mode", havingValue = "polling", matchIfMissing = true)
     public TelegramBotsApi telegramBotsApi() throws TelegramApiException {
         log.info("Initializing Telegram Bot API");
         
@@ -0,0 +1,54 @@
+package com.javaflow.bot.telegram;
+
+import com.javaflow.domain.events.BotMessageReceivedEvent;
+import com.javaflow.model.Message;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Fields of a Telegram {@code Update} that JavaFlow uses, read by {@link TelegramUpdateParser}.
+ * Only text messages are processed; for any other update the message fields are null.
+ *
+ * @param updateId         Sequential ID of the update, used to drop redeliveries
+ * @param messageId        ID of the message within its chat
+ * @param chatId           Chat the message was sent to
+ * @param userId           Sender of the message
+ * @param text             Text of the message
+ * @param threadId         Forum topic of the message, if any
+ * @param languageCode     Language of the sender's client, if known
+ * @param replyToMessageId Message this one replies to, if any
+ * @since 1.1.0
+ */
+public record TelegramUpdate(
+        long updateId,
+        Long messageId,
+        String chatId,
+        String userId,
+        String text,
+        Integer threadId,
+        String languageCode,
+        Long replyToMessageId
+) {
+
+    public boolean hasTextMessage() {
+        return text != null && chatId != null && messageId != null;
+    }
+
+    /**
+     * Inbound message event of a text update, with the same metadata as the long-polling adapter.
+     */
+    public BotMessageReceivedEvent toEvent(Long botId) {
+        Map<String, Object> metadata = new HashMap<>();
+        if (threadId != null) {
+            metadata.put(Message.METADATA_THREAD_ID, threadId);
+        }
+        if (languageCode != null) {
+            metadata.put(Message.METADATA_LANGUAGE, languageCode);
+        }
+        if (replyToMessageId != null) {
+            metadata.put(Message.METADATA_REPLY_TO, replyToMessageId);
+        }
+        return new BotMessageReceivedEvent(botId, chatId, userId, text, messageId.toString(), metadata);
+    }
+}
@@ -0,0 +1,157 @@
+package com.javaflow.bot.telegram;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads webhook payloads ({@code Update} objects) with Jackson's streaming parser.
+ *
+ * <p>Only the fields of {@link TelegramUpdate} are read; every other value (entities, photos,
+ * stickers, whole {@code reply_to_message} objects...) is skipped without being materialized, so no
+ * object tree or library {@code Update} is built per request. The parser is thread-safe.</p>
+ *
+ * @since 1.1.0
+ */
+public class TelegramUpdateParser {
+
+    private final JsonFactory jsonFactory;
+
+    public TelegramUpdateParser() {
+        this(new JsonFactory());
+    }
+
+    public TelegramUpdateParser(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * @throws JsonParseException if the payload is not a JSON object with an {@code update_id}
+     */
+    public TelegramUpdate parse(InputStream payload) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(payload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Update must be a JSON object");
+            }
+            Long updateId = null;
+            MessageFields message = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("update_id".equals(field) && value == JsonToken.VALUE_NUMBER_INT) {
+                    updateId = parser.getLongValue();
+                } else if ("message".equals(field) && value == JsonToken.START_OBJECT) {
+                    message = readMessage(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (updateId == null) {
+                throw new JsonParseException(parser, "Update without update_id");
+            }
+            if (message == null) {
+                return new TelegramUpdate(updateId, null, null, null, null, null, null, null);
+            }
+            return new TelegramUpdate(updateId, message.messageId, message.chatId, message.userId, message.text,
+                    message.threadId, message.languageCode, message.replyToMessageId);
+        }
+    }
+
+    private static MessageFields readMessage(JsonParser parser) throws IOException {
+        MessageFields message = new MessageFields();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "message_id" -> message.messageId = longValue(parser, value);
+                case "message_thread_id" -> {
+                    Long threadId = longValue(parser, value);
+                    message.threadId = threadId != null ? threadId.intValue() : null;
+                }
+                case "text" -> message.text = stringValue(parser, value);
+                case "chat" -> message.chatId = readId(parser, value);
+                case "from" -> readSender(parser, value, message);
+                case "reply_to_message" -> message.replyToMessageId = readLong(parser, value, "message_id");
+                default -> parser.skipChildren();
+            }
+        }
+        return message;
+    }
+
+    private static void readSender(JsonParser parser, JsonToken value, MessageFields message) throws IOException {
+        if (value != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken fieldValue = parser.nextToken();
+            if ("id".equals(field) && fieldValue == JsonToken.VALUE_NUMBER_INT) {
+                message.userId = parser.getText();
+            } else if ("language_code".equals(field) && fieldValue == JsonToken.VALUE_STRING) {
+                message.languageCode = parser.getText();
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * The {@code id} of a nested object ({@code chat}), as text.
+     */
+    private static String readId(JsonParser parser, JsonToken value) throws IOException {
+        Long id = readLong(parser, value, "id");
+        return id != null ? id.toString() : null;
+    }
+
+    /**
+     * A numeric field of a nested object, skipping the rest of the object.
+     */
+    private static Long readLong(JsonParser parser, JsonToken value, String name) throws IOException {
+        if (value != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        Long result = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken fieldValue = parser.nextToken();
+            if (name.equals(field) && fieldValue == JsonToken.VALUE_NUMBER_INT) {
+                result = parser.getLongValue();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    private static Long longValue(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getLongValue();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    private static String stringValue(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    private static final class MessageFields {
+        private Long messageId;
+        private Integer threadId;
+        private String text;
+        private String chatId;
+        private String userId;
+        private String languageCode;
+        private Long replyToMessageId;
+    }
+}
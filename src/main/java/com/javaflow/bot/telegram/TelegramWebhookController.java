@@ -0,0 +1,56 @@
+package com.javaflow.bot.telegram;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * Webhook de Telegram: una URL por bot, {@code POST /api/v1/telegram/webhook/{botId}}.
+ *
+ * <p>El cuerpo se pasa sin deserializar a {@link TelegramWebhookService}; Telegram solo necesita un
+ * 2xx para dar el update por entregado.</p>
+ *
+ * @since 1.1.0
+ */
+@RestController
+@RequestMapping(TelegramWebhookController.PATH)
+@ConditionalOnProperty(prefix = "javaflow.bot.telegram", name = "mode", havingValue = "webhook")
+@RequiredArgsConstructor
+@Slf4j
+public class TelegramWebhookController {
+
+    public static final String PATH = "/api/v1/telegram/webhook";
+
+    static final String SECRET_TOKEN_HEADER = "X-Telegram-Bot-Api-Secret-Token";
+
+    private final TelegramWebhookService webhookService;
+
+    @PostMapping("/{botId}")
+    public ResponseEntity<Void> receiveUpdate(
+            @PathVariable Long botId,
+            @RequestHeader(value = SECRET_TOKEN_HEADER, required = false) String secretToken,
+            HttpServletRequest request) {
+        try {
+            TelegramWebhookService.Outcome outcome = webhookService.accept(botId, secretToken, request.getInputStream());
+            return switch (outcome) {
+                case ACCEPTED, DUPLICATE, IGNORED -> ResponseEntity.ok().build();
+                case UNAUTHORIZED -> ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+                case UNKNOWN_BOT -> ResponseEntity.notFound().build();
+                case OVERLOADED -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+            };
+        } catch (IOException e) {
+            log.warn("Invalid Telegram update for bot {}: {}", botId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.javaflow.bot.telegram;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.javaflow.model.BotConfiguration;
+import com.javaflow.repository.BotConfigurationRepository;
+import com.javaflow.security.TokenEncryptionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registra en Telegram ({@code setWebhook}) la URL de cada bot de Telegram activo al arrancar en modo
+ * webhook, con el secret token que después valida {@link TelegramWebhookService}.
+ *
+ * <p>La URL del API es configurable ({@code javaflow.bot.telegram.api-url}) para poder apuntar a un
+ * servidor local que simule Telegram. Sin {@code webhook.public-url} no se registra nada (p. ej. si los
+ * webhooks se gestionan fuera de la aplicación).</p>
+ *
+ * @since 1.1.0
+ */
+@Component
+@ConditionalOnProperty(prefix = "javaflow.bot.telegram", name = "mode", havingValue = "webhook")
+@Slf4j
+public class TelegramWebhookRegistrar {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final BotConfigurationRepository botRepository;
+    private final TokenEncryptionService encryptionService;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final String apiUrl;
+    private final String publicUrl;
+    private final String secretToken;
+    private final int maxConnections;
+
+    public TelegramWebhookRegistrar(
+            BotConfigurationRepository botRepository,
+            TokenEncryptionService encryptionService,
+            ObjectMapper objectMapper,
+            @Value("${javaflow.bot.telegram.api-url:https://api.telegram.org}") String apiUrl,
+            @Value("${javaflow.bot.telegram.webhook.public-url:}") String publicUrl,
+            @Value("${javaflow.bot.telegram.webhook.secret-token:}") String secretToken,
+            @Value("${javaflow.bot.telegram.webhook.max-connections:40}") int maxConnections) {
+        this.botRepository = botRepository;
+        this.encryptionService = encryptionService;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(TIMEOUT).build();
+        this.apiUrl = stripTrailingSlash(apiUrl);
+        this.publicUrl = stripTrailingSlash(publicUrl);
+        this.secretToken = secretToken;
+        this.maxConnections = maxConnections;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerActiveBots() {
+        if (publicUrl.isEmpty()) {
+            log.info("Telegram webhook mode without public URL, webhooks are not registered");
+            return;
+        }
+        List<BotConfiguration> bots = botRepository.findByTypeAndStatus(
+                BotConfiguration.BotType.TELEGRAM, BotConfiguration.BotStatus.ACTIVE);
+        long registered = bots.stream().filter(this::register).count();
+        log.info("Registered Telegram webhooks of {}/{} active bots", registered, bots.size());
+    }
+
+    /**
+     * Points the bot's Telegram webhook at this application.
+     *
+     * @return Whether Telegram accepted it
+     */
+    public boolean register(BotConfiguration bot) {
+        if (bot.getToken() == null) {
+            log.warn("Telegram bot {} has no token, webhook not registered", bot.getId());
+            return false;
+        }
+        try {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("url", webhookUrl(bot.getId()));
+            body.put("max_connections", maxConnections);
+            body.put("allowed_updates", List.of("message"));
+            if (!secretToken.isEmpty()) {
+                body.put("secret_token", secretToken);
+            }
+            HttpRequest request = HttpRequest.newBuilder(
+                            URI.create(apiUrl + "/bot" + encryptionService.decrypt(bot.getToken()) + "/setWebhook"))
+                    .timeout(TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+            JsonNode result = objectMapper.readTree(response.body());
+            if (response.statusCode() == 200 && result.path("ok").asBoolean()) {
+                log.debug("Telegram webhook of bot {} set to {}", bot.getId(), body.get("url"));
+                return true;
+            }
+            // La URL de la petición lleva el token: solo se registra la respuesta
+            log.warn("Telegram rejected the webhook of bot {}: {} {}", bot.getId(),
+                    response.statusCode(), result.path("description").asText());
+            return false;
+        } catch (IOException | RuntimeException e) {
+            // El mensaje de la excepción puede incluir la URL, y con ella el token
+            log.warn("Could not register the Telegram webhook of bot {}: {}", bot.getId(), e.getClass().getSimpleName());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    String webhookUrl(Long botId) {
+        return publicUrl + TelegramWebhookController.PATH + "/" + botId;
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
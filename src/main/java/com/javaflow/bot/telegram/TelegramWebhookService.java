@@ -0,0 +1,136 @@
+package com.javaflow.bot.telegram;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.javaflow.bot.inbound.InboundMessageDispatcher;
+import com.javaflow.model.BotConfiguration;
+import com.javaflow.monitoring.MetricsService;
+import com.javaflow.repository.BotConfigurationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+/**
+ * Recepción de updates de Telegram por webhook ({@code javaflow.bot.telegram.mode=webhook}).
+ *
+ * <p>Cada bot tiene su propia URL ({@link TelegramWebhookController}); el update se lee en streaming
+ * ({@link TelegramUpdateParser}), se valida y se entrega a la cola de su chat en
+ * {@link InboundMessageDispatcher}, el mismo camino que los mensajes del long polling. La petición HTTP
+ * responde en cuanto el update está en la cola, sin esperar a la base de datos ni a los workflows;
+ * Telegram solo tiene que esperar al parseo.</p>
+ *
+ * <p>El modo webhook no arranca sin {@code secret-token}: toda petición debe traerlo en la cabecera
+ * {@code X-Telegram-Bot-Api-Secret-Token}, porque la URL de cada bot solo contiene su ID.</p>
+ *
+ * <p>Telegram reenvía un update si no recibe un 2xx a tiempo; los reenvíos se descartan por
+ * {@code update_id}. Con la cola llena se responde 503 y Telegram lo reintenta más tarde.</p>
+ *
+ * @since 1.1.0
+ */
+@Service
+@ConditionalOnProperty(prefix = "javaflow.bot.telegram", name = "mode", havingValue = "webhook")
+@Slf4j
+public class TelegramWebhookService {
+
+    private static final int RECENT_UPDATES = 100_000;
+
+    /** Characters and length accepted by Telegram for {@code secret_token}. */
+    private static final Pattern SECRET_TOKEN_FORMAT = Pattern.compile("[A-Za-z0-9_-]{1,256}");
+
+    private final BotConfigurationRepository botRepository;
+    private final InboundMessageDispatcher inboundDispatcher;
+    private final MetricsService metricsService;
+    private final TelegramUpdateParser parser;
+    private final byte[] secretToken;
+    private final Cache<String, Boolean> recentUpdates;
+
+    public TelegramWebhookService(
+            BotConfigurationRepository botRepository,
+            InboundMessageDispatcher inboundDispatcher,
+            MetricsService metricsService,
+            @Value("${javaflow.bot.telegram.webhook.secret-token:}") String secretToken,
+            @Value("${javaflow.bot.telegram.webhook.dedup-minutes:10}") long dedupMinutes) {
+        this.botRepository = botRepository;
+        this.inboundDispatcher = inboundDispatcher;
+        this.metricsService = metricsService;
+        this.parser = new TelegramUpdateParser();
+        // Sin secreto cualquiera que adivine la URL de un bot podría inyectar mensajes
+        if (!SECRET_TOKEN_FORMAT.matcher(secretToken).matches()) {
+            throw new IllegalStateException("Telegram webhook mode requires javaflow.bot.telegram.webhook.secret-token " +
+                    "(1-256 characters: A-Z, a-z, 0-9, _ and -)");
+        }
+        this.secretToken = secretToken.getBytes(StandardCharsets.UTF_8);
+        this.recentUpdates = Caffeine.newBuilder()
+                .maximumSize(RECENT_UPDATES)
+                .expireAfterWrite(Duration.ofMinutes(dedupMinutes))
+                .build();
+    }
+
+    /**
+     * Validates an update posted to a bot's webhook and queues it for processing.
+     *
+     * @param botId       Bot of the webhook URL
+     * @param secretToken Value of the {@code X-Telegram-Bot-Api-Secret-Token} header
+     * @param payload     Request body
+     * @throws IOException if the payload is not a valid update
+     */
+    public Outcome accept(Long botId, String secretToken, InputStream payload) throws IOException {
+        Outcome outcome = validateAndQueue(botId, secretToken, payload);
+        metricsService.recordWebhookUpdate("telegram", outcome.name().toLowerCase());
+        return outcome;
+    }
+
+    private Outcome validateAndQueue(Long botId, String secretToken, InputStream payload) throws IOException {
+        if (!hasValidSecret(secretToken)) {
+            return Outcome.UNAUTHORIZED;
+        }
+        // Caché de segundo nivel: sin consulta a la BD por update
+        BotConfiguration bot = botRepository.findById(botId).orElse(null);
+        if (bot == null || bot.getType() != BotConfiguration.BotType.TELEGRAM) {
+            return Outcome.UNKNOWN_BOT;
+        }
+
+        TelegramUpdate update = parser.parse(payload);
+        if (bot.getStatus() != BotConfiguration.BotStatus.ACTIVE || !update.hasTextMessage()) {
+            return Outcome.IGNORED;
+        }
+        String updateKey = botId + ":" + update.updateId();
+        if (recentUpdates.asMap().putIfAbsent(updateKey, Boolean.TRUE) != null) {
+            return Outcome.DUPLICATE;
+        }
+
+        if (!inboundDispatcher.trySubmit(update.toEvent(botId))) {
+            // Telegram lo reenviará: no debe contar como duplicado
+            recentUpdates.invalidate(updateKey);
+            return Outcome.OVERLOADED;
+        }
+        return Outcome.ACCEPTED;
+    }
+
+    private boolean hasValidSecret(String received) {
+        return received != null && MessageDigest.isEqual(this.secretToken, received.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public enum Outcome {
+        /** Queued for processing. */
+        ACCEPTED,
+        /** Already received (redelivery). */
+        DUPLICATE,
+        /** Not a text message, or the bot is not active. */
+        IGNORED,
+        /** Wrong or missing secret token. */
+        UNAUTHORIZED,
+        /** No Telegram bot with this ID. */
+        UNKNOWN_BOT,
+        /** The chat's processing queue is full; Telegram retries later. */
+        OVERLOADED
+    }
+}
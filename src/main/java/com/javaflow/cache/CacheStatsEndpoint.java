@@ -0,0 +1,107 @@
+package com.javaflow.cache;
+
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Actuator endpoint {@code /actuator/cachestats} with the statistics of every Spring cache, and
+ * {@code /actuator/cachestats/{name}} with the keys it currently holds.
+ *
+ * <p>Only keys and value types are listed, never the values, so cached entities are not exposed
+ * through the endpoint. Listing goes through the map view of the cache and does not count as hits
+ * or misses. Requires the ADMIN role (see {@code SecurityConfig}).</p>
+ *
+ * @since 1.1.0
+ */
+@Component
+@Endpoint(id = "cachestats")
+@RequiredArgsConstructor
+public class CacheStatsEndpoint {
+
+    static final int MAX_ENTRIES = 100;
+
+    private final CacheManager cacheManager;
+    private final SpringCacheMetrics cacheMetrics;
+
+    @ReadOperation
+    public Map<String, CacheDetails> caches() {
+        Map<String, CacheDetails> caches = new TreeMap<>();
+        for (String cacheName : cacheManager.getCacheNames()) {
+            cacheMetrics.nativeCache(cacheName).ifPresent(cache -> caches.put(cacheName, details(cacheName, cache)));
+        }
+        return caches;
+    }
+
+    /**
+     * @return null (404) if the cache does not exist or is not backed by Caffeine
+     */
+    @ReadOperation
+    public CacheContents cache(@Selector String name) {
+        return cacheMetrics.nativeCache(name).map(cache -> {
+            List<Entry> entries = cache.asMap().entrySet().stream()
+                    .limit(MAX_ENTRIES)
+                    .map(entry -> new Entry(String.valueOf(entry.getKey()), entry.getValue().getClass().getSimpleName()))
+                    .toList();
+            long size = cache.estimatedSize();
+            return new CacheContents(name, details(name, cache), entries, size > entries.size());
+        }).orElse(null);
+    }
+
+    private CacheDetails details(String cacheName, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+        CacheStats stats = cache.stats();
+        Long weightedSize = cache.policy().eviction()
+                .map(Policy.Eviction::weightedSize)
+                .filter(OptionalLong::isPresent)
+                .map(OptionalLong::getAsLong)
+                .orElse(null);
+        return new CacheDetails(
+                cache.estimatedSize(),
+                weightedSize,
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                cacheMetrics.recentHitRatio(cacheName),
+                stats.loadCount(),
+                stats.loadFailureCount(),
+                TimeUnit.NANOSECONDS.toMicros((long) stats.averageLoadPenalty()) / 1000.0,
+                stats.evictionCount(),
+                stats.evictionWeight());
+    }
+
+    /**
+     * @param weightedSize   Total weight (bytes for the workflow caches); null if bounded by entry count
+     * @param hitRate        Hit rate since startup
+     * @param recentHitRatio Hit rate of the last sampled interval (see {@link SpringCacheMetrics})
+     */
+    public record CacheDetails(
+            long estimatedSize,
+            Long weightedSize,
+            long hitCount,
+            long missCount,
+            double hitRate,
+            double recentHitRatio,
+            long loadCount,
+            long loadFailureCount,
+            double averageLoadMillis,
+            long evictionCount,
+            long evictionWeight) {
+    }
+
+    public record CacheContents(String name, CacheDetails stats, List<Entry> entries, boolean truncated) {
+    }
+
+    public record Entry(String key, String valueType) {
+    }
+}
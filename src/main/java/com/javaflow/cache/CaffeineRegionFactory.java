@@ -0,0 +1,132 @@
+package com.javaflow.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hibernate second-level cache backed by Caffeine, one cache per region.
+ *
+ * <p>Configured through {@code spring.jpa.properties}:</p>
+ * <ul>
+ *   <li>{@code hibernate.cache.region.factory_class} - this class</li>
+ *   <li>{@value #MAXIMUM_SIZE} - entries per entity / query region</li>
+ *   <li>{@value #EXPIRE_AFTER_WRITE} - upper bound on how long an entry may be served</li>
+ * </ul>
+ *
+ * <p>The update-timestamps region is never size-bounded nor expired: a missing timestamp would make
+ * Hibernate accept stale query results. It holds one entry per table.</p>
+ *
+ * <p>Every cache records statistics; {@link SecondLevelCacheMetrics} publishes them to Micrometer.</p>
+ *
+ * @since 1.1.0
+ */
+public class CaffeineRegionFactory extends RegionFactoryTemplate {
+
+    public static final String MAXIMUM_SIZE = "javaflow.cache.second-level.maximum-size";
+    public static final String EXPIRE_AFTER_WRITE = "javaflow.cache.second-level.expire-after-write-seconds";
+
+    private final Map<String, Cache<Object, Object>> caches = new ConcurrentHashMap<>();
+    private long maximumSize = 10_000;
+    private Duration expireAfterWrite = Duration.ofMinutes(30);
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+        maximumSize = longSetting(configValues, MAXIMUM_SIZE, maximumSize);
+        expireAfterWrite = Duration.ofSeconds(longSetting(configValues, EXPIRE_AFTER_WRITE, expireAfterWrite.toSeconds()));
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        caches.values().forEach(Cache::invalidateAll);
+        caches.clear();
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+                                                                    DomainDataRegionBuildingContext buildingContext) {
+        return new CaffeineStorageAccess(boundedCache(regionConfig.getRegionName()));
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName,
+                                                                  SessionFactoryImplementor sessionFactory) {
+        return new CaffeineStorageAccess(boundedCache(regionName));
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName,
+                                                                SessionFactoryImplementor sessionFactory) {
+        return new CaffeineStorageAccess(caches.computeIfAbsent(regionName,
+                name -> Caffeine.newBuilder().recordStats().build()));
+    }
+
+    /**
+     * Caffeine cache of every region, by region name (for metrics and diagnostics).
+     */
+    public Map<String, Cache<Object, Object>> getCaches() {
+        return Collections.unmodifiableMap(caches);
+    }
+
+    private Cache<Object, Object> boundedCache(String regionName) {
+        return caches.computeIfAbsent(regionName, name -> Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build());
+    }
+
+    private static long longSetting(Map<String, Object> configValues, String name, long defaultValue) {
+        Object value = configValues.get(name);
+        return value != null && !value.toString().isBlank() ? Long.parseLong(value.toString().trim()) : defaultValue;
+    }
+
+    /**
+     * Region storage on top of a Caffeine cache. Hibernate's access strategies (READ_WRITE soft locks,
+     * timestamps) are layered on top by {@link RegionFactoryTemplate}.
+     */
+    private record CaffeineStorageAccess(Cache<Object, Object> cache) implements DomainDataStorageAccess {
+
+        @Override
+        public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+            return cache.getIfPresent(key);
+        }
+
+        @Override
+        public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+            cache.put(key, value);
+        }
+
+        @Override
+        public boolean contains(Object key) {
+            return cache.asMap().containsKey(key);
+        }
+
+        @Override
+        public void evictData() {
+            cache.invalidateAll();
+        }
+
+        @Override
+        public void evictData(Object key) {
+            cache.invalidate(key);
+        }
+
+        @Override
+        public void release() {
+            cache.invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,337 @@
+package com.javaflow.cache;
+
+import com.javaflow.monitoring.MetricsService;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the caches of every node consistent when several JavaFlow instances share one database: the
+ * Hibernate second-level cache and the Spring caches ({@code workflows}, {@code workflow-lists}).
+ *
+ * <p>The node making a change updates its own caches. The change is also written to
+ * {@code cache_invalidations} (after commit, in batches from a background thread) and every other node,
+ * polling that table every {@code poll-interval-ms}, evicts the entry from its own cache. Rows are compared
+ * against database time, so node clocks do not need to agree, and each poll re-reads a short overlap window
+ * so rows committed during the previous poll are not missed. Repeated invalidations of the same entry are
+ * coalesced on both sides.</p>
+ *
+ * <p>Spring cache entries use the region {@code spring:<cache>} and a typed key ({@code long:42},
+ * {@code string:abc}); any other key type, or no key, clears the whole cache on the other nodes. A workflow
+ * ID in {@value WorkflowCache#LISTS} is handed to {@link WorkflowCache}, which drops only the lists that
+ * contain that workflow.</p>
+ *
+ * <p>Enabled with {@code javaflow.cache.cluster.enabled=true}; a single instance does not need it.</p>
+ *
+ * @since 1.1.0
+ */
+@Component
+@ConditionalOnProperty(prefix = "javaflow.cache.cluster", name = "enabled", havingValue = "true")
+@Slf4j
+public class ClusterCacheInvalidator {
+
+    static final String INSERT_SQL =
+            "INSERT INTO cache_invalidations (region, entry_key, origin, created_at) VALUES (?, ?, ?, LOCALTIMESTAMP)";
+
+    static final String SELECT_SQL =
+            "SELECT region, entry_key FROM cache_invalidations WHERE created_at >= ? AND origin <> ? ORDER BY id";
+
+    static final String PURGE_SQL = "DELETE FROM cache_invalidations WHERE created_at < ?";
+
+    static final String NOW_SQL = "SELECT LOCALTIMESTAMP";
+
+    /** Region prefix of the Spring caches. */
+    static final String SPRING_CACHE_PREFIX = "spring:";
+
+    private static final String LONG_KEY_PREFIX = "long:";
+    private static final String STRING_KEY_PREFIX = "string:";
+
+    /** Re-read window that covers rows committed while the previous poll was running. */
+    static final Duration POLL_OVERLAP = Duration.ofSeconds(2);
+
+    private static final int PENDING_CAPACITY = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SessionFactoryImplementor sessionFactory;
+    private final CacheManager cacheManager;
+    private final ObjectProvider<WorkflowCache> workflowCache;
+    private final MetricsService metricsService;
+    private final long pollIntervalMillis;
+    private final Duration retention;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ArrayBlockingQueue<Invalidation> pending = new ArrayBlockingQueue<>(PENDING_CAPACITY);
+    private final Semaphore wakeUps = new Semaphore(0);
+
+    private LocalDateTime lastPoll;
+    private LocalDateTime lastPurge;
+    private volatile boolean running;
+    private Thread pollerThread;
+
+    public ClusterCacheInvalidator(
+            JdbcTemplate jdbcTemplate,
+            EntityManagerFactory entityManagerFactory,
+            CacheManager cacheManager,
+            ObjectProvider<WorkflowCache> workflowCache,
+            MetricsService metricsService,
+            @Value("${javaflow.cache.cluster.poll-interval-ms:1000}") long pollIntervalMillis,
+            @Value("${javaflow.cache.cluster.retention-minutes:60}") long retentionMinutes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.cacheManager = cacheManager;
+        this.workflowCache = workflowCache;
+        this.metricsService = metricsService;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.retention = Duration.ofMinutes(retentionMinutes);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        pollerThread = new Thread(this::runPollLoop, "cache-invalidation-poller");
+        pollerThread.setDaemon(true);
+        pollerThread.start();
+        log.info("Cluster cache invalidation started (node {}, poll interval {} ms)", nodeId, pollIntervalMillis);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (pollerThread != null) {
+            wakeUps.release();
+            pollerThread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    // ========== PUBLISHING ==========
+
+    /**
+     * Announces a change of a cached entity to the other nodes once the current transaction commits
+     * (immediately if there is none). Rolled-back changes are never announced.
+     */
+    public void publishAfterCommit(Object entity) {
+        String entityName = sessionFactory.getMappingMetamodel()
+                .getEntityDescriptor(Hibernate.getClass(entity)).getEntityName();
+        Object id = sessionFactory.getPersistenceUnitUtil().getIdentifier(entity);
+        enqueueAfterCommit(new Invalidation(entityName, id != null ? id.toString() : null));
+    }
+
+    /**
+     * Announces the eviction of a Spring cache entry to the other nodes once the current transaction
+     * commits (immediately if there is none).
+     *
+     * @param key Entry key; null clears the whole cache on the other nodes
+     */
+    public void publishCacheEvictionAfterCommit(String cacheName, Object key) {
+        enqueueAfterCommit(new Invalidation(SPRING_CACHE_PREFIX + cacheName, encodeKey(key)));
+    }
+
+    private void enqueueAfterCommit(Invalidation invalidation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(invalidation);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(invalidation);
+            }
+        });
+    }
+
+    private void enqueue(Invalidation invalidation) {
+        if (!pending.offer(invalidation)) {
+            log.warn("Cache invalidation queue full, dropping invalidation of {}#{}",
+                    invalidation.region(), invalidation.entryKey());
+            metricsService.recordCacheInvalidations("dropped", 1);
+            return;
+        }
+        wakeUps.release();
+    }
+
+    // ========== POLLING ==========
+
+    private void runPollLoop() {
+        while (running) {
+            try {
+                wakeUps.tryAcquire(pollIntervalMillis, TimeUnit.MILLISECONDS);
+                wakeUps.drainPermits();
+                flushPending();
+                pollOnce();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (RuntimeException e) {
+                log.warn("Cluster cache invalidation failed, retrying in {} ms: {}", pollIntervalMillis, e.getMessage());
+            }
+        }
+        flushPending();
+    }
+
+    /**
+     * Writes the invalidations made on this node.
+     *
+     * @return Number of invalidations written
+     */
+    int flushPending() {
+        List<Invalidation> drained = new ArrayList<>();
+        pending.drainTo(drained);
+        if (drained.isEmpty()) {
+            return 0;
+        }
+        List<Invalidation> batch = new ArrayList<>(new LinkedHashSet<>(drained));
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, invalidation) -> {
+                ps.setString(1, invalidation.region());
+                ps.setString(2, invalidation.entryKey());
+                ps.setString(3, nodeId);
+            });
+        } catch (RuntimeException e) {
+            // The other nodes fall back on the cache expiry for these entries
+            metricsService.recordCacheInvalidations("dropped", batch.size());
+            throw e;
+        }
+        metricsService.recordCacheInvalidations("sent", batch.size());
+        return batch.size();
+    }
+
+    /**
+     * Applies the invalidations written by other nodes since the previous poll.
+     *
+     * @return Number of invalidations applied
+     */
+    int pollOnce() {
+        LocalDateTime now = jdbcTemplate.queryForObject(NOW_SQL, LocalDateTime.class);
+        int applied = 0;
+        if (lastPoll != null) {
+            Set<Invalidation> remote = new LinkedHashSet<>(jdbcTemplate.query(SELECT_SQL,
+                    (rs, rowNum) -> new Invalidation(rs.getString("region"), rs.getString("entry_key")),
+                    lastPoll.minus(POLL_OVERLAP), nodeId));
+            remote.forEach(this::evict);
+            if (remote.stream().anyMatch(invalidation -> !invalidation.isSpringCache())) {
+                // Cached query results may include the changed rows
+                sessionFactory.getCache().evictDefaultQueryRegion();
+            }
+            if (!remote.isEmpty()) {
+                metricsService.recordCacheInvalidations("received", remote.size());
+            }
+            applied = remote.size();
+        }
+        lastPoll = now;
+
+        if (lastPurge == null || lastPurge.isBefore(now.minusMinutes(1))) {
+            jdbcTemplate.update(PURGE_SQL, now.minus(retention));
+            lastPurge = now;
+        }
+        return applied;
+    }
+
+    private void evict(Invalidation invalidation) {
+        if (invalidation.isSpringCache()) {
+            evictSpringCache(invalidation);
+            return;
+        }
+        CacheImplementor cache = sessionFactory.getCache();
+        Object id = invalidation.entryKey() != null ? toIdentifier(invalidation) : null;
+        if (id != null) {
+            cache.evictEntityData(invalidation.region(), id);
+        } else {
+            cache.evictEntityData(invalidation.region());
+        }
+    }
+
+    private void evictSpringCache(Invalidation invalidation) {
+        String cacheName = invalidation.region().substring(SPRING_CACHE_PREFIX.length());
+        Object key = decodeKey(invalidation.entryKey());
+        if (WorkflowCache.LISTS.equals(cacheName) && key instanceof Long workflowId) {
+            workflowCache.ifAvailable(lists -> lists.evictRemote(workflowId));
+            return;
+        }
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (key != null) {
+            cache.evict(key);
+        } else {
+            cache.clear();
+        }
+    }
+
+    static String encodeKey(Object key) {
+        if (key instanceof Long value) {
+            return LONG_KEY_PREFIX + value;
+        }
+        if (key instanceof String value) {
+            return STRING_KEY_PREFIX + value;
+        }
+        return null;
+    }
+
+    static Object decodeKey(String entryKey) {
+        if (entryKey == null) {
+            return null;
+        }
+        if (entryKey.startsWith(LONG_KEY_PREFIX)) {
+            return Long.valueOf(entryKey.substring(LONG_KEY_PREFIX.length()));
+        }
+        if (entryKey.startsWith(STRING_KEY_PREFIX)) {
+            return entryKey.substring(STRING_KEY_PREFIX.length());
+        }
+        return null;
+    }
+
+    private Object toIdentifier(Invalidation invalidation) {
+        try {
+            EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(invalidation.region());
+            Class<?> idType = persister.getIdentifierType().getReturnedClass();
+            if (idType == Long.class) {
+                return Long.valueOf(invalidation.entryKey());
+            }
+            if (idType == Integer.class) {
+                return Integer.valueOf(invalidation.entryKey());
+            }
+            return idType == String.class ? invalidation.entryKey() : null;
+        } catch (RuntimeException e) {
+            // Unknown entity or identifier format: evict the whole region
+            log.debug("Cannot resolve cache key {}#{}", invalidation.region(), invalidation.entryKey(), e);
+            return null;
+        }
+    }
+
+    String nodeId() {
+        return nodeId;
+    }
+
+    record Invalidation(String region, String entryKey) {
+
+        boolean isSpringCache() {
+            return region.startsWith(SPRING_CACHE_PREFIX);
+        }
+    }
+}
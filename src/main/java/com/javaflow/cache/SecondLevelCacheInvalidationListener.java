@@ -0,0 +1,31 @@
+package com.javaflow.cache;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener of the second-level cached entities: forwards their changes to
+ * {@link ClusterCacheInvalidator} when cluster invalidation is enabled (inserts too, so that cached
+ * queries on other nodes see new rows).
+ *
+ * @since 1.1.0
+ */
+@Component
+public class SecondLevelCacheInvalidationListener {
+
+    private final ObjectProvider<ClusterCacheInvalidator> invalidator;
+
+    public SecondLevelCacheInvalidationListener(ObjectProvider<ClusterCacheInvalidator> invalidator) {
+        this.invalidator = invalidator;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void entityChanged(Object entity) {
+        invalidator.ifAvailable(clusterInvalidator -> clusterInvalidator.publishAfterCommit(entity));
+    }
+}
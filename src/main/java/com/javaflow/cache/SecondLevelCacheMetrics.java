@@ -0,0 +1,44 @@
+package com.javaflow.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the statistics of every second-level cache region to Micrometer
+ * ({@code cache.gets{result=hit|miss}}, {@code cache.puts}, {@code cache.evictions}, {@code cache.size}),
+ * tagged with {@code cache=hibernate.<region>}.
+ *
+ * @since 1.1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SecondLevelCacheMetrics {
+
+    static final String CACHE_NAME_PREFIX = "hibernate.";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final MeterRegistry meterRegistry;
+
+    @PostConstruct
+    void bindRegions() {
+        RegionFactory regionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getCache().getRegionFactory();
+        if (!(regionFactory instanceof CaffeineRegionFactory caffeine)) {
+            log.info("Second-level cache is not backed by Caffeine ({}), no cache metrics bound",
+                    regionFactory.getClass().getSimpleName());
+            return;
+        }
+
+        caffeine.getCaches().forEach((region, cache) ->
+                CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME_PREFIX + region));
+        log.info("Bound metrics for second-level cache regions {}", caffeine.getCaches().keySet());
+    }
+}
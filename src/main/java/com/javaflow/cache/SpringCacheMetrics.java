@@ -0,0 +1,95 @@
+package com.javaflow.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.javaflow.monitoring.MetricsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Samples the Caffeine statistics of every Spring cache ({@code workflows}, {@code workflow-lists},
+ * {@code users}, {@code bots}...).
+ *
+ * <p>Spring Boot already binds these caches to Micrometer ({@code cache.gets}, {@code cache.puts},
+ * {@code cache.evictions}, {@code cache.size}, {@code cache.load.duration}) as long as they record
+ * statistics. On top of that, every {@code sample-interval-ms} this component adds the hits and misses of
+ * the interval to {@code javaflow.cache.hits}/{@code javaflow.cache.misses} and publishes the hit ratio
+ * of the interval as {@code javaflow.cache.hit.ratio}: unlike the cumulative counters it drops as soon as
+ * a change hurts the cache, so it can be alerted on directly. Without requests in the interval the
+ * ratio is NaN.</p>
+ *
+ * @since 1.1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SpringCacheMetrics {
+
+    private final CacheManager cacheManager;
+    private final MetricsService metricsService;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    @Scheduled(fixedDelayString = "${javaflow.cache.metrics.sample-interval-ms:30000}",
+               initialDelayString = "${javaflow.cache.metrics.sample-interval-ms:30000}")
+    public void sample() {
+        for (String cacheName : cacheManager.getCacheNames()) {
+            nativeCache(cacheName).ifPresent(cache -> window(cacheName).update(cache.stats()));
+        }
+    }
+
+    /**
+     * Hit ratio of the last sampled interval (NaN if there were no requests or it was never sampled).
+     */
+    public double recentHitRatio(String cacheName) {
+        Window window = windows.get(cacheName);
+        return window != null ? window.hitRatio() : Double.NaN;
+    }
+
+    /**
+     * Underlying Caffeine cache of a Spring cache, if it is backed by Caffeine.
+     */
+    public Optional<com.github.benmanes.caffeine.cache.Cache<Object, Object>> nativeCache(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        return cache instanceof CaffeineCache caffeine ? Optional.of(caffeine.getNativeCache()) : Optional.empty();
+    }
+
+    private Window window(String cacheName) {
+        return windows.computeIfAbsent(cacheName, name -> {
+            Window window = new Window(name);
+            metricsService.registerCacheHitRatio(name, window, Window::hitRatio);
+            return window;
+        });
+    }
+
+    private final class Window {
+
+        private final String cacheName;
+        private CacheStats previous = CacheStats.empty();
+        private volatile double hitRatio = Double.NaN;
+
+        Window(String cacheName) {
+            this.cacheName = cacheName;
+        }
+
+        synchronized void update(CacheStats current) {
+            CacheStats delta = current.minus(previous);
+            previous = current;
+            metricsService.recordCacheHits(cacheName, delta.hitCount());
+            metricsService.recordCacheMisses(cacheName, delta.missCount());
+            hitRatio = delta.requestCount() == 0 ? Double.NaN : delta.hitRate();
+            log.trace("Cache {}: {} requests, hit ratio {}", cacheName, delta.requestCount(), hitRatio);
+        }
+
+        double hitRatio() {
+            return hitRatio;
+        }
+    }
+}
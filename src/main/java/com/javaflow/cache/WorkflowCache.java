@@ -0,0 +1,289 @@
+package com.javaflow.cache;
+
+import com.javaflow.model.Workflow;
+import com.javaflow.service.dto.WorkflowSummary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Workflow caches: one by ID ({@value #BY_ID}) and one for the list views ({@value #LISTS}).
+ * Both hold immutable {@link WorkflowSummary} snapshots, never JPA entities, and are bounded in
+ * bytes through {@link #weigh}.
+ *
+ * <p>List keys carry a generation ({@code summaries:g3}); bumping the generation makes every
+ * cached list unreachable at once without touching the ID entries, and the old lists age out of the
+ * cache. Single-workflow changes (create, activate, deactivate, delete) do not bump it: they update
+ * the cached lists of the current generation in place, so the next read is still a hit.</p>
+ *
+ * <p>The snapshot is taken when the change is reported, while the entity can still load its creator,
+ * and applied after the surrounding transaction commits, so a rollback never reaches the cache.</p>
+ *
+ * <p>Misses are loaded through {@link #summary} and {@link #summaries}, not {@code @Cacheable}: every
+ * change applied to the cache bumps a counter, and a load that overlapped a change is returned but not
+ * stored, since it may have read the database before that change committed.</p>
+ *
+ * <p>With cluster invalidation enabled, a change or removal makes the other nodes drop the ID entry
+ * and only the cached lists that contain the workflow (see {@link ClusterCacheInvalidator}); they cannot
+ * update them in place without the data. A creation or bulk change clears their lists, which are then
+ * missing workflows.</p>
+ *
+ * @since 1.1.0
+ */
+@Component
+@Slf4j
+public class WorkflowCache {
+
+    public static final String BY_ID = "workflows";
+    public static final String LISTS = "workflow-lists";
+
+    /** List views, each cached under {@code <view>:g<generation>}. */
+    public static final String SUMMARIES = "summaries";
+
+    private static final List<String> VIEWS = List.of(SUMMARIES);
+
+    /** Approximate fixed heap cost of a cached list: wrapper, backing array and key. */
+    private static final int LIST_BASE_BYTES = 64;
+
+    /** Heap cost of one element reference in a cached list. */
+    private static final int REFERENCE_BYTES = 8;
+
+    private final CacheManager cacheManager;
+    private final ObjectProvider<ClusterCacheInvalidator> clusterInvalidator;
+    private final AtomicLong generation = new AtomicLong();
+
+    /** Changes applied to the cache; only modified while holding the lock. */
+    private final AtomicLong changes = new AtomicLong();
+
+    public WorkflowCache(CacheManager cacheManager, ObjectProvider<ClusterCacheInvalidator> clusterInvalidator) {
+        this.cacheManager = cacheManager;
+        this.clusterInvalidator = clusterInvalidator;
+    }
+
+    /**
+     * Key of a list view in the current generation.
+     */
+    public String listKey(String view) {
+        return view + ":g" + generation.get();
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Cached summary of a workflow, loaded on a miss.
+     */
+    public WorkflowSummary summary(Long workflowId, Supplier<WorkflowSummary> loader) {
+        return cachedOrLoad(cache(BY_ID), workflowId, loader);
+    }
+
+    /**
+     * Cached summaries of all workflows, loaded on a miss.
+     */
+    public List<WorkflowSummary> summaries(Supplier<List<WorkflowSummary>> loader) {
+        return cachedOrLoad(cache(LISTS), listKey(SUMMARIES), loader);
+    }
+
+    /**
+     * A workflow was created: cache it by ID and append it to the cached lists (no executions yet).
+     */
+    public void workflowCreated(Workflow workflow) {
+        WorkflowSummary summary = WorkflowSummary.from(workflow);
+        afterCommit(() -> upsert(summary, true));
+        broadcast(summary.id(), true);
+    }
+
+    /**
+     * A workflow changed: refresh its ID entry and its element in the cached lists, keeping the
+     * execution statistics already cached for it.
+     */
+    public void workflowChanged(Workflow workflow) {
+        WorkflowSummary summary = WorkflowSummary.from(workflow);
+        afterCommit(() -> upsert(summary, false));
+        broadcast(summary.id(), false);
+    }
+
+    /**
+     * A workflow was deleted: drop its ID entry and remove it from the cached lists.
+     */
+    public void workflowRemoved(Long workflowId) {
+        afterCommit(() -> remove(workflowId));
+        broadcast(workflowId, false);
+    }
+
+    /**
+     * Many workflows changed at once (bulk import): start a new list generation.
+     */
+    public void listsChanged() {
+        afterCommit(this::newGeneration);
+        broadcast(null, true);
+    }
+
+    /**
+     * Weigher of both workflow caches, in approximate bytes.
+     */
+    public static int weigh(Object key, Object value) {
+        if (value instanceof WorkflowSummary summary) {
+            return summary.estimatedBytes();
+        }
+        if (value instanceof List<?> list) {
+            long bytes = LIST_BASE_BYTES;
+            for (Object element : list) {
+                bytes += REFERENCE_BYTES + (element instanceof WorkflowSummary summary ? summary.estimatedBytes() : 0);
+            }
+            return (int) Math.min(bytes, Integer.MAX_VALUE);
+        }
+        return LIST_BASE_BYTES;
+    }
+
+    /**
+     * @param created true if the workflow is new, so zero statistics are exact; otherwise the
+     *                statistics come from the cached element and, without one, the entry is dropped
+     */
+    synchronized void upsert(WorkflowSummary summary, boolean created) {
+        Objects.requireNonNull(summary.id(), "Workflow must be saved before caching");
+        changes.incrementAndGet();
+        Cache byId = cache(BY_ID);
+        WorkflowSummary cachedById = byId.get(summary.id(), WorkflowSummary.class);
+        if (created) {
+            byId.put(summary.id(), summary);
+        } else if (cachedById != null) {
+            byId.put(summary.id(), summary.withStatsOf(cachedById));
+        }
+
+        Cache lists = cache(LISTS);
+        for (String view : VIEWS) {
+            String key = listKey(view);
+            List<WorkflowSummary> cached = cachedList(lists, key);
+            if (cached == null) {
+                continue;
+            }
+
+            List<WorkflowSummary> updated = new ArrayList<>(cached.size() + 1);
+            WorkflowSummary previous = null;
+            int index = -1;
+            for (WorkflowSummary element : cached) {
+                if (summary.id().equals(element.id())) {
+                    previous = element;
+                    index = updated.size();
+                } else {
+                    updated.add(element);
+                }
+            }
+            if (previous == null && !created) {
+                // Lista incompleta o de antes de crearse el workflow: no se puede completar sin la BD
+                lists.evict(key);
+                continue;
+            }
+            updated.add(index >= 0 ? index : updated.size(), previous != null ? summary.withStatsOf(previous) : summary);
+            lists.put(key, Collections.unmodifiableList(updated));
+        }
+    }
+
+    synchronized void remove(Long workflowId) {
+        changes.incrementAndGet();
+        cache(BY_ID).evict(workflowId);
+
+        Cache lists = cache(LISTS);
+        for (String view : VIEWS) {
+            String key = listKey(view);
+            List<WorkflowSummary> cached = cachedList(lists, key);
+            if (cached != null && cached.stream().anyMatch(w -> workflowId.equals(w.id()))) {
+                lists.put(key, cached.stream().filter(w -> !workflowId.equals(w.id())).toList());
+            }
+        }
+    }
+
+    /**
+     * A workflow was changed on another node: drop its ID entry and the cached lists that contain it.
+     */
+    synchronized void evictRemote(Long workflowId) {
+        changes.incrementAndGet();
+        cache(BY_ID).evict(workflowId);
+
+        Cache lists = cache(LISTS);
+        for (String view : VIEWS) {
+            String key = listKey(view);
+            List<WorkflowSummary> cached = cachedList(lists, key);
+            if (cached != null && cached.stream().anyMatch(w -> workflowId.equals(w.id()))) {
+                lists.evict(key);
+            }
+        }
+    }
+
+    private synchronized void newGeneration() {
+        changes.incrementAndGet();
+        log.debug("Workflow list cache generation {}", generation.incrementAndGet());
+    }
+
+    /**
+     * Returns the cached value or loads it, storing the result only if no change was applied meanwhile.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T cachedOrLoad(Cache cache, Object key, Supplier<T> loader) {
+        Cache.ValueWrapper cached = cache.get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        long seen = changes.get();
+        T loaded = loader.get();
+        synchronized (this) {
+            if (changes.get() == seen) {
+                cache.put(key, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Tells the other nodes to drop the ID entry (if any) and either the lists containing the workflow
+     * or, when the lists are missing workflows, all of them.
+     */
+    private void broadcast(Long workflowId, boolean clearLists) {
+        clusterInvalidator.ifAvailable(invalidator -> {
+            if (workflowId != null) {
+                invalidator.publishCacheEvictionAfterCommit(BY_ID, workflowId);
+            }
+            invalidator.publishCacheEvictionAfterCommit(LISTS, clearLists ? null : workflowId);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<WorkflowSummary> cachedList(Cache lists, String key) {
+        Cache.ValueWrapper wrapper = lists.get(key);
+        return wrapper != null ? (List<WorkflowSummary>) wrapper.get() : null;
+    }
+
+    private Cache cache(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            throw new IllegalStateException("Cache not configured: " + name);
+        }
+        return cache;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,53 @@
+package com.javaflow.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+
+/**
+ * Security of the REST API and the actuator endpoints.
+ *
+ * <p>Runs before the Vaadin chain of {@link SecurityConfig}, which only handles the UI. Administrative
+ * endpoints require the ADMIN role with HTTP Basic; the account comes from
+ * {@code javaflow.security.admin.password} (see {@link SecurityConfig#userDetailsService()}).</p>
+ */
+@Configuration
+public class ApiSecurityConfig {
+
+    @Bean
+    @Order(1)
+    public SecurityFilterChain apiSecurityFilterChain(HttpSecurity http) throws Exception {
+        http.securityMatcher(
+            new AntPathRequestMatcher("/api/v1/**"),
+            new AntPathRequestMatcher("/actuator/**")
+        );
+
+        http.authorizeHttpRequests(auth -> auth
+            // Administrative actuator endpoints (must come before the actuator permitAll)
+            .requestMatchers(new AntPathRequestMatcher("/actuator/tokenrotation/**")).hasRole("ADMIN")
+            .requestMatchers(new AntPathRequestMatcher("/actuator/caches/**")).hasRole("ADMIN")
+            .requestMatchers(new AntPathRequestMatcher("/actuator/cachestats/**")).hasRole("ADMIN")
+            // Bulk exports of executions and messages (must come before the API permitAll)
+            .requestMatchers(new AntPathRequestMatcher("/api/v1/executions/export")).hasRole("ADMIN")
+            .requestMatchers(new AntPathRequestMatcher("/api/v1/messages/export")).hasRole("ADMIN")
+            .requestMatchers(new AntPathRequestMatcher("/api/v1/**")).permitAll() // Allow API access
+            .requestMatchers(new AntPathRequestMatcher("/actuator/**")).permitAll() // Allow actuator endpoints
+        );
+
+        // HTTP Basic for scripted calls to the administrative endpoints
+        http.httpBasic(Customizer.withDefaults());
+
+        http.csrf(csrf -> csrf.ignoringRequestMatchers(
+            // Telegram cannot send a CSRF token; webhook requests are checked with the secret token header
+            new AntPathRequestMatcher("/api/v1/telegram/webhook/**"),
+            // Only reachable with HTTP Basic credentials of an admin, which a browser does not send by itself
+            new AntPathRequestMatcher("/actuator/tokenrotation/**")
+        ));
+
+        return http.build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.javaflow.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.javaflow.cache.WorkflowCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuración de cachés con límites propios (el resto usa spring.cache.caffeine.spec)
+ */
+@Configuration
+public class CacheConfig {
+
+    /**
+     * Workflow caches are bounded in bytes (see {@link WorkflowCache#weigh}). The lists live apart
+     * from the per-ID entries: a few large values (one per view and generation) must not compete for
+     * space with the individual workflows.
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> workflowCacheCustomizer(
+            @Value("${javaflow.cache.workflows.max-bytes:4194304}") long byIdMaxBytes,
+            @Value("${javaflow.cache.workflow-lists.max-bytes:16777216}") long listsMaxBytes,
+            @Value("${javaflow.cache.workflows.expire-after-write-seconds:600}") long expireAfterWriteSeconds) {
+        return cacheManager -> {
+            cacheManager.registerCustomCache(WorkflowCache.BY_ID, Caffeine.newBuilder()
+                    .maximumWeight(byIdMaxBytes)
+                    .weigher(WorkflowCache::weigh)
+                    .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                    .recordStats()
+                    .build());
+            cacheManager.registerCustomCache(WorkflowCache.LISTS, Caffeine.newBuilder()
+                    .maximumWeight(listsMaxBytes)
+                    .weigher(WorkflowCache::weigh)
+                    .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                    .recordStats()
+                    .build());
+        };
+    }
+}
@@ -0,0 +1,93 @@
+package com.javaflow.config;
+
+import com.javaflow.datasource.ReadWriteRoutingDataSource;
+import com.javaflow.datasource.ReplicaLagMonitor;
+import com.javaflow.monitoring.MetricsService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Configuración de réplica de lectura.
+ *
+ * <p>Cuando {@code javaflow.datasource.replica.enabled=true}, el DataSource de la aplicación pasa a ser
+ * un {@link ReadWriteRoutingDataSource} sobre dos pools Hikari:</p>
+ * <ul>
+ *   <li><strong>primary</strong> - {@code spring.datasource.*}; escrituras, Flowable y lecturas transaccionales</li>
+ *   <li><strong>replica</strong> - {@code javaflow.datasource.replica.*}; transacciones read-only y use cases de {@code Query}</li>
+ * </ul>
+ *
+ * <p>JPA, JdbcTemplate y Flowable usan el mismo DataSource enrutado, por lo que comparten transacción;
+ * como Flowable nunca abre transacciones read-only, siempre trabaja sobre el primario.</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "javaflow.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties primaryDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(
+            @Qualifier("primaryDataSourceProperties") DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("javaflow-primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("javaflow.datasource.replica")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("javaflow.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Qualifier("replicaDataSourceProperties") DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("javaflow-replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${javaflow.datasource.replica.lag-query:}") String lagQuery,
+            @Value("${javaflow.datasource.replica.max-staleness-ms:5000}") long maxStalenessMs,
+            MetricsService metricsService) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaDataSource, lagQuery, Duration.ofMillis(maxStalenessMs));
+        metricsService.registerReplicaLag(monitor);
+        return monitor;
+    }
+
+    /**
+     * DataSource principal de la aplicación: enruta por el flag read-only de la transacción actual.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor,
+            MetricsService metricsService) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(
+                primaryDataSource, replicaDataSource, replicaLagMonitor, metricsService));
+    }
+}
@@ -1,10 +1,10 @@
 package com.javaflow.config;
 
 import com.vaadin.flow.spring.security.VaadinWebSecurity;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
-import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -17,6 +17,13 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 @EnableWebSecurity
 public class SecurityConfig extends VaadinWebSecurity {
 
+    /**
+     * Password of the "admin" account for the administrative actuator endpoints (see {@link ApiSecurityConfig}).
+     * Without it no admin account exists and those endpoints are unreachable.
+     */
+    @Value("${javaflow.security.admin.password:}")
+    private String adminPassword;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -28,16 +35,19 @@ public class SecurityConfig extends VaadinWebSecurity {
             .password(passwordEncoder().encode("password"))
             .roles("USER")
             .build();
-        return new InMemoryUserDetailsManager(user);
+        InMemoryUserDetailsManager manager = new InMemoryUserDetailsManager(user);
+        if (!adminPassword.isBlank()) {
+            manager.createUser(User.withUsername("admin")
+                .password(passwordEncoder().encode(adminPassword))
+                .roles("ADMIN")
+                .build());
+        }
+        return manager;
     }
 
     @Override
     protected void configure(HttpSecurity http) throws Exception {
-        // Configure API endpoints before Vaadin security
-        http.authorizeHttpRequests(auth -> auth
-            .requestMatchers(new AntPathRequestMatcher("/api/v1/**")).permitAll() // Allow API access
-            .requestMatchers(new AntPathRequestMatcher("/actuator/**")).permitAll() // Allow actuator endpoints
-        );
+        // The REST API and actuator endpoints are secured by ApiSecurityConfig, whose chain runs first
         
         // Call super to let Vaadin configure its security
         super.configure(http);
@@ -0,0 +1,66 @@
+package com.javaflow.datasource;
+
+import com.javaflow.monitoring.MetricsService;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+/**
+ * DataSource that sends read-only transactions to the read replica and everything else to the primary.
+ *
+ * <ul>
+ *   <li>Read-write transactions, non-transactional access and Flowable always use the primary</li>
+ *   <li>Read-only transactions use the replica while {@link ReplicaLagMonitor} reports it usable</li>
+ *   <li>If the replica is stale or refuses a connection, the read falls back to the primary</li>
+ * </ul>
+ *
+ * <p>Must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * transaction managers fetch the connection before the read-only flag of the transaction is exposed,
+ * so the physical connection has to be resolved on the first statement instead.</p>
+ *
+ * @since 1.1.0
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+    private final MetricsService metricsService;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica,
+                                      ReplicaLagMonitor lagMonitor, MetricsService metricsService) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+        this.metricsService = metricsService;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return primary.getConnection();
+        }
+        if (!lagMonitor.isUsable()) {
+            metricsService.recordReplicaFallback("stale");
+            return primary.getConnection();
+        }
+        try {
+            Connection connection = replica.getConnection();
+            metricsService.recordReplicaRead();
+            return connection;
+        } catch (SQLException e) {
+            lagMonitor.markUnavailable(e);
+            metricsService.recordReplicaFallback("connection-error");
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Credentials are configured per pool (primary and replica)");
+    }
+}
@@ -0,0 +1,103 @@
+package com.javaflow.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Periodically checks that the read replica is reachable and not lagging behind the primary
+ * by more than the configured staleness bound.
+ *
+ * <p>The lag is obtained with {@code lag-query}, which must return the replication delay in
+ * seconds (a NULL result counts as no lag). With no query configured only connectivity is checked.
+ * Until the first successful check the replica is considered unusable.</p>
+ *
+ * @since 1.1.0
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final Duration maxStaleness;
+
+    private volatile boolean usable = false;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxStaleness) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxStaleness = maxStaleness;
+    }
+
+    /**
+     * Measures the replica lag and updates whether reads may be routed to it.
+     */
+    @Scheduled(fixedDelayString = "${javaflow.datasource.replica.check-interval-ms:2000}")
+    public void check() {
+        try (Connection connection = replica.getConnection()) {
+            double lag = measureLag(connection);
+            boolean withinBound = lag * 1000 <= maxStaleness.toMillis();
+
+            if (withinBound != usable) {
+                log.info("Read replica {} (lag {}s, bound {}ms)",
+                        withinBound ? "enabled" : "disabled", lag, maxStaleness.toMillis());
+            }
+            lagSeconds = lag;
+            usable = withinBound;
+        } catch (SQLException e) {
+            markUnavailable(e);
+        }
+    }
+
+    /**
+     * Takes the replica out of rotation until the next successful check.
+     */
+    public void markUnavailable(SQLException cause) {
+        if (usable) {
+            log.warn("Read replica unavailable, routing reads to primary: {}", cause.getMessage());
+        }
+        usable = false;
+        lagSeconds = Double.NaN;
+    }
+
+    /**
+     * Returns true if the last check found the replica reachable and within the staleness bound.
+     */
+    public boolean isUsable() {
+        return usable;
+    }
+
+    /**
+     * Replication lag measured by the last check, in seconds (NaN if unknown).
+     */
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+
+    private double measureLag(Connection connection) throws SQLException {
+        if (!StringUtils.hasText(lagQuery)) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                throw new SQLException("Replica connection is not valid");
+            }
+            return 0;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery)) {
+            if (!rs.next()) {
+                return 0;
+            }
+            double lag = rs.getDouble(1);
+            return rs.wasNull() ? 0 : lag;
+        }
+    }
+}
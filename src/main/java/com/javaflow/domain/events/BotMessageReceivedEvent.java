@@ -1,5 +1,7 @@
 package com.javaflow.domain.events;
 
+import java.util.Map;
+
 /**
  * An event that is published when a bot receives an inbound message.
  *
@@ -8,12 +10,18 @@ package com.javaflow.domain.events;
  * @param userId      The user ID who sent the message.
  * @param messageText The content of the message.
  * @param externalId  The external message ID from the bot platform.
+ * @param metadata    Platform details stored with the message (thread, language...), may be empty.
  */
 public record BotMessageReceivedEvent(
         Long botId,
         String chatId,
         String userId,
         String messageText,
-        String externalId
+        String externalId,
+        Map<String, Object> metadata
 ) {
+
+    public BotMessageReceivedEvent(Long botId, String chatId, String userId, String messageText, String externalId) {
+        this(botId, chatId, userId, messageText, externalId, Map.of());
+    }
 }
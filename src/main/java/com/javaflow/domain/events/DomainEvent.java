@@ -0,0 +1,23 @@
+package com.javaflow.domain.events;
+
+/**
+ * A domain event that belongs to an aggregate.
+ *
+ * <p>Domain events are stored in the transactional outbox together with the change that raised
+ * them and delivered to listeners afterwards, in order per aggregate
+ * (see {@link com.javaflow.outbox.OutboxRelay}).</p>
+ *
+ * @since 1.1.0
+ */
+public interface DomainEvent {
+
+    /**
+     * Type of the aggregate that raised the event (e.g. "Workflow").
+     */
+    String aggregateType();
+
+    /**
+     * ID of the aggregate that raised the event. Events of the same aggregate are delivered in order.
+     */
+    Long aggregateId();
+}
@@ -13,5 +13,15 @@ public record WorkflowActivatedEvent(
         Long workflowId,
         String workflowName,
         LocalDateTime activatedAt
-) {
+) implements DomainEvent {
+
+    @Override
+    public String aggregateType() {
+        return "Workflow";
+    }
+
+    @Override
+    public Long aggregateId() {
+        return workflowId;
+    }
 }
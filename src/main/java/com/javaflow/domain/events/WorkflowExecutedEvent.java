@@ -17,5 +17,22 @@ public record WorkflowExecutedEvent(
         Long workflowId,
         ExecutionStatus status,
         LocalDateTime executedAt
-) {
+) implements DomainEvent {
+
+    @Override
+    public String aggregateType() {
+        return "WorkflowExecution";
+    }
+
+    @Override
+    public Long aggregateId() {
+        return executionId;
+    }
+
+    /**
+     * Copy of this event for the given execution ID (known only once the execution is saved).
+     */
+    public WorkflowExecutedEvent withExecutionId(Long executionId) {
+        return new WorkflowExecutedEvent(executionId, workflowId, status, executedAt);
+    }
 }
@@ -9,7 +9,7 @@
  * <ul>
  *   <li>{@link com.javaflow.domain.events.WorkflowActivatedEvent} - Published when a workflow is activated</li>
  *   <li>{@link com.javaflow.domain.events.WorkflowExecutedEvent} - Published when a workflow execution completes</li>
- *   <li>{@link com.javaflow.domain.events.BotMessageReceivedEvent} - Published when a bot receives a message</li>
+ *   <li>{@link com.javaflow.domain.events.BotMessageReceivedEvent} - Published when a bot receives a message (not stored in the outbox); processed per chat by {@code InboundMessageDispatcher}</li>
  * </ul>
  * 
  * <h2>Event Publishing</h2>
@@ -32,16 +32,18 @@
  * }</pre>
  * 
  * <h2>Event Handling</h2>
- * <p>Events are handled asynchronously by event handlers:</p>
+ * <p>Events implementing {@link com.javaflow.domain.events.DomainEvent} are stored in the
+ * transactional outbox in the same transaction as the change that raised them, and delivered to
+ * listeners by {@link com.javaflow.outbox.OutboxRelay} after commit, in order per aggregate and
+ * at least once:</p>
  * <pre>{@code
  * @Component
  * public class MyEventHandler {
  *     
  *     @EventListener
- *     @Async
- *     public void handle(WorkflowActivatedEvent event) {
- *         // Handle the event (logging, metrics, notifications, etc.)
- *         log.info("Workflow activated: {}", event.workflowName());
+ *     public void handle(OutboxDelivery<WorkflowActivatedEvent> delivery) {
+ *         // Handle the event (logging, metrics, notifications, etc.); must be idempotent
+ *         log.info("Workflow activated: {}", delivery.event().workflowName());
  *     }
  * }
  * }</pre>
@@ -57,6 +59,7 @@
  * @see org.springframework.context.ApplicationEventPublisher
  * @see org.springframework.context.event.EventListener
  * @see com.javaflow.application.handlers.WorkflowEventHandler
+ * @see com.javaflow.outbox.OutboxRelay
  * @since 1.0.0
  */
 package com.javaflow.domain.events;
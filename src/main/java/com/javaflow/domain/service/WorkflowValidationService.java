@@ -15,14 +15,17 @@ import java.util.regex.Pattern;
 @Slf4j
 public class WorkflowValidationService {
 
+    // Searched with find(): a leading ".*" with matches() backtracks over the whole document
     private static final Pattern BPMN_START_PATTERN = Pattern.compile(
-        ".*<(bpmn:|bpmn2:|)definitions.*", Pattern.DOTALL | Pattern.CASE_INSENSITIVE
+        "<(bpmn:|bpmn2:|)definitions", Pattern.CASE_INSENSITIVE
     );
     
     private static final Pattern PROCESS_PATTERN = Pattern.compile(
-        ".*<(bpmn:|bpmn2:|)process.*", Pattern.DOTALL | Pattern.CASE_INSENSITIVE
+        "<(bpmn:|bpmn2:|)process", Pattern.CASE_INSENSITIVE
     );
 
+    private static final Pattern WORKFLOW_NAME_PATTERN = Pattern.compile("^[a-zA-Z0-9\\s\\-_]+$");
+
     /**
      * Validates BPMN XML content
      */
@@ -50,13 +53,16 @@ public class WorkflowValidationService {
             warnings.add("No process definition found in BPMN");
         }
 
+        // Lower-cased once for the event checks below
+        String lowerCaseXml = bpmnXml.toLowerCase();
+
         // Check for start event
-        if (!hasStartEvent(bpmnXml)) {
+        if (!hasStartEvent(lowerCaseXml)) {
             warnings.add("No start event found in process");
         }
 
         // Check for end event
-        if (!hasEndEvent(bpmnXml)) {
+        if (!hasEndEvent(lowerCaseXml)) {
             warnings.add("No end event found in process");
         }
 
@@ -142,23 +148,22 @@ public class WorkflowValidationService {
     }
 
     private boolean hasBpmnNamespace(String bpmnXml) {
-        return BPMN_START_PATTERN.matcher(bpmnXml).matches();
+        return BPMN_START_PATTERN.matcher(bpmnXml).find();
     }
 
     private boolean hasProcessDefinition(String bpmnXml) {
-        return PROCESS_PATTERN.matcher(bpmnXml).matches();
+        return PROCESS_PATTERN.matcher(bpmnXml).find();
     }
 
-    private boolean hasStartEvent(String bpmnXml) {
-        return bpmnXml.toLowerCase().contains("startevent") || 
-               bpmnXml.toLowerCase().contains("start-event") ||
-               bpmnXml.toLowerCase().contains("bpmn:startevent");
+    private boolean hasStartEvent(String lowerCaseXml) {
+        // "bpmn:startevent" is covered by "startevent"
+        return lowerCaseXml.contains("startevent") || 
+               lowerCaseXml.contains("start-event");
     }
 
-    private boolean hasEndEvent(String bpmnXml) {
-        return bpmnXml.toLowerCase().contains("endevent") || 
-               bpmnXml.toLowerCase().contains("end-event") ||
-               bpmnXml.toLowerCase().contains("bpmn:endevent");
+    private boolean hasEndEvent(String lowerCaseXml) {
+        return lowerCaseXml.contains("endevent") || 
+               lowerCaseXml.contains("end-event");
     }
 
     private boolean isValidWorkflowName(String name) {
@@ -167,7 +172,7 @@ public class WorkflowValidationService {
         String trimmed = name.trim();
         return trimmed.length() >= 3 && 
                trimmed.length() <= 100 &&
-               trimmed.matches("^[a-zA-Z0-9\\s\\-_]+$");
+               WORKFLOW_NAME_PATTERN.matcher(trimmed).matches();
     }
 
     /**
@@ -0,0 +1,22 @@
+package com.javaflow.export;
+
+import com.javaflow.model.WorkflowExecution;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Filters of an execution export; null fields are not applied.
+ */
+@Value
+@Builder
+public class ExecutionExportFilter {
+
+    Long workflowId;
+    Set<WorkflowExecution.ExecutionStatus> statuses;
+    LocalDateTime startedFrom;
+    LocalDateTime startedTo;
+    Long startedByUserId;
+}
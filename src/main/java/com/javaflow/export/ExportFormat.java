@@ -0,0 +1,36 @@
+package com.javaflow.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Output formats of the streaming exports.
+ */
+public enum ExportFormat {
+
+    /** One JSON object per line. */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /** RFC 4180 CSV with a header line. */
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String extension;
+
+    ExportFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    ExportRowWriter open(OutputStream out) throws IOException {
+        return this == NDJSON ? new NdjsonRowWriter(out) : new CsvRowWriter(out);
+    }
+}
@@ -0,0 +1,66 @@
+package com.javaflow.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+/**
+ * Writes the current row of a forward-only {@link ResultSet} to the output.
+ *
+ * <p>Nothing is kept between rows, so the memory used does not depend on the size of the export.</p>
+ */
+interface ExportRowWriter extends Closeable {
+
+    void writeHeader(Columns columns) throws IOException;
+
+    void writeRow(ResultSet rs, Columns columns) throws SQLException, IOException;
+
+    enum Kind { NUMBER, TIMESTAMP, JSON, TEXT }
+
+    /**
+     * Labels and value kinds of the exported columns, resolved once from the result set metadata.
+     */
+    record Columns(String[] labels, Kind[] kinds) {
+
+        static Columns of(ResultSetMetaData metaData) throws SQLException {
+            int count = metaData.getColumnCount();
+            String[] labels = new String[count];
+            Kind[] kinds = new Kind[count];
+            for (int i = 0; i < count; i++) {
+                labels[i] = metaData.getColumnLabel(i + 1).toLowerCase();
+                kinds[i] = kindOf(metaData.getColumnType(i + 1), metaData.getColumnTypeName(i + 1));
+            }
+            return new Columns(labels, kinds);
+        }
+
+        int size() {
+            return labels.length;
+        }
+
+        private static Kind kindOf(int sqlType, String typeName) {
+            switch (sqlType) {
+                case Types.BIGINT, Types.INTEGER, Types.SMALLINT, Types.TINYINT:
+                    return Kind.NUMBER;
+                case Types.TIMESTAMP, Types.TIMESTAMP_WITH_TIMEZONE:
+                    return Kind.TIMESTAMP;
+                default:
+                    return typeName != null && typeName.toLowerCase().startsWith("json") ? Kind.JSON : Kind.TEXT;
+            }
+        }
+    }
+
+    /**
+     * Value of a column as text: ISO-8601 for timestamps, null for SQL NULL.
+     */
+    static String text(ResultSet rs, int column, Kind kind) throws SQLException {
+        if (kind == Kind.TIMESTAMP) {
+            Timestamp timestamp = rs.getTimestamp(column);
+            return timestamp != null ? timestamp.toLocalDateTime().toString() : null;
+        }
+        return rs.getString(column);
+    }
+}
@@ -0,0 +1,21 @@
+package com.javaflow.export;
+
+import com.javaflow.model.Message;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filters of a message export; null fields are not applied.
+ */
+@Value
+@Builder
+public class MessageExportFilter {
+
+    Long botId;
+    String chatId;
+    Message.MessageDirection direction;
+    LocalDateTime createdFrom;
+    LocalDateTime createdTo;
+}
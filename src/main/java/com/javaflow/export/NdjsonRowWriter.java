@@ -0,0 +1,65 @@
+package com.javaflow.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Writes each row as one JSON object followed by a newline. Numbers stay numbers and
+ * JSON columns (message metadata) are embedded as JSON instead of as an escaped string.
+ */
+class NdjsonRowWriter implements ExportRowWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonGenerator generator;
+
+    NdjsonRowWriter(OutputStream out) throws IOException {
+        this.generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8);
+        // Los objetos se separan con el '\n' que se escribe después de cada uno
+        this.generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void writeHeader(Columns columns) {
+        // NDJSON has no header: every line carries its field names
+    }
+
+    @Override
+    public void writeRow(ResultSet rs, Columns columns) throws SQLException, IOException {
+        generator.writeStartObject();
+        for (int i = 0; i < columns.size(); i++) {
+            generator.writeFieldName(columns.labels()[i]);
+            Kind kind = columns.kinds()[i];
+            if (kind == Kind.NUMBER) {
+                long value = rs.getLong(i + 1);
+                if (rs.wasNull()) {
+                    generator.writeNull();
+                } else {
+                    generator.writeNumber(value);
+                }
+                continue;
+            }
+            String value = ExportRowWriter.text(rs, i + 1, kind);
+            if (value == null) {
+                generator.writeNull();
+            } else if (kind == Kind.JSON) {
+                generator.writeRawValue(value);
+            } else {
+                generator.writeString(value);
+            }
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
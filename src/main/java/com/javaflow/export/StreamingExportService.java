@@ -0,0 +1,159 @@
+package com.javaflow.export;
+
+import com.javaflow.monitoring.MetricsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Exports executions and messages straight from a JDBC cursor to an output stream.
+ *
+ * <p>The query runs in a read-only transaction (so it goes to the replica when there is one,
+ * and PostgreSQL can use a server-side cursor) with a forward-only result set and a bounded
+ * fetch size. Each row is written as soon as it is read, so memory stays constant whatever the
+ * number of rows. Archived messages (see MessageArchiver) are not included.</p>
+ *
+ * @since 1.1.0
+ */
+@Service
+@Slf4j
+public class StreamingExportService {
+
+    static final String EXECUTIONS_SQL =
+            "SELECT e.id, e.workflow_id, w.name AS workflow_name, e.process_instance_id, e.status, " +
+            "e.started_at, e.ended_at, e.started_by, e.error_message " +
+            "FROM workflow_executions e JOIN workflows w ON w.id = e.workflow_id";
+
+    static final String MESSAGES_SQL =
+            "SELECT m.id, m.bot_id, m.external_id, m.chat_id, m.user_id, m.direction, m.message_type, " +
+            "m.content, m.metadata, m.workflow_execution_id, m.created_at " +
+            "FROM messages m";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MetricsService metricsService;
+    private final int fetchSize;
+
+    public StreamingExportService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MetricsService metricsService,
+            @Value("${javaflow.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.metricsService = metricsService;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Writes the matching executions, oldest first.
+     *
+     * @return Number of rows written
+     */
+    public long exportExecutions(ExecutionExportFilter filter, ExportFormat format, OutputStream out) {
+        Conditions where = new Conditions()
+                .add("e.workflow_id = ?", filter.getWorkflowId())
+                .addIn("e.status", filter.getStatuses())
+                .add("e.started_at >= ?", toTimestamp(filter.getStartedFrom()))
+                .add("e.started_at < ?", toTimestamp(filter.getStartedTo()))
+                .add("e.started_by = ?", filter.getStartedByUserId());
+        return export("executions", EXECUTIONS_SQL + where.sql() + " ORDER BY e.started_at", where.args(), format, out);
+    }
+
+    /**
+     * Writes the matching messages, oldest first.
+     *
+     * @return Number of rows written
+     */
+    public long exportMessages(MessageExportFilter filter, ExportFormat format, OutputStream out) {
+        Conditions where = new Conditions()
+                .add("m.bot_id = ?", filter.getBotId())
+                .add("m.chat_id = ?", filter.getChatId())
+                .add("m.direction = ?", filter.getDirection() != null ? filter.getDirection().name() : null)
+                .add("m.created_at >= ?", toTimestamp(filter.getCreatedFrom()))
+                .add("m.created_at < ?", toTimestamp(filter.getCreatedTo()));
+        return export("messages", MESSAGES_SQL + where.sql() + " ORDER BY m.created_at", where.args(), format, out);
+    }
+
+    private long export(String type, String sql, Object[] args, ExportFormat format, OutputStream out) {
+        long startTime = System.currentTimeMillis();
+        Long rows = readOnlyTransaction.execute(status -> jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            new ArgumentPreparedStatementSetter(args).setValues(ps);
+            return ps;
+        }, rs -> {
+            try (ExportRowWriter writer = format.open(out)) {
+                ExportRowWriter.Columns columns = ExportRowWriter.Columns.of(rs.getMetaData());
+                writer.writeHeader(columns);
+                long count = 0;
+                while (rs.next()) {
+                    writer.writeRow(rs, columns);
+                    count++;
+                }
+                return count;
+            } catch (IOException e) {
+                // Normalmente el cliente ha cerrado la conexión
+                throw new UncheckedIOException("Export of " + type + " interrupted", e);
+            }
+        }));
+
+        long written = rows != null ? rows : 0;
+        metricsService.recordRowsExported(type, format.name(), written);
+        log.info("Exported {} {} as {} in {} ms", written, type, format, System.currentTimeMillis() - startTime);
+        return written;
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime != null ? Timestamp.valueOf(dateTime) : null;
+    }
+
+    /**
+     * WHERE clause built from the filters that are set.
+     */
+    private static final class Conditions {
+
+        private final List<String> clauses = new ArrayList<>();
+        private final List<Object> args = new ArrayList<>();
+
+        Conditions add(String clause, Object arg) {
+            if (arg != null) {
+                clauses.add(clause);
+                args.add(arg);
+            }
+            return this;
+        }
+
+        Conditions addIn(String column, Collection<? extends Enum<?>> values) {
+            if (values != null && !values.isEmpty()) {
+                clauses.add(column + " IN (" + String.join(", ", values.stream().map(v -> "?").toList()) + ")");
+                values.forEach(value -> args.add(value.name()));
+            }
+            return this;
+        }
+
+        String sql() {
+            return clauses.isEmpty() ? "" : " WHERE " + String.join(" AND ", clauses);
+        }
+
+        Object[] args() {
+            return args.toArray();
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.javaflow.logging;
+
+import com.javaflow.model.SystemLog.LogLevel;
+import com.javaflow.monitoring.MetricsService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Asynchronous, batched writer for {@code system_logs}.
+ *
+ * <p>Callers (e.g. {@link com.javaflow.workflow.task.LogTask}) only enqueue a {@link SystemLogEvent}
+ * into a bounded, pre-sized {@link ArrayBlockingQueue}; a single background thread drains the queue
+ * and writes the entries with JDBC batch inserts outside of any Flowable transaction.</p>
+ *
+ * <p><strong>Overload policy:</strong> once the buffer is above its high watermark, each level is
+ * handled according to its {@link OverflowPolicy}:</p>
+ * <ul>
+ *   <li>{@code DROP} (default: TRACE, DEBUG) - entries are discarded</li>
+ *   <li>{@code SAMPLE} (default: INFO) - only one out of every {@code sample-rate} entries is kept</li>
+ *   <li>{@code KEEP} (WARN, ERROR, FATAL) - entries are kept while there is any room left</li>
+ * </ul>
+ * <p>Dropped entries are counted in {@code javaflow.systemlog.dropped} and the buffer fill level is
+ * exposed as {@code javaflow.systemlog.buffer.size}.</p>
+ *
+ * <p>Entries always carry the Flowable process instance id. The {@code workflow_executions} row of
+ * a synchronous run is only committed together with the steps that log, so the insert can resolve
+ * {@code workflow_execution_id} only once that row is visible. For the remaining entries the
+ * execution is linked after commit through {@link #linkExecution(String, Long)}; the link runs on
+ * the flusher thread, after every entry enqueued before it has been written.</p>
+ *
+ * @since 1.1.0
+ */
+@Component
+@Slf4j
+public class SystemLogAppender {
+
+    static final String INSERT_SQL =
+            "INSERT INTO system_logs (level, logger, message, exception, process_instance_id, workflow_execution_id, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, (SELECT e.id FROM workflow_executions e WHERE e.process_instance_id = ?), ?)";
+
+    static final String LINK_SQL =
+            "UPDATE system_logs SET workflow_execution_id = ? " +
+            "WHERE process_instance_id = ? AND workflow_execution_id IS NULL";
+
+    /**
+     * What to do with an entry of a given level when the buffer is under pressure.
+     */
+    public enum OverflowPolicy {
+        DROP,
+        SAMPLE,
+        KEEP
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MetricsService metricsService;
+    private final ArrayBlockingQueue<SystemLogEvent> buffer;
+    private final Map<LogLevel, OverflowPolicy> policies;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final int highWatermark;
+    private final int sampleRate;
+    private final AtomicLong sampleCounter = new AtomicLong();
+    private final ConcurrentLinkedQueue<ExecutionLink> pendingLinks = new ConcurrentLinkedQueue<>();
+    private final AtomicLong acceptedCount = new AtomicLong();
+
+    // Only touched by the flusher thread
+    private long writtenCount;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public SystemLogAppender(
+            JdbcTemplate jdbcTemplate,
+            MetricsService metricsService,
+            @Value("${javaflow.logging.system-log.buffer-capacity:8192}") int bufferCapacity,
+            @Value("${javaflow.logging.system-log.batch-size:200}") int batchSize,
+            @Value("${javaflow.logging.system-log.flush-interval-ms:250}") long flushIntervalMillis,
+            @Value("${javaflow.logging.system-log.high-watermark:0.75}") double highWatermarkRatio,
+            @Value("${javaflow.logging.system-log.sample-rate:10}") int sampleRate,
+            @Value("${javaflow.logging.system-log.drop-levels:TRACE,DEBUG}") String dropLevels,
+            @Value("${javaflow.logging.system-log.sample-levels:INFO}") String sampleLevels) {
+
+        if (bufferCapacity <= 0 || batchSize <= 0 || sampleRate <= 0) {
+            throw new IllegalArgumentException("System log buffer capacity, batch size and sample rate must be positive");
+        }
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.metricsService = metricsService;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.highWatermark = (int) Math.max(1, Math.min(bufferCapacity, bufferCapacity * highWatermarkRatio));
+        this.sampleRate = sampleRate;
+        this.policies = buildPolicies(dropLevels, sampleLevels);
+    }
+
+    @PostConstruct
+    void start() {
+        metricsService.registerSystemLogBuffer(buffer);
+
+        running = true;
+        flusher = new Thread(this::runFlushLoop, "system-log-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("SystemLogAppender started (capacity={}, batchSize={}, highWatermark={})",
+                buffer.remainingCapacity(), batchSize, highWatermark);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (flusher != null) {
+            // The flusher drains whatever is left before exiting
+            flusher.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    /**
+     * Enqueues a log entry without blocking.
+     *
+     * @param event The entry to write
+     * @return true if the entry was accepted, false if it was dropped by the overload policy
+     */
+    public boolean append(SystemLogEvent event) {
+        if (buffer.size() >= highWatermark) {
+            OverflowPolicy policy = policies.get(event.level());
+            if (policy == OverflowPolicy.DROP) {
+                return drop(event, "overload");
+            }
+            if (policy == OverflowPolicy.SAMPLE && sampleCounter.getAndIncrement() % sampleRate != 0) {
+                return drop(event, "sampled");
+            }
+        }
+
+        if (!buffer.offer(event)) {
+            return drop(event, "full");
+        }
+        acceptedCount.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Links the entries of a process instance to its execution row once that row is committed.
+     *
+     * <p>Must be called after the transaction that inserted the execution has committed. The update
+     * is applied by the flusher once every entry accepted before this call has been written, so none
+     * of them is missed; entries written later resolve the execution on insert.</p>
+     *
+     * @param processInstanceId Flowable process instance id
+     * @param executionId       Id of the committed {@code workflow_executions} row
+     */
+    public void linkExecution(String processInstanceId, Long executionId) {
+        if (processInstanceId == null || executionId == null) {
+            return;
+        }
+        pendingLinks.offer(new ExecutionLink(processInstanceId, executionId, acceptedCount.get()));
+    }
+
+    /**
+     * Returns the number of entries waiting to be written.
+     */
+    public int pendingCount() {
+        return buffer.size();
+    }
+
+    // ========== FLUSHING ==========
+
+    private void runFlushLoop() {
+        List<SystemLogEvent> batch = new ArrayList<>(batchSize);
+
+        while (running || !buffer.isEmpty()) {
+            try {
+                SystemLogEvent first = buffer.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    buffer.drainTo(batch, batchSize - 1);
+                    writeBatch(batch);
+                    writtenCount += batch.size();
+                }
+                writeReadyLinks();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (RuntimeException e) {
+                log.error("Unexpected error in system log flusher", e);
+            } finally {
+                batch.clear();
+            }
+        }
+        writeReadyLinks();
+    }
+
+    void writeBatch(List<SystemLogEvent> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, event) -> {
+                ps.setString(1, event.level().name());
+                ps.setString(2, event.logger());
+                ps.setString(3, event.message());
+                ps.setString(4, event.exception());
+                ps.setString(5, event.processInstanceId());
+                ps.setString(6, event.processInstanceId());
+                ps.setTimestamp(7, Timestamp.valueOf(event.createdAt()));
+            });
+            metricsService.recordSystemLogsWritten(batch.size());
+        } catch (DataAccessException e) {
+            log.warn("Failed to write {} system log entries: {}", batch.size(), e.getMessage());
+            batch.forEach(event -> metricsService.recordSystemLogDropped(event.level().name(), "write-error"));
+        }
+    }
+
+    void writeLinks(List<ExecutionLink> links) {
+        try {
+            jdbcTemplate.batchUpdate(LINK_SQL, links, links.size(), (ps, link) -> {
+                ps.setLong(1, link.executionId());
+                ps.setString(2, link.processInstanceId());
+            });
+        } catch (DataAccessException e) {
+            log.warn("Failed to link {} executions to their system log entries: {}", links.size(), e.getMessage());
+        }
+    }
+
+    private void writeReadyLinks() {
+        List<ExecutionLink> links = new ArrayList<>();
+        ExecutionLink link;
+        while ((link = pendingLinks.peek()) != null && link.acceptedBefore() <= writtenCount) {
+            links.add(pendingLinks.poll());
+        }
+        if (!links.isEmpty()) {
+            writeLinks(links);
+        }
+    }
+
+    private boolean drop(SystemLogEvent event, String reason) {
+        metricsService.recordSystemLogDropped(event.level().name(), reason);
+        return false;
+    }
+
+    /**
+     * @param acceptedBefore Number of entries accepted when the link was requested; the link is
+     *                       applied once the flusher has taken that many entries off the buffer
+     */
+    record ExecutionLink(String processInstanceId, Long executionId, long acceptedBefore) {
+    }
+
+    private static Map<LogLevel, OverflowPolicy> buildPolicies(String dropLevels, String sampleLevels) {
+        Map<LogLevel, OverflowPolicy> policies = new EnumMap<>(LogLevel.class);
+        for (LogLevel level : LogLevel.values()) {
+            policies.put(level, OverflowPolicy.KEEP);
+        }
+        parseLevels(sampleLevels).forEach(level -> policies.put(level, OverflowPolicy.SAMPLE));
+        parseLevels(dropLevels).forEach(level -> policies.put(level, OverflowPolicy.DROP));
+        return policies;
+    }
+
+    private static List<LogLevel> parseLevels(String levels) {
+        if (levels == null || levels.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(levels.split(","))
+                .map(String::trim)
+                .filter(level -> !level.isEmpty())
+                .map(level -> LogLevel.valueOf(level.toUpperCase()))
+                .toList();
+    }
+}
@@ -0,0 +1,25 @@
+package com.javaflow.logging;
+
+import com.javaflow.model.SystemLog.LogLevel;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable log entry queued by {@link SystemLogAppender} until it is written to {@code system_logs}.
+ *
+ * @param level             Log level
+ * @param logger            Logical logger name (e.g. "WorkflowTask")
+ * @param message           Log message
+ * @param exception         Optional exception text
+ * @param processInstanceId Flowable process instance that produced the entry, if any
+ * @param createdAt         Moment the entry was produced (not when it was flushed)
+ */
+public record SystemLogEvent(
+        LogLevel level,
+        String logger,
+        String message,
+        String exception,
+        String processInstanceId,
+        LocalDateTime createdAt
+) {
+}
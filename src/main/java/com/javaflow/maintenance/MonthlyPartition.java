@@ -0,0 +1,69 @@
+package com.javaflow.maintenance;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A monthly range partition of a time-partitioned table, named {@code <table>_pYYYY_MM}.
+ *
+ * @param table The partitioned (parent) table
+ * @param month The month covered by the partition, {@code [from, to)}
+ */
+public record MonthlyPartition(String table, YearMonth month) {
+
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final Pattern NAME_PATTERN = Pattern.compile("^(.+)_p(\\d{4})_(\\d{2})$");
+
+    /**
+     * Name of the partition table.
+     */
+    public String name() {
+        return table + "_p" + month.format(SUFFIX_FORMAT);
+    }
+
+    /**
+     * Inclusive lower bound of the partition.
+     */
+    public LocalDate from() {
+        return month.atDay(1);
+    }
+
+    /**
+     * Exclusive upper bound of the partition.
+     */
+    public LocalDate to() {
+        return month.plusMonths(1).atDay(1);
+    }
+
+    /**
+     * Checks whether all rows of this partition are older than the retention window.
+     *
+     * @param today           Reference date
+     * @param retentionMonths Number of full months to keep before the current one
+     */
+    public boolean isExpired(LocalDate today, int retentionMonths) {
+        LocalDate cutoff = YearMonth.from(today).minusMonths(retentionMonths).atDay(1);
+        return !to().isAfter(cutoff);
+    }
+
+    /**
+     * Parses a partition name of the given parent table.
+     *
+     * @return The partition, or empty if the name does not follow the {@code <table>_pYYYY_MM} convention
+     */
+    public static Optional<MonthlyPartition> parse(String table, String partitionName) {
+        Matcher matcher = NAME_PATTERN.matcher(partitionName);
+        if (!matcher.matches() || !matcher.group(1).equals(table)) {
+            return Optional.empty();
+        }
+        int month = Integer.parseInt(matcher.group(3));
+        if (month < 1 || month > 12) {
+            return Optional.empty();
+        }
+        return Optional.of(new MonthlyPartition(table, YearMonth.of(Integer.parseInt(matcher.group(2)), month)));
+    }
+}
@@ -0,0 +1,156 @@
+package com.javaflow.maintenance;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Maintains monthly range partitions of the time-series tables on PostgreSQL.
+ *
+ * <p>{@code workflow_executions} (by {@code started_at}), {@code messages} and {@code system_logs}
+ * (by {@code created_at}) are converted once with {@code db/postgresql/partition_time_series_tables.sql}.
+ * After that, this service runs at startup and nightly to:</p>
+ * <ul>
+ *   <li>Create the partitions for the current month and {@code months-ahead} future months</li>
+ *   <li>Detach and drop whole partitions older than each table's retention, instead of
+ *       running row-by-row DELETEs that bloat the tables and stall autovacuum</li>
+ * </ul>
+ * The {@code <table>_default} partition created by the script is never dropped.
+ *
+ * <p>Tables that are not partitioned are skipped with a warning, so enabling the service on a
+ * database that has not been migrated yet is harmless.</p>
+ *
+ * @since 1.1.0
+ */
+@Service
+@ConditionalOnProperty(prefix = "javaflow.partitioning", name = "enabled", havingValue = "true")
+@Slf4j
+public class PartitionMaintenanceService {
+
+    private static final String IS_PARTITIONED_SQL =
+            "SELECT COUNT(*) FROM pg_partitioned_table pt " +
+            "JOIN pg_class c ON c.oid = pt.partrelid " +
+            "WHERE c.relname = ? AND pg_table_is_visible(c.oid)";
+
+    private static final String LIST_PARTITIONS_SQL =
+            "SELECT child.relname FROM pg_inherits i " +
+            "JOIN pg_class parent ON parent.oid = i.inhparent " +
+            "JOIN pg_class child ON child.oid = i.inhrelid " +
+            "WHERE parent.relname = ? AND pg_table_is_visible(parent.oid)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<PartitionedTable> tables;
+    private final int monthsAhead;
+
+    /**
+     * A partitioned table and how many full months of data it keeps (0 = keep forever).
+     */
+    record PartitionedTable(String name, int retentionMonths) {}
+
+    public PartitionMaintenanceService(
+            JdbcTemplate jdbcTemplate,
+            @Value("${javaflow.partitioning.months-ahead:2}") int monthsAhead,
+            @Value("${javaflow.partitioning.retention-months.workflow-executions:12}") int executionRetention,
+            @Value("${javaflow.partitioning.retention-months.messages:6}") int messageRetention,
+            @Value("${javaflow.partitioning.retention-months.system-logs:3}") int logRetention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+        this.tables = List.of(
+                new PartitionedTable("workflow_executions", executionRetention),
+                new PartitionedTable("messages", messageRetention),
+                new PartitionedTable("system_logs", logRetention)
+        );
+    }
+
+    /**
+     * Runs partition maintenance at startup and every night.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${javaflow.partitioning.cron:0 30 2 * * *}")
+    public void runMaintenance() {
+        LocalDate today = LocalDate.now();
+
+        for (PartitionedTable table : tables) {
+            try {
+                if (!isPartitioned(table.name())) {
+                    log.warn("Table '{}' is not partitioned; run db/postgresql/partition_time_series_tables.sql " +
+                            "to enable partition maintenance", table.name());
+                    continue;
+                }
+                int created = createUpcomingPartitions(table.name(), today);
+                int dropped = dropExpiredPartitions(table, today);
+                log.info("Partition maintenance for '{}': {} created, {} dropped", table.name(), created, dropped);
+            } catch (DataAccessException e) {
+                log.error("Partition maintenance failed for table '{}'", table.name(), e);
+            }
+        }
+    }
+
+    /**
+     * Creates the partitions for the current month and the configured number of months ahead.
+     *
+     * @return Number of partitions created
+     */
+    int createUpcomingPartitions(String table, LocalDate today) {
+        List<String> existing = listPartitions(table);
+        YearMonth current = YearMonth.from(today);
+        int created = 0;
+
+        for (int i = 0; i <= monthsAhead; i++) {
+            MonthlyPartition partition = new MonthlyPartition(table, current.plusMonths(i));
+            if (existing.contains(partition.name())) {
+                continue;
+            }
+            jdbcTemplate.execute(String.format(
+                    "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                    partition.name(), table, partition.from(), partition.to()));
+            log.info("Created partition {}", partition.name());
+            created++;
+        }
+        return created;
+    }
+
+    /**
+     * Detaches and drops the partitions whose whole range is older than the table's retention.
+     *
+     * @return Number of partitions dropped
+     */
+    int dropExpiredPartitions(PartitionedTable table, LocalDate today) {
+        if (table.retentionMonths() <= 0) {
+            return 0;
+        }
+
+        int dropped = 0;
+        for (String name : listPartitions(table.name())) {
+            Optional<MonthlyPartition> partition = MonthlyPartition.parse(table.name(), name);
+            if (partition.isEmpty() || !partition.get().isExpired(today, table.retentionMonths())) {
+                continue;
+            }
+            jdbcTemplate.execute(String.format("ALTER TABLE %s DETACH PARTITION %s", table.name(), name));
+            jdbcTemplate.execute(String.format("DROP TABLE %s", name));
+            log.info("Dropped expired partition {} (retention {} months)", name, table.retentionMonths());
+            dropped++;
+        }
+        return dropped;
+    }
+
+    private boolean isPartitioned(String table) {
+        Integer count = jdbcTemplate.queryForObject(IS_PARTITIONED_SQL, Integer.class, table);
+        return count != null && count > 0;
+    }
+
+    private List<String> listPartitions(String table) {
+        return jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class, table);
+    }
+}
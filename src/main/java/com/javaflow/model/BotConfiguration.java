@@ -1,15 +1,22 @@
 package com.javaflow.model;
 
+import com.javaflow.cache.SecondLevelCacheInvalidationListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Entidad de Configuración de Bot (Telegram/WhatsApp)
@@ -19,6 +26,10 @@ import java.time.LocalDateTime;
     @Index(name = "idx_bot_type", columnList = "type"),
     @Index(name = "idx_bot_status", columnList = "status")
 })
+// Leída en casi cada operación y rara vez modificada: caché de segundo nivel (ver CaffeineRegionFactory)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "bot-configurations")
+@EntityListeners(SecondLevelCacheInvalidationListener.class)
 @Data
 @Builder
 @NoArgsConstructor
@@ -48,8 +59,9 @@ public class BotConfiguration {
     @Builder.Default
     private BotStatus status = BotStatus.INACTIVE;
 
-    @Column(columnDefinition = "TEXT")
-    private String config; // Configuración adicional en JSON
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "config")
+    private Map<String, Object> config; // Configuración adicional (jsonb en PostgreSQL)
 
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -59,6 +71,47 @@ public class BotConfiguration {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // ========== CONFIG ACCESSORS ==========
+
+    /**
+     * Value of a configuration key as text, if present
+     */
+    public Optional<String> getConfigString(String key) {
+        if (config == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(config.get(key)).map(Object::toString);
+    }
+
+    /**
+     * Integer configuration value; numbers and numeric strings are accepted
+     */
+    public int getConfigInt(String key, int defaultValue) {
+        Object value = config != null ? config.get(key) : null;
+        if (value instanceof Number number) {
+            return number.intValue();
+        }
+        if (value != null) {
+            try {
+                return Integer.parseInt(value.toString().trim());
+            } catch (NumberFormatException e) {
+                return defaultValue;
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Boolean configuration value; booleans and "true"/"false" strings are accepted
+     */
+    public boolean getConfigBoolean(String key, boolean defaultValue) {
+        Object value = config != null ? config.get(key) : null;
+        if (value instanceof Boolean bool) {
+            return bool;
+        }
+        return value != null ? Boolean.parseBoolean(value.toString().trim()) : defaultValue;
+    }
+
     public enum BotType {
         TELEGRAM,
         WHATSAPP
@@ -0,0 +1,45 @@
+package com.javaflow.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Invalidación de caché publicada por un nodo para el resto del cluster.
+ *
+ * <p>Las filas las escribe y las lee {@link com.javaflow.cache.ClusterCacheInvalidator};
+ * se borran pasado el periodo de retención.</p>
+ */
+@Entity
+@Table(name = "cache_invalidations", indexes = {
+    @Index(name = "idx_cache_invalidation_created_at", columnList = "created_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** Entity name (second-level cache) or {@code spring:<cache>} (Spring cache) whose entry changed. */
+    @Column(name = "region", nullable = false, length = 255)
+    private String region;
+
+    /** Identifier of the changed entry; null invalidates the whole region. */
+    @Column(name = "entry_key", length = 255)
+    private String entryKey;
+
+    /** Node that made the change (it has already updated its own cache). */
+    @Column(name = "origin", nullable = false, length = 64)
+    private String origin;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -7,8 +7,13 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Entidad de Mensaje (Telegram/WhatsApp)
@@ -16,7 +21,7 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "messages", indexes = {
     @Index(name = "idx_message_bot_id", columnList = "bot_id"),
-    @Index(name = "idx_message_chat_id", columnList = "chat_id"),
+    @Index(name = "idx_message_chat_created", columnList = "chat_id, created_at"),
     @Index(name = "idx_message_created_at", columnList = "created_at"),
     @Index(name = "idx_message_workflow_execution_id", columnList = "workflow_execution_id")
 })
@@ -26,6 +31,11 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class Message {
 
+    // Claves conocidas de metadata (indexadas en PostgreSQL, ver db/postgresql/jsonb_metadata.sql)
+    public static final String METADATA_THREAD_ID = "thread_id";
+    public static final String METADATA_LANGUAGE = "language";
+    public static final String METADATA_REPLY_TO = "reply_to_message_id";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -57,8 +67,9 @@ public class Message {
     @Builder.Default
     private MessageType messageType = MessageType.TEXT;
 
-    @Column(columnDefinition = "TEXT")
-    private String metadata; // Metadata adicional en JSON
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "metadata")
+    private Map<String, Object> metadata; // Metadata adicional (jsonb en PostgreSQL)
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "workflow_execution_id")
@@ -68,6 +79,50 @@ public class Message {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // ========== METADATA ACCESSORS ==========
+
+    /**
+     * Value of a metadata key as text, if present
+     */
+    public Optional<String> getMetadataValue(String key) {
+        if (metadata == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(metadata.get(key)).map(Object::toString);
+    }
+
+    /**
+     * Sets a metadata key (null removes it).
+     * Values are stored as text so that they compare the same way in queries and indexes.
+     */
+    public Message putMetadata(String key, Object value) {
+        if (value == null) {
+            if (metadata != null) {
+                metadata.remove(key);
+            }
+            return this;
+        }
+        if (metadata == null) {
+            metadata = new HashMap<>();
+        }
+        metadata.put(key, value.toString());
+        return this;
+    }
+
+    /**
+     * Forum topic / thread the message belongs to, if any
+     */
+    public Optional<String> getThreadId() {
+        return getMetadataValue(METADATA_THREAD_ID);
+    }
+
+    /**
+     * Language reported by the platform for the sender (e.g. "es", "en")
+     */
+    public Optional<String> getLanguage() {
+        return getMetadataValue(METADATA_LANGUAGE);
+    }
+
     public enum MessageDirection {
         INBOUND,
         OUTBOUND
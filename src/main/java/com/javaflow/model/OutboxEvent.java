@@ -0,0 +1,63 @@
+package com.javaflow.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento de dominio pendiente de entregar (transactional outbox).
+ *
+ * <p>Se inserta en la misma transacción que el cambio que lo generó y se borra cuando
+ * {@link com.javaflow.outbox.OutboxRelay} lo ha entregado a todos los listeners.</p>
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+    // Ordering guard of the relay: earlier pending events of the same aggregate
+    @Index(name = "idx_outbox_aggregate", columnList = "aggregate_type, aggregate_id, id"),
+    @Index(name = "idx_outbox_available_at", columnList = "available_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "aggregate_type", nullable = false, length = 100)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id")
+    private Long aggregateId;
+
+    @Column(name = "event_type", nullable = false, length = 255)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /** Not delivered before this time (backoff after a failed delivery). */
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    /** Delivery given up after the maximum number of attempts. */
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean dead = false;
+}
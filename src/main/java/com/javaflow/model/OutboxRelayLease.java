@@ -0,0 +1,35 @@
+package com.javaflow.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lease del relay del outbox: solo el nodo que la tiene entrega eventos.
+ *
+ * <p>La fila la escribe {@link com.javaflow.outbox.OutboxRelay}, que la renueva antes de cada lote;
+ * si el nodo cae, otro la toma cuando vence {@code expires_at}.</p>
+ */
+@Entity
+@Table(name = "outbox_relay_lease")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxRelayLease {
+
+    @Id
+    @Column(name = "name", length = 50)
+    private String name;
+
+    /** Node currently holding the lease. */
+    @Column(name = "owner", nullable = false, length = 64)
+    private String owner;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 @Table(name = "system_logs", indexes = {
     @Index(name = "idx_log_created_at", columnList = "created_at"),
     @Index(name = "idx_log_level", columnList = "level"),
-    @Index(name = "idx_log_workflow_execution_id", columnList = "workflow_execution_id")
+    @Index(name = "idx_log_workflow_execution_id", columnList = "workflow_execution_id"),
+    @Index(name = "idx_log_process_instance_id", columnList = "process_instance_id")
 })
 @Data
 @Builder
@@ -47,6 +48,9 @@ public class SystemLog {
     @JoinColumn(name = "workflow_execution_id")
     private WorkflowExecution workflowExecution;
 
+    @Column(name = "process_instance_id", length = 64)
+    private String processInstanceId; // Instancia de Flowable que generó el log
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,56 @@
+package com.javaflow.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Punto de control de la re-encriptación de tokens de bots hacia una clave.
+ *
+ * <p>Las filas las escribe y las lee {@link com.javaflow.security.TokenRotationService} tras cada
+ * ronda de lotes; una rotación interrumpida continúa desde {@code last_bot_id}.</p>
+ */
+@Entity
+@Table(name = "token_rotation_checkpoints")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenRotationCheckpoint {
+
+    /** Target key: the tokens are being re-encrypted with it. */
+    @Id
+    @Column(name = "key_id", length = 32)
+    private String keyId;
+
+    /** Every bot up to this ID has been processed. */
+    @Column(name = "last_bot_id", nullable = false)
+    private Long lastBotId;
+
+    @Column(name = "total_bots", nullable = false)
+    private Long totalBots;
+
+    @Column(name = "reencrypted", nullable = false)
+    private Long reEncrypted;
+
+    /** Tokens that no configured key could decrypt; left unchanged. */
+    @Column(name = "failed", nullable = false)
+    private Long failed;
+
+    /** RUNNING, COMPLETED or FAILED. */
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "error", length = 1000)
+    private String error;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -1,5 +1,6 @@
 package com.javaflow.model;
 
+import com.javaflow.cache.SecondLevelCacheInvalidationListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -7,6 +8,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -22,6 +25,10 @@ import java.util.Set;
     @Index(name = "idx_username", columnList = "username"),
     @Index(name = "idx_email", columnList = "email")
 })
+// Leída en casi cada operación y rara vez modificada: caché de segundo nivel (ver CaffeineRegionFactory)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@EntityListeners(SecondLevelCacheInvalidationListener.class)
 @Data
 @Builder
 @NoArgsConstructor
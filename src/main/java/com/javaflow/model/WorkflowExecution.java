@@ -22,8 +22,11 @@ import java.util.*;
  */
 @Entity
 @Table(name = "workflow_executions", indexes = {
-    @Index(name = "idx_execution_workflow_id", columnList = "workflow_id"),
-    @Index(name = "idx_execution_status", columnList = "status"),
+    // Search indexes: equality columns first, started_at last for range filters and ORDER BY started_at DESC
+    @Index(name = "idx_execution_workflow_status_started", columnList = "workflow_id, status, started_at"),
+    @Index(name = "idx_execution_status_started", columnList = "status, started_at"),
+    @Index(name = "idx_execution_started_by_started", columnList = "started_by, started_at"),
+    @Index(name = "idx_execution_started_at", columnList = "started_at"),
     @Index(name = "idx_execution_process_instance_id", columnList = "process_instance_id", unique = true)
 })
 @Data
@@ -64,6 +67,14 @@ public class WorkflowExecution {
     @Column(columnDefinition = "TEXT")
     private String variables;
 
+    /**
+     * Optimistic lock: every update increments it, and an update based on a stale copy fails
+     * instead of silently overwriting a concurrent status change.
+     */
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     @Transient
     private final transient List<Object> domainEvents = new ArrayList<>();
 
@@ -72,7 +83,25 @@ public class WorkflowExecution {
         COMPLETED,
         FAILED,
         CANCELLED,
-        SUSPENDED
+        SUSPENDED;
+
+        /**
+         * Statuses from which an execution may move to this one (same rules as the domain methods below).
+         */
+        public Set<ExecutionStatus> allowedSources() {
+            return switch (this) {
+                case RUNNING -> EnumSet.of(SUSPENDED);
+                case COMPLETED, SUSPENDED -> EnumSet.of(RUNNING);
+                case FAILED, CANCELLED -> EnumSet.of(RUNNING, SUSPENDED);
+            };
+        }
+
+        /**
+         * Whether the execution has ended in this status.
+         */
+        public boolean isTerminal() {
+            return this == COMPLETED || this == FAILED || this == CANCELLED;
+        }
     }
 
     // ========== DOMAIN BUSINESS METHODS ==========
@@ -260,7 +289,12 @@ public class WorkflowExecution {
 
     @DomainEvents
     public Collection<Object> domainEvents() {
-        return Collections.unmodifiableList(domainEvents);
+        // Events are published after save, so the generated ID can be filled in here
+        return domainEvents.stream()
+                .map(event -> event instanceof WorkflowExecutedEvent executed && executed.executionId() == null && id != null
+                        ? executed.withExecutionId(id)
+                        : event)
+                .toList();
     }
 
     @AfterDomainEventPublication
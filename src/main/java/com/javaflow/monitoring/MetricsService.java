@@ -1,12 +1,16 @@
 package com.javaflow.monitoring;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
 
 /**
  * Service for collecting and recording custom application metrics using Micrometer.
@@ -18,8 +22,16 @@ import java.util.concurrent.TimeUnit;
  * <p><strong>Available Metrics:</strong></p>
  * <ul>
  *   <li><strong>Workflow Metrics:</strong> Activations, executions (by status), and execution duration</li>
- *   <li><strong>Bot Metrics:</strong> Inbound/outbound messages and command executions</li>
- *   <li><strong>Cache Metrics:</strong> Cache hits and misses by cache name</li>
+ *   <li><strong>Bot Metrics:</strong> Inbound/outbound messages, webhook updates, inbound queue size, wait and overflow,
+ *       outbound queue size, wait, rate limits and failures, command executions and SQL statements per message</li>
+ *   <li><strong>Cache Metrics:</strong> Cache hits, misses and recent hit ratio by cache name, cluster invalidations</li>
+ *   <li><strong>Concurrency Metrics:</strong> Updates retried after optimistic locking conflicts</li>
+ *   <li><strong>Outbox Metrics:</strong> Domain events delivered and failed deliveries</li>
+ *   <li><strong>System Log Metrics:</strong> Buffered log entries written, dropped and pending</li>
+ *   <li><strong>Datasource Routing Metrics:</strong> Replica lag, replica reads and fallbacks to the primary</li>
+ *   <li><strong>Search Index Metrics:</strong> Documents indexed, dropped and pending</li>
+ *   <li><strong>Export Metrics:</strong> Rows written by the streaming exports</li>
+ *   <li><strong>Security Metrics:</strong> Bot tokens re-encrypted by a key rotation</li>
  * </ul>
  * 
  * <p><strong>Usage Example:</strong></p>
@@ -120,6 +132,104 @@ public class MetricsService {
                 .increment();
     }
 
+    /**
+     * Records an update received through a bot platform webhook.
+     *
+     * @param outcome accepted, duplicate, ignored, unauthorized, unknown_bot or overloaded
+     */
+    public void recordWebhookUpdate(String botType, String outcome) {
+        Counter.builder("javaflow.bot.webhook.updates")
+                .tag("bot_type", botType)
+                .tag("outcome", outcome)
+                .description("Number of updates received through bot webhooks")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Registers a gauge tracking the inbound messages waiting to be processed.
+     */
+    public <T> void registerInboundQueue(T dispatcher, ToDoubleFunction<T> queuedMessages) {
+        Gauge.builder("javaflow.bot.inbound.queue.size", dispatcher, queuedMessages)
+                .description("Number of inbound bot messages waiting to be processed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records the time an inbound message waited in its chat's queue.
+     */
+    public void recordInboundQueueWait(long nanos) {
+        Timer.builder("javaflow.bot.inbound.queue.wait")
+                .description("Time inbound bot messages wait before being processed")
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records an inbound message that did not fit in its stripe's queue.
+     */
+    public void recordInboundOverflow(int stripe) {
+        Counter.builder("javaflow.bot.inbound.overflow")
+                .tag("stripe", String.valueOf(stripe))
+                .description("Number of inbound bot messages rejected because their queue was full")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Registers a gauge tracking the outbound messages waiting for the rate limits.
+     */
+    public <T> void registerOutboundQueue(T dispatcher, ToDoubleFunction<T> queuedMessages) {
+        Gauge.builder("javaflow.bot.outbound.queue.size", dispatcher, queuedMessages)
+                .description("Number of outbound bot messages waiting to be sent")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records the time an outbound message waited for its chat and bot rate limits.
+     */
+    public void recordOutboundQueueWait(long nanos) {
+        Timer.builder("javaflow.bot.outbound.queue.wait")
+                .description("Time outbound bot messages wait before being sent")
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records a send rejected by the platform's rate limit (Telegram's 429).
+     */
+    public void recordOutboundRateLimited(String botType) {
+        Counter.builder("javaflow.bot.outbound.rate_limited")
+                .tag("bot_type", botType)
+                .description("Number of outbound sends rejected by the platform's rate limit")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Records an outbound message that was not sent (reason: overflow, rate_limited or error), or that
+     * was sent but could not be saved (reason: persist_error).
+     */
+    public void recordOutboundFailure(String botType, String reason) {
+        Counter.builder("javaflow.bot.outbound.failed")
+                .tag("bot_type", botType)
+                .tag("reason", reason)
+                .description("Number of outbound bot messages that could not be sent or saved")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Records the SQL statements issued while processing one inbound message.
+     */
+    public void recordMessageDbCalls(String botType, long statements) {
+        DistributionSummary.builder("javaflow.bot.message.db_calls")
+                .tag("bot_type", botType)
+                .description("SQL statements issued per inbound bot message")
+                .register(meterRegistry)
+                .record(statements);
+    }
+
     /**
      * Records a bot command execution.
      */
@@ -155,4 +265,224 @@ public class MetricsService {
                 .register(meterRegistry)
                 .increment();
     }
+
+    /**
+     * Records the cache hits of a sampling interval.
+     */
+    public void recordCacheHits(String cacheName, long count) {
+        Counter.builder("javaflow.cache.hits")
+                .tag("cache", cacheName)
+                .description("Number of cache hits")
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    /**
+     * Records the cache misses of a sampling interval.
+     */
+    public void recordCacheMisses(String cacheName, long count) {
+        Counter.builder("javaflow.cache.misses")
+                .tag("cache", cacheName)
+                .description("Number of cache misses")
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    /**
+     * Registers a gauge with the hit ratio of a cache over the last sampling interval (0-1, NaN without requests).
+     */
+    public <T> void registerCacheHitRatio(String cacheName, T window, ToDoubleFunction<T> hitRatio) {
+        Gauge.builder("javaflow.cache.hit.ratio", window, hitRatio)
+                .tag("cache", cacheName)
+                .description("Cache hit ratio over the last sampling interval")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records cache invalidations exchanged with other nodes.
+     *
+     * @param direction sent, received or dropped
+     */
+    public void recordCacheInvalidations(String direction, int count) {
+        Counter.builder("javaflow.cache.invalidations")
+                .tag("direction", direction)
+                .description("Cluster cache invalidations sent to or received from other nodes")
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    // ========== CONCURRENCY METRICS ==========
+
+    /**
+     * Records a transaction retried after an optimistic locking conflict.
+     */
+    public void recordOptimisticLockRetry(String entity) {
+        Counter.builder("javaflow.optimistic_lock.retries")
+                .tag("entity", entity)
+                .description("Number of updates retried after a concurrent modification")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    // ========== OUTBOX METRICS ==========
+
+    /**
+     * Records domain events delivered from the outbox.
+     */
+    public void recordOutboxDelivered(int count) {
+        Counter.builder("javaflow.outbox.delivered")
+                .description("Number of domain events delivered from the outbox")
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    /**
+     * Records a failed outbox delivery ("retry" if it will be retried, "dead" if it was given up).
+     */
+    public void recordOutboxFailure(String outcome) {
+        Counter.builder("javaflow.outbox.failures")
+                .tag("outcome", outcome)
+                .description("Number of failed domain event deliveries")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    // ========== SYSTEM LOG METRICS ==========
+
+    /**
+     * Registers a gauge tracking the number of log entries waiting to be written.
+     */
+    public void registerSystemLogBuffer(Collection<?> buffer) {
+        Gauge.builder("javaflow.systemlog.buffer.size", buffer, Collection::size)
+                .description("Number of system log entries waiting to be written")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records system log entries written to the database.
+     */
+    public void recordSystemLogsWritten(int count) {
+        Counter.builder("javaflow.systemlog.written")
+                .description("Number of system log entries written")
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    /**
+     * Records a system log entry dropped by the overload policy or a failed write.
+     */
+    public void recordSystemLogDropped(String level, String reason) {
+        Counter.builder("javaflow.systemlog.dropped")
+                .tag("level", level)
+                .tag("reason", reason)
+                .description("Number of system log entries dropped")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    // ========== ARCHIVE METRICS ==========
+
+    /**
+     * Records messages moved from the messages table into archive segments.
+     */
+    public void recordMessagesArchived(int count) {
+        Counter.builder("javaflow.archive.messages")
+                .description("Number of messages moved to cold archive segments")
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    // ========== DATASOURCE ROUTING METRICS ==========
+
+    /**
+     * Registers a gauge with the replication lag of the read replica, in seconds.
+     */
+    public void registerReplicaLag(com.javaflow.datasource.ReplicaLagMonitor lagMonitor) {
+        Gauge.builder("javaflow.datasource.replica.lag", lagMonitor, com.javaflow.datasource.ReplicaLagMonitor::getLagSeconds)
+                .description("Replication lag of the read replica in seconds")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records a read-only connection served by the replica.
+     */
+    public void recordReplicaRead() {
+        Counter.builder("javaflow.datasource.replica.reads")
+                .description("Number of read-only connections served by the replica")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Records a read-only connection sent to the primary because the replica was stale or unreachable.
+     */
+    public void recordReplicaFallback(String reason) {
+        Counter.builder("javaflow.datasource.replica.fallbacks")
+                .tag("reason", reason)
+                .description("Number of read-only connections routed to the primary instead of the replica")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    // ========== SEARCH INDEX METRICS ==========
+
+    /**
+     * Registers a gauge tracking the number of documents waiting to be indexed.
+     */
+    public void registerSearchIndexQueue(Collection<?> queue) {
+        Gauge.builder("javaflow.search.queue.size", queue, Collection::size)
+                .description("Number of documents waiting to be added to the full-text index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records documents written to a full-text index segment.
+     */
+    public void recordSearchDocumentsIndexed(int count) {
+        Counter.builder("javaflow.search.indexed")
+                .description("Number of documents written to the full-text index")
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    /**
+     * Records documents that could not be indexed (queue full or failed write).
+     */
+    public void recordSearchIndexDropped(String reason) {
+        Counter.builder("javaflow.search.dropped")
+                .tag("reason", reason)
+                .description("Number of documents not added to the full-text index")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    // ========== EXPORT METRICS ==========
+
+    /**
+     * Records rows written by a streaming export.
+     */
+    public void recordRowsExported(String type, String format, long count) {
+        Counter.builder("javaflow.export.rows")
+                .tag("type", type)
+                .tag("format", format)
+                .description("Number of rows written by the streaming exports")
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    // ========== SECURITY METRICS ==========
+
+    /**
+     * Records bot tokens processed by a key rotation.
+     *
+     * @param outcome reencrypted, or failed if no configured key could decrypt the token
+     */
+    public void recordTokensReEncrypted(String outcome, long count) {
+        Counter.builder("javaflow.security.tokens.reencrypted")
+                .tag("outcome", outcome)
+                .description("Number of bot tokens processed by the encryption key rotation")
+                .register(meterRegistry)
+                .increment(count);
+    }
 }
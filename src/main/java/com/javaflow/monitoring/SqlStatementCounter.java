@@ -0,0 +1,30 @@
+package com.javaflow.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Cuenta las sentencias SQL que Hibernate prepara en cada hilo.
+ *
+ * <p>Se registra con {@code hibernate.session_factory.statement_inspector}, así que la instancia la
+ * crea Hibernate; el contador es estático por hilo. Para medir una operación se toma
+ * {@link #current()} antes y después. Las consultas hechas con {@code JdbcTemplate} no pasan por aquí.</p>
+ *
+ * @since 1.1.0
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    /**
+     * Sentencias preparadas hasta ahora por el hilo actual.
+     */
+    public static long current() {
+        return COUNT.get()[0];
+    }
+}
@@ -24,12 +24,79 @@
  *   <li>{@code javaflow.bot.messages.inbound} - Inbound messages by bot type</li>
  *   <li>{@code javaflow.bot.messages.outbound} - Outbound messages by bot type</li>
  *   <li>{@code javaflow.bot.commands} - Bot commands executed</li>
+ *   <li>{@code javaflow.bot.inbound.queue.size} - Inbound messages waiting for their chat's worker</li>
+ *   <li>{@code javaflow.bot.inbound.queue.wait} - Time inbound messages wait before being processed</li>
+ *   <li>{@code javaflow.bot.inbound.overflow} - Inbound messages rejected by a full queue, by stripe</li>
+ *   <li>{@code javaflow.bot.outbound.queue.size} - Outbound messages waiting for the per-chat and per-bot rate limits</li>
+ *   <li>{@code javaflow.bot.outbound.queue.wait} - Time outbound messages wait before being sent</li>
+ *   <li>{@code javaflow.bot.outbound.rate_limited} - Sends rejected by the platform's rate limit (Telegram 429)</li>
+ *   <li>{@code javaflow.bot.outbound.failed} - Outbound messages not sent, by bot type and reason (overflow,
+ *       rate_limited, error)</li>
+ *   <li>{@code javaflow.bot.webhook.updates} - Webhook updates by bot type and outcome (accepted, duplicate,
+ *       ignored, unauthorized, unknown_bot, overloaded)</li>
+ *   <li>{@code javaflow.bot.message.db_calls} - SQL statements issued by Hibernate per inbound message</li>
  * </ul>
  * 
  * <h3>Cache Metrics</h3>
  * <ul>
  *   <li>{@code javaflow.cache.hits} - Cache hits by cache name</li>
  *   <li>{@code javaflow.cache.misses} - Cache misses by cache name</li>
+ *   <li>{@code javaflow.cache.hit.ratio} - Hit ratio of the last sampling interval by cache name
+ *       (NaN without requests); alert on it rather than on the cumulative counters</li>
+ *   <li>{@code javaflow.cache.invalidations} - Cluster invalidations by direction (sent, received, dropped)</li>
+ *   <li>{@code cache.gets}, {@code cache.puts}, {@code cache.evictions}, {@code cache.size} - Second-level
+ *       cache regions, tagged {@code cache=hibernate.<region>}</li>
+ *   <li>{@code cache.gets}, {@code cache.puts}, {@code cache.evictions}, {@code cache.size},
+ *       {@code cache.load.duration} - Spring caches (bound by Spring Boot), tagged {@code cache=<name>};
+ *       contents and statistics at {@code /actuator/cachestats}</li>
+ * </ul>
+ * 
+ * <h3>Concurrency Metrics</h3>
+ * <ul>
+ *   <li>{@code javaflow.optimistic_lock.retries} - Updates retried after a concurrent modification, by entity</li>
+ * </ul>
+ * 
+ * <h3>Outbox Metrics</h3>
+ * <ul>
+ *   <li>{@code javaflow.outbox.delivered} - Domain events delivered to listeners</li>
+ *   <li>{@code javaflow.outbox.failures} - Failed deliveries by outcome (retry, dead)</li>
+ * </ul>
+ * 
+ * <h3>System Log Metrics</h3>
+ * <ul>
+ *   <li>{@code javaflow.systemlog.buffer.size} - Log entries waiting to be written</li>
+ *   <li>{@code javaflow.systemlog.written} - Log entries written in batches</li>
+ *   <li>{@code javaflow.systemlog.dropped} - Log entries dropped by level and reason</li>
+ * </ul>
+ * 
+ * <h3>Archive Metrics</h3>
+ * <ul>
+ *   <li>{@code javaflow.archive.messages} - Messages moved to cold archive segments</li>
+ * </ul>
+ * 
+ * <h3>Datasource Routing Metrics</h3>
+ * <ul>
+ *   <li>{@code javaflow.datasource.replica.lag} - Replication lag of the read replica (seconds)</li>
+ *   <li>{@code javaflow.datasource.replica.reads} - Read-only connections served by the replica</li>
+ *   <li>{@code javaflow.datasource.replica.fallbacks} - Reads sent to the primary by reason</li>
+ * </ul>
+ * 
+ * <h3>Search Index Metrics</h3>
+ * <ul>
+ *   <li>{@code javaflow.search.queue.size} - Documents waiting to be indexed</li>
+ *   <li>{@code javaflow.search.indexed} - Documents written to index segments</li>
+ *   <li>{@code javaflow.search.dropped} - Documents not indexed by reason</li>
+ * </ul>
+ * 
+ * <h3>Export Metrics</h3>
+ * <ul>
+ *   <li>{@code javaflow.export.rows} - Rows written by the streaming exports, by type and format</li>
+ * </ul>
+ * 
+ * <h3>Security Metrics</h3>
+ * <ul>
+ *   <li>{@code javaflow.security.tokens.reencrypted} - Bot tokens processed by a key rotation, by outcome
+ *       (reencrypted, failed); progress at {@code /actuator/tokenrotation}</li>
  * </ul>
  * 
  * <h2>Accessing Metrics</h2>
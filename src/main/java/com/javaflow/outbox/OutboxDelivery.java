@@ -0,0 +1,31 @@
+package com.javaflow.outbox;
+
+import com.javaflow.domain.events.DomainEvent;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.ResolvableTypeProvider;
+
+/**
+ * A domain event delivered from the outbox.
+ *
+ * <p>Listeners subscribe to the generic type, e.g.
+ * {@code @EventListener void handle(OutboxDelivery<WorkflowExecutedEvent> delivery)}, and run on the
+ * relay thread after the transaction that raised the event has committed. Delivery is at-least-once:
+ * after a failure or a crash the same event ({@link #outboxId()}) can be delivered again, so
+ * listeners must be idempotent.</p>
+ *
+ * @param outboxId ID of the outbox row, stable across redeliveries
+ * @param attempt  Delivery attempt, starting at 1
+ * @param event    The domain event
+ * @since 1.1.0
+ */
+public record OutboxDelivery<E extends DomainEvent>(
+        long outboxId,
+        int attempt,
+        E event
+) implements ResolvableTypeProvider {
+
+    @Override
+    public ResolvableType getResolvableType() {
+        return ResolvableType.forClassWithGenerics(getClass(), ResolvableType.forInstance(event));
+    }
+}
@@ -0,0 +1,312 @@
+package com.javaflow.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.javaflow.domain.events.DomainEvent;
+import com.javaflow.monitoring.MetricsService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers the domain events stored by {@link OutboxWriter} to in-process listeners.
+ *
+ * <p>A background thread reads pending rows in batches, in insertion order, and publishes each one
+ * as an {@link OutboxDelivery}. Delivered rows are deleted in one JDBC batch at the end of each
+ * batch, so a crash in between redelivers them (<strong>at-least-once</strong>).</p>
+ *
+ * <p><strong>Ordering per aggregate:</strong> if a listener fails, the event is rescheduled with
+ * exponential backoff and the following events of the same aggregate are held back until it has been
+ * delivered; events of other aggregates keep flowing. After {@code max-attempts} the event is marked
+ * dead and no longer blocks its aggregate.</p>
+ *
+ * <p>The relay is woken up right after each commit that stored events, and also polls every
+ * {@code poll-interval-ms} for retries.</p>
+ *
+ * <p><strong>Clustering:</strong> the relay may be enabled on every node, but only the node holding
+ * the lease in {@code outbox_relay_lease} delivers events, so each event is delivered by one node and
+ * the per-aggregate order holds across the cluster. The lease is renewed before every batch with a
+ * conditional update and taken over by another node once it has not been renewed for
+ * {@code lease-ms}, which must comfortably exceed the time needed to deliver one batch.</p>
+ *
+ * @since 1.1.0
+ */
+@Component
+@ConditionalOnProperty(prefix = "javaflow.outbox.relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class OutboxRelay {
+
+    static final String SELECT_SQL =
+            "SELECT o.id, o.aggregate_type, o.aggregate_id, o.event_type, o.payload, o.attempts FROM outbox_events o " +
+            "WHERE o.dead = FALSE AND o.available_at <= ? " +
+            "AND NOT EXISTS (SELECT 1 FROM outbox_events p WHERE p.aggregate_type = o.aggregate_type " +
+            "AND p.aggregate_id = o.aggregate_id AND p.id < o.id AND p.dead = FALSE AND p.available_at > ?) " +
+            "ORDER BY o.id LIMIT ?";
+
+    static final String DELETE_SQL = "DELETE FROM outbox_events WHERE id = ?";
+
+    static final String LEASE_NAME = "outbox-relay";
+
+    static final String RENEW_LEASE_SQL =
+            "UPDATE outbox_relay_lease SET owner = ?, expires_at = ? WHERE name = ? AND (owner = ? OR expires_at < ?)";
+
+    static final String INSERT_LEASE_SQL = "INSERT INTO outbox_relay_lease (name, owner, expires_at) VALUES (?, ?, ?)";
+
+    static final String RELEASE_LEASE_SQL = "UPDATE outbox_relay_lease SET expires_at = ? WHERE name = ? AND owner = ?";
+
+    static final String RESCHEDULE_SQL =
+            "UPDATE outbox_events SET attempts = ?, available_at = ?, last_error = ?, dead = ? WHERE id = ?";
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final String EVENT_PACKAGE_PREFIX = DomainEvent.class.getPackageName() + ".";
+
+    private static final RowMapper<PendingEvent> ROW_MAPPER = (rs, rowNum) -> new PendingEvent(
+            rs.getLong("id"),
+            rs.getString("aggregate_type"),
+            rs.getObject("aggregate_id") != null ? rs.getLong("aggregate_id") : null,
+            rs.getString("event_type"),
+            rs.getString("payload"),
+            rs.getInt("attempts"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MetricsService metricsService;
+    private final int batchSize;
+    private final long pollIntervalMillis;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+    private final long leaseMillis;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Semaphore wakeUps = new Semaphore(0);
+
+    private volatile boolean running;
+    // Only touched by the relay thread
+    private boolean leader;
+    private Thread relayThread;
+
+    public OutboxRelay(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher,
+            MetricsService metricsService,
+            @Value("${javaflow.outbox.relay.batch-size:100}") int batchSize,
+            @Value("${javaflow.outbox.relay.poll-interval-ms:1000}") long pollIntervalMillis,
+            @Value("${javaflow.outbox.relay.max-attempts:10}") int maxAttempts,
+            @Value("${javaflow.outbox.relay.backoff-ms:1000}") long backoffMillis,
+            @Value("${javaflow.outbox.relay.max-backoff-ms:300000}") long maxBackoffMillis,
+            @Value("${javaflow.outbox.relay.lease-ms:30000}") long leaseMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.metricsService = metricsService;
+        this.batchSize = batchSize;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.leaseMillis = leaseMillis;
+    }
+
+    /**
+     * Starts relaying once the schema is in place and all listeners are registered.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        relayThread = new Thread(this::runRelayLoop, "outbox-relay");
+        relayThread.setDaemon(true);
+        relayThread.start();
+        log.info("OutboxRelay started (node {}, batch size {}, poll interval {} ms)", nodeId, batchSize, pollIntervalMillis);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (relayThread != null) {
+            wakeUp();
+            relayThread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        releaseLease();
+    }
+
+    /**
+     * Asks the relay to look for new events now instead of waiting for the next poll.
+     */
+    public void wakeUp() {
+        wakeUps.release();
+    }
+
+    /**
+     * Takes or renews the relay lease.
+     *
+     * @return true if this node holds the lease for the next {@code lease-ms}
+     */
+    boolean acquireLease() {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp expiresAt = Timestamp.valueOf(now.plusNanos(TimeUnit.MILLISECONDS.toNanos(leaseMillis)));
+
+        boolean acquired = jdbcTemplate.update(RENEW_LEASE_SQL, nodeId, expiresAt, LEASE_NAME, nodeId,
+                Timestamp.valueOf(now)) == 1;
+        if (!acquired) {
+            try {
+                acquired = jdbcTemplate.update(INSERT_LEASE_SQL, LEASE_NAME, nodeId, expiresAt) == 1;
+            } catch (DataIntegrityViolationException e) {
+                // The lease row exists and another node holds it
+                acquired = false;
+            }
+        }
+
+        if (acquired != leader) {
+            log.info(acquired ? "Node {} took the outbox relay lease" : "Node {} lost the outbox relay lease", nodeId);
+            leader = acquired;
+        }
+        return acquired;
+    }
+
+    private void releaseLease() {
+        try {
+            jdbcTemplate.update(RELEASE_LEASE_SQL, Timestamp.valueOf(LocalDateTime.now()), LEASE_NAME, nodeId);
+        } catch (DataAccessException e) {
+            log.warn("Could not release the outbox relay lease: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Delivers one batch of pending events.
+     *
+     * @return Number of rows read (a full batch means there may be more)
+     */
+    int relayBatch() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<PendingEvent> pending = jdbcTemplate.query(SELECT_SQL, ROW_MAPPER, now, now, batchSize);
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> blockedAggregates = new HashSet<>();
+        List<Object[]> delivered = new ArrayList<>(pending.size());
+
+        for (PendingEvent row : pending) {
+            if (blockedAggregates.contains(row.aggregateKey())) {
+                continue;
+            }
+            try {
+                eventPublisher.publishEvent(new OutboxDelivery<>(row.id(), row.attempts() + 1, deserialize(row)));
+                delivered.add(new Object[]{row.id()});
+            } catch (RuntimeException e) {
+                blockedAggregates.add(row.aggregateKey());
+                reschedule(row, e);
+            }
+        }
+
+        if (!delivered.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_SQL, delivered);
+            metricsService.recordOutboxDelivered(delivered.size());
+        }
+        return pending.size();
+    }
+
+    private void runRelayLoop() {
+        while (running) {
+            try {
+                while (running && acquireLease() && relayBatch() >= batchSize) {
+                    // Keep draining while batches come back full
+                }
+                wakeUps.tryAcquire(pollIntervalMillis, TimeUnit.MILLISECONDS);
+                wakeUps.drainPermits();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (RuntimeException e) {
+                log.error("Outbox relay failed, retrying in {} ms", pollIntervalMillis, e);
+                sleepQuietly(pollIntervalMillis);
+            }
+        }
+    }
+
+    private DomainEvent deserialize(PendingEvent row) {
+        // The type name comes from the database: only load classes of the domain events package
+        if (!row.eventType().startsWith(EVENT_PACKAGE_PREFIX)) {
+            throw new UndeliverableEventException("Not a domain event type: " + row.eventType(), null);
+        }
+        try {
+            Class<?> type = Class.forName(row.eventType(), false, DomainEvent.class.getClassLoader());
+            if (!DomainEvent.class.isAssignableFrom(type)) {
+                throw new UndeliverableEventException("Not a domain event type: " + row.eventType(), null);
+            }
+            return (DomainEvent) objectMapper.readValue(row.payload(), type);
+        } catch (ClassNotFoundException | IOException e) {
+            throw new UndeliverableEventException("Cannot read outbox event " + row.id() + " of type " + row.eventType(), e);
+        }
+    }
+
+    private void reschedule(PendingEvent row, RuntimeException error) {
+        int attempts = row.attempts() + 1;
+        boolean dead = attempts >= maxAttempts || error instanceof UndeliverableEventException;
+        long delay = Math.min(maxBackoffMillis, backoffMillis << Math.min(attempts - 1, 20));
+        String message = String.valueOf(error.getMessage());
+
+        jdbcTemplate.update(RESCHEDULE_SQL, attempts,
+                Timestamp.valueOf(LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(delay))),
+                message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message,
+                dead, row.id());
+
+        if (dead) {
+            log.error("Giving up outbox event {} ({} {} {}) after {} attempts",
+                    row.id(), row.eventType(), row.aggregateType(), row.aggregateId(), attempts, error);
+            metricsService.recordOutboxFailure("dead");
+        } else {
+            log.warn("Delivery of outbox event {} failed (attempt {}), retrying in {} ms: {}",
+                    row.id(), attempts, delay, error.getMessage());
+            metricsService.recordOutboxFailure("retry");
+        }
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private record PendingEvent(long id, String aggregateType, Long aggregateId, String eventType,
+                                String payload, int attempts) {
+
+        String aggregateKey() {
+            return aggregateType + ':' + aggregateId;
+        }
+    }
+
+    /**
+     * The stored event cannot be read back; retrying will not help.
+     */
+    static class UndeliverableEventException extends RuntimeException {
+        UndeliverableEventException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
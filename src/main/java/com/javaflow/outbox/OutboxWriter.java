@@ -0,0 +1,70 @@
+package com.javaflow.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.javaflow.domain.events.DomainEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Stores every published {@link DomainEvent} in {@code outbox_events}.
+ *
+ * <p>Spring Data publishes {@code @DomainEvents} synchronously inside the repository call, so the
+ * insert joins the caller's transaction: the event is committed or rolled back together with the
+ * change that raised it. No listener work runs on the request thread; after commit the relay is
+ * woken up to deliver the event.</p>
+ *
+ * @since 1.1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxWriter {
+
+    static final String INSERT_SQL =
+            "INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload, created_at, available_at, attempts, dead) " +
+            "VALUES (?, ?, ?, ?, ?, ?, 0, FALSE)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Optional<OutboxRelay> relay;
+
+    @EventListener
+    public void store(DomainEvent event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize domain event " + event.getClass().getName(), e);
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(INSERT_SQL, event.aggregateType(), event.aggregateId(), event.getClass().getName(),
+                payload, now, now);
+        log.debug("Stored {} for {} {} in outbox", event.getClass().getSimpleName(), event.aggregateType(), event.aggregateId());
+
+        relay.ifPresent(this::wakeUpAfterCommit);
+    }
+
+    private void wakeUpAfterCommit(OutboxRelay outboxRelay) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            outboxRelay.wakeUp();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxRelay.wakeUp();
+            }
+        });
+    }
+}
@@ -3,17 +3,45 @@ package com.javaflow.repository;
 import com.javaflow.model.BotConfiguration;
 import com.javaflow.model.BotConfiguration.BotStatus;
 import com.javaflow.model.BotConfiguration.BotType;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface BotConfigurationRepository extends JpaRepository<BotConfiguration, Long> {
     
+    // Cached query results (second-level query cache), invalidated on any change to bot_configurations
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<BotConfiguration> findByType(BotType type);
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<BotConfiguration> findByStatus(BotStatus status);
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<BotConfiguration> findByTypeAndStatus(BotType type, BotStatus status);
+    
+    /**
+     * Bots whose config has the given key with the given value, compared as text
+     * (PostgreSQL jsonb, see db/postgresql/jsonb_metadata.sql)
+     */
+    @Query(value = "SELECT * FROM bot_configurations WHERE config ->> :key = :value", nativeQuery = true)
+    List<BotConfiguration> findByConfigValue(String key, String value);
+    
+    /**
+     * Bots with the given IDs, read from the database and locked until the end of the transaction
+     * (token re-encryption, see TokenRotationService)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM BotConfiguration b WHERE b.id IN :ids ORDER BY b.id")
+    List<BotConfiguration> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
 }
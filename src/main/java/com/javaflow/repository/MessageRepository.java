@@ -2,6 +2,7 @@ package com.javaflow.repository;
 
 import com.javaflow.model.Message;
 import com.javaflow.model.Message.MessageDirection;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -18,6 +19,11 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
     
     List<Message> findByChatIdOrderByCreatedAtDesc(String chatId);
     
+    /**
+     * Latest messages of a chat, newest first. Served by idx_message_chat_created.
+     */
+    List<Message> findByChatIdOrderByCreatedAtDesc(String chatId, Pageable pageable);
+    
     List<Message> findByDirection(MessageDirection direction);
     
     List<Message> findByWorkflowExecutionId(Long executionId);
@@ -26,4 +32,28 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
     List<Message> findRecentMessages(LocalDateTime since);
     
     long countByDirection(MessageDirection direction);
+    
+    // ========== METADATA QUERIES (PostgreSQL jsonb, indexes in db/postgresql/jsonb_metadata.sql) ==========
+    
+    /**
+     * Messages of a forum topic / reply thread, newest first. Served by idx_message_chat_thread.
+     */
+    @Query(value = "SELECT * FROM messages WHERE chat_id = :chatId AND metadata ->> 'thread_id' = :threadId " +
+                   "ORDER BY created_at DESC", nativeQuery = true)
+    List<Message> findByChatIdAndThreadId(String chatId, String threadId, Pageable pageable);
+    
+    /**
+     * Messages whose sender uses the given language, since the given time. Served by idx_message_language_created.
+     */
+    @Query(value = "SELECT * FROM messages WHERE metadata ->> 'language' = :language AND created_at >= :since " +
+                   "ORDER BY created_at DESC", nativeQuery = true)
+    List<Message> findByLanguageSince(String language, LocalDateTime since, Pageable pageable);
+    
+    /**
+     * Messages with an arbitrary metadata key set to the given value (containment, served by the GIN index
+     * idx_message_metadata). Values are compared as text, as written by {@link Message#putMetadata}.
+     */
+    @Query(value = "SELECT * FROM messages WHERE metadata @> jsonb_build_object(:key, CAST(:value AS text)) " +
+                   "ORDER BY created_at DESC", nativeQuery = true)
+    List<Message> findByMetadataValue(String key, String value, Pageable pageable);
 }
@@ -2,16 +2,24 @@ package com.javaflow.repository;
 
 import com.javaflow.model.WorkflowExecution;
 import com.javaflow.model.WorkflowExecution.ExecutionStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface WorkflowExecutionRepository extends JpaRepository<WorkflowExecution, Long> {
+public interface WorkflowExecutionRepository extends JpaRepository<WorkflowExecution, Long>,
+        JpaSpecificationExecutor<WorkflowExecution> {
     
     Optional<WorkflowExecution> findByProcessInstanceId(String processInstanceId);
     
@@ -25,4 +33,29 @@ public interface WorkflowExecutionRepository extends JpaRepository<WorkflowExecu
     List<WorkflowExecution> findRecentExecutions(LocalDateTime since);
     
     long countByStatus(ExecutionStatus status);
+    
+    /**
+     * Compare-and-set status transition: the row is only updated if its current status is one of
+     * {@code expected}, so concurrent transitions cannot overwrite each other and no row lock is held
+     * beyond the statement. The version is bumped so stale entity copies fail their optimistic check.
+     * Null {@code endedAt} / {@code errorMessage} keep the current values.
+     *
+     * @return 1 if the transition was applied, 0 if the status had already changed or the execution does not exist
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE WorkflowExecution e SET e.status = :target, " +
+           "e.endedAt = COALESCE(:endedAt, e.endedAt), " +
+           "e.errorMessage = COALESCE(:errorMessage, e.errorMessage), " +
+           "e.version = e.version + 1 " +
+           "WHERE e.processInstanceId = :processInstanceId AND e.status IN :expected")
+    int compareAndSetStatus(String processInstanceId, Collection<ExecutionStatus> expected,
+                            ExecutionStatus target, LocalDateTime endedAt, String errorMessage);
+    
+    /**
+     * Search executions with the filters of {@link WorkflowExecutionSpecifications}.
+     * Workflow and starting user are fetched in the same query to avoid N+1 when mapping results.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"workflow", "startedBy"})
+    Page<WorkflowExecution> findAll(Specification<WorkflowExecution> spec, Pageable pageable);
 }
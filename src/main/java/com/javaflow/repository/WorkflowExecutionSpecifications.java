@@ -0,0 +1,67 @@
+package com.javaflow.repository;
+
+import com.javaflow.model.WorkflowExecution;
+import com.javaflow.model.WorkflowExecution.ExecutionStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Search filters for {@link WorkflowExecution}.
+ *
+ * <p>Each filter maps to a leading column of one of the composite indexes declared on the entity:
+ * {@code (workflow_id, status, started_at)}, {@code (status, started_at)},
+ * {@code (started_by, started_at)} and {@code (started_at)}. A null argument disables the filter.</p>
+ */
+public final class WorkflowExecutionSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private WorkflowExecutionSpecifications() {
+    }
+
+    public static Specification<WorkflowExecution> hasWorkflow(Long workflowId) {
+        return (root, query, cb) -> workflowId == null ? null
+                : cb.equal(root.get("workflow").get("id"), workflowId);
+    }
+
+    public static Specification<WorkflowExecution> hasStatusIn(Collection<ExecutionStatus> statuses) {
+        return (root, query, cb) -> statuses == null || statuses.isEmpty() ? null
+                : root.get("status").in(statuses);
+    }
+
+    public static Specification<WorkflowExecution> startedFrom(LocalDateTime from) {
+        return (root, query, cb) -> from == null ? null
+                : cb.greaterThanOrEqualTo(root.get("startedAt"), from);
+    }
+
+    public static Specification<WorkflowExecution> startedBefore(LocalDateTime to) {
+        return (root, query, cb) -> to == null ? null
+                : cb.lessThan(root.get("startedAt"), to);
+    }
+
+    public static Specification<WorkflowExecution> startedBy(Long userId) {
+        return (root, query, cb) -> userId == null ? null
+                : cb.equal(root.get("startedBy").get("id"), userId);
+    }
+
+    /**
+     * Matches executions whose error message starts with the given text (case-sensitive).
+     */
+    public static Specification<WorkflowExecution> errorStartsWith(String prefix) {
+        return (root, query, cb) -> prefix == null || prefix.isEmpty() ? null
+                : cb.like(root.get("errorMessage"), escapeLike(prefix) + "%", LIKE_ESCAPE);
+    }
+
+    static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (char c : value.toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -54,4 +55,10 @@ public interface WorkflowRepository extends JpaRepository<Workflow, Long> {
     List<Workflow> findByStatusAndCreatedById(WorkflowStatus status, Long userId);
     
     Optional<Workflow> findByName(String name);
+    
+    /**
+     * Names from the given set that are already taken (one query for a whole bulk import)
+     */
+    @Query("SELECT w.name FROM Workflow w WHERE w.name IN :names")
+    List<String> findExistingNames(@Param("names") Collection<String> names);
 }
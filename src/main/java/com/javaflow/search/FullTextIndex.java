@@ -0,0 +1,327 @@
+package com.javaflow.search;
+
+import com.javaflow.monitoring.MetricsService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Embedded, on-disk full-text index over chat messages and workflow execution errors.
+ *
+ * <p><strong>Indexing:</strong> callers only enqueue {@link SearchDocument}s into a bounded queue
+ * (never blocking message ingestion); a background thread drains the queue in batches and writes
+ * each batch as a new immutable segment in {@code javaflow.search.directory}. Documents become
+ * searchable after at most {@code flush-interval-ms}.</p>
+ *
+ * <p><strong>Merging:</strong> when there are more than {@code merge-factor} segments, the
+ * {@code merge-factor} smallest are merged into one, so the segment count stays bounded and large
+ * segments are not rewritten on every flush.</p>
+ *
+ * <p><strong>Searching:</strong> every query term must match (a trailing {@code *} turns the last
+ * word into a prefix). Results are ordered newest first; if the same document is present in several
+ * segments, the most recent copy wins.</p>
+ *
+ * @since 1.1.0
+ */
+@Component
+@Slf4j
+public class FullTextIndex {
+
+    private final Path directory;
+    private final MetricsService metricsService;
+    private final ArrayBlockingQueue<SearchDocument> queue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final int mergeFactor;
+    private final List<SearchSegmentReader> segments = new CopyOnWriteArrayList<>();
+    private final AtomicLong segmentSequence = new AtomicLong();
+    private final Object writeLock = new Object();
+
+    private volatile boolean running;
+    private Thread indexer;
+
+    public FullTextIndex(
+            MetricsService metricsService,
+            @Value("${javaflow.search.directory:data/search-index}") String directory,
+            @Value("${javaflow.search.queue-capacity:50000}") int queueCapacity,
+            @Value("${javaflow.search.batch-size:5000}") int batchSize,
+            @Value("${javaflow.search.flush-interval-ms:1000}") long flushIntervalMillis,
+            @Value("${javaflow.search.merge-factor:8}") int mergeFactor) {
+
+        if (queueCapacity <= 0 || batchSize <= 0 || mergeFactor < 2) {
+            throw new IllegalArgumentException("Search queue capacity and batch size must be positive, merge factor at least 2");
+        }
+
+        this.directory = Paths.get(directory);
+        this.metricsService = metricsService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.mergeFactor = mergeFactor;
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        Files.createDirectories(directory);
+        loadSegments();
+        metricsService.registerSearchIndexQueue(queue);
+
+        running = true;
+        indexer = new Thread(this::runIndexLoop, "search-indexer");
+        indexer.setDaemon(true);
+        indexer.start();
+        log.info("FullTextIndex started with {} segments ({} documents) in {}",
+                segments.size(), documentCount(), directory);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (indexer != null) {
+            // The indexer writes whatever is left before exiting
+            indexer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        synchronized (writeLock) {
+            segments.forEach(FullTextIndex::closeQuietly);
+            segments.clear();
+        }
+    }
+
+    // ========== INDEXING ==========
+
+    /**
+     * Enqueues a document without blocking.
+     *
+     * @return true if the document was accepted, false if it is empty or the queue is full
+     */
+    public boolean index(SearchDocument document) {
+        if (document.text() == null || document.text().isBlank()) {
+            return false;
+        }
+        if (!queue.offer(document)) {
+            metricsService.recordSearchIndexDropped("full");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Enqueues a document once the current transaction commits (or immediately if there is none),
+     * so rolled-back rows never reach the index.
+     */
+    public void indexAfterCommit(SearchDocument document) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            index(document);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                index(document);
+            }
+        });
+    }
+
+    /**
+     * Writes documents directly as a new segment, bypassing the queue (used by bulk backfills).
+     *
+     * @return Number of documents written
+     */
+    public int indexBatch(Collection<SearchDocument> documents) {
+        List<SearchDocument> indexable = documents.stream()
+                .filter(document -> document.text() != null && !document.text().isBlank())
+                .toList();
+        if (indexable.isEmpty()) {
+            return 0;
+        }
+
+        synchronized (writeLock) {
+            try {
+                Path target = nextSegmentPath();
+                int written = SearchSegmentWriter.write(target, indexable);
+                segments.add(SearchSegmentReader.open(target));
+                metricsService.recordSearchDocumentsIndexed(written);
+                maybeMerge();
+                return written;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write search segment", e);
+            }
+        }
+    }
+
+    // ========== SEARCHING ==========
+
+    /**
+     * Searches the index.
+     *
+     * @param query Words that must all appear; a trailing {@code *} makes the last word a prefix
+     * @param type  Restrict to one document type, or null for all
+     * @param limit Maximum number of hits
+     * @return Hits, newest first
+     */
+    public List<SearchHit> search(String query, SearchDocument.DocumentType type, int limit) {
+        TextAnalyzer.ParsedQuery parsed = TextAnalyzer.parseQuery(query);
+        if (parsed.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Map<String, SearchDocument> byKey = new HashMap<>();
+        for (SearchSegmentReader segment : segments) {
+            for (SearchDocument document : segment.search(parsed, type, limit)) {
+                byKey.merge(document.key(), document,
+                        (a, b) -> a.timestamp().isAfter(b.timestamp()) ? a : b);
+            }
+        }
+
+        return byKey.values().stream()
+                .sorted(Comparator.comparing(SearchDocument::timestamp).reversed())
+                .limit(limit)
+                .map(document -> SearchHit.from(document, parsed))
+                .toList();
+    }
+
+    /**
+     * Number of documents across all segments (documents present in several segments count once per segment).
+     */
+    public long documentCount() {
+        return segments.stream().mapToLong(SearchSegmentReader::documentCount).sum();
+    }
+
+    /**
+     * Number of documents waiting to be indexed.
+     */
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    int segmentCount() {
+        return segments.size();
+    }
+
+    // ========== BACKGROUND INDEXING AND MERGING ==========
+
+    private void runIndexLoop() {
+        List<SearchDocument> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                SearchDocument first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                indexBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (RuntimeException e) {
+                log.error("Failed to index {} documents", batch.size(), e);
+                metricsService.recordSearchIndexDropped("write-error");
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void maybeMerge() throws IOException {
+        if (segments.size() <= mergeFactor) {
+            return;
+        }
+
+        List<SearchSegmentReader> smallest = segments.stream()
+                .sorted(Comparator.comparingLong(SearchSegmentReader::sizeBytes))
+                .limit(mergeFactor)
+                .toList();
+
+        // Keep the most recent copy of every document
+        Map<String, SearchDocument> merged = new LinkedHashMap<>();
+        for (SearchSegmentReader segment : smallest) {
+            for (SearchDocument document : segment.documents()) {
+                merged.merge(document.key(), document, (a, b) -> a.timestamp().isAfter(b.timestamp()) ? a : b);
+            }
+        }
+
+        Path target = nextSegmentPath();
+        SearchSegmentWriter.write(target, merged.values());
+        segments.add(SearchSegmentReader.open(target));
+        segments.removeAll(smallest);
+
+        for (SearchSegmentReader segment : smallest) {
+            closeQuietly(segment);
+            Files.deleteIfExists(segment.path());
+        }
+        log.debug("Merged {} search segments into {} ({} documents)", smallest.size(), target.getFileName(), merged.size());
+    }
+
+    private void loadSegments() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path file : stream) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(".tmp")) {
+                    Files.deleteIfExists(file);
+                } else if (name.endsWith(SearchSegmentFormat.SEGMENT_SUFFIX)) {
+                    files.add(file);
+                }
+            }
+        }
+        files.sort(Comparator.naturalOrder());
+
+        for (Path file : files) {
+            try {
+                segments.add(SearchSegmentReader.open(file));
+                segmentSequence.set(Math.max(segmentSequence.get(), sequenceOf(file)));
+            } catch (IOException | RuntimeException e) {
+                log.error("Skipping unreadable search segment {}", file, e);
+            }
+        }
+    }
+
+    private Path nextSegmentPath() {
+        return segmentPath(segmentSequence.incrementAndGet());
+    }
+
+    private Path segmentPath(long sequence) {
+        return directory.resolve(String.format("segment-%016d%s", sequence, SearchSegmentFormat.SEGMENT_SUFFIX));
+    }
+
+    private static long sequenceOf(Path file) {
+        String name = file.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring("segment-".length(), name.length() - SearchSegmentFormat.SEGMENT_SUFFIX.length()));
+        } catch (RuntimeException e) {
+            return 0;
+        }
+    }
+
+    private static void closeQuietly(SearchSegmentReader segment) {
+        try {
+            segment.close();
+        } catch (IOException e) {
+            log.warn("Failed to close search segment {}", segment.path(), e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.javaflow.search;
+
+import com.javaflow.model.Message;
+import com.javaflow.model.WorkflowExecution;
+
+import java.time.LocalDateTime;
+
+/**
+ * A unit of text in the full-text index.
+ *
+ * @param type      What the document comes from
+ * @param sourceId  ID of the source row (message ID or execution ID)
+ * @param context   Where the text belongs: chat ID for messages, workflow name for executions
+ * @param text      Indexed text
+ * @param timestamp When the source row was created; results are ordered by it, newest first
+ * @since 1.1.0
+ */
+public record SearchDocument(
+        DocumentType type,
+        long sourceId,
+        String context,
+        String text,
+        LocalDateTime timestamp
+) {
+
+    public enum DocumentType {
+        MESSAGE,
+        EXECUTION_ERROR
+    }
+
+    /**
+     * Identity of the document: re-indexing the same source row replaces the older copy.
+     */
+    public String key() {
+        return type.name() + ':' + sourceId;
+    }
+
+    public static SearchDocument message(Message message) {
+        return new SearchDocument(DocumentType.MESSAGE, message.getId(), message.getChatId(),
+                message.getContent(), message.getCreatedAt() != null ? message.getCreatedAt() : LocalDateTime.now());
+    }
+
+    public static SearchDocument executionError(WorkflowExecution execution) {
+        return executionError(execution.getId(), execution.getWorkflow().getName(),
+                execution.getErrorMessage(), execution.getEndedAt());
+    }
+
+    public static SearchDocument executionError(Long executionId, String workflowName, String errorMessage, LocalDateTime failedAt) {
+        return new SearchDocument(DocumentType.EXECUTION_ERROR, executionId, workflowName,
+                errorMessage, failedAt != null ? failedAt : LocalDateTime.now());
+    }
+}
@@ -0,0 +1,44 @@
+package com.javaflow.search;
+
+import java.time.LocalDateTime;
+
+/**
+ * One full-text search result.
+ *
+ * @param type      MESSAGE or EXECUTION_ERROR
+ * @param sourceId  Message ID or execution ID
+ * @param context   Chat ID for messages, workflow name for executions
+ * @param snippet   Excerpt of the text around the first matching term
+ * @param timestamp When the source row was created
+ * @since 1.1.0
+ */
+public record SearchHit(
+        SearchDocument.DocumentType type,
+        long sourceId,
+        String context,
+        String snippet,
+        LocalDateTime timestamp
+) {
+
+    static final int SNIPPET_LENGTH = 200;
+
+    static SearchHit from(SearchDocument document, TextAnalyzer.ParsedQuery query) {
+        return new SearchHit(document.type(), document.sourceId(), document.context(),
+                snippet(document.text(), query), document.timestamp());
+    }
+
+    private static String snippet(String text, TextAnalyzer.ParsedQuery query) {
+        if (text == null || text.length() <= SNIPPET_LENGTH) {
+            return text;
+        }
+
+        // Removing accents keeps the length for precomposed characters, so positions line up closely enough
+        String normalized = TextAnalyzer.normalize(text);
+        String firstTerm = !query.terms().isEmpty() ? query.terms().get(0) : query.prefix();
+        int match = firstTerm != null ? normalized.indexOf(firstTerm) : -1;
+
+        int start = Math.max(0, Math.min(match - SNIPPET_LENGTH / 4, text.length() - SNIPPET_LENGTH));
+        int end = Math.min(text.length(), start + SNIPPET_LENGTH);
+        return (start > 0 ? "…" : "") + text.substring(start, end) + (end < text.length() ? "…" : "");
+    }
+}
@@ -0,0 +1,96 @@
+package com.javaflow.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Builds the full-text index from the database when the application starts with an empty index
+ * (first deployment, or after the index directory was deleted).
+ *
+ * <p>Rows are read in keyset-paginated batches and each batch is written as one segment, so
+ * the backfill does not go through the live indexing queue.</p>
+ *
+ * @since 1.1.0
+ */
+@Component
+@ConditionalOnProperty(prefix = "javaflow.search", name = "backfill-on-empty", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class SearchIndexBackfill {
+
+    private static final String MESSAGES_SQL =
+            "SELECT id, chat_id, content, created_at FROM messages " +
+            "WHERE id > ? AND content IS NOT NULL ORDER BY id LIMIT ?";
+
+    private static final String FAILED_EXECUTIONS_SQL =
+            "SELECT e.id, w.name, e.error_message, COALESCE(e.ended_at, e.started_at) AS failed_at " +
+            "FROM workflow_executions e JOIN workflows w ON w.id = e.workflow_id " +
+            "WHERE e.id > ? AND e.status = 'FAILED' AND e.error_message IS NOT NULL ORDER BY e.id LIMIT ?";
+
+    private static final RowMapper<SearchDocument> MESSAGE_MAPPER = (rs, rowNum) -> new SearchDocument(
+            SearchDocument.DocumentType.MESSAGE,
+            rs.getLong("id"),
+            rs.getString("chat_id"),
+            rs.getString("content"),
+            rs.getTimestamp("created_at").toLocalDateTime());
+
+    private static final RowMapper<SearchDocument> EXECUTION_MAPPER = (rs, rowNum) -> new SearchDocument(
+            SearchDocument.DocumentType.EXECUTION_ERROR,
+            rs.getLong("id"),
+            rs.getString("name"),
+            rs.getString("error_message"),
+            toLocalDateTime(rs.getTimestamp("failed_at")));
+
+    private final FullTextIndex fullTextIndex;
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public SearchIndexBackfill(
+            FullTextIndex fullTextIndex,
+            JdbcTemplate jdbcTemplate,
+            @Value("${javaflow.search.batch-size:5000}") int batchSize) {
+        this.fullTextIndex = fullTextIndex;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (fullTextIndex.documentCount() > 0) {
+            return;
+        }
+
+        log.info("Full-text index is empty, indexing existing messages and failed executions");
+        long messages = backfill(MESSAGES_SQL, MESSAGE_MAPPER);
+        long executions = backfill(FAILED_EXECUTIONS_SQL, EXECUTION_MAPPER);
+        log.info("Full-text index backfill finished: {} messages, {} execution errors", messages, executions);
+    }
+
+    private long backfill(String sql, RowMapper<SearchDocument> mapper) {
+        long lastId = 0;
+        long total = 0;
+        while (true) {
+            List<SearchDocument> batch = jdbcTemplate.query(sql, mapper, lastId, batchSize);
+            if (batch.isEmpty()) {
+                return total;
+            }
+            total += fullTextIndex.indexBatch(batch);
+            lastId = batch.get(batch.size() - 1).sourceId();
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : LocalDateTime.now();
+    }
+}
@@ -0,0 +1,83 @@
+package com.javaflow.search;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * On-disk layout of a full-text index segment.
+ *
+ * <pre>
+ * +-------+-----------+----------+------------+-------------+------------------------------------------+
+ * | MAGIC | documents | postings | dictionary | doc offsets | dictOffset (8) | docsOffset (8) | MAGIC |
+ * +-------+-----------+----------+------------+-------------+------------------------------------------+
+ * </pre>
+ *
+ * <ul>
+ *   <li><b>documents</b> - stored fields of each document, newest first, so document ordinals
+ *       are in recency order and a search can stop after the first {@code limit} matches.</li>
+ *   <li><b>postings</b> - for each term, the ascending ordinals of the documents containing it,
+ *       delta-encoded as varints.</li>
+ *   <li><b>dictionary</b> - term count, then each term (sorted) with its postings offset and
+ *       document frequency; loaded in memory when the segment is opened.</li>
+ *   <li><b>doc offsets</b> - document count, then the file offset of each document.</li>
+ * </ul>
+ *
+ * <p>Segments are immutable: they are written to a temporary file and atomically moved into place,
+ * and only ever replaced as a whole by a merge.</p>
+ */
+final class SearchSegmentFormat {
+
+    static final byte[] MAGIC = "JFFTS001".getBytes(StandardCharsets.US_ASCII);
+    static final int TRAILER_LENGTH = Long.BYTES + Long.BYTES + MAGIC.length;
+    static final String SEGMENT_SUFFIX = ".fts";
+
+    /** Stored text is truncated to this many characters (merged segments re-index the stored text only). */
+    static final int MAX_STORED_TEXT = 4000;
+
+    private static final int NULL_LENGTH = -1;
+
+    private SearchSegmentFormat() {
+    }
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    static int readVarInt(ByteBuffer in) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
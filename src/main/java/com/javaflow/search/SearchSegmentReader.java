@@ -0,0 +1,241 @@
+package com.javaflow.search;
+
+import com.javaflow.search.SearchDocument.DocumentType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Read-only view of a full-text index segment backed by a memory-mapped file.
+ *
+ * <p>The term dictionary and document offsets are loaded when the segment is opened; postings and
+ * stored documents are decoded straight from the mapped region. Instances are safe for concurrent reads.</p>
+ */
+final class SearchSegmentReader implements Closeable {
+
+    /** Maximum number of dictionary terms a prefix query expands to. */
+    static final int MAX_PREFIX_EXPANSIONS = 256;
+
+    private static final DocumentType[] TYPES = DocumentType.values();
+
+    private final Path path;
+    private final long sizeBytes;
+    private final FileChannel channel;
+    private final MappedByteBuffer mapped;
+    private final String[] terms;
+    private final long[] postingOffsets;
+    private final int[] docFrequencies;
+    private final long[] docOffsets;
+
+    private SearchSegmentReader(Path path, long sizeBytes, FileChannel channel, MappedByteBuffer mapped,
+                                String[] terms, long[] postingOffsets, int[] docFrequencies, long[] docOffsets) {
+        this.path = path;
+        this.sizeBytes = sizeBytes;
+        this.channel = channel;
+        this.mapped = mapped;
+        this.terms = terms;
+        this.postingOffsets = postingOffsets;
+        this.docFrequencies = docFrequencies;
+        this.docOffsets = docOffsets;
+    }
+
+    /**
+     * Maps a segment file and loads its dictionary.
+     *
+     * @throws IOException if the file cannot be mapped or is not a valid segment
+     */
+    static SearchSegmentReader open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < SearchSegmentFormat.MAGIC.length + 2 * Integer.BYTES + SearchSegmentFormat.TRAILER_LENGTH
+                    || size > Integer.MAX_VALUE) {
+                throw new IOException("Invalid search segment size " + size + ": " + path);
+            }
+
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            checkMagic(mapped, 0, path);
+            checkMagic(mapped, (int) size - SearchSegmentFormat.MAGIC.length, path);
+
+            ByteBuffer in = mapped.duplicate();
+            in.position((int) size - SearchSegmentFormat.TRAILER_LENGTH);
+            int dictionaryOffset = (int) in.getLong();
+            int docOffsetsOffset = (int) in.getLong();
+
+            in.position(dictionaryOffset);
+            int termCount = in.getInt();
+            String[] terms = new String[termCount];
+            long[] postingOffsets = new long[termCount];
+            int[] docFrequencies = new int[termCount];
+            for (int i = 0; i < termCount; i++) {
+                terms[i] = SearchSegmentFormat.readString(in);
+                postingOffsets[i] = in.getLong();
+                docFrequencies[i] = in.getInt();
+            }
+
+            in.position(docOffsetsOffset);
+            long[] docOffsets = new long[in.getInt()];
+            for (int i = 0; i < docOffsets.length; i++) {
+                docOffsets[i] = in.getLong();
+            }
+
+            return new SearchSegmentReader(path, size, channel, mapped, terms, postingOffsets, docFrequencies, docOffsets);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long sizeBytes() {
+        return sizeBytes;
+    }
+
+    int documentCount() {
+        return docOffsets.length;
+    }
+
+    /**
+     * Finds the newest documents matching every query term (and the prefix, if any).
+     *
+     * @param query Parsed query
+     * @param type  Restrict to one document type, or null for all
+     * @param limit Maximum number of documents to return
+     * @return Matching documents, newest first
+     */
+    List<SearchDocument> search(TextAnalyzer.ParsedQuery query, DocumentType type, int limit) {
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        List<int[]> required = new ArrayList<>(query.terms().size());
+        for (String term : query.terms()) {
+            int index = Arrays.binarySearch(terms, term);
+            if (index < 0) {
+                return List.of();
+            }
+            required.add(postings(index));
+        }
+
+        BitSet prefixMatches = null;
+        if (query.prefix() != null) {
+            prefixMatches = prefixPostings(query.prefix());
+            if (prefixMatches.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        // Drive the intersection with the rarest list; ordinals ascend in recency order
+        required.sort((a, b) -> Integer.compare(a.length, b.length));
+        List<SearchDocument> hits = new ArrayList<>(Math.min(limit, 64));
+
+        if (required.isEmpty()) {
+            for (int ordinal = prefixMatches.nextSetBit(0); ordinal >= 0 && hits.size() < limit;
+                 ordinal = prefixMatches.nextSetBit(ordinal + 1)) {
+                collect(ordinal, type, hits);
+            }
+            return hits;
+        }
+
+        for (int ordinal : required.get(0)) {
+            if (hits.size() >= limit) {
+                break;
+            }
+            if (containsInAll(required, ordinal) && (prefixMatches == null || prefixMatches.get(ordinal))) {
+                collect(ordinal, type, hits);
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Reads every document of the segment, newest first (used when merging segments).
+     */
+    List<SearchDocument> documents() {
+        List<SearchDocument> documents = new ArrayList<>(docOffsets.length);
+        for (int ordinal = 0; ordinal < docOffsets.length; ordinal++) {
+            documents.add(readDocument(ordinal));
+        }
+        return documents;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void collect(int ordinal, DocumentType type, List<SearchDocument> hits) {
+        if (type == null || mapped.get((int) docOffsets[ordinal]) == type.ordinal()) {
+            hits.add(readDocument(ordinal));
+        }
+    }
+
+    private static boolean containsInAll(List<int[]> lists, int ordinal) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (Arrays.binarySearch(lists.get(i), ordinal) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int[] postings(int termIndex) {
+        ByteBuffer in = mapped.duplicate();
+        in.position((int) postingOffsets[termIndex]);
+        int[] ordinals = new int[docFrequencies[termIndex]];
+        int previous = 0;
+        for (int i = 0; i < ordinals.length; i++) {
+            previous += SearchSegmentFormat.readVarInt(in);
+            ordinals[i] = previous;
+        }
+        return ordinals;
+    }
+
+    private BitSet prefixPostings(String prefix) {
+        BitSet matches = new BitSet(docOffsets.length);
+        int start = Arrays.binarySearch(terms, prefix);
+        if (start < 0) {
+            start = -start - 1;
+        }
+        for (int i = start; i < terms.length && i - start < MAX_PREFIX_EXPANSIONS && terms[i].startsWith(prefix); i++) {
+            for (int ordinal : postings(i)) {
+                matches.set(ordinal);
+            }
+        }
+        return matches;
+    }
+
+    private SearchDocument readDocument(int ordinal) {
+        ByteBuffer in = mapped.duplicate();
+        in.position((int) docOffsets[ordinal]);
+        DocumentType type = TYPES[in.get()];
+        long sourceId = in.getLong();
+        long epochSecond = in.getLong();
+        int nano = in.getInt();
+        String context = SearchSegmentFormat.readString(in);
+        String text = SearchSegmentFormat.readString(in);
+        return new SearchDocument(type, sourceId, context, text, LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC));
+    }
+
+    private static void checkMagic(MappedByteBuffer mapped, int position, Path path) throws IOException {
+        byte[] magic = new byte[SearchSegmentFormat.MAGIC.length];
+        mapped.get(position, magic);
+        if (!Arrays.equals(magic, SearchSegmentFormat.MAGIC)) {
+            throw new IOException("Not a search index segment: " + path);
+        }
+    }
+}
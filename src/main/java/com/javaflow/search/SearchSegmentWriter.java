@@ -0,0 +1,135 @@
+package com.javaflow.search;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Writes an immutable full-text index segment (see {@link SearchSegmentFormat}).
+ */
+final class SearchSegmentWriter {
+
+    /** Upper bound of distinct terms indexed per document (protects against huge stack traces). */
+    static final int MAX_TERMS_PER_DOCUMENT = 10_000;
+
+    private SearchSegmentWriter() {
+    }
+
+    /**
+     * Writes the documents into a new segment file.
+     *
+     * <p>Documents with the same {@link SearchDocument#key()} are collapsed, keeping the last one.</p>
+     *
+     * @param target    Final path of the segment
+     * @param documents Documents to index
+     * @return Number of documents written
+     * @throws IOException if the segment cannot be written
+     */
+    static int write(Path target, Collection<SearchDocument> documents) throws IOException {
+        Map<String, SearchDocument> unique = new LinkedHashMap<>();
+        documents.forEach(document -> unique.put(document.key(), document));
+        List<SearchDocument> ordered = unique.values().stream()
+                .sorted(Comparator.comparing(SearchDocument::timestamp).reversed())
+                .toList();
+
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileOutputStream file = new FileOutputStream(temp.toFile());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 64 * 1024))) {
+
+            out.write(SearchSegmentFormat.MAGIC);
+
+            // Documents, newest first; terms are collected per ordinal as we go
+            long[] docOffsets = new long[ordered.size()];
+            TreeMap<String, IntList> postings = new TreeMap<>();
+            for (int ordinal = 0; ordinal < ordered.size(); ordinal++) {
+                SearchDocument document = ordered.get(ordinal);
+                docOffsets[ordinal] = out.size();
+                writeDocument(out, document);
+                for (String term : TextAnalyzer.terms(document.text(), MAX_TERMS_PER_DOCUMENT)) {
+                    postings.computeIfAbsent(term, t -> new IntList()).add(ordinal);
+                }
+            }
+
+            // Postings
+            long[] postingOffsets = new long[postings.size()];
+            int termIndex = 0;
+            for (IntList ordinals : postings.values()) {
+                postingOffsets[termIndex++] = out.size();
+                int previous = 0;
+                for (int i = 0; i < ordinals.size; i++) {
+                    SearchSegmentFormat.writeVarInt(out, ordinals.values[i] - previous);
+                    previous = ordinals.values[i];
+                }
+            }
+
+            // Dictionary
+            long dictionaryOffset = out.size();
+            out.writeInt(postings.size());
+            termIndex = 0;
+            for (Map.Entry<String, IntList> entry : postings.entrySet()) {
+                SearchSegmentFormat.writeString(out, entry.getKey());
+                out.writeLong(postingOffsets[termIndex++]);
+                out.writeInt(entry.getValue().size);
+            }
+
+            // Document offsets and trailer
+            long docOffsetsOffset = out.size();
+            out.writeInt(docOffsets.length);
+            for (long offset : docOffsets) {
+                out.writeLong(offset);
+            }
+            out.writeLong(dictionaryOffset);
+            out.writeLong(docOffsetsOffset);
+            out.write(SearchSegmentFormat.MAGIC);
+
+            out.flush();
+            file.getChannel().force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        return ordered.size();
+    }
+
+    private static void writeDocument(DataOutputStream out, SearchDocument document) throws IOException {
+        out.writeByte(document.type().ordinal());
+        out.writeLong(document.sourceId());
+        out.writeLong(document.timestamp().toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(document.timestamp().getNano());
+        SearchSegmentFormat.writeString(out, document.context());
+        String text = document.text();
+        if (text != null && text.length() > SearchSegmentFormat.MAX_STORED_TEXT) {
+            text = text.substring(0, SearchSegmentFormat.MAX_STORED_TEXT);
+        }
+        SearchSegmentFormat.writeString(out, text);
+    }
+
+    /**
+     * Growable int array, avoids boxing every posting.
+     */
+    private static final class IntList {
+        int[] values = new int[4];
+        int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
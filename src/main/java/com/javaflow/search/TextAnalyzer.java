@@ -0,0 +1,87 @@
+package com.javaflow.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Splits text into index terms.
+ *
+ * <p>Terms are runs of letters and digits, lower-cased and with accents removed, so
+ * "Ejecución" and "ejecucion" match. Single characters are ignored.</p>
+ */
+final class TextAnalyzer {
+
+    static final int MAX_TERM_LENGTH = 64;
+
+    private static final int MIN_TERM_LENGTH = 2;
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private TextAnalyzer() {
+    }
+
+    /**
+     * Returns the distinct terms of a text, in order of first appearance.
+     */
+    static Set<String> terms(String text, int maxTerms) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+
+        String normalized = normalize(text);
+        int start = -1;
+        for (int i = 0; i <= normalized.length() && terms.size() < maxTerms; i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addTerm(terms, normalized, start, i);
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Parses a user query into terms. A trailing {@code *} on the last word requests prefix matching.
+     */
+    static ParsedQuery parseQuery(String query) {
+        if (query == null) {
+            return new ParsedQuery(List.of(), null);
+        }
+        String trimmed = query.trim();
+        boolean prefix = trimmed.endsWith("*");
+        List<String> terms = new ArrayList<>(terms(prefix ? trimmed.substring(0, trimmed.length() - 1) : trimmed, 32));
+        String prefixTerm = null;
+        if (prefix && !terms.isEmpty()) {
+            prefixTerm = terms.remove(terms.size() - 1);
+        }
+        return new ParsedQuery(terms, prefixTerm);
+    }
+
+    static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private static void addTerm(Set<String> terms, String text, int start, int end) {
+        if (end - start >= MIN_TERM_LENGTH) {
+            terms.add(text.substring(start, Math.min(end, start + MAX_TERM_LENGTH)));
+        }
+    }
+
+    /**
+     * Terms that must all match, plus an optional prefix that must match at least one term.
+     */
+    record ParsedQuery(List<String> terms, String prefix) {
+
+        boolean isEmpty() {
+            return terms.isEmpty() && prefix == null;
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.javaflow.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -9,30 +13,55 @@ import javax.crypto.SecretKey;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
 
 /**
  * Service for encrypting and decrypting sensitive tokens using AES-256-GCM.
- * 
+ *
  * <p>This service provides secure encryption for bot tokens and other sensitive
  * credentials stored in the database. It uses AES-256 in GCM mode which provides
  * both confidentiality and authenticity.</p>
- * 
+ *
+ * <p>Decryption is on the message path (one per bot and message), so each thread reuses its own
+ * {@link Cipher} instances and the ciphertext is decoded without intermediate copies. Decrypted tokens
+ * are also kept in a small in-memory cache ({@code javaflow.security.encryption.token-cache.*}), keyed by
+ * ciphertext, bounded in size and time; the plaintext is held as a {@code char[]} that is zeroed when the
+ * entry is evicted, expires or the cache is cleared.</p>
+ *
+ * <p>Keys are versioned: ciphertexts are written as {@code <keyId>:<Base64>} with the active key
+ * ({@code key} / {@code key-id}), and the keys listed in {@code previous-keys} ({@code id:Base64Key,...}) still
+ * decrypt the ciphertexts written with them. Ciphertexts from before versioning have no prefix and are tried
+ * against every configured key. To rotate without downtime:</p>
+ * <ol>
+ *   <li>Deploy the new key in {@code previous-keys} on every node, so all of them can read it</li>
+ *   <li>Make it the active key and move the old one to {@code previous-keys}</li>
+ *   <li>Re-encrypt the stored tokens ({@link TokenRotationService})</li>
+ *   <li>Remove the old key once the rotation has completed</li>
+ * </ol>
+ *
  * <p>Usage example:</p>
  * <pre>{@code
  * @Service
  * public class BotService {
  *     private final TokenEncryptionService encryptionService;
- *     
+ *
  *     public void saveBot(String token) {
  *         String encrypted = encryptionService.encrypt(token);
  *         // Save encrypted token to database
  *     }
  * }
  * }</pre>
- * 
+ *
  * @since 1.0.0
  */
 @Service
@@ -42,85 +71,157 @@ public class TokenEncryptionService {
     private static final String ALGORITHM = "AES/GCM/NoPadding";
     private static final int GCM_TAG_LENGTH = 128;
     private static final int GCM_IV_LENGTH = 12;
-    
-    private final SecretKey secretKey;
+
+    /** Separates the key ID from the Base64 ciphertext; not part of the Base64 alphabet. */
+    private static final char KEY_ID_SEPARATOR = ':';
+    private static final Pattern KEY_ID_PATTERN = Pattern.compile("[A-Za-z0-9_.-]{1,32}");
+
+    private static final String DEFAULT_KEY_ID = "v1";
+
+    /** Cipher instances are not thread-safe; each thread keeps one per mode and re-initializes it per call. */
+    private static final ThreadLocal<Cipher> ENCRYPT_CIPHER = ThreadLocal.withInitial(TokenEncryptionService::newCipher);
+    private static final ThreadLocal<Cipher> DECRYPT_CIPHER = ThreadLocal.withInitial(TokenEncryptionService::newCipher);
+
+    private final String activeKeyId;
+    private final String activeKeyPrefix;
+    private final SecretKey activeKey;
+    /** Every key that can decrypt, the active one first. */
+    private final Map<String, SecretKey> keys;
     private final SecureRandom secureRandom;
+    private final Cache<String, CachedToken> decryptedTokens;
 
     /**
-     * Constructs the encryption service with the configured encryption key.
+     * Constructs the encryption service with the configured encryption key and the default token cache.
      *
      * @param encryptionKey Base64-encoded 256-bit encryption key from configuration
      * @throws IllegalArgumentException if the encryption key is invalid
      */
+    public TokenEncryptionService(String encryptionKey) {
+        this(encryptionKey, 1000, 300);
+    }
+
+    /**
+     * Constructs the encryption service with a single key (ID {@value #DEFAULT_KEY_ID}).
+     */
+    public TokenEncryptionService(String encryptionKey, long tokenCacheMaximumSize, long tokenCacheTtlSeconds) {
+        this(encryptionKey, DEFAULT_KEY_ID, "", tokenCacheMaximumSize, tokenCacheTtlSeconds);
+    }
+
+    /**
+     * Constructs the encryption service with the configured encryption keys.
+     *
+     * @param encryptionKey         Base64-encoded 256-bit active encryption key from configuration
+     * @param keyId                 ID of the active key, written as prefix of every new ciphertext
+     * @param previousKeys          Keys that only decrypt, as {@code id:Base64Key} separated by commas
+     * @param tokenCacheMaximumSize Maximum number of decrypted tokens kept in memory (0 disables the cache)
+     * @param tokenCacheTtlSeconds  Time a decrypted token stays in memory after it was decrypted
+     * @throws IllegalArgumentException if a key or key ID is invalid
+     */
+    @Autowired
     public TokenEncryptionService(
-            @Value("${javaflow.security.encryption.key:}") String encryptionKey) {
-        
+            @Value("${javaflow.security.encryption.key:}") String encryptionKey,
+            @Value("${javaflow.security.encryption.key-id:" + DEFAULT_KEY_ID + "}") String keyId,
+            @Value("${javaflow.security.encryption.previous-keys:}") String previousKeys,
+            @Value("${javaflow.security.encryption.token-cache.maximum-size:1000}") long tokenCacheMaximumSize,
+            @Value("${javaflow.security.encryption.token-cache.ttl-seconds:300}") long tokenCacheTtlSeconds) {
+
         if (encryptionKey == null || encryptionKey.trim().isEmpty()) {
             log.warn("No encryption key configured. Using default key (NOT SECURE FOR PRODUCTION)");
             // Default 32-byte key encoded in Base64: "12345678901234567890123456789012"
             encryptionKey = "MTIzNDU2Nzg5MDEyMzQ1Njc4OTAxMjM0NTY3ODkwMTI=";
         }
-        
+
         try {
-            byte[] keyBytes = Base64.getDecoder().decode(encryptionKey);
-            if (keyBytes.length != 32) {
-                throw new IllegalArgumentException(
-                    "Encryption key must be 256 bits (32 bytes). Got: " + keyBytes.length + " bytes"
-                );
+            Map<String, SecretKey> configured = new LinkedHashMap<>();
+            configured.put(validKeyId(keyId), toSecretKey(encryptionKey));
+            if (previousKeys != null) {
+                for (String entry : previousKeys.split(",")) {
+                    if (entry.isBlank()) {
+                        continue;
+                    }
+                    int separator = entry.indexOf(KEY_ID_SEPARATOR);
+                    if (separator <= 0) {
+                        throw new IllegalArgumentException("Previous keys must be written as id:Base64Key");
+                    }
+                    String previousId = validKeyId(entry.substring(0, separator));
+                    if (configured.putIfAbsent(previousId, toSecretKey(entry.substring(separator + 1))) != null) {
+                        throw new IllegalArgumentException("Duplicate encryption key ID: " + previousId);
+                    }
+                }
             }
-            this.secretKey = new SecretKeySpec(keyBytes, "AES");
+            this.activeKeyId = keyId.trim();
+            this.activeKeyPrefix = activeKeyId + KEY_ID_SEPARATOR;
+            this.activeKey = configured.get(activeKeyId);
+            this.keys = Collections.unmodifiableMap(configured);
             this.secureRandom = new SecureRandom();
-            
-            log.info("TokenEncryptionService initialized successfully");
+
+            log.info("TokenEncryptionService initialized successfully (active key {}, {} previous keys)",
+                    activeKeyId, keys.size() - 1);
         } catch (Exception e) {
             throw new IllegalArgumentException("Failed to initialize encryption service", e);
         }
+
+        this.decryptedTokens = Caffeine.newBuilder()
+                .maximumSize(tokenCacheMaximumSize)
+                .expireAfterWrite(Duration.ofSeconds(tokenCacheTtlSeconds))
+                // Synchronous, so the plaintext is wiped as soon as the entry leaves the cache
+                .executor(Runnable::run)
+                .removalListener((String ciphertext, CachedToken token, RemovalCause cause) -> {
+                    if (token != null) {
+                        token.wipe();
+                    }
+                })
+                .build();
     }
 
     /**
      * Encrypts a plaintext token using AES-256-GCM.
      *
      * @param plaintext The plaintext token to encrypt
-     * @return Base64-encoded encrypted token with IV prepended
+     * @return Active key ID and Base64-encoded encrypted token with IV prepended
      * @throws EncryptionException if encryption fails
      */
     public String encrypt(String plaintext) {
         if (plaintext == null || plaintext.isEmpty()) {
             throw new IllegalArgumentException("Plaintext cannot be null or empty");
         }
-        
+        return encrypt(plaintext.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Encrypts with the active key and wipes the plaintext bytes.
+     */
+    private String encrypt(byte[] plaintextBytes) {
         try {
             // Generate random IV
             byte[] iv = new byte[GCM_IV_LENGTH];
             secureRandom.nextBytes(iv);
-            
+
             // Initialize cipher
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey, parameterSpec);
-            
-            // Encrypt
-            byte[] plaintextBytes = plaintext.getBytes(StandardCharsets.UTF_8);
-            byte[] ciphertext = cipher.doFinal(plaintextBytes);
-            
-            // Combine IV + ciphertext
-            ByteBuffer byteBuffer = ByteBuffer.allocate(iv.length + ciphertext.length);
-            byteBuffer.put(iv);
-            byteBuffer.put(ciphertext);
-            
-            // Encode to Base64
-            return Base64.getEncoder().encodeToString(byteBuffer.array());
-            
-        } catch (Exception e) {
+            Cipher cipher = ENCRYPT_CIPHER.get();
+            cipher.init(Cipher.ENCRYPT_MODE, activeKey, new GCMParameterSpec(GCM_TAG_LENGTH, iv));
+
+            // IV + ciphertext written into a single array
+            byte[] output = new byte[GCM_IV_LENGTH + cipher.getOutputSize(plaintextBytes.length)];
+            System.arraycopy(iv, 0, output, 0, GCM_IV_LENGTH);
+            cipher.doFinal(plaintextBytes, 0, plaintextBytes.length, output, GCM_IV_LENGTH);
+
+            // Encode to Base64, prefixed with the key ID
+            return activeKeyPrefix + Base64.getEncoder().encodeToString(output);
+
+        } catch (GeneralSecurityException e) {
             log.error("Failed to encrypt token", e);
             throw new EncryptionException("Failed to encrypt token", e);
+        } finally {
+            Arrays.fill(plaintextBytes, (byte) 0);
         }
     }
 
     /**
      * Decrypts an encrypted token using AES-256-GCM.
+     * Recently decrypted tokens are served from memory without running the cipher.
      *
-     * @param encryptedToken Base64-encoded encrypted token with IV prepended
+     * @param encryptedToken Encrypted token as returned by {@link #encrypt}, with any configured key
      * @return Decrypted plaintext token
      * @throws EncryptionException if decryption fails
      */
@@ -128,33 +229,182 @@ public class TokenEncryptionService {
         if (encryptedToken == null || encryptedToken.isEmpty()) {
             throw new IllegalArgumentException("Encrypted token cannot be null or empty");
         }
-        
+        String token = decryptedTokens.get(encryptedToken, ciphertext -> new CachedToken(decryptToChars(ciphertext))).reveal();
+        if (token == null) {
+            // Evicted and wiped by another thread between lookup and read
+            char[] chars = decryptToChars(encryptedToken);
+            token = new String(chars);
+            wipe(chars);
+        }
+        return token;
+    }
+
+    /**
+     * ID of the key new ciphertexts are encrypted with.
+     */
+    public String activeKeyId() {
+        return activeKeyId;
+    }
+
+    /**
+     * Whether a ciphertext is already encrypted with the active key.
+     */
+    public boolean isActiveKey(String encryptedToken) {
+        return encryptedToken != null && encryptedToken.startsWith(activeKeyPrefix);
+    }
+
+    /**
+     * Re-encrypts a token with the active key. The decrypted token is not cached.
+     *
+     * @return The same ciphertext if it already uses the active key, otherwise a new one
+     * @throws EncryptionException if the token cannot be decrypted with any configured key
+     */
+    public String reEncrypt(String encryptedToken) {
+        if (encryptedToken == null || encryptedToken.isEmpty()) {
+            throw new IllegalArgumentException("Encrypted token cannot be null or empty");
+        }
+        if (isActiveKey(encryptedToken)) {
+            return encryptedToken;
+        }
+        char[] chars = decryptToChars(encryptedToken);
+        ByteBuffer bytes = StandardCharsets.UTF_8.encode(CharBuffer.wrap(chars));
+        wipe(chars);
+        byte[] plaintextBytes = Arrays.copyOf(bytes.array(), bytes.limit());
+        Arrays.fill(bytes.array(), (byte) 0);
+        return encrypt(plaintextBytes);
+    }
+
+    /**
+     * Wipes and drops every decrypted token kept in memory.
+     */
+    public void clearTokenCache() {
+        decryptedTokens.invalidateAll();
+    }
+
+    /**
+     * Decrypted token currently cached for a ciphertext, or null.
+     */
+    CachedToken cachedToken(String encryptedToken) {
+        return decryptedTokens.getIfPresent(encryptedToken);
+    }
+
+    private char[] decryptToChars(String encryptedToken) {
         try {
-            // Decode from Base64
-            byte[] decoded = Base64.getDecoder().decode(encryptedToken);
-            
-            // Extract IV and ciphertext
-            ByteBuffer byteBuffer = ByteBuffer.wrap(decoded);
-            byte[] iv = new byte[GCM_IV_LENGTH];
-            byteBuffer.get(iv);
-            byte[] ciphertext = new byte[byteBuffer.remaining()];
-            byteBuffer.get(ciphertext);
-            
-            // Initialize cipher
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
-            cipher.init(Cipher.DECRYPT_MODE, secretKey, parameterSpec);
-            
-            // Decrypt
-            byte[] plaintextBytes = cipher.doFinal(ciphertext);
-            return new String(plaintextBytes, StandardCharsets.UTF_8);
-            
-        } catch (Exception e) {
+            int separator = encryptedToken.indexOf(KEY_ID_SEPARATOR);
+            if (separator > 0) {
+                String keyId = encryptedToken.substring(0, separator);
+                SecretKey key = keys.get(keyId);
+                if (key == null) {
+                    throw new IllegalArgumentException("Unknown encryption key ID: " + keyId);
+                }
+                return decryptToChars(decode(encryptedToken.substring(separator + 1)), key);
+            }
+
+            // Ciphertext from before key versioning: the GCM tag only verifies with the right key
+            byte[] decoded = decode(encryptedToken);
+            GeneralSecurityException failure = null;
+            for (SecretKey key : keys.values()) {
+                try {
+                    return decryptToChars(decoded, key);
+                } catch (GeneralSecurityException e) {
+                    failure = e;
+                }
+            }
+            throw failure;
+
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
             log.error("Failed to decrypt token", e);
             throw new EncryptionException("Failed to decrypt token", e);
         }
     }
 
+    private static byte[] decode(String base64) {
+        // IV and ciphertext are read in place from the decoded array
+        byte[] decoded = Base64.getDecoder().decode(base64);
+        if (decoded.length < GCM_IV_LENGTH + GCM_TAG_LENGTH / 8) {
+            throw new IllegalArgumentException("Encrypted token is too short");
+        }
+        return decoded;
+    }
+
+    private static char[] decryptToChars(byte[] decoded, SecretKey key) throws GeneralSecurityException {
+        byte[] plaintextBytes = null;
+        try {
+            // Initialize cipher
+            Cipher cipher = DECRYPT_CIPHER.get();
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_LENGTH, decoded, 0, GCM_IV_LENGTH));
+
+            // Decrypt
+            plaintextBytes = cipher.doFinal(decoded, GCM_IV_LENGTH, decoded.length - GCM_IV_LENGTH);
+            CharBuffer chars = StandardCharsets.UTF_8.decode(ByteBuffer.wrap(plaintextBytes));
+            char[] token = Arrays.copyOf(chars.array(), chars.limit());
+            wipe(chars.array());
+            return token;
+        } finally {
+            if (plaintextBytes != null) {
+                Arrays.fill(plaintextBytes, (byte) 0);
+            }
+        }
+    }
+
+    private static String validKeyId(String keyId) {
+        if (keyId == null || !KEY_ID_PATTERN.matcher(keyId.trim()).matches()) {
+            throw new IllegalArgumentException("Invalid encryption key ID: " + keyId);
+        }
+        return keyId.trim();
+    }
+
+    private static SecretKey toSecretKey(String base64Key) {
+        byte[] keyBytes = Base64.getDecoder().decode(base64Key.trim());
+        try {
+            if (keyBytes.length != 32) {
+                throw new IllegalArgumentException(
+                    "Encryption key must be 256 bits (32 bytes). Got: " + keyBytes.length + " bytes"
+                );
+            }
+            return new SecretKeySpec(keyBytes, "AES");
+        } finally {
+            Arrays.fill(keyBytes, (byte) 0);
+        }
+    }
+
+    private static void wipe(char[] chars) {
+        if (chars != null) {
+            Arrays.fill(chars, '\0');
+        }
+    }
+
+    private static Cipher newCipher() {
+        try {
+            return Cipher.getInstance(ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new EncryptionException("Cipher " + ALGORITHM + " is not available", e);
+        }
+    }
+
+    /**
+     * Plaintext of a cached token. Once wiped it cannot be read any more, so a reader racing with
+     * the eviction gets null instead of a zeroed token.
+     */
+    static final class CachedToken {
+
+        private final char[] chars;
+        private boolean wiped;
+
+        CachedToken(char[] chars) {
+            this.chars = chars;
+        }
+
+        synchronized String reveal() {
+            return wiped ? null : new String(chars);
+        }
+
+        synchronized void wipe() {
+            TokenEncryptionService.wipe(chars);
+            wiped = true;
+        }
+    }
+
     /**
      * Exception thrown when encryption or decryption operations fail.
      */
@@ -0,0 +1,34 @@
+package com.javaflow.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint {@code /actuator/tokenrotation}: {@code GET} returns the progress of the re-encryption
+ * of bot tokens with the active key, {@code POST} starts it (or continues it from its checkpoint).
+ *
+ * @since 1.1.0
+ */
+@Component
+@Endpoint(id = "tokenrotation")
+@RequiredArgsConstructor
+public class TokenRotationEndpoint {
+
+    private final TokenRotationService rotationService;
+
+    /**
+     * @return null (404) if no rotation to the active key has been started
+     */
+    @ReadOperation
+    public TokenRotationProgress progress() {
+        return rotationService.getProgress().orElse(null);
+    }
+
+    @WriteOperation
+    public TokenRotationProgress start() {
+        return rotationService.startRotation();
+    }
+}
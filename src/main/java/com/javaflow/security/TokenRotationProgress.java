@@ -0,0 +1,38 @@
+package com.javaflow.security;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable view of a bot token re-encryption (see TokenRotationService).
+ *
+ * @param keyId           Key the tokens are being re-encrypted with
+ * @param status          Current state of the rotation
+ * @param percentComplete Share of the bots already processed (100 once completed)
+ * @param totalBots       Bots with a token on another key when the rotation started
+ * @param reEncrypted     Tokens re-encrypted so far
+ * @param failed          Tokens that no configured key could decrypt; left unchanged
+ * @param lastBotId       Checkpoint: every bot up to this ID has been processed
+ * @param startedAt       When the rotation started
+ * @param finishedAt      When the rotation completed or failed
+ * @param error           Failure reason, if the rotation failed
+ * @since 1.1.0
+ */
+public record TokenRotationProgress(
+        String keyId,
+        Status status,
+        int percentComplete,
+        long totalBots,
+        long reEncrypted,
+        long failed,
+        long lastBotId,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String error
+) {
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
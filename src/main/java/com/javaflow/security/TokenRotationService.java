@@ -0,0 +1,385 @@
+package com.javaflow.security;
+
+import com.javaflow.model.BotConfiguration;
+import com.javaflow.monitoring.MetricsService;
+import com.javaflow.repository.BotConfigurationRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Re-encriptación en segundo plano de los tokens de bots con la clave activa de
+ * {@link TokenEncryptionService}, tras rotar {@code javaflow.security.encryption.key}.
+ *
+ * <p>Los bots se recorren por ID en lotes de {@code batch-size}; cada ronda reparte hasta
+ * {@code parallelism} lotes entre los hilos de trabajo, cada lote en su propia transacción y con sus
+ * filas bloqueadas, de modo que un cambio de token concurrente desde la API espera al lote en lugar de
+ * perderse. Al terminar cada ronda se guarda el punto de control en {@code token_rotation_checkpoints}
+ * y una rotación interrumpida continúa desde ahí (al arrancar, con {@code resume-on-startup}).</p>
+ *
+ * <p>No hay corte de servicio: mientras dura la rotación los tokens aún no migrados se siguen
+ * desencriptando con la clave anterior, que debe seguir configurada en {@code previous-keys} hasta que
+ * la rotación termine. Ejecutarla en varios nodos a la vez es seguro (los tokens ya migrados se
+ * saltan), aunque no más rápido.</p>
+ *
+ * @since 1.1.0
+ */
+@Service
+@Slf4j
+public class TokenRotationService {
+
+    private static final String PENDING_FILTER =
+            "WHERE id > ? AND token IS NOT NULL AND token NOT LIKE ? ESCAPE '!' ";
+
+    static final String COUNT_PENDING_SQL = "SELECT COUNT(*) FROM bot_configurations " + PENDING_FILTER;
+
+    static final String NEXT_BATCH_SQL = "SELECT id FROM bot_configurations " + PENDING_FILTER + "ORDER BY id LIMIT ?";
+
+    static final String SELECT_CHECKPOINT_SQL =
+            "SELECT key_id, last_bot_id, total_bots, reencrypted, failed, status, error, started_at, updated_at " +
+            "FROM token_rotation_checkpoints WHERE key_id = ?";
+
+    private static final String UPDATE_CHECKPOINT_SQL =
+            "UPDATE token_rotation_checkpoints SET last_bot_id = ?, total_bots = ?, reencrypted = ?, failed = ?, " +
+            "status = ?, error = ?, started_at = ?, updated_at = ? WHERE key_id = ?";
+
+    private static final String INSERT_CHECKPOINT_SQL =
+            "INSERT INTO token_rotation_checkpoints (last_bot_id, total_bots, reencrypted, failed, status, error, " +
+            "started_at, updated_at, key_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final RowMapper<TokenRotationProgress> CHECKPOINT_ROW_MAPPER = (rs, rowNum) -> {
+        TokenRotationProgress.Status status = TokenRotationProgress.Status.valueOf(rs.getString("status"));
+        long total = rs.getLong("total_bots");
+        long processed = rs.getLong("reencrypted") + rs.getLong("failed");
+        return new TokenRotationProgress(
+                rs.getString("key_id"),
+                status,
+                percent(status, processed, total),
+                total,
+                rs.getLong("reencrypted"),
+                rs.getLong("failed"),
+                rs.getLong("last_bot_id"),
+                rs.getTimestamp("started_at").toLocalDateTime(),
+                status == TokenRotationProgress.Status.RUNNING ? null : rs.getTimestamp("updated_at").toLocalDateTime(),
+                rs.getString("error"));
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BotConfigurationRepository botRepository;
+    private final TokenEncryptionService encryptionService;
+    private final MetricsService metricsService;
+    private final int batchSize;
+    private final int parallelism;
+    private final boolean resumeOnStartup;
+    private final ExecutorService coordinator;
+    private final ExecutorService workers;
+
+    private volatile RotationJob current;
+
+    public TokenRotationService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            BotConfigurationRepository botRepository,
+            TokenEncryptionService encryptionService,
+            MetricsService metricsService,
+            @Value("${javaflow.security.encryption.rotation.batch-size:500}") int batchSize,
+            @Value("${javaflow.security.encryption.rotation.parallelism:4}") int parallelism,
+            @Value("${javaflow.security.encryption.rotation.resume-on-startup:true}") boolean resumeOnStartup) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.botRepository = botRepository;
+        this.encryptionService = encryptionService;
+        this.metricsService = metricsService;
+        this.batchSize = batchSize;
+        this.parallelism = Math.max(1, parallelism);
+        this.resumeOnStartup = resumeOnStartup;
+        this.coordinator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-rotation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger workerCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(this.parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "token-rotation-worker-" + workerCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedRotation() {
+        if (!resumeOnStartup) {
+            return;
+        }
+        findCheckpoint(encryptionService.activeKeyId())
+                .filter(checkpoint -> checkpoint.status() == TokenRotationProgress.Status.RUNNING)
+                .ifPresent(checkpoint -> {
+                    log.info("Resuming token rotation to key {} after bot {}", checkpoint.keyId(), checkpoint.lastBotId());
+                    startRotation();
+                });
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        coordinator.shutdownNow();
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            // Un lote interrumpido hace rollback; la rotación continúa desde el último punto de control
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * Starts re-encrypting every bot token that is not on the active key. An interrupted or failed
+     * rotation to the same key continues from its checkpoint; if one is already running on this node,
+     * its progress is returned.
+     */
+    public synchronized TokenRotationProgress startRotation() {
+        RotationJob running = current;
+        if (running != null && !running.isFinished()) {
+            return running.snapshot();
+        }
+
+        String keyId = encryptionService.activeKeyId();
+        RotationJob job = findCheckpoint(keyId)
+                .filter(checkpoint -> checkpoint.status() != TokenRotationProgress.Status.COMPLETED)
+                .map(checkpoint -> new RotationJob(keyId, checkpoint.lastBotId(), checkpoint.totalBots(),
+                        checkpoint.reEncrypted(), checkpoint.failed(), checkpoint.startedAt()))
+                .orElseGet(() -> new RotationJob(keyId, 0, countPending(keyId, 0), 0, 0, LocalDateTime.now()));
+        saveCheckpoint(job);
+
+        current = job;
+        try {
+            coordinator.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            throw new IllegalStateException("Token rotation is not available during shutdown", e);
+        }
+        log.info("Started token rotation to key {}: {} bots pending after bot {}",
+                keyId, job.totalBots - job.processed(), job.lastBotId);
+        return job.snapshot();
+    }
+
+    /**
+     * Progress of the rotation to the active key: the one running on this node, otherwise the
+     * last checkpoint written by any node.
+     */
+    public Optional<TokenRotationProgress> getProgress() {
+        RotationJob job = current;
+        if (job != null && job.keyId.equals(encryptionService.activeKeyId())) {
+            return Optional.of(job.snapshot());
+        }
+        return findCheckpoint(encryptionService.activeKeyId());
+    }
+
+    void run(RotationJob job) {
+        try {
+            while (true) {
+                // Lotes consecutivos de la ronda, seleccionados antes de repartirlos
+                List<List<Long>> round = new ArrayList<>(parallelism);
+                long roundEnd = job.lastBotId;
+                while (round.size() < parallelism) {
+                    List<Long> ids = jdbcTemplate.queryForList(
+                            NEXT_BATCH_SQL, Long.class, roundEnd, activeKeyPattern(job.keyId), batchSize);
+                    if (ids.isEmpty()) {
+                        break;
+                    }
+                    round.add(ids);
+                    roundEnd = ids.get(ids.size() - 1);
+                }
+                if (round.isEmpty()) {
+                    break;
+                }
+
+                List<Future<BatchResult>> results = new ArrayList<>(round.size());
+                for (List<Long> ids : round) {
+                    results.add(workers.submit(() -> reEncryptBatch(ids)));
+                }
+                for (Future<BatchResult> result : results) {
+                    job.add(result.get());
+                }
+
+                // Solo cuando todos los lotes de la ronda han hecho commit
+                job.lastBotId = roundEnd;
+                saveCheckpoint(job);
+                log.debug("Token rotation to key {}: {}/{} bots, checkpoint at bot {}",
+                        job.keyId, job.processed(), job.totalBots, roundEnd);
+            }
+
+            job.complete();
+            saveCheckpoint(job);
+            // Plaintexts cached under the old ciphertexts are no longer looked up
+            encryptionService.clearTokenCache();
+            log.info("Token rotation to key {} completed: {} re-encrypted, {} failed",
+                    job.keyId, job.reEncrypted.get(), job.failed.get());
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(job, "Interrupted");
+        } catch (ExecutionException e) {
+            fail(job, e.getCause());
+        } catch (RuntimeException e) {
+            fail(job, e);
+        }
+    }
+
+    /**
+     * Re-encrypts the tokens of a batch of bots in one transaction.
+     */
+    private BatchResult reEncryptBatch(List<Long> ids) {
+        BatchResult result = transactionTemplate.execute(status -> {
+            int reEncrypted = 0;
+            int failed = 0;
+            for (BotConfiguration bot : botRepository.findAllByIdForUpdate(ids)) {
+                String token = bot.getToken();
+                if (token == null || encryptionService.isActiveKey(token)) {
+                    continue; // Changed since the batch was selected
+                }
+                try {
+                    // Se escribe al hacer commit (dirty checking), en lotes JDBC
+                    bot.setToken(encryptionService.reEncrypt(token));
+                    reEncrypted++;
+                } catch (TokenEncryptionService.EncryptionException e) {
+                    log.warn("Token of bot {} cannot be decrypted with any configured key, left unchanged", bot.getId());
+                    failed++;
+                }
+            }
+            return new BatchResult(reEncrypted, failed);
+        });
+        Objects.requireNonNull(result);
+        metricsService.recordTokensReEncrypted("reencrypted", result.reEncrypted());
+        metricsService.recordTokensReEncrypted("failed", result.failed());
+        return result;
+    }
+
+    private void fail(RotationJob job, Throwable cause) {
+        String message = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+        log.error("Token rotation to key {} failed at bot {}", job.keyId, job.lastBotId, cause);
+        fail(job, message);
+    }
+
+    private void fail(RotationJob job, String error) {
+        job.fail(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        try {
+            saveCheckpoint(job);
+        } catch (RuntimeException e) {
+            log.warn("Could not save the checkpoint of the token rotation to key {}: {}", job.keyId, e.getMessage());
+        }
+    }
+
+    private long countPending(String keyId, long afterBotId) {
+        Long pending = jdbcTemplate.queryForObject(COUNT_PENDING_SQL, Long.class, afterBotId, activeKeyPattern(keyId));
+        return pending != null ? pending : 0;
+    }
+
+    private Optional<TokenRotationProgress> findCheckpoint(String keyId) {
+        return jdbcTemplate.query(SELECT_CHECKPOINT_SQL, CHECKPOINT_ROW_MAPPER, keyId).stream().findFirst();
+    }
+
+    private void saveCheckpoint(RotationJob job) {
+        Object[] args = {job.lastBotId, job.totalBots, job.reEncrypted.get(), job.failed.get(), job.status.name(),
+                job.error, Timestamp.valueOf(job.startedAt), Timestamp.valueOf(LocalDateTime.now()), job.keyId};
+        transactionTemplate.executeWithoutResult(status -> {
+            if (jdbcTemplate.update(UPDATE_CHECKPOINT_SQL, args) == 0) {
+                jdbcTemplate.update(INSERT_CHECKPOINT_SQL, args);
+            }
+        });
+    }
+
+    /**
+     * LIKE pattern of the ciphertexts already on the key ({@code _} is a wildcard in key IDs).
+     */
+    private static String activeKeyPattern(String keyId) {
+        return keyId.replace("_", "!_") + ":%";
+    }
+
+    private static int percent(TokenRotationProgress.Status status, long processed, long total) {
+        if (status == TokenRotationProgress.Status.COMPLETED) {
+            return 100;
+        }
+        return total == 0 ? 0 : (int) Math.min(99, processed * 100 / total);
+    }
+
+    private record BatchResult(int reEncrypted, int failed) {
+    }
+
+    /**
+     * Mutable state of one rotation, updated by the rotation thread and read by the progress queries.
+     */
+    static final class RotationJob {
+
+        private final String keyId;
+        private final long totalBots;
+        private final LocalDateTime startedAt;
+        private final AtomicLong reEncrypted;
+        private final AtomicLong failed;
+        private volatile long lastBotId;
+        private volatile TokenRotationProgress.Status status = TokenRotationProgress.Status.RUNNING;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        RotationJob(String keyId, long lastBotId, long totalBots, long reEncrypted, long failed, LocalDateTime startedAt) {
+            this.keyId = Objects.requireNonNull(keyId);
+            this.lastBotId = lastBotId;
+            this.totalBots = totalBots;
+            this.reEncrypted = new AtomicLong(reEncrypted);
+            this.failed = new AtomicLong(failed);
+            this.startedAt = startedAt;
+        }
+
+        void add(BatchResult result) {
+            reEncrypted.addAndGet(result.reEncrypted());
+            failed.addAndGet(result.failed());
+        }
+
+        long processed() {
+            return reEncrypted.get() + failed.get();
+        }
+
+        void complete() {
+            this.finishedAt = LocalDateTime.now();
+            this.status = TokenRotationProgress.Status.COMPLETED;
+        }
+
+        void fail(String error) {
+            this.error = error;
+            this.finishedAt = LocalDateTime.now();
+            this.status = TokenRotationProgress.Status.FAILED;
+        }
+
+        boolean isFinished() {
+            return status != TokenRotationProgress.Status.RUNNING;
+        }
+
+        TokenRotationProgress snapshot() {
+            TokenRotationProgress.Status currentStatus = status;
+            long done = processed();
+            return new TokenRotationProgress(keyId, currentStatus, percent(currentStatus, done, totalBots),
+                    totalBots, reEncrypted.get(), failed.get(), lastBotId, startedAt, finishedAt, error);
+        }
+    }
+}
@@ -1,21 +1,38 @@
 package com.javaflow.service;
 
+import com.javaflow.bot.outbound.OutboundMessageDispatcher;
 import com.javaflow.bot.port.BotPort;
 import com.javaflow.domain.events.BotMessageReceivedEvent;
 import com.javaflow.model.BotConfiguration;
 import com.javaflow.model.Message;
 import com.javaflow.repository.BotConfigurationRepository;
 import com.javaflow.repository.MessageRepository;
+import com.javaflow.service.dto.ConversationTurn;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Lazy;
-import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Servicio para gestión de Bots
@@ -32,7 +49,13 @@ public class BotService {
     private final com.javaflow.security.TokenEncryptionService encryptionService;
     private final ApplicationContext applicationContext;
     private final com.javaflow.bot.command.UnknownCommandHandler unknownCommandHandler;
+    private final com.javaflow.archive.MessageArchiveStore messageArchiveStore;
+    private final com.javaflow.search.FullTextIndex fullTextIndex;
+    private final ConversationCache conversationCache;
+    private final OutboundMessageDispatcher outboundDispatcher;
+    private final Executor persistExecutor;
 
+    @Autowired
     @Lazy
     public BotService(
         BotConfigurationRepository botRepository, 
@@ -42,7 +65,32 @@ public class BotService {
         com.javaflow.monitoring.MetricsService metricsService, 
         com.javaflow.security.TokenEncryptionService encryptionService, 
         ApplicationContext applicationContext, 
-        com.javaflow.bot.command.UnknownCommandHandler unknownCommandHandler
+        com.javaflow.bot.command.UnknownCommandHandler unknownCommandHandler,
+        com.javaflow.archive.MessageArchiveStore messageArchiveStore,
+        com.javaflow.search.FullTextIndex fullTextIndex,
+        ConversationCache conversationCache,
+        OutboundMessageDispatcher outboundDispatcher,
+        @Value("${javaflow.bot.outbound.persist-threads:2}") int persistThreads
+    ) {
+        this(botRepository, messageRepository, botAdapters, workflowService, metricsService, encryptionService,
+                applicationContext, unknownCommandHandler, messageArchiveStore, fullTextIndex, conversationCache,
+                outboundDispatcher, newPersistExecutor(persistThreads));
+    }
+
+    BotService(
+        BotConfigurationRepository botRepository, 
+        MessageRepository messageRepository, 
+        Map<String, BotPort> botAdapters, 
+        WorkflowService workflowService, 
+        com.javaflow.monitoring.MetricsService metricsService, 
+        com.javaflow.security.TokenEncryptionService encryptionService, 
+        ApplicationContext applicationContext, 
+        com.javaflow.bot.command.UnknownCommandHandler unknownCommandHandler,
+        com.javaflow.archive.MessageArchiveStore messageArchiveStore,
+        com.javaflow.search.FullTextIndex fullTextIndex,
+        ConversationCache conversationCache,
+        OutboundMessageDispatcher outboundDispatcher,
+        Executor persistExecutor
     ) {
         this.botRepository = botRepository;
         this.messageRepository = messageRepository;
@@ -52,6 +100,33 @@ public class BotService {
         this.encryptionService = encryptionService;
         this.applicationContext = applicationContext;
         this.unknownCommandHandler = unknownCommandHandler;
+        this.messageArchiveStore = messageArchiveStore;
+        this.fullTextIndex = fullTextIndex;
+        this.conversationCache = conversationCache;
+        this.outboundDispatcher = outboundDispatcher;
+        this.persistExecutor = persistExecutor;
+    }
+
+    /**
+     * Threads that save sent messages, so a slow database does not hold the outbound sender threads.
+     */
+    private static ExecutorService newPersistExecutor(int threads) {
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "outbound-persist-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        if (persistExecutor instanceof ExecutorService executor) {
+            executor.shutdown();
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        }
     }
 
     /**
@@ -124,21 +199,34 @@ public class BotService {
         return botRepository.save(bot);
     }
 
+    /**
+     * Resuelve una sola vez el bot y su adaptador para procesar un mensaje de un chat.
+     */
+    public MessageContext resolveContext(Long botId, String chatId) {
+        BotConfiguration bot = getBot(botId);
+        return new MessageContext(bot, adapterFor(bot), chatId);
+    }
+
     /**
      * Processes an inbound message, saves it, and handles any associated commands or workflows.
      * 
      * @param request The inbound message request containing all message details
      */
     public void processInboundMessage(com.javaflow.service.dto.InboundMessageRequest request) {
+        processInboundMessage(resolveContext(request.getBotId(), request.getChatId()), request);
+    }
+
+    private void processInboundMessage(MessageContext context, com.javaflow.service.dto.InboundMessageRequest request) {
         // 1. Save the inbound message
-        saveInboundMessage(request.getBotId(), request.getChatId(), request.getUserId(), 
-                          request.getContent(), request.getExternalId());
+        log.debug("Saving inbound message from chat: {}", request.getChatId());
+        saveMessage(context.bot(), request.getChatId(), request.getUserId(), request.getContent(),
+                request.getExternalId(), Message.MessageDirection.INBOUND, request.getMetadata());
 
         // 2. Process commands or trigger workflows
         if (request.getContent().startsWith("/")) {
-            processCommand(request.getBotId(), request.getChatId(), request.getContent());
+            processCommand(context, request.getContent());
         } else {
-            handleNormalMessage(request.getBotId(), request.getChatId(), request.getContent());
+            handleNormalMessage(context, request.getContent());
         }
     }
     
@@ -159,19 +247,68 @@ public class BotService {
     @Transactional
     public Message saveInboundMessage(Long botId, String chatId, String userId, 
                                      String content, String externalId) {
+        return saveInboundMessage(botId, chatId, userId, content, externalId, null);
+    }
+
+    /**
+     * Guardar mensaje recibido con metadata de la plataforma (hilo, idioma...)
+     */
+    @Transactional
+    public Message saveInboundMessage(Long botId, String chatId, String userId, 
+                                     String content, String externalId, Map<String, Object> metadata) {
         log.debug("Saving inbound message from chat: {}", chatId);
-        return saveMessage(botId, chatId, userId, content, externalId, Message.MessageDirection.INBOUND);
+        return saveMessage(getBot(botId), chatId, userId, content, externalId, Message.MessageDirection.INBOUND, metadata);
     }
 
     /**
-     * Sends a message using the appropriate bot adapter and saves it to the database.
+     * Queues a message for the bot's adapter; it is sent within the per-chat and per-bot rate limits
+     * (see {@link OutboundMessageDispatcher}) and saved to the database once the platform accepts it.
      *
      * @param botId   The ID of the bot configuration to use.
      * @param chatId  The ID of the chat to send the message to.
      * @param content The message text.
+     * @return completes with the saved message, or exceptionally if it could not be sent
      */
-    public void sendMessage(Long botId, String chatId, String content) {
-        BotConfiguration botConfig = getBot(botId);
+    public CompletableFuture<Message> sendMessage(Long botId, String chatId, String content) {
+        return sendMessage(resolveContext(botId, chatId), content, OutboundMessageDispatcher.Priority.NORMAL);
+    }
+
+    /**
+     * Replies to the chat of an already resolved context (no bot lookup), ahead of lower priority
+     * messages of the same bot.
+     *
+     * @param context The context of the message being processed
+     * @param content The message text
+     */
+    public CompletableFuture<Message> sendMessage(MessageContext context, String content) {
+        return sendMessage(context, content, OutboundMessageDispatcher.Priority.HIGH);
+    }
+
+    /**
+     * Queues a message to the chat of a resolved context without waiting for the rate limits.
+     *
+     * <p>The sent message is saved on the persistence threads, not on the sender thread that completed
+     * the send. Failures to save it are logged and counted here, since most callers do not wait for
+     * the returned future; send failures are reported by {@link OutboundMessageDispatcher}.</p>
+     */
+    public CompletableFuture<Message> sendMessage(MessageContext context, String content,
+                                                  OutboundMessageDispatcher.Priority priority) {
+        return outboundDispatcher.submit(context.botId(), context.chatId(), context.adapter(), content, priority)
+                .thenApplyAsync(sent -> {
+                    metricsService.recordBotMessageSent(context.botType());
+                    log.debug("Saving outbound message to chat: {}", context.chatId());
+                    try {
+                        return saveMessage(context.bot(), context.chatId(), null, content, null,
+                                Message.MessageDirection.OUTBOUND, null);
+                    } catch (RuntimeException e) {
+                        log.error("Message sent to chat {} (bot {}) but not saved", context.chatId(), context.botId(), e);
+                        metricsService.recordOutboundFailure(context.botType(), "persist_error");
+                        throw e;
+                    }
+                }, persistExecutor);
+    }
+
+    private BotPort adapterFor(BotConfiguration botConfig) {
         // Construct adapter name, e.g., "telegram" -> "telegramBotAdapter"
         String adapterName = botConfig.getType().name().toLowerCase() + "BotAdapter";
 
@@ -180,15 +317,7 @@ public class BotService {
             log.error("No bot adapter found for name: {}", adapterName);
             throw new IllegalStateException("Unsupported bot type: " + botConfig.getType());
         }
-
-        // 1. Send the message via the adapter
-        botAdapter.sendMessage(chatId, content);
-
-        // 2. Record metrics
-        metricsService.recordBotMessageSent(botConfig.getType().name().toLowerCase());
-
-        // 3. Save the outbound message to the database
-        saveOutboundMessage(botId, chatId, content, null);
+        return botAdapter;
     }
 
     /**
@@ -197,16 +326,14 @@ public class BotService {
     @Transactional
     public Message saveOutboundMessage(Long botId, String chatId, String content, String externalId) {
         log.debug("Saving outbound message to chat: {}", chatId);
-        return saveMessage(botId, chatId, null, content, externalId, Message.MessageDirection.OUTBOUND);
+        return saveMessage(getBot(botId), chatId, null, content, externalId, Message.MessageDirection.OUTBOUND, null);
     }
     
     /**
      * Helper method to save messages (eliminates duplication between inbound/outbound)
      */
-    private Message saveMessage(Long botId, String chatId, String userId, 
-                               String content, String externalId, Message.MessageDirection direction) {
-        BotConfiguration bot = getBot(botId);
-        
+    private Message saveMessage(BotConfiguration bot, String chatId, String userId, String content, String externalId,
+                               Message.MessageDirection direction, Map<String, Object> metadata) {
         Message message = Message.builder()
                 .bot(bot)
                 .chatId(chatId)
@@ -216,15 +343,71 @@ public class BotService {
                 .direction(direction)
                 .messageType(Message.MessageType.TEXT)
                 .build();
+        if (metadata != null) {
+            metadata.forEach(message::putMetadata);
+        }
         
-        return messageRepository.save(message);
+        Message saved = messageRepository.save(message);
+        // Se indexa en segundo plano tras el commit, sin bloquear la ingesta
+        fullTextIndex.indexAfterCommit(com.javaflow.search.SearchDocument.message(saved));
+        conversationCache.appendAfterCommit(ConversationTurn.from(saved));
+        return saved;
     }
 
     /**
-     * Obtener mensajes de un chat
+     * Obtener mensajes de un chat.
+     * Incluye los mensajes movidos al archivo frío, de forma transparente.
      */
     public List<Message> getMessagesByChatId(String chatId) {
-        return messageRepository.findByChatIdOrderByCreatedAtDesc(chatId);
+        List<Message> hot = messageRepository.findByChatIdOrderByCreatedAtDesc(chatId);
+        List<com.javaflow.archive.ArchivedMessage> archived = messageArchiveStore.findByChatId(chatId);
+        if (archived.isEmpty()) {
+            return hot;
+        }
+
+        // Resolve all bots of the archived messages with a single query
+        Set<Long> botIds = archived.stream()
+                .map(com.javaflow.archive.ArchivedMessage::botId)
+                .collect(Collectors.toSet());
+        Map<Long, BotConfiguration> bots = botRepository.findAllById(botIds).stream()
+                .collect(Collectors.toMap(BotConfiguration::getId, Function.identity()));
+
+        // A message can be in both places if archiving was interrupted before the delete
+        Map<Long, Message> merged = new LinkedHashMap<>();
+        hot.forEach(message -> merged.put(message.getId(), message));
+        archived.forEach(message -> merged.putIfAbsent(message.id(), message.toMessage(bots.get(message.botId()))));
+
+        return merged.values().stream()
+                .sorted(Comparator.comparing(Message::getCreatedAt).reversed())
+                .toList();
+    }
+
+    /**
+     * Obtener los últimos mensajes de un chat (más reciente primero).
+     * Es la lectura que usan los flujos con contexto de conversación: se sirve desde
+     * {@link ConversationCache} y, en los fallos, con una única consulta paginada.
+     */
+    public List<ConversationTurn> getRecentMessages(String chatId, int limit) {
+        return conversationCache.getRecent(chatId, limit, n -> loadRecentMessages(chatId, n));
+    }
+
+    private List<ConversationTurn> loadRecentMessages(String chatId, int limit) {
+        List<ConversationTurn> recent = messageRepository
+                .findByChatIdOrderByCreatedAtDesc(chatId, PageRequest.of(0, limit)).stream()
+                .map(ConversationTurn::from)
+                .collect(Collectors.toCollection(ArrayList::new));
+        if (recent.size() >= limit) {
+            return recent;
+        }
+
+        // Chat con pocos mensajes en caliente: se completa con el archivo frío
+        Set<Long> seen = recent.stream().map(ConversationTurn::messageId).collect(Collectors.toSet());
+        messageArchiveStore.findByChatId(chatId).stream()
+                .filter(message -> !seen.contains(message.id()))
+                .limit(limit - recent.size())
+                .map(ConversationTurn::from)
+                .forEach(recent::add);
+        return recent;
     }
 
     /**
@@ -268,13 +451,10 @@ public class BotService {
     /**
      * Processes a bot command using the command handler pattern.
      * 
-     * @param botId The bot ID
-     * @param chatId The chat ID
+     * @param context The context of the message being processed
      * @param messageText The command text
      */
-    private void processCommand(Long botId, String chatId, String messageText) {
-        BotConfiguration bot = getBot(botId);
-        
+    private void processCommand(MessageContext context, String messageText) {
         // Extract command (first word)
         String command = messageText.split(" ")[0];
         
@@ -284,16 +464,13 @@ public class BotService {
             handler = unknownCommandHandler;
         }
         
-        com.javaflow.bot.command.BotCommandHandler.CommandContext context = 
-            new com.javaflow.bot.command.BotCommandHandler.CommandContext(botId, chatId, messageText, bot);
-        
-        handler.handle(context);
+        handler.handle(new com.javaflow.bot.command.BotCommandHandler.CommandContext(messageText, context));
     }
 
-    private void handleNormalMessage(Long botId, String chatId, String messageText) {
+    private void handleNormalMessage(MessageContext context, String messageText) {
         // TODO: Buscar workflow asociado al bot/chat
         // TODO: Iniciar workflow con el mensaje como variable
-        sendMessage(botId, chatId, "Mensaje recibido: " + messageText);
+        sendMessage(context, "Mensaje recibido: " + messageText);
     }
 
     private com.javaflow.bot.command.BotCommandHandler getCommandHandler(String command) {
@@ -310,24 +487,32 @@ public class BotService {
     // ========== EVENT LISTENERS ==========
 
     /**
-     * Handles inbound bot messages by listening to BotMessageReceivedEvent.
-     * This breaks the circular dependency between TelegramBotAdapter and BotService.
+     * Handles an inbound bot message. Called by {@link com.javaflow.bot.inbound.InboundMessageDispatcher}
+     * on the worker of the message's chat, which receives the BotMessageReceivedEvent; this breaks the
+     * circular dependency between TelegramBotAdapter and BotService.
+     * The bot is resolved once into a {@link MessageContext} shared by every step of the message.
      */
-    @EventListener
     @Transactional
     public void handleBotMessageReceived(BotMessageReceivedEvent event) {
         log.debug("Handling BotMessageReceivedEvent for chat {}", event.chatId());
+        long statementsBefore = com.javaflow.monitoring.SqlStatementCounter.current();
         
+        MessageContext context = resolveContext(event.botId(), event.chatId());
         // Record metrics for inbound message
-        BotConfiguration bot = getBot(event.botId());
-        metricsService.recordBotMessageReceived(bot.getType().name().toLowerCase());
+        metricsService.recordBotMessageReceived(context.botType());
         
-        processInboundMessage(
-            event.botId(),
-            event.chatId(),
-            event.userId(),
-            event.messageText(),
-            event.externalId()
-        );
+        try {
+            processInboundMessage(context, com.javaflow.service.dto.InboundMessageRequest.builder()
+                    .botId(event.botId())
+                    .chatId(event.chatId())
+                    .userId(event.userId())
+                    .content(event.messageText())
+                    .externalId(event.externalId())
+                    .metadata(event.metadata())
+                    .build());
+        } finally {
+            metricsService.recordMessageDbCalls(context.botType(),
+                    com.javaflow.monitoring.SqlStatementCounter.current() - statementsBefore);
+        }
     }
 }
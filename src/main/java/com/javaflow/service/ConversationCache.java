@@ -0,0 +1,196 @@
+package com.javaflow.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.javaflow.monitoring.MetricsService;
+import com.javaflow.service.dto.ConversationTurn;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+/**
+ * Caché en memoria de los últimos mensajes de cada chat.
+ *
+ * <p>Cada chat guarda un buffer circular de tamaño fijo ({@code turns-per-chat}) con sus mensajes
+ * más recientes. Los mensajes nuevos se añaden al buffer tras el commit; si el chat no está en caché
+ * se carga la primera vez que se lee, con una única consulta paginada.</p>
+ *
+ * <p>El total se acota por memoria estimada ({@code max-memory-mb}), no por número de chats:
+ * cuando se supera, Caffeine expulsa los chats menos usados recientemente.</p>
+ *
+ * @since 1.1.0
+ */
+@Component
+@Slf4j
+public class ConversationCache {
+
+    static final String CACHE_NAME = "conversations";
+
+    private final MetricsService metricsService;
+    private final int turnsPerChat;
+    private final Cache<String, History> histories;
+
+    public ConversationCache(
+            MetricsService metricsService,
+            @Value("${javaflow.conversation-cache.turns-per-chat:20}") int turnsPerChat,
+            @Value("${javaflow.conversation-cache.max-memory-mb:64}") long maxMemoryMb) {
+        if (turnsPerChat <= 0 || maxMemoryMb <= 0) {
+            throw new IllegalArgumentException("Conversation cache turns per chat and memory must be positive");
+        }
+        this.metricsService = metricsService;
+        this.turnsPerChat = turnsPerChat;
+        this.histories = Caffeine.newBuilder()
+                .maximumWeight(maxMemoryMb * 1024 * 1024)
+                .weigher((String chatId, History history) -> history.estimatedBytes())
+                .build();
+    }
+
+    /**
+     * Devuelve los últimos mensajes de un chat, del más reciente al más antiguo.
+     *
+     * @param chatId Chat ID
+     * @param limit  Número máximo de mensajes
+     * @param loader Carga los {@code n} mensajes más recientes desde la base de datos (más reciente primero);
+     *               se usa en los fallos de caché y cuando {@code limit} supera el tamaño del buffer
+     */
+    public List<ConversationTurn> getRecent(String chatId, int limit, IntFunction<List<ConversationTurn>> loader) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        if (limit > turnsPerChat) {
+            // No cabe en el buffer: se consulta directamente sin cachear
+            metricsService.recordCacheMiss(CACHE_NAME);
+            return loader.apply(limit);
+        }
+
+        History history = histories.getIfPresent(chatId);
+        if (history != null) {
+            metricsService.recordCacheHit(CACHE_NAME);
+        } else {
+            metricsService.recordCacheMiss(CACHE_NAME);
+            history = histories.get(chatId, key -> History.of(turnsPerChat, loader.apply(turnsPerChat)));
+        }
+        return history.latest(limit);
+    }
+
+    /**
+     * Añade un mensaje al buffer de su chat si el chat está en caché.
+     * Los chats no cacheados se cargarán completos en la siguiente lectura.
+     */
+    public void append(ConversationTurn turn) {
+        // compute re-weighs the history, so the memory bound follows the appended content
+        histories.asMap().computeIfPresent(turn.chatId(), (chatId, history) -> {
+            history.add(turn);
+            return history;
+        });
+    }
+
+    /**
+     * Añade el mensaje cuando la transacción actual hace commit (o inmediatamente si no hay transacción),
+     * para no cachear mensajes que terminan en rollback.
+     */
+    public void appendAfterCommit(ConversationTurn turn) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            append(turn);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                append(turn);
+            }
+        });
+    }
+
+    /**
+     * Descarta el buffer de un chat.
+     */
+    public void invalidate(String chatId) {
+        histories.invalidate(chatId);
+    }
+
+    /**
+     * Descarta todos los buffers.
+     */
+    public void invalidateAll() {
+        histories.invalidateAll();
+    }
+
+    long estimatedSize() {
+        return histories.estimatedSize();
+    }
+
+    /**
+     * Buffer circular con los mensajes más recientes de un chat.
+     */
+    static final class History {
+
+        private static final int BASE_BYTES = 64;
+
+        private final ConversationTurn[] turns;
+        private int next;
+        private int size;
+        private int contentBytes;
+
+        private History(int capacity) {
+            this.turns = new ConversationTurn[capacity];
+        }
+
+        /**
+         * @param recent Mensajes más recientes, del más reciente al más antiguo
+         */
+        static History of(int capacity, List<ConversationTurn> recent) {
+            History history = new History(capacity);
+            for (int i = Math.min(recent.size(), capacity) - 1; i >= 0; i--) {
+                history.add(recent.get(i));
+            }
+            return history;
+        }
+
+        synchronized void add(ConversationTurn turn) {
+            if (contains(turn.messageId())) {
+                return;
+            }
+            ConversationTurn replaced = turns[next];
+            if (replaced != null) {
+                contentBytes -= replaced.estimatedBytes();
+            }
+            turns[next] = turn;
+            contentBytes += turn.estimatedBytes();
+            next = (next + 1) % turns.length;
+            size = Math.min(size + 1, turns.length);
+        }
+
+        synchronized List<ConversationTurn> latest(int limit) {
+            int count = Math.min(limit, size);
+            List<ConversationTurn> latest = new ArrayList<>(count);
+            for (int i = 1; i <= count; i++) {
+                latest.add(turns[(next - i + turns.length) % turns.length]);
+            }
+            return latest;
+        }
+
+        synchronized int estimatedBytes() {
+            return BASE_BYTES + turns.length * 8 + contentBytes;
+        }
+
+        private boolean contains(Long messageId) {
+            if (messageId == null) {
+                return false;
+            }
+            for (ConversationTurn existing : turns) {
+                if (existing != null && Objects.equals(existing.messageId(), messageId)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.javaflow.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.javaflow.model.WorkflowExecution;
+import com.javaflow.service.dto.DashboardSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Servicio de consultas del Dashboard.
+ *
+ * <p>Calcula todos los contadores con una única consulta agregada y trae solo las últimas
+ * {@code recent-limit} ejecuciones, en lugar de cargar entidades completas para contarlas.</p>
+ *
+ * <p>El snapshot se comparte entre todas las sesiones y se cachea con refresh-ahead: pasado
+ * {@code refresh-after-ms}, el primer acceso lo recalcula en segundo plano mientras se sigue
+ * sirviendo el anterior; pasado {@code expire-after-ms} sin accesos se descarta.</p>
+ *
+ * @since 1.1.0
+ */
+@Service
+@Slf4j
+public class DashboardQueryService {
+
+    private static final String SNAPSHOT_KEY = "dashboard";
+
+    private static final String COUNTERS_SQL =
+            "SELECT COUNT(*) AS total_workflows, " +
+            "COUNT(CASE WHEN w.status = 'ACTIVE' THEN 1 END) AS active_workflows, " +
+            "(SELECT COUNT(*) FROM bot_configurations b WHERE b.status = 'ACTIVE') AS active_bots, " +
+            "(SELECT COUNT(*) FROM workflow_executions e WHERE e.started_at >= ?) AS recent_executions " +
+            "FROM workflows w";
+
+    private static final String LATEST_EXECUTIONS_SQL =
+            "SELECT e.id, w.name, e.status, e.started_at FROM workflow_executions e " +
+            "JOIN workflows w ON w.id = e.workflow_id " +
+            "WHERE e.started_at >= ? ORDER BY e.started_at DESC LIMIT ?";
+
+    private static final RowMapper<DashboardSnapshot.ExecutionRow> EXECUTION_ROW_MAPPER = (rs, rowNum) ->
+            new DashboardSnapshot.ExecutionRow(
+                    rs.getLong("id"),
+                    rs.getString("name"),
+                    WorkflowExecution.ExecutionStatus.valueOf(rs.getString("status")),
+                    rs.getTimestamp("started_at").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int recentHours;
+    private final int recentLimit;
+    private final LoadingCache<String, DashboardSnapshot> snapshots;
+
+    public DashboardQueryService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${javaflow.dashboard.recent-hours:24}") int recentHours,
+            @Value("${javaflow.dashboard.recent-limit:10}") int recentLimit,
+            @Value("${javaflow.dashboard.snapshot.refresh-after-ms:5000}") long refreshAfterMs,
+            @Value("${javaflow.dashboard.snapshot.expire-after-ms:60000}") long expireAfterMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.recentHours = recentHours;
+        this.recentLimit = recentLimit;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(1)
+                .refreshAfterWrite(Duration.ofMillis(refreshAfterMs))
+                .expireAfterWrite(Duration.ofMillis(expireAfterMs))
+                .build(key -> loadSnapshot());
+    }
+
+    /**
+     * Devuelve el snapshot actual del dashboard.
+     */
+    public DashboardSnapshot getSnapshot() {
+        return snapshots.get(SNAPSHOT_KEY);
+    }
+
+    /**
+     * Descarta el snapshot cacheado; el siguiente acceso lo recalcula.
+     */
+    public void invalidate() {
+        snapshots.invalidateAll();
+    }
+
+    /**
+     * Calcula el snapshot: una consulta agregada para los contadores y otra limitada para la tabla.
+     */
+    DashboardSnapshot loadSnapshot() {
+        Timestamp since = Timestamp.valueOf(LocalDateTime.now().minusHours(recentHours));
+
+        return readOnlyTransaction.execute(status -> {
+            DashboardSnapshot counters = jdbcTemplate.queryForObject(COUNTERS_SQL, (rs, rowNum) ->
+                    new DashboardSnapshot(
+                            rs.getLong("total_workflows"),
+                            rs.getLong("active_workflows"),
+                            rs.getLong("active_bots"),
+                            rs.getLong("recent_executions"),
+                            List.of(),
+                            LocalDateTime.now()), since);
+
+            List<DashboardSnapshot.ExecutionRow> latest =
+                    jdbcTemplate.query(LATEST_EXECUTIONS_SQL, EXECUTION_ROW_MAPPER, since, recentLimit);
+
+            log.debug("Dashboard snapshot refreshed: {} workflows, {} recent executions",
+                    counters.totalWorkflows(), counters.recentExecutions());
+
+            return new DashboardSnapshot(
+                    counters.totalWorkflows(),
+                    counters.activeWorkflows(),
+                    counters.activeBots(),
+                    counters.recentExecutions(),
+                    latest,
+                    counters.generatedAt());
+        });
+    }
+}
@@ -0,0 +1,55 @@
+package com.javaflow.service;
+
+import com.javaflow.bot.port.BotPort;
+import com.javaflow.model.BotConfiguration;
+
+/**
+ * Datos de un mensaje en proceso que no cambian mientras se atiende: la configuración del bot
+ * y su adaptador.
+ *
+ * <p>{@link BotService} lo resuelve una vez al recibir el mensaje y lo pasa a los handlers de
+ * comandos y a la respuesta, en lugar de volver a buscar el bot por ID en cada paso. El token no
+ * se descifra por mensaje: el envío pasa por el adaptador, que ya tiene sus credenciales.</p>
+ *
+ * @since 1.1.0
+ */
+public final class MessageContext {
+
+    private final BotConfiguration bot;
+    private final BotPort adapter;
+    private final String chatId;
+
+    MessageContext(BotConfiguration bot, BotPort adapter, String chatId) {
+        this.bot = bot;
+        this.adapter = adapter;
+        this.chatId = chatId;
+    }
+
+    public Long botId() {
+        return bot.getId();
+    }
+
+    public BotConfiguration bot() {
+        return bot;
+    }
+
+    public BotPort adapter() {
+        return adapter;
+    }
+
+    public String chatId() {
+        return chatId;
+    }
+
+    /**
+     * Tipo de bot en minúsculas, como se etiquetan las métricas ("telegram", "whatsapp")
+     */
+    public String botType() {
+        return bot.getType().name().toLowerCase();
+    }
+
+    @Override
+    public String toString() {
+        return "MessageContext[botId=" + bot.getId() + ", botType=" + botType() + ", chatId=" + chatId + "]";
+    }
+}
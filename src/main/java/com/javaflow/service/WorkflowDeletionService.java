@@ -0,0 +1,411 @@
+package com.javaflow.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.javaflow.cache.WorkflowCache;
+import com.javaflow.domain.exception.WorkflowNotFoundException;
+import com.javaflow.service.dto.WorkflowDeletionProgress;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.flowable.engine.HistoryService;
+import org.flowable.engine.RepositoryService;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Servicio de borrado de workflows en segundo plano.
+ *
+ * <p>Borrar un workflow con {@code deleteById} hace que Hibernate cargue y borre cada ejecución
+ * una a una (cascade de {@code Workflow.executions}) y deja en Flowable el deployment y el
+ * histórico. Este servicio lo hace por lotes de {@code batch-size} ejecuciones, cada lote en su
+ * propia transacción y con sentencias sobre conjuntos de filas:</p>
+ * <ol>
+ *   <li>Archiva el workflow para que no se inicien nuevas ejecuciones</li>
+ *   <li>Por cada lote: instancias de Flowable (runtime e histórico), system_logs, messages y
+ *       workflow_executions</li>
+ *   <li>Instancias restantes de sus definiciones de proceso y los deployments que solo contienen
+ *       este workflow; las definiciones de un deployment compartido (importación masiva) se suspenden</li>
+ *   <li>La fila del workflow</li>
+ * </ol>
+ *
+ * <p>Los borrados se ejecutan de uno en uno en un hilo propio; el progreso se consulta con el
+ * identificador del job mientras se conserve ({@code job-retention-minutes}).</p>
+ *
+ * @since 1.1.0
+ */
+@Service
+@Slf4j
+public class WorkflowDeletionService {
+
+    private static final String WORKFLOW_NAME_SQL = "SELECT name FROM workflows WHERE id = ?";
+    private static final String COUNT_EXECUTIONS_SQL = "SELECT COUNT(*) FROM workflow_executions WHERE workflow_id = ?";
+    private static final String ARCHIVE_WORKFLOW_SQL =
+            "UPDATE workflows SET status = 'ARCHIVED', updated_at = ? WHERE id = ?";
+    private static final String NEXT_EXECUTIONS_SQL =
+            "SELECT id, process_instance_id FROM workflow_executions WHERE workflow_id = ? ORDER BY id LIMIT ?";
+    private static final String DELETE_LOGS_BY_EXECUTION_SQL =
+            "DELETE FROM system_logs WHERE workflow_execution_id IN (:ids)";
+    private static final String DELETE_LOGS_BY_PROCESS_INSTANCE_SQL =
+            "DELETE FROM system_logs WHERE process_instance_id IN (:processInstanceIds)";
+    private static final String DELETE_MESSAGES_SQL = "DELETE FROM messages WHERE workflow_execution_id IN (:ids)";
+    private static final String DELETE_EXECUTIONS_SQL = "DELETE FROM workflow_executions WHERE id IN (:ids)";
+    private static final String DELETE_WORKFLOW_SQL = "DELETE FROM workflows WHERE id = ?";
+
+    private static final String DELETE_REASON = "Workflow deleted";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RepositoryService repositoryService;
+    private final RuntimeService runtimeService;
+    private final HistoryService historyService;
+    private final WorkflowCache workflowCache;
+    private final int batchSize;
+    private final Cache<String, DeletionJob> jobs;
+    private final ExecutorService executor;
+
+    public WorkflowDeletionService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            RepositoryService repositoryService,
+            RuntimeService runtimeService,
+            HistoryService historyService,
+            WorkflowCache workflowCache,
+            @Value("${javaflow.workflow.deletion.batch-size:1000}") int batchSize,
+            @Value("${javaflow.workflow.deletion.job-retention-minutes:1440}") long jobRetentionMinutes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.repositoryService = repositoryService;
+        this.runtimeService = runtimeService;
+        this.historyService = historyService;
+        this.workflowCache = workflowCache;
+        this.batchSize = batchSize;
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(jobRetentionMinutes))
+                .build();
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "workflow-deletion");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            // Un lote interrumpido hace rollback; el workflow queda archivado y se puede volver a borrar
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Queues the deletion of a workflow and everything that belongs to it.
+     * If the workflow is already being deleted, the existing job is returned.
+     *
+     * @throws WorkflowNotFoundException if the workflow does not exist
+     */
+    public WorkflowDeletionProgress startDeletion(Long workflowId) {
+        synchronized (jobs) {
+            for (DeletionJob job : jobs.asMap().values()) {
+                if (job.workflowId.equals(workflowId) && !job.isFinished()) {
+                    return job.snapshot();
+                }
+            }
+
+            String workflowName;
+            try {
+                workflowName = jdbcTemplate.queryForObject(WORKFLOW_NAME_SQL, String.class, workflowId);
+            } catch (EmptyResultDataAccessException e) {
+                throw new WorkflowNotFoundException(workflowId);
+            }
+
+            DeletionJob job = new DeletionJob(UUID.randomUUID().toString(), workflowId, workflowName);
+            jobs.put(job.jobId, job);
+            try {
+                executor.execute(() -> run(job));
+            } catch (RejectedExecutionException e) {
+                jobs.invalidate(job.jobId);
+                throw new IllegalStateException("Workflow deletion is not available during shutdown", e);
+            }
+            log.info("Queued deletion of workflow '{}' ({}) as job {}", workflowName, workflowId, job.jobId);
+            return job.snapshot();
+        }
+    }
+
+    /**
+     * Current progress of a deletion job.
+     *
+     * @throws DeletionJobNotFoundException if the job does not exist or has expired
+     */
+    public WorkflowDeletionProgress getProgress(String jobId) {
+        DeletionJob job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw new DeletionJobNotFoundException("Workflow deletion job not found: " + jobId);
+        }
+        return job.snapshot();
+    }
+
+    void run(DeletionJob job) {
+        Long workflowId = job.workflowId;
+        try {
+            Long total = jdbcTemplate.queryForObject(COUNT_EXECUTIONS_SQL, Long.class, workflowId);
+            job.start(total != null ? total : 0);
+            log.info("Deleting workflow '{}' ({}) with {} executions", job.workflowName, workflowId, job.totalExecutions);
+
+            // 1. Sin nuevas ejecuciones mientras se borra
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+                    ARCHIVE_WORKFLOW_SQL, Timestamp.valueOf(LocalDateTime.now()), workflowId));
+            workflowCache.workflowRemoved(workflowId);
+
+            // 2. Ejecuciones y todo lo que cuelga de ellas, por lotes
+            while (Boolean.TRUE.equals(transactionTemplate.execute(status -> deleteNextBatch(job)))) {
+                log.debug("Workflow {} deletion: {}/{} executions", workflowId,
+                        job.executionsDeleted.get(), job.totalExecutions);
+            }
+
+            // 3. Definiciones de proceso y deployments de Flowable
+            for (ProcessDefinition definition : findProcessDefinitions(job.workflowName)) {
+                purgeProcessInstances(job, definition);
+            }
+            deleteDeployments(job);
+
+            // 4. El workflow
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(DELETE_WORKFLOW_SQL, workflowId));
+            workflowCache.workflowRemoved(workflowId);
+
+            job.complete();
+            log.info("Deleted workflow '{}' ({}): {} executions, {} messages, {} logs, {} process instances, {} deployments",
+                    job.workflowName, workflowId, job.executionsDeleted.get(), job.messagesDeleted.get(),
+                    job.logsDeleted.get(), job.processInstancesDeleted.get(), job.deploymentsDeleted);
+
+        } catch (RuntimeException e) {
+            log.error("Deletion of workflow '{}' ({}) failed", job.workflowName, workflowId, e);
+            job.fail(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Deletes the next batch of executions of the job's workflow.
+     *
+     * @return Whether there was anything left to delete
+     */
+    private boolean deleteNextBatch(DeletionJob job) {
+        List<Long> ids = new ArrayList<>();
+        Set<String> processInstanceIds = new HashSet<>();
+        jdbcTemplate.query(NEXT_EXECUTIONS_SQL, rs -> {
+            ids.add(rs.getLong("id"));
+            String processInstanceId = rs.getString("process_instance_id");
+            if (processInstanceId != null) {
+                processInstanceIds.add(processInstanceId);
+            }
+        }, job.workflowId, batchSize);
+        if (ids.isEmpty()) {
+            return false;
+        }
+
+        job.processInstancesDeleted.addAndGet(deleteProcessInstances(processInstanceIds));
+
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids)
+                .addValue("processInstanceIds", processInstanceIds);
+        long logs = namedJdbcTemplate.update(DELETE_LOGS_BY_EXECUTION_SQL, params);
+        if (!processInstanceIds.isEmpty()) {
+            logs += namedJdbcTemplate.update(DELETE_LOGS_BY_PROCESS_INSTANCE_SQL, params);
+        }
+        job.logsDeleted.addAndGet(logs);
+        job.messagesDeleted.addAndGet(namedJdbcTemplate.update(DELETE_MESSAGES_SQL, params));
+        job.executionsDeleted.addAndGet(namedJdbcTemplate.update(DELETE_EXECUTIONS_SQL, params));
+        return true;
+    }
+
+    /**
+     * Deletes running and historic process instances with the given IDs.
+     *
+     * @return Number of historic process instances deleted
+     */
+    private int deleteProcessInstances(Set<String> processInstanceIds) {
+        if (processInstanceIds.isEmpty()) {
+            return 0;
+        }
+        List<String> running = runtimeService.createProcessInstanceQuery()
+                .processInstanceIds(processInstanceIds)
+                .list().stream()
+                .map(ProcessInstance::getId)
+                .toList();
+        if (!running.isEmpty()) {
+            runtimeService.bulkDeleteProcessInstances(running, DELETE_REASON);
+        }
+
+        List<String> historic = historyService.createHistoricProcessInstanceQuery()
+                .processInstanceIds(processInstanceIds)
+                .list().stream()
+                .map(HistoricProcessInstance::getId)
+                .toList();
+        if (!historic.isEmpty()) {
+            historyService.bulkDeleteHistoricProcessInstances(historic);
+        }
+        return Math.max(running.size(), historic.size());
+    }
+
+    private List<ProcessDefinition> findProcessDefinitions(String workflowName) {
+        return repositoryService.createProcessDefinitionQuery()
+                .processDefinitionResourceName(resourceName(workflowName))
+                .list();
+    }
+
+    /**
+     * Deletes, in batches, the instances of a definition that were not linked to an execution row.
+     */
+    private void purgeProcessInstances(DeletionJob job, ProcessDefinition definition) {
+        while (true) {
+            List<String> running = runtimeService.createProcessInstanceQuery()
+                    .processDefinitionId(definition.getId())
+                    .listPage(0, batchSize).stream()
+                    .map(ProcessInstance::getId)
+                    .toList();
+            if (running.isEmpty()) {
+                break;
+            }
+            transactionTemplate.executeWithoutResult(status ->
+                    runtimeService.bulkDeleteProcessInstances(running, DELETE_REASON));
+        }
+        while (true) {
+            List<String> historic = historyService.createHistoricProcessInstanceQuery()
+                    .processDefinitionId(definition.getId())
+                    .listPage(0, batchSize).stream()
+                    .map(HistoricProcessInstance::getId)
+                    .toList();
+            if (historic.isEmpty()) {
+                break;
+            }
+            transactionTemplate.executeWithoutResult(status ->
+                    historyService.bulkDeleteHistoricProcessInstances(historic));
+            job.processInstancesDeleted.addAndGet(historic.size());
+        }
+    }
+
+    /**
+     * Deletes the deployments that contain only this workflow. A bulk-import deployment also holds
+     * other workflows, so there the workflow's definitions are suspended instead.
+     */
+    private void deleteDeployments(DeletionJob job) {
+        String resourceName = resourceName(job.workflowName);
+        Map<String, List<ProcessDefinition>> byDeployment = findProcessDefinitions(job.workflowName).stream()
+                .collect(Collectors.groupingBy(ProcessDefinition::getDeploymentId));
+
+        for (Map.Entry<String, List<ProcessDefinition>> entry : byDeployment.entrySet()) {
+            List<String> resources = repositoryService.getDeploymentResourceNames(entry.getKey());
+            boolean dedicated = resources.stream()
+                    .filter(name -> name.endsWith(".bpmn20.xml") || name.endsWith(".bpmn"))
+                    .allMatch(resourceName::equals);
+            if (dedicated) {
+                repositoryService.deleteDeployment(entry.getKey(), true);
+                job.deploymentsDeleted++;
+            } else {
+                entry.getValue().stream()
+                        .filter(definition -> !definition.isSuspended())
+                        .forEach(definition -> repositoryService.suspendProcessDefinitionById(definition.getId()));
+                log.info("Deployment {} is shared with other workflows, suspended the definitions of '{}'",
+                        entry.getKey(), job.workflowName);
+            }
+        }
+    }
+
+    private static String resourceName(String workflowName) {
+        // Mismo nombre de recurso que ActivateWorkflowUseCase e ImportWorkflowsUseCase
+        return workflowName + ".bpmn20.xml";
+    }
+
+    /**
+     * Mutable state of one deletion, updated by the deletion thread and read by the progress queries.
+     */
+    static final class DeletionJob {
+
+        private final String jobId;
+        private final Long workflowId;
+        private final String workflowName;
+        private final AtomicLong executionsDeleted = new AtomicLong();
+        private final AtomicLong messagesDeleted = new AtomicLong();
+        private final AtomicLong logsDeleted = new AtomicLong();
+        private final AtomicLong processInstancesDeleted = new AtomicLong();
+        private volatile WorkflowDeletionProgress.Status status = WorkflowDeletionProgress.Status.QUEUED;
+        private volatile long totalExecutions;
+        private volatile int deploymentsDeleted;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        DeletionJob(String jobId, Long workflowId, String workflowName) {
+            this.jobId = Objects.requireNonNull(jobId);
+            this.workflowId = Objects.requireNonNull(workflowId);
+            this.workflowName = workflowName;
+        }
+
+        void start(long totalExecutions) {
+            this.totalExecutions = totalExecutions;
+            this.startedAt = LocalDateTime.now();
+            this.status = WorkflowDeletionProgress.Status.RUNNING;
+        }
+
+        void complete() {
+            this.finishedAt = LocalDateTime.now();
+            this.status = WorkflowDeletionProgress.Status.COMPLETED;
+        }
+
+        void fail(String error) {
+            this.error = error;
+            this.finishedAt = LocalDateTime.now();
+            this.status = WorkflowDeletionProgress.Status.FAILED;
+        }
+
+        boolean isFinished() {
+            return status == WorkflowDeletionProgress.Status.COMPLETED
+                    || status == WorkflowDeletionProgress.Status.FAILED;
+        }
+
+        WorkflowDeletionProgress snapshot() {
+            WorkflowDeletionProgress.Status current = status;
+            long deleted = executionsDeleted.get();
+            int percent = current == WorkflowDeletionProgress.Status.COMPLETED ? 100
+                    : totalExecutions == 0 ? 0 : (int) Math.min(99, deleted * 100 / totalExecutions);
+            return new WorkflowDeletionProgress(jobId, workflowId, workflowName, current, percent,
+                    totalExecutions, deleted, messagesDeleted.get(), logsDeleted.get(),
+                    processInstancesDeleted.get(), deploymentsDeleted, startedAt, finishedAt, error);
+        }
+    }
+
+    // Custom exceptions
+    public static class DeletionJobNotFoundException extends RuntimeException {
+        public DeletionJobNotFoundException(String message) {
+            super(message);
+        }
+    }
+}
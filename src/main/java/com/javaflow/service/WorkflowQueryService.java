@@ -0,0 +1,113 @@
+package com.javaflow.service;
+
+import com.javaflow.cache.WorkflowCache;
+import com.javaflow.domain.exception.WorkflowNotFoundException;
+import com.javaflow.model.Workflow;
+import com.javaflow.service.dto.WorkflowSummary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Consultas de lectura de workflows.
+ *
+ * <p>Devuelve {@link WorkflowSummary} inmutables, que es lo que se guarda en las cachés de workflows:
+ * sin BPMN, sin proxies lazy ni estado de Hibernate, y con las estadísticas de ejecución calculadas
+ * en la propia consulta (un agregado por workflow) en lugar de cargar la colección de ejecuciones.</p>
+ *
+ * <p>Las cachés se consultan y rellenan a través de {@link WorkflowCache}, que descarta las cargas
+ * solapadas con un cambio para no guardar datos leídos antes de su commit.</p>
+ *
+ * <p>Las estadísticas cacheadas no se actualizan con cada ejecución; su antigüedad la limita la
+ * expiración de las cachés ({@code javaflow.cache.workflows.*}).</p>
+ *
+ * @since 1.1.0
+ */
+@Service
+@Slf4j
+public class WorkflowQueryService {
+
+    private static final String SUMMARY_SQL =
+            "SELECT w.id, w.name, w.description, w.status, w.version, w.created_at, w.updated_at, " +
+            "u.username AS created_by, " +
+            "COALESCE(s.executions, 0) AS executions, " +
+            "COALESCE(s.successful, 0) AS successful, " +
+            "COALESCE(s.failed, 0) AS failed " +
+            "FROM workflows w " +
+            "LEFT JOIN users u ON u.id = w.created_by " +
+            "LEFT JOIN (SELECT e.workflow_id, COUNT(*) AS executions, " +
+            "COUNT(CASE WHEN e.status = 'COMPLETED' THEN 1 END) AS successful, " +
+            "COUNT(CASE WHEN e.status = 'FAILED' THEN 1 END) AS failed " +
+            "FROM workflow_executions e GROUP BY e.workflow_id) s ON s.workflow_id = w.id ";
+
+    private static final String ALL_SQL = SUMMARY_SQL + "ORDER BY w.id";
+
+    private static final String BY_ID_SQL = SUMMARY_SQL + "WHERE w.id = ?";
+
+    private static final RowMapper<WorkflowSummary> SUMMARY_ROW_MAPPER = (rs, rowNum) ->
+            new WorkflowSummary(
+                    rs.getLong("id"),
+                    rs.getString("name"),
+                    rs.getString("description"),
+                    Workflow.WorkflowStatus.valueOf(rs.getString("status")),
+                    rs.getObject("version", Integer.class),
+                    rs.getString("created_by"),
+                    toLocalDateTime(rs.getTimestamp("created_at")),
+                    toLocalDateTime(rs.getTimestamp("updated_at")),
+                    rs.getLong("executions"),
+                    rs.getLong("successful"),
+                    rs.getLong("failed"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final WorkflowCache workflowCache;
+
+    public WorkflowQueryService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                WorkflowCache workflowCache) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.workflowCache = workflowCache;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Resumen de un workflow
+     */
+    public WorkflowSummary getSummary(Long id) {
+        return workflowCache.summary(id, () -> loadSummary(id));
+    }
+
+    /**
+     * Resúmenes de todos los workflows, ordenados por ID
+     */
+    public List<WorkflowSummary> getSummaries() {
+        return workflowCache.summaries(this::loadSummaries);
+    }
+
+    private WorkflowSummary loadSummary(Long id) {
+        List<WorkflowSummary> rows = readOnlyTransaction.execute(status ->
+                jdbcTemplate.query(BY_ID_SQL, SUMMARY_ROW_MAPPER, id));
+        if (rows == null || rows.isEmpty()) {
+            throw new WorkflowNotFoundException(id);
+        }
+        return rows.get(0);
+    }
+
+    private List<WorkflowSummary> loadSummaries() {
+        List<WorkflowSummary> summaries = readOnlyTransaction.execute(status ->
+                jdbcTemplate.query(ALL_SQL, SUMMARY_ROW_MAPPER));
+        log.debug("Loaded {} workflow summaries", summaries.size());
+        return List.copyOf(summaries);
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -1,26 +1,30 @@
 package com.javaflow.service;
 
 import com.javaflow.application.workflow.ActivateWorkflowUseCase;
+import com.javaflow.application.workflow.ChangeExecutionStateUseCase;
 import com.javaflow.application.workflow.CreateWorkflowUseCase;
 import com.javaflow.application.workflow.ExecuteWorkflowUseCase;
 import com.javaflow.application.workflow.command.ActivateWorkflowCommand;
+import com.javaflow.application.workflow.command.ChangeExecutionStateCommand;
 import com.javaflow.application.workflow.command.CreateWorkflowCommand;
 import com.javaflow.application.workflow.command.ExecuteWorkflowCommand;
 import com.javaflow.application.workflow.result.WorkflowExecutionResult;
 import com.javaflow.application.workflow.result.WorkflowResult;
+import com.javaflow.cache.WorkflowCache;
+import com.javaflow.domain.exception.WorkflowExecutionException;
 import com.javaflow.model.Workflow;
 import com.javaflow.model.WorkflowExecution;
 import com.javaflow.model.User;
 import com.javaflow.repository.WorkflowRepository;
 import com.javaflow.repository.WorkflowExecutionRepository;
+import com.javaflow.service.dto.WorkflowDeletionProgress;
+import com.javaflow.service.dto.WorkflowSummary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.flowable.engine.RepositoryService;
 import org.flowable.engine.RuntimeService;
 import org.flowable.engine.repository.Deployment;
 import org.flowable.engine.runtime.ProcessInstance;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,12 +44,16 @@ public class WorkflowService {
     private final WorkflowExecutionRepository executionRepository;
     private final RepositoryService repositoryService;
     private final RuntimeService runtimeService;
-    private final com.javaflow.monitoring.MetricsService metricsService;
+    private final com.javaflow.search.FullTextIndex fullTextIndex;
+    private final WorkflowDeletionService workflowDeletionService;
+    private final WorkflowCache workflowCache;
+    private final WorkflowQueryService workflowQueryService;
     
     // Use Cases
     private final CreateWorkflowUseCase createWorkflowUseCase;
     private final ActivateWorkflowUseCase activateWorkflowUseCase;
     private final ExecuteWorkflowUseCase executeWorkflowUseCase;
+    private final ChangeExecutionStateUseCase changeExecutionStateUseCase;
 
     /**
      * Crear un nuevo workflow
@@ -53,7 +61,6 @@ public class WorkflowService {
      */
     @Deprecated
     @Transactional
-    @CacheEvict(value = "workflows", allEntries = true)
     public Workflow createWorkflow(String name, String description, String bpmnXml, User createdBy) {
         log.warn("Using deprecated createWorkflow method. Consider using CreateWorkflowUseCase directly.");
         
@@ -73,18 +80,32 @@ public class WorkflowService {
     }
 
     /**
-     * Obtener workflow por ID
+     * Obtener workflow por ID (entidad completa, sin caché)
      */
-    @Cacheable(value = "workflows", key = "#id")
+    @Transactional(readOnly = true)
     public Workflow getWorkflow(Long id) {
         return workflowRepository.findById(id)
                 .orElseThrow(() -> new com.javaflow.domain.exception.WorkflowNotFoundException(id));
     }
 
+    /**
+     * Resumen cacheado de un workflow, para vistas y respuestas de solo lectura
+     */
+    public WorkflowSummary getWorkflowSummary(Long id) {
+        return workflowQueryService.getSummary(id);
+    }
+
+    /**
+     * Resúmenes cacheados de todos los workflows, para vistas y respuestas de solo lectura
+     */
+    public List<WorkflowSummary> getWorkflowSummaries() {
+        return workflowQueryService.getSummaries();
+    }
+
     /**
      * Listar todos los workflows
      */
-    @Cacheable(value = "workflows")
+    @Transactional(readOnly = true)
     public List<Workflow> getAllWorkflows() {
         return workflowRepository.findAll();
     }
@@ -92,7 +113,7 @@ public class WorkflowService {
     /**
      * Listar todos los workflows con creador (optimizado - previene N+1)
      */
-    @Cacheable(value = "workflows", key = "'all-with-creator'")
+    @Transactional(readOnly = true)
     public List<Workflow> getAllWorkflowsWithCreator() {
         return workflowRepository.findAllWithCreator();
     }
@@ -100,7 +121,7 @@ public class WorkflowService {
     /**
      * Listar todos los workflows con ejecuciones (optimizado para dashboard)
      */
-    @Cacheable(value = "workflows", key = "'all-with-executions'")
+    @Transactional(readOnly = true)
     public List<Workflow> getAllWorkflowsWithExecutions() {
         return workflowRepository.findAllWithExecutions();
     }
@@ -108,6 +129,7 @@ public class WorkflowService {
     /**
      * Listar workflows por usuario
      */
+    @Transactional(readOnly = true)
     public List<Workflow> getWorkflowsByUser(Long userId) {
         return workflowRepository.findByCreatedById(userId);
     }
@@ -118,7 +140,6 @@ public class WorkflowService {
      */
     @Deprecated
     @Transactional
-    @CacheEvict(value = "workflows", key = "#id")
     public Workflow activateWorkflow(Long id) {
         log.warn("Using deprecated activateWorkflow method. Consider using ActivateWorkflowUseCase directly.");
         
@@ -141,13 +162,14 @@ public class WorkflowService {
      * Desactivar un workflow
      */
     @Transactional
-    @CacheEvict(value = "workflows", key = "#id")
     public Workflow deactivateWorkflow(Long id) {
         log.info("Deactivating workflow: {}", id);
         
         Workflow workflow = getWorkflow(id);
         workflow.setStatus(Workflow.WorkflowStatus.INACTIVE);
-        return workflowRepository.save(workflow);
+        Workflow saved = workflowRepository.save(workflow);
+        workflowCache.workflowChanged(saved);
+        return saved;
     }
 
     /**
@@ -194,6 +216,7 @@ public class WorkflowService {
     /**
      * Listar ejecuciones de un workflow
      */
+    @Transactional(readOnly = true)
     public List<WorkflowExecution> getExecutionsByWorkflow(Long workflowId) {
         return executionRepository.findByWorkflowId(workflowId);
     }
@@ -201,13 +224,16 @@ public class WorkflowService {
     /**
      * Listar ejecuciones recientes
      */
+    @Transactional(readOnly = true)
     public List<WorkflowExecution> getRecentExecutions(int hours) {
         LocalDateTime since = LocalDateTime.now().minusHours(hours);
         return executionRepository.findRecentExecutions(since);
     }
 
     /**
-     * Cancelar una ejecución
+     * Cancelar una ejecución.
+     * La transición se aplica con compare-and-set antes de borrar la instancia en Flowable, así el
+     * listener de fin que dispara el borrado ya no puede marcarla como COMPLETED.
      */
     @Transactional
     public void cancelExecution(Long executionId) {
@@ -215,48 +241,79 @@ public class WorkflowService {
         
         WorkflowExecution execution = getExecution(executionId);
         
-        // Cancelar en Flowable
+        WorkflowExecution.ExecutionStatus cancelled = WorkflowExecution.ExecutionStatus.CANCELLED;
+        int updated = executionRepository.compareAndSetStatus(execution.getProcessInstanceId(),
+                cancelled.allowedSources(), cancelled, LocalDateTime.now(), null);
+        if (updated == 0) {
+            throw new WorkflowExecutionException(
+                String.format("Cannot cancel execution %d: it has already finished", executionId)
+            );
+        }
+        
+        // Cancelar en Flowable (misma transacción: si falla, la ejecución sigue como estaba)
         runtimeService.deleteProcessInstance(
                 execution.getProcessInstanceId(),
                 "Cancelled by user"
         );
-        
-        // Actualizar estado
-        execution.setStatus(WorkflowExecution.ExecutionStatus.CANCELLED);
-        execution.setEndedAt(LocalDateTime.now());
-        executionRepository.save(execution);
     }
 
     /**
-     * Actualizar estado de ejecución (llamado por listeners de Flowable)
+     * Actualizar estado de ejecución (llamado por listeners de Flowable).
+     * Usa compare-and-set: si la ejecución ya no está en un estado desde el que se permite la
+     * transición (p. ej. fue cancelada entretanto), no se sobrescribe y se ignora el evento.
+     *
+     * @return true si se aplicó la transición
      */
     @Transactional
-    public void updateExecutionStatus(String processInstanceId, 
-                                     WorkflowExecution.ExecutionStatus status,
-                                     String errorMessage) {
-        WorkflowExecution execution = getExecutionByProcessInstanceId(processInstanceId);
-        execution.setStatus(status);
+    public boolean updateExecutionStatus(String processInstanceId, 
+                                         WorkflowExecution.ExecutionStatus status,
+                                         String errorMessage) {
+        LocalDateTime endedAt = status.isTerminal() ? LocalDateTime.now() : null;
+        int updated = executionRepository.compareAndSetStatus(processInstanceId, status.allowedSources(),
+                status, endedAt, errorMessage);
         
-        if (status == WorkflowExecution.ExecutionStatus.COMPLETED ||
-            status == WorkflowExecution.ExecutionStatus.FAILED ||
-            status == WorkflowExecution.ExecutionStatus.CANCELLED) {
-            execution.setEndedAt(LocalDateTime.now());
+        if (updated == 0) {
+            WorkflowExecution current = getExecutionByProcessInstanceId(processInstanceId);
+            log.info("Ignoring transition of execution {} to {}: current status is {}",
+                    current.getId(), status, current.getStatus());
+            return false;
         }
-        
-        if (errorMessage != null) {
-            execution.setErrorMessage(errorMessage);
+
+        if (status == WorkflowExecution.ExecutionStatus.FAILED && errorMessage != null) {
+            WorkflowExecution execution = getExecutionByProcessInstanceId(processInstanceId);
+            fullTextIndex.indexAfterCommit(com.javaflow.search.SearchDocument.executionError(
+                    execution.getId(), execution.getWorkflow().getName(), errorMessage, endedAt));
         }
-        
-        executionRepository.save(execution);
+        return true;
     }
 
     /**
-     * Eliminar workflow
+     * Suspender una ejecución en curso
      */
-    @Transactional
-    @CacheEvict(value = "workflows", key = "#id")
-    public void deleteWorkflow(Long id) {
+    public WorkflowExecutionResult suspendExecution(Long executionId) {
+        return changeExecutionStateUseCase.execute(ChangeExecutionStateCommand.suspend(executionId));
+    }
+
+    /**
+     * Reanudar una ejecución suspendida
+     */
+    public WorkflowExecutionResult resumeExecution(Long executionId) {
+        return changeExecutionStateUseCase.execute(ChangeExecutionStateCommand.resume(executionId));
+    }
+
+    /**
+     * Eliminar workflow con sus ejecuciones, mensajes, logs y datos de Flowable.
+     * El borrado se hace en segundo plano; el progreso se consulta con {@link #getDeletionProgress}.
+     */
+    public WorkflowDeletionProgress deleteWorkflow(Long id) {
         log.info("Deleting workflow: {}", id);
-        workflowRepository.deleteById(id);
+        return workflowDeletionService.startDeletion(id);
+    }
+
+    /**
+     * Progreso de un borrado iniciado con {@link #deleteWorkflow}
+     */
+    public WorkflowDeletionProgress getDeletionProgress(String jobId) {
+        return workflowDeletionService.getProgress(jobId);
     }
 }
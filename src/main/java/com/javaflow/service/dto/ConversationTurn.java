@@ -0,0 +1,51 @@
+package com.javaflow.service.dto;
+
+import com.javaflow.archive.ArchivedMessage;
+import com.javaflow.model.Message;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable, detached copy of a chat message kept in the conversation cache.
+ *
+ * @param messageId Message ID
+ * @param chatId    Chat ID
+ * @param userId    User ID on the external platform (null for outbound messages)
+ * @param direction INBOUND or OUTBOUND
+ * @param content   Message content
+ * @param createdAt Creation timestamp
+ * @since 1.1.0
+ */
+public record ConversationTurn(
+        Long messageId,
+        String chatId,
+        String userId,
+        Message.MessageDirection direction,
+        String content,
+        LocalDateTime createdAt
+) {
+
+    /** Approximate fixed heap cost of one turn: record header, fields and timestamp. */
+    private static final int BASE_BYTES = 96;
+
+    public static ConversationTurn from(Message message) {
+        return new ConversationTurn(message.getId(), message.getChatId(), message.getUserId(),
+                message.getDirection(), message.getContent(), message.getCreatedAt());
+    }
+
+    public static ConversationTurn from(ArchivedMessage message) {
+        return new ConversationTurn(message.id(), message.chatId(), message.userId(),
+                message.direction(), message.content(), message.createdAt());
+    }
+
+    /**
+     * Rough heap size of this turn, used to bound the total memory of the cache.
+     */
+    public int estimatedBytes() {
+        return BASE_BYTES + stringBytes(chatId) + stringBytes(userId) + stringBytes(content);
+    }
+
+    private static int stringBytes(String value) {
+        return value == null ? 0 : 40 + value.length() * 2;
+    }
+}
@@ -0,0 +1,44 @@
+package com.javaflow.service.dto;
+
+import com.javaflow.model.WorkflowExecution;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Immutable snapshot of the dashboard counters and most recent executions.
+ *
+ * @param totalWorkflows   Number of workflows
+ * @param activeWorkflows  Number of workflows in ACTIVE status
+ * @param activeBots       Number of bots in ACTIVE status
+ * @param recentExecutions Number of executions started inside the recent window
+ * @param latestExecutions Most recent executions, newest first
+ * @param generatedAt      When the snapshot was computed
+ * @since 1.1.0
+ */
+public record DashboardSnapshot(
+        long totalWorkflows,
+        long activeWorkflows,
+        long activeBots,
+        long recentExecutions,
+        List<ExecutionRow> latestExecutions,
+        LocalDateTime generatedAt
+) {
+
+    /**
+     * Empty snapshot shown while the database is not available.
+     */
+    public static DashboardSnapshot empty() {
+        return new DashboardSnapshot(0, 0, 0, 0, List.of(), LocalDateTime.now());
+    }
+
+    /**
+     * One row of the recent executions table.
+     */
+    public record ExecutionRow(
+            Long executionId,
+            String workflowName,
+            WorkflowExecution.ExecutionStatus status,
+            LocalDateTime startedAt
+    ) {}
+}
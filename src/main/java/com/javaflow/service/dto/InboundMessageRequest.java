@@ -3,6 +3,8 @@ package com.javaflow.service.dto;
 import lombok.Builder;
 import lombok.Value;
 
+import java.util.Map;
+
 /**
  * Request object for processing inbound bot messages.
  * Reduces parameter list from 5 to 1 parameter.
@@ -17,6 +19,7 @@ public class InboundMessageRequest {
     String userId;
     String content;
     String externalId;
+    Map<String, Object> metadata;
     
     /**
      * Creates a request for an inbound message.
@@ -0,0 +1,47 @@
+package com.javaflow.service.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable view of a background workflow deletion (see WorkflowDeletionService).
+ *
+ * @param jobId                    Identifier to poll the job with
+ * @param workflowId               Workflow being deleted
+ * @param workflowName             Name of the workflow
+ * @param status                   Current state of the job
+ * @param percentComplete          Share of the executions already deleted (100 once completed)
+ * @param totalExecutions          Executions the workflow had when the job started
+ * @param executionsDeleted        Executions deleted so far
+ * @param messagesDeleted          Messages of those executions deleted so far
+ * @param logsDeleted              System logs of those executions deleted so far
+ * @param processInstancesDeleted  Flowable process instances (runtime or history) deleted so far
+ * @param deploymentsDeleted       Flowable deployments deleted
+ * @param startedAt                When the job started running
+ * @param finishedAt               When the job completed or failed
+ * @param error                    Failure reason, if the job failed
+ * @since 1.1.0
+ */
+public record WorkflowDeletionProgress(
+        String jobId,
+        Long workflowId,
+        String workflowName,
+        Status status,
+        int percentComplete,
+        long totalExecutions,
+        long executionsDeleted,
+        long messagesDeleted,
+        long logsDeleted,
+        long processInstancesDeleted,
+        int deploymentsDeleted,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String error
+) {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
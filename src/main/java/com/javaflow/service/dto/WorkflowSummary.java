@@ -0,0 +1,81 @@
+package com.javaflow.service.dto;
+
+import com.javaflow.model.Workflow;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable read model of a workflow, kept in the workflow caches instead of the JPA entity.
+ * Carries no BPMN XML and has the execution statistics already computed.
+ *
+ * @param id                   Workflow ID
+ * @param name                 Workflow name
+ * @param description          Description (may be null)
+ * @param status               Workflow status
+ * @param version              Version
+ * @param createdBy            Username of the creator (null if unknown)
+ * @param createdAt            Creation timestamp
+ * @param updatedAt            Last update timestamp
+ * @param executionCount       Total executions
+ * @param successfulExecutions Executions in COMPLETED
+ * @param failedExecutions     Executions in FAILED
+ * @since 1.1.0
+ */
+public record WorkflowSummary(
+        Long id,
+        String name,
+        String description,
+        Workflow.WorkflowStatus status,
+        Integer version,
+        String createdBy,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        long executionCount,
+        long successfulExecutions,
+        long failedExecutions
+) {
+
+    /** Approximate fixed heap cost of one summary: record header, fields, version and two timestamps. */
+    private static final int BASE_BYTES = 256;
+
+    /**
+     * Summary of a workflow without execution statistics (e.g. just created).
+     * Reads the creator, so it must be called while the entity can still load it.
+     */
+    public static WorkflowSummary from(Workflow workflow) {
+        return new WorkflowSummary(workflow.getId(), workflow.getName(), workflow.getDescription(),
+                workflow.getStatus(), workflow.getVersion(),
+                workflow.getCreatedBy() != null ? workflow.getCreatedBy().getUsername() : null,
+                workflow.getCreatedAt(), workflow.getUpdatedAt(), 0, 0, 0);
+    }
+
+    /**
+     * Same workflow data with the execution statistics of another summary.
+     */
+    public WorkflowSummary withStatsOf(WorkflowSummary other) {
+        return new WorkflowSummary(id, name, description, status, version, createdBy, createdAt, updatedAt,
+                other.executionCount, other.successfulExecutions, other.failedExecutions);
+    }
+
+    public boolean isActive() {
+        return status == Workflow.WorkflowStatus.ACTIVE;
+    }
+
+    /**
+     * Success rate in percent (0 without executions).
+     */
+    public double successRate() {
+        return executionCount == 0 ? 0.0 : (double) successfulExecutions / executionCount * 100;
+    }
+
+    /**
+     * Rough heap size of this summary, used to bound the workflow caches in bytes.
+     */
+    public int estimatedBytes() {
+        return BASE_BYTES + stringBytes(name) + stringBytes(description) + stringBytes(createdBy);
+    }
+
+    private static int stringBytes(String value) {
+        return value == null ? 0 : 40 + value.length() * 2;
+    }
+}
@@ -83,6 +83,13 @@ public class MainLayout extends AppLayout {
             VaadinIcon.CHAT.create()
         ));
 
+        // Búsqueda
+        nav.addItem(new SideNavItem(
+            "Búsqueda",
+            SearchView.class,
+            VaadinIcon.SEARCH.create()
+        ));
+
         // Logs
         nav.addItem(new SideNavItem(
             "Logs",
@@ -0,0 +1,112 @@
+package com.javaflow.ui.rest;
+
+import com.javaflow.application.dto.common.PageResponse;
+import com.javaflow.application.dto.workflow.WorkflowExecutionResponse;
+import com.javaflow.application.workflow.ChangeExecutionStateUseCase;
+import com.javaflow.application.workflow.SearchExecutionsUseCase;
+import com.javaflow.application.workflow.command.ChangeExecutionStateCommand;
+import com.javaflow.application.workflow.query.SearchExecutionsQuery;
+import com.javaflow.application.workflow.result.ExecutionSearchResult;
+import com.javaflow.application.workflow.result.WorkflowExecutionResult;
+import com.javaflow.model.WorkflowExecution;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * REST API controller for workflow executions across all workflows
+ */
+@RestController
+@RequestMapping("/api/v1/executions")
+@RequiredArgsConstructor
+@Slf4j
+public class ExecutionRestController {
+
+    private final SearchExecutionsUseCase searchExecutionsUseCase;
+    private final ChangeExecutionStateUseCase changeExecutionStateUseCase;
+
+    /**
+     * Search executions.
+     *
+     * Example: {@code GET /api/v1/executions?workflowId=3&status=FAILED&status=CANCELLED&from=2025-01-01T00:00:00&errorPrefix=Timeout}
+     */
+    @GetMapping
+    public ResponseEntity<PageResponse<WorkflowExecutionResponse>> searchExecutions(
+            @RequestParam(required = false) Long workflowId,
+            @RequestParam(name = "status", required = false) List<WorkflowExecution.ExecutionStatus> statuses,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Long startedBy,
+            @RequestParam(required = false) String errorPrefix,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.debug("Searching executions - workflow: {}, statuses: {}, page: {}, size: {}", workflowId, statuses, page, size);
+
+        SearchExecutionsQuery query = SearchExecutionsQuery.builder()
+                .workflowId(workflowId)
+                .statuses(toStatusSet(statuses))
+                .startedFrom(from)
+                .startedTo(to)
+                .startedByUserId(startedBy)
+                .errorPrefix(errorPrefix)
+                .page(page)
+                .size(size)
+                .build();
+
+        ExecutionSearchResult result = searchExecutionsUseCase.execute(query);
+        List<WorkflowExecutionResponse> responses = result.getExecutions().stream()
+                .map(WorkflowExecutionResponse::from)
+                .toList();
+
+        return ResponseEntity.ok(PageResponse.of(responses, result.getPage(), result.getSize(), result.getTotalElements()));
+    }
+
+    /**
+     * Suspend a running execution
+     */
+    @PostMapping("/{id}/suspend")
+    public ResponseEntity<WorkflowExecutionResponse> suspendExecution(@PathVariable Long id) {
+        log.info("Suspending execution: {}", id);
+        WorkflowExecutionResult result = changeExecutionStateUseCase.execute(ChangeExecutionStateCommand.suspend(id));
+        return ResponseEntity.ok(toResponse(result));
+    }
+
+    /**
+     * Resume a suspended execution
+     */
+    @PostMapping("/{id}/resume")
+    public ResponseEntity<WorkflowExecutionResponse> resumeExecution(@PathVariable Long id) {
+        log.info("Resuming execution: {}", id);
+        WorkflowExecutionResult result = changeExecutionStateUseCase.execute(ChangeExecutionStateCommand.resume(id));
+        return ResponseEntity.ok(toResponse(result));
+    }
+
+    private static WorkflowExecutionResponse toResponse(WorkflowExecutionResult result) {
+        return WorkflowExecutionResponse.builder()
+                .id(result.getExecutionId())
+                .workflowId(result.getWorkflowId())
+                .workflowName(result.getWorkflowName())
+                .processInstanceId(result.getProcessInstanceId())
+                .status(result.getStatus().toString())
+                .startedAt(result.getStartedAt())
+                .startedBy(result.getStartedByUsername())
+                .build();
+    }
+
+    private static Set<WorkflowExecution.ExecutionStatus> toStatusSet(List<WorkflowExecution.ExecutionStatus> statuses) {
+        return statuses == null || statuses.isEmpty() ? null : EnumSet.copyOf(statuses);
+    }
+}
@@ -0,0 +1,128 @@
+package com.javaflow.ui.rest;
+
+import com.javaflow.export.ExecutionExportFilter;
+import com.javaflow.export.ExportFormat;
+import com.javaflow.export.MessageExportFilter;
+import com.javaflow.export.StreamingExportService;
+import com.javaflow.model.Message;
+import com.javaflow.model.WorkflowExecution;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * REST API for bulk exports of executions and messages as NDJSON or CSV.
+ *
+ * <p>Rows are streamed from the database to the response (see {@link StreamingExportService}).
+ * The response is gzip-compressed when the client sends {@code Accept-Encoding: gzip}
+ * (for example {@code curl --compressed}).</p>
+ *
+ * <p>Both exports require the ADMIN role (see {@link com.javaflow.config.ApiSecurityConfig}).</p>
+ */
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+@Slf4j
+public class ExportRestController {
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final StreamingExportService exportService;
+
+    /**
+     * Export executions, oldest first.
+     *
+     * Example: {@code GET /api/v1/executions/export?format=CSV&status=FAILED&from=2025-01-01T00:00:00}
+     */
+    @GetMapping("/executions/export")
+    public ResponseEntity<StreamingResponseBody> exportExecutions(
+            @RequestParam(required = false) Long workflowId,
+            @RequestParam(name = "status", required = false) List<WorkflowExecution.ExecutionStatus> statuses,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Long startedBy,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        log.info("Exporting executions as {} - workflow: {}, statuses: {}, from: {}, to: {}",
+                format, workflowId, statuses, from, to);
+
+        ExecutionExportFilter filter = ExecutionExportFilter.builder()
+                .workflowId(workflowId)
+                .statuses(statuses == null || statuses.isEmpty() ? null : EnumSet.copyOf(statuses))
+                .startedFrom(from)
+                .startedTo(to)
+                .startedByUserId(startedBy)
+                .build();
+
+        return streaming("executions", format, acceptEncoding,
+                out -> exportService.exportExecutions(filter, format, out));
+    }
+
+    /**
+     * Export messages, oldest first.
+     *
+     * Example: {@code GET /api/v1/messages/export?botId=2&direction=INBOUND&from=2025-01-01T00:00:00}
+     */
+    @GetMapping("/messages/export")
+    public ResponseEntity<StreamingResponseBody> exportMessages(
+            @RequestParam(required = false) Long botId,
+            @RequestParam(required = false) String chatId,
+            @RequestParam(required = false) Message.MessageDirection direction,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        log.info("Exporting messages as {} - bot: {}, chat: {}, direction: {}, from: {}, to: {}",
+                format, botId, chatId, direction, from, to);
+
+        MessageExportFilter filter = MessageExportFilter.builder()
+                .botId(botId)
+                .chatId(chatId)
+                .direction(direction)
+                .createdFrom(from)
+                .createdTo(to)
+                .build();
+
+        return streaming("messages", format, acceptEncoding,
+                out -> exportService.exportMessages(filter, format, out));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> streaming(
+            String name, ExportFormat format, String acceptEncoding, StreamingResponseBody export) {
+
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        StreamingResponseBody body = !gzip ? export : out -> {
+            try (OutputStream compressed = new GZIPOutputStream(out, GZIP_BUFFER_SIZE)) {
+                export.writeTo(compressed);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + name + "-" + LocalDate.now() + "." + format.getExtension() + "\"")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.parseMediaType(format.getMediaType()));
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+}
@@ -3,10 +3,16 @@ package com.javaflow.ui.rest;
 import com.javaflow.application.workflow.ActivateWorkflowUseCase;
 import com.javaflow.application.workflow.CreateWorkflowUseCase;
 import com.javaflow.application.workflow.ExecuteWorkflowUseCase;
+import com.javaflow.application.workflow.ImportWorkflowsUseCase;
+import com.javaflow.application.workflow.SearchExecutionsUseCase;
+import com.javaflow.application.workflow.bundle.WorkflowBundleCodec;
 import com.javaflow.domain.exception.WorkflowDomainException;
+import com.javaflow.domain.exception.WorkflowExecutionNotFoundException;
+import com.javaflow.service.WorkflowDeletionService;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -45,13 +51,91 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(error);
     }
 
+    /**
+     * Handle invalid search parameters
+     */
+    @ExceptionHandler(SearchExecutionsUseCase.InvalidSearchException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidSearchException(RuntimeException ex) {
+        log.warn("Invalid search: {}", ex.getMessage());
+        
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("Invalid Search")
+                .message(ex.getMessage())
+                .path("/api/v1/executions")
+                .build();
+        
+        return ResponseEntity.badRequest().body(error);
+    }
+
+    /**
+     * Handle invalid workflow data and bundles (single create and bulk import)
+     */
+    @ExceptionHandler({
+        CreateWorkflowUseCase.InvalidWorkflowDataException.class,
+        ImportWorkflowsUseCase.InvalidWorkflowBundleException.class,
+        WorkflowBundleCodec.InvalidBundleException.class
+    })
+    public ResponseEntity<ErrorResponse> handleInvalidWorkflowData(RuntimeException ex) {
+        log.warn("Invalid workflow data: {}", ex.getMessage());
+        
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("Invalid Workflow")
+                .message(ex.getMessage())
+                .path("/api/v1/workflows")
+                .build();
+        
+        return ResponseEntity.badRequest().body(error);
+    }
+
+    /**
+     * Handle workflow names that are already taken
+     */
+    @ExceptionHandler(CreateWorkflowUseCase.WorkflowAlreadyExistsException.class)
+    public ResponseEntity<ErrorResponse> handleWorkflowAlreadyExists(RuntimeException ex) {
+        log.warn("Workflow already exists: {}", ex.getMessage());
+        
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Workflow Already Exists")
+                .message(ex.getMessage())
+                .path("/api/v1/workflows")
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    /**
+     * Handle concurrent modifications that could not be resolved by retrying
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        log.warn("Concurrent modification: {}", ex.getMessage());
+        
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Concurrent Modification")
+                .message("The resource was modified concurrently, please retry")
+                .path("/api/v1/executions")
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
     /**
      * Handle use case specific exceptions
      */
     @ExceptionHandler({
         ExecuteWorkflowUseCase.WorkflowNotFoundException.class,
         ActivateWorkflowUseCase.WorkflowNotFoundException.class,
-        CreateWorkflowUseCase.UserNotFoundException.class
+        CreateWorkflowUseCase.UserNotFoundException.class,
+        WorkflowExecutionNotFoundException.class,
+        WorkflowDeletionService.DeletionJobNotFoundException.class
     })
     public ResponseEntity<ErrorResponse> handleNotFoundException(RuntimeException ex) {
         log.warn("Not found exception: {}", ex.getMessage());
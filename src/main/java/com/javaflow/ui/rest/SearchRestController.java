@@ -0,0 +1,44 @@
+package com.javaflow.ui.rest;
+
+import com.javaflow.search.FullTextIndex;
+import com.javaflow.search.SearchDocument;
+import com.javaflow.search.SearchHit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST API controller for full-text search over messages and execution errors
+ */
+@RestController
+@RequestMapping("/api/v1/search")
+@RequiredArgsConstructor
+@Slf4j
+public class SearchRestController {
+
+    static final int MAX_LIMIT = 200;
+
+    private final FullTextIndex fullTextIndex;
+
+    /**
+     * Search messages and execution errors, newest first.
+     *
+     * Example: {@code GET /api/v1/search?q=timeout conexi*&type=EXECUTION_ERROR&limit=20}
+     */
+    @GetMapping
+    public ResponseEntity<List<SearchHit>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) SearchDocument.DocumentType type,
+            @RequestParam(defaultValue = "50") int limit) {
+
+        log.debug("Full-text search - query: {}, type: {}, limit: {}", q, type, limit);
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+        return ResponseEntity.ok(fullTextIndex.search(q, type, boundedLimit));
+    }
+}
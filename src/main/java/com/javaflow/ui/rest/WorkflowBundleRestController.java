@@ -0,0 +1,79 @@
+package com.javaflow.ui.rest;
+
+import com.javaflow.application.dto.workflow.WorkflowImportResponse;
+import com.javaflow.application.workflow.ExportWorkflowsUseCase;
+import com.javaflow.application.workflow.ImportWorkflowsUseCase;
+import com.javaflow.application.workflow.bundle.WorkflowBundleCodec;
+import com.javaflow.application.workflow.bundle.WorkflowBundleEntry;
+import com.javaflow.application.workflow.command.ImportWorkflowsCommand;
+import com.javaflow.application.workflow.query.ExportWorkflowsQuery;
+import com.javaflow.application.workflow.result.WorkflowImportResult;
+import com.javaflow.model.Workflow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * REST API for moving workflow definitions between environments as a single bundle archive
+ * (see {@link WorkflowBundleCodec} for the format).
+ */
+@RestController
+@RequestMapping("/api/v1/workflows")
+@RequiredArgsConstructor
+@Slf4j
+public class WorkflowBundleRestController {
+
+    static final String ZIP_MEDIA_TYPE = "application/zip";
+
+    private final ImportWorkflowsUseCase importWorkflowsUseCase;
+    private final ExportWorkflowsUseCase exportWorkflowsUseCase;
+    private final WorkflowBundleCodec bundleCodec;
+
+    /**
+     * Import every workflow of a bundle; nothing is imported if any of them is invalid or already exists
+     */
+    @PostMapping(value = "/import", consumes = {ZIP_MEDIA_TYPE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<WorkflowImportResponse> importWorkflows(
+            InputStream archive,
+            @RequestHeader(value = "X-User-Id", required = false) Long userId) {
+
+        List<WorkflowBundleEntry> entries = bundleCodec.read(archive);
+        log.info("Importing workflow bundle with {} workflows", entries.size());
+
+        WorkflowImportResult result = importWorkflowsUseCase.execute(
+                ImportWorkflowsCommand.of(entries, userId != null ? userId : 1L)); // Default user for demo
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(WorkflowImportResponse.from(result));
+    }
+
+    /**
+     * Export workflows as a bundle: the given IDs, all workflows with a status, or every non-archived workflow
+     */
+    @GetMapping(value = "/export", produces = ZIP_MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> exportWorkflows(
+            @RequestParam(required = false) Set<Long> ids,
+            @RequestParam(required = false) Workflow.WorkflowStatus status) {
+
+        List<WorkflowBundleEntry> entries = exportWorkflowsUseCase.execute(ExportWorkflowsQuery.builder()
+                .workflowIds(ids)
+                .status(status)
+                .build());
+
+        StreamingResponseBody body = out -> bundleCodec.write(entries, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"workflows-" + LocalDate.now() + ".zip\"")
+                .contentType(MediaType.parseMediaType(ZIP_MEDIA_TYPE))
+                .body(body);
+    }
+}
@@ -10,8 +10,9 @@ import com.javaflow.application.workflow.command.CreateWorkflowCommand;
 import com.javaflow.application.workflow.command.ExecuteWorkflowCommand;
 import com.javaflow.application.workflow.result.WorkflowExecutionResult;
 import com.javaflow.application.workflow.result.WorkflowResult;
-import com.javaflow.model.Workflow;
 import com.javaflow.service.WorkflowService;
+import com.javaflow.service.dto.WorkflowDeletionProgress;
+import com.javaflow.service.dto.WorkflowSummary;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +20,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.List;
 
 /**
@@ -82,7 +84,7 @@ public class WorkflowRestController {
         
         log.debug("Getting workflows - page: {}, size: {}", page, size);
         
-        List<Workflow> workflows = workflowService.getAllWorkflows();
+        List<WorkflowSummary> workflows = workflowService.getWorkflowSummaries();
         List<WorkflowResponse> responses = workflows.stream()
                 .map(WorkflowResponse::from)
                 .toList();
@@ -98,7 +100,7 @@ public class WorkflowRestController {
     public ResponseEntity<WorkflowResponse> getWorkflow(@PathVariable Long id) {
         log.debug("Getting workflow: {}", id);
         
-        Workflow workflow = workflowService.getWorkflow(id);
+        WorkflowSummary workflow = workflowService.getWorkflowSummary(id);
         WorkflowResponse response = WorkflowResponse.from(workflow);
         
         return ResponseEntity.ok(response);
@@ -178,4 +180,27 @@ public class WorkflowRestController {
         PageResponse<WorkflowExecutionResponse> pageResponse = PageResponse.single(responses);
         return ResponseEntity.ok(pageResponse);
     }
-}
\ No newline at end of file
+
+    /**
+     * Delete a workflow with its executions, messages, logs and Flowable data.
+     * The deletion runs in the background; poll the returned Location for progress.
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<WorkflowDeletionProgress> deleteWorkflow(@PathVariable Long id) {
+        log.info("Deleting workflow: {}", id);
+
+        WorkflowDeletionProgress progress = workflowService.deleteWorkflow(id);
+
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/workflows/deletions/" + progress.jobId()))
+                .body(progress);
+    }
+
+    /**
+     * Get the progress of a workflow deletion
+     */
+    @GetMapping("/deletions/{jobId}")
+    public ResponseEntity<WorkflowDeletionProgress> getDeletionProgress(@PathVariable String jobId) {
+        return ResponseEntity.ok(workflowService.getDeletionProgress(jobId));
+    }
+}
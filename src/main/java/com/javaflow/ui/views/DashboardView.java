@@ -1,9 +1,8 @@
 package com.javaflow.ui.views;
 
-import com.javaflow.model.Workflow;
 import com.javaflow.model.WorkflowExecution;
-import com.javaflow.service.BotService;
-import com.javaflow.service.WorkflowService;
+import com.javaflow.service.DashboardQueryService;
+import com.javaflow.service.dto.DashboardSnapshot;
 import com.javaflow.ui.MainLayout;
 import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.html.H2;
@@ -15,8 +14,6 @@ import com.vaadin.flow.router.Route;
 import com.vaadin.flow.theme.lumo.LumoUtility;
 import jakarta.annotation.security.PermitAll;
 
-import java.util.List;
-
 /**
  * Vista de Dashboard principal
  */
@@ -25,61 +22,43 @@ import java.util.List;
 @PermitAll
 public class DashboardView extends VerticalLayout {
 
-    private final WorkflowService workflowService;
-    private final BotService botService;
-
-    public DashboardView(WorkflowService workflowService, BotService botService) {
-        this.workflowService = workflowService;
-        this.botService = botService;
-
+    public DashboardView(DashboardQueryService dashboardQueryService) {
         setSpacing(true);
         setPadding(true);
 
         add(new H2("Dashboard"));
 
+        // Snapshot compartido: una consulta agregada + últimas ejecuciones, cacheado entre sesiones
+        DashboardSnapshot snapshot = loadSnapshot(dashboardQueryService);
+
         // Métricas principales
-        HorizontalLayout metrics = createMetrics();
+        HorizontalLayout metrics = createMetrics(snapshot);
         add(metrics);
 
         // Ejecuciones recientes
         add(new H2("Ejecuciones Recientes"));
-        VerticalLayout recentExecutions = createRecentExecutions();
+        VerticalLayout recentExecutions = createRecentExecutions(snapshot);
         add(recentExecutions);
     }
 
-    private HorizontalLayout createMetrics() {
-        HorizontalLayout layout = new HorizontalLayout();
-        layout.setWidthFull();
-        layout.setSpacing(true);
-
+    private DashboardSnapshot loadSnapshot(DashboardQueryService dashboardQueryService) {
         try {
-            // Use optimized query to prevent N+1 (loads all workflows once)
-            List<Workflow> workflows = workflowService.getAllWorkflowsWithCreator();
-            
-            // Total workflows
-            long totalWorkflows = workflows.size();
-            layout.add(createMetricCard("Workflows", String.valueOf(totalWorkflows), "primary"));
-
-            // Workflows activos
-            long activeWorkflows = workflows.stream()
-                    .filter(w -> w.getStatus() == com.javaflow.model.Workflow.WorkflowStatus.ACTIVE)
-                    .count();
-            layout.add(createMetricCard("Activos", String.valueOf(activeWorkflows), "success"));
-
-            // Bots activos
-            long activeBots = botService.getActiveBots().size();
-            layout.add(createMetricCard("Bots", String.valueOf(activeBots), "contrast"));
-
-            // Ejecuciones recientes
-            long recentExecutions = workflowService.getRecentExecutions(24).size();
-            layout.add(createMetricCard("Ejecuciones (24h)", String.valueOf(recentExecutions), "primary"));
+            return dashboardQueryService.getSnapshot();
         } catch (Exception e) {
             // Database not ready yet, show placeholder
-            layout.add(createMetricCard("Workflows", "0", "primary"));
-            layout.add(createMetricCard("Activos", "0", "success"));
-            layout.add(createMetricCard("Bots", "0", "contrast"));
-            layout.add(createMetricCard("Ejecuciones (24h)", "0", "primary"));
+            return DashboardSnapshot.empty();
         }
+    }
+
+    private HorizontalLayout createMetrics(DashboardSnapshot snapshot) {
+        HorizontalLayout layout = new HorizontalLayout();
+        layout.setWidthFull();
+        layout.setSpacing(true);
+
+        layout.add(createMetricCard("Workflows", String.valueOf(snapshot.totalWorkflows()), "primary"));
+        layout.add(createMetricCard("Activos", String.valueOf(snapshot.activeWorkflows()), "success"));
+        layout.add(createMetricCard("Bots", String.valueOf(snapshot.activeBots()), "contrast"));
+        layout.add(createMetricCard("Ejecuciones (24h)", String.valueOf(snapshot.recentExecutions()), "primary"));
 
         return layout;
     }
@@ -113,38 +92,31 @@ public class DashboardView extends VerticalLayout {
         return card;
     }
 
-    private VerticalLayout createRecentExecutions() {
+    private VerticalLayout createRecentExecutions(DashboardSnapshot snapshot) {
         VerticalLayout layout = new VerticalLayout();
         layout.setSpacing(true);
 
-        try {
-            var executions = workflowService.getRecentExecutions(24);
-            
-            if (executions.isEmpty()) {
-                layout.add(new Span("No hay ejecuciones recientes"));
-            } else {
-                executions.stream()
-                        .limit(10)
-                        .forEach(execution -> {
-                            HorizontalLayout row = new HorizontalLayout();
-                            row.setWidthFull();
-                            row.setAlignItems(Alignment.CENTER);
-
-                            Span workflowName = new Span(execution.getWorkflow().getName());
-                            Span status = new Span(execution.getStatus().toString());
-                            status.getElement().getThemeList().add(getStatusBadge(execution.getStatus()));
-                            
-                            Span time = new Span(execution.getStartedAt().toString());
-                            time.addClassNames(LumoUtility.TextColor.SECONDARY);
-
-                            row.add(workflowName, status, time);
-                            layout.add(row);
-                        });
-            }
-        } catch (Exception e) {
+        if (snapshot.latestExecutions().isEmpty()) {
             layout.add(new Span("No hay ejecuciones recientes"));
+            return layout;
         }
 
+        snapshot.latestExecutions().forEach(execution -> {
+            HorizontalLayout row = new HorizontalLayout();
+            row.setWidthFull();
+            row.setAlignItems(Alignment.CENTER);
+
+            Span workflowName = new Span(execution.workflowName());
+            Span status = new Span(execution.status().toString());
+            status.getElement().getThemeList().add(getStatusBadge(execution.status()));
+
+            Span time = new Span(execution.startedAt().toString());
+            time.addClassNames(LumoUtility.TextColor.SECONDARY);
+
+            row.add(workflowName, status, time);
+            layout.add(row);
+        });
+
         return layout;
     }
 
@@ -100,12 +100,21 @@ public class ExecutionMonitorView extends VerticalLayout {
         viewButton.addThemeVariants(ButtonVariant.LUMO_TERTIARY, ButtonVariant.LUMO_SMALL);
         viewButton.addClickListener(e -> viewExecution(execution));
 
-        // Botón Cancelar (solo si está corriendo)
+        // Botones Suspender y Cancelar (solo si está corriendo)
         if (execution.getStatus() == WorkflowExecution.ExecutionStatus.RUNNING) {
+            Button suspendButton = new Button("Suspender", VaadinIcon.PAUSE.create());
+            suspendButton.addThemeVariants(ButtonVariant.LUMO_SMALL);
+            suspendButton.addClickListener(e -> suspendExecution(execution));
             Button cancelButton = new Button("Cancelar", VaadinIcon.CLOSE.create());
             cancelButton.addThemeVariants(ButtonVariant.LUMO_ERROR, ButtonVariant.LUMO_SMALL);
             cancelButton.addClickListener(e -> cancelExecution(execution));
-            actions.add(viewButton, cancelButton);
+            actions.add(viewButton, suspendButton, cancelButton);
+        } else if (execution.getStatus() == WorkflowExecution.ExecutionStatus.SUSPENDED) {
+            // Botón Reanudar (solo si está suspendida)
+            Button resumeButton = new Button("Reanudar", VaadinIcon.PLAY.create());
+            resumeButton.addThemeVariants(ButtonVariant.LUMO_SMALL);
+            resumeButton.addClickListener(e -> resumeExecution(execution));
+            actions.add(viewButton, resumeButton);
         } else {
             actions.add(viewButton);
         }
@@ -128,6 +137,26 @@ public class ExecutionMonitorView extends VerticalLayout {
         }
     }
 
+    private void suspendExecution(WorkflowExecution execution) {
+        try {
+            workflowService.suspendExecution(execution.getId());
+            Notification.show("Ejecución suspendida");
+            refreshGrid();
+        } catch (Exception e) {
+            Notification.show("Error: " + e.getMessage());
+        }
+    }
+
+    private void resumeExecution(WorkflowExecution execution) {
+        try {
+            workflowService.resumeExecution(execution.getId());
+            Notification.show("Ejecución reanudada");
+            refreshGrid();
+        } catch (Exception e) {
+            Notification.show("Error: " + e.getMessage());
+        }
+    }
+
     private void refreshGrid() {
         grid.setItems(workflowService.getRecentExecutions(168));
     }
@@ -0,0 +1,82 @@
+package com.javaflow.ui.views;
+
+import com.javaflow.search.FullTextIndex;
+import com.javaflow.search.SearchDocument;
+import com.javaflow.search.SearchHit;
+import com.javaflow.ui.MainLayout;
+import com.vaadin.flow.component.Key;
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.button.ButtonVariant;
+import com.vaadin.flow.component.combobox.ComboBox;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.html.H2;
+import com.vaadin.flow.component.icon.VaadinIcon;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.component.textfield.TextField;
+import com.vaadin.flow.router.PageTitle;
+import com.vaadin.flow.router.Route;
+import jakarta.annotation.security.PermitAll;
+
+/**
+ * Vista de búsqueda de texto completo sobre mensajes y errores de ejecución
+ */
+@Route(value = "search", layout = MainLayout.class)
+@PageTitle("Búsqueda | JavaFlow")
+@PermitAll
+public class SearchView extends VerticalLayout {
+
+    private static final int RESULT_LIMIT = 100;
+
+    private final FullTextIndex fullTextIndex;
+    private final TextField queryField;
+    private final ComboBox<SearchDocument.DocumentType> typeFilter;
+    private final Grid<SearchHit> grid;
+
+    public SearchView(FullTextIndex fullTextIndex) {
+        this.fullTextIndex = fullTextIndex;
+
+        setSpacing(true);
+        setPadding(true);
+
+        add(new H2("Búsqueda"));
+
+        // Filtros
+        queryField = new TextField();
+        queryField.setPlaceholder("Palabras a buscar (termina en * para buscar por prefijo)");
+        queryField.setPrefixComponent(VaadinIcon.SEARCH.create());
+        queryField.setClearButtonVisible(true);
+        queryField.setWidth("480px");
+        queryField.addKeyPressListener(Key.ENTER, e -> search());
+
+        typeFilter = new ComboBox<>();
+        typeFilter.setPlaceholder("Todos");
+        typeFilter.setItems(SearchDocument.DocumentType.values());
+        typeFilter.setItemLabelGenerator(type -> type == SearchDocument.DocumentType.MESSAGE ? "Mensajes" : "Errores de ejecución");
+        typeFilter.setClearButtonVisible(true);
+
+        Button searchButton = new Button("Buscar", VaadinIcon.SEARCH.create());
+        searchButton.addThemeVariants(ButtonVariant.LUMO_PRIMARY);
+        searchButton.addClickListener(e -> search());
+
+        HorizontalLayout filters = new HorizontalLayout(queryField, typeFilter, searchButton);
+        filters.setAlignItems(Alignment.BASELINE);
+        add(filters);
+
+        // Grid
+        grid = new Grid<>(SearchHit.class, false);
+        grid.addColumn(hit -> hit.timestamp().toString()).setHeader("Fecha").setWidth("180px").setFlexGrow(0);
+        grid.addColumn(hit -> hit.type() == SearchDocument.DocumentType.MESSAGE ? "Mensaje" : "Error")
+                .setHeader("Tipo").setWidth("100px").setFlexGrow(0);
+        grid.addColumn(SearchHit::context).setHeader("Chat / Workflow").setWidth("200px").setFlexGrow(0);
+        grid.addColumn(SearchHit::snippet).setHeader("Texto").setFlexGrow(1);
+        grid.setHeightFull();
+
+        add(grid);
+        setSizeFull();
+    }
+
+    private void search() {
+        grid.setItems(fullTextIndex.search(queryField.getValue(), typeFilter.getValue(), RESULT_LIMIT));
+    }
+}
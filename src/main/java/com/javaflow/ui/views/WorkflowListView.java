@@ -1,8 +1,8 @@
 package com.javaflow.ui.views;
 
 import com.javaflow.application.dto.workflow.WorkflowResponse;
-import com.javaflow.model.Workflow;
 import com.javaflow.service.WorkflowService;
+import com.javaflow.service.dto.WorkflowSummary;
 import com.javaflow.ui.MainLayout;
 
 import java.util.List;
@@ -143,7 +143,7 @@ public class WorkflowListView extends VerticalLayout {
     }
 
     private void refreshGrid() {
-        List<Workflow> workflows = workflowService.getAllWorkflows();
+        List<WorkflowSummary> workflows = workflowService.getWorkflowSummaries();
         List<WorkflowResponse> responses = workflows.stream()
                 .map(WorkflowResponse::from)
                 .toList();
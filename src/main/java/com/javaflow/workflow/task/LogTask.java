@@ -1,36 +1,42 @@
 package com.javaflow.workflow.task;
 
+import com.javaflow.logging.SystemLogAppender;
+import com.javaflow.logging.SystemLogEvent;
 import com.javaflow.model.SystemLog;
-import com.javaflow.repository.SystemLogRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.delegate.JavaDelegate;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+
 /**
  * Tarea personalizada de Flowable para registrar logs
- * 
+ *
  * Variables esperadas:
  * - logLevel: Nivel del log (INFO, WARN, ERROR)
  * - logMessage: Mensaje a registrar
+ *
+ * El log se encola en {@link SystemLogAppender} y se persiste en segundo plano,
+ * fuera de la transacción de Flowable.
  */
 @Component("logTask")
 @RequiredArgsConstructor
 @Slf4j
 public class LogTask implements JavaDelegate {
 
-    private final SystemLogRepository logRepository;
+    private final SystemLogAppender logAppender;
 
     @Override
     public void execute(DelegateExecution execution) {
         String level = (String) execution.getVariable("logLevel");
         String message = (String) execution.getVariable("logMessage");
-        
+
         if (message == null) {
             message = "Workflow step executed: " + execution.getCurrentActivityId();
         }
-        
+
         SystemLog.LogLevel logLevel = SystemLog.LogLevel.INFO;
         if (level != null) {
             try {
@@ -39,15 +45,18 @@ public class LogTask implements JavaDelegate {
                 log.warn("Invalid log level: {}, using INFO", level);
             }
         }
-        
-        SystemLog systemLog = SystemLog.builder()
-                .level(logLevel)
-                .logger("WorkflowTask")
-                .message(message)
-                .build();
-        
-        logRepository.save(systemLog);
-        
-        log.info("Log saved: {} - {}", logLevel, message);
+
+        SystemLogEvent event = new SystemLogEvent(
+                logLevel,
+                "WorkflowTask",
+                message,
+                null,
+                execution.getProcessInstanceId(),
+                LocalDateTime.now()
+        );
+
+        boolean accepted = logAppender.append(event);
+
+        log.debug("Log {}: {} - {}", accepted ? "queued" : "dropped", logLevel, message);
     }
 }
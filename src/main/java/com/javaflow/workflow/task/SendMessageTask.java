@@ -1,5 +1,6 @@
 package com.javaflow.workflow.task;
 
+import com.javaflow.model.Message;
 import com.javaflow.service.BotService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -7,6 +8,8 @@ import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.delegate.JavaDelegate;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Tarea personalizada de Flowable para enviar mensajes
  * 
@@ -14,6 +17,10 @@ import org.springframework.stereotype.Component;
  * - chatId: ID del chat destino
  * - message: Texto del mensaje
  * - botType: TELEGRAM o WHATSAPP
+ *
+ * El mensaje se encola con los límites de envío del bot y la tarea no espera a que salga:
+ * {@code messageQueued} indica que se encoló; los fallos de envío posteriores solo se registran.
+ * {@code messageSent} se mantiene con el mismo valor por compatibilidad con los procesos existentes.
  */
 @Component("sendMessageTask")
 @RequiredArgsConstructor
@@ -35,14 +42,26 @@ public class SendMessageTask implements JavaDelegate {
         }
 
         try {
-            botService.sendMessage(botId, chatId, message);
-            log.info("Message sent via BotService to chat: {}", chatId);
+            String processInstanceId = execution.getProcessInstanceId();
+            CompletableFuture<Message> sending = botService.sendMessage(botId, chatId, message);
+            if (sending.isCompletedExceptionally()) {
+                // Cola llena: falla la tarea para que Flowable la reintente
+                sending.join();
+            }
+            sending.whenComplete((sent, failure) -> {
+                if (failure != null) {
+                    log.error("Message of process {} to chat {} was not sent", processInstanceId, chatId, failure);
+                }
+            });
+            log.info("Message queued via BotService to chat: {}", chatId);
             
+            execution.setVariable("messageQueued", true);
             execution.setVariable("messageSent", true);
             execution.setVariable("messageTimestamp", System.currentTimeMillis());
             
         } catch (Exception e) {
-            log.error("Error sending message", e);
+            log.error("Error queuing message", e);
+            execution.setVariable("messageQueued", false);
             execution.setVariable("messageSent", false);
             execution.setVariable("error", e.getMessage());
             throw new RuntimeException("Failed to send message", e);
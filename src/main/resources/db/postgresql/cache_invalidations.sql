@@ -0,0 +1,20 @@
+-- =====================================================================
+-- JavaFlow - Cluster invalidation of the second-level cache
+--
+-- Creates the table of the CacheInvalidation entity on an existing
+-- database (needed where ddl-auto is "validate" or "none"). Only used
+-- with javaflow.cache.cluster.enabled=true.
+--
+--   psql -d javaflow_db -f cache_invalidations.sql
+-- =====================================================================
+
+CREATE TABLE IF NOT EXISTS cache_invalidations (
+    id         BIGSERIAL PRIMARY KEY,
+    region     VARCHAR(255) NOT NULL,
+    entry_key  VARCHAR(255),
+    origin     VARCHAR(64)  NOT NULL,
+    created_at TIMESTAMP    NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_cache_invalidation_created_at
+    ON cache_invalidations (created_at);
@@ -0,0 +1,35 @@
+-- =====================================================================
+-- JavaFlow - Composite indexes for execution search
+--
+-- Adds the indexes declared on WorkflowExecution to an existing
+-- database (ddl-auto "validate" never creates them) and drops the
+-- single-column indexes they make redundant:
+--   idx_execution_workflow_id -> leading column of idx_execution_workflow_status_started
+--   idx_execution_status      -> leading column of idx_execution_status_started
+--
+-- idx_execution_error_prefix is PostgreSQL-only: text_pattern_ops lets
+-- "error_message LIKE 'prefix%'" use a btree under any collation.
+--
+--   psql -d javaflow_db -f execution_search_indexes.sql
+--
+-- On a table that is NOT partitioned, prefer CREATE INDEX CONCURRENTLY
+-- (one statement at a time, outside a transaction) to avoid blocking
+-- writes. Partitioned tables do not support CONCURRENTLY on the parent.
+-- =====================================================================
+
+CREATE INDEX IF NOT EXISTS idx_execution_workflow_status_started
+    ON workflow_executions (workflow_id, status, started_at);
+CREATE INDEX IF NOT EXISTS idx_execution_status_started
+    ON workflow_executions (status, started_at);
+CREATE INDEX IF NOT EXISTS idx_execution_started_by_started
+    ON workflow_executions (started_by, started_at);
+CREATE INDEX IF NOT EXISTS idx_execution_started_at
+    ON workflow_executions (started_at);
+CREATE INDEX IF NOT EXISTS idx_execution_error_prefix
+    ON workflow_executions (error_message text_pattern_ops)
+    WHERE error_message IS NOT NULL;
+
+DROP INDEX IF EXISTS idx_execution_workflow_id;
+DROP INDEX IF EXISTS idx_execution_status;
+
+ANALYZE workflow_executions;
@@ -0,0 +1,15 @@
+-- =====================================================================
+-- JavaFlow - Optimistic locking column for workflow executions
+--
+-- Adds the @Version column of WorkflowExecution to an existing database
+-- (needed where ddl-auto is "validate" or "none"). Existing rows start
+-- at version 0.
+--
+--   psql -d javaflow_db -f execution_version_column.sql
+--
+-- ADD COLUMN with a constant default does not rewrite the table on
+-- PostgreSQL 11+, so this is safe on large and partitioned tables.
+-- =====================================================================
+
+ALTER TABLE workflow_executions
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
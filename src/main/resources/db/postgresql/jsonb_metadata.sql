@@ -0,0 +1,50 @@
+-- =====================================================================
+-- JavaFlow - jsonb storage for messages.metadata and bot_configurations.config
+--
+-- Converts both columns from TEXT to jsonb on an existing database
+-- (needed where ddl-auto is "validate" or "none") and creates the
+-- indexes used by the metadata queries of MessageRepository and
+-- BotConfigurationRepository.
+--
+--   psql -d javaflow_db -f jsonb_metadata.sql
+--
+-- Rows whose text is not valid JSON are kept as {"raw": "<text>"}.
+-- Changing the column type rewrites the table: run it in a maintenance
+-- window. On a partitioned messages table, the type change and the
+-- indexes propagate to every partition.
+-- =====================================================================
+
+BEGIN;
+
+CREATE OR REPLACE FUNCTION javaflow_try_jsonb(p_text text) RETURNS jsonb AS $$
+BEGIN
+    IF p_text IS NULL OR btrim(p_text) = '' THEN
+        RETURN NULL;
+    END IF;
+    RETURN p_text::jsonb;
+EXCEPTION WHEN others THEN
+    RETURN jsonb_build_object('raw', p_text);
+END;
+$$ LANGUAGE plpgsql IMMUTABLE;
+
+-- 1. Column types
+ALTER TABLE messages
+    ALTER COLUMN metadata TYPE jsonb USING javaflow_try_jsonb(metadata);
+ALTER TABLE bot_configurations
+    ALTER COLUMN config TYPE jsonb USING javaflow_try_jsonb(config);
+
+DROP FUNCTION javaflow_try_jsonb(text);
+
+-- 2. Indexes
+-- Containment (metadata @> '{"key": "value"}') on any key
+CREATE INDEX IF NOT EXISTS idx_message_metadata ON messages USING gin (metadata jsonb_path_ops);
+-- Messages of a thread, newest first
+CREATE INDEX IF NOT EXISTS idx_message_chat_thread ON messages (chat_id, (metadata ->> 'thread_id'), created_at)
+    WHERE metadata ->> 'thread_id' IS NOT NULL;
+-- Messages by sender language over a time range
+CREATE INDEX IF NOT EXISTS idx_message_language_created ON messages ((metadata ->> 'language'), created_at)
+    WHERE metadata ->> 'language' IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_bot_config ON bot_configurations USING gin (config jsonb_path_ops);
+
+COMMIT;
@@ -0,0 +1,35 @@
+-- =====================================================================
+-- JavaFlow - Transactional outbox for domain events
+--
+-- Creates the tables of the OutboxEvent and OutboxRelayLease entities on
+-- an existing database (needed where ddl-auto is "validate" or "none").
+-- Safe to run again on a database that already has outbox_events.
+--
+--   psql -d javaflow_db -f outbox_events.sql
+-- =====================================================================
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id             BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(100)  NOT NULL,
+    aggregate_id   BIGINT,
+    event_type     VARCHAR(255)  NOT NULL,
+    payload        TEXT          NOT NULL,
+    created_at     TIMESTAMP     NOT NULL,
+    available_at   TIMESTAMP     NOT NULL,
+    attempts       INTEGER       NOT NULL DEFAULT 0,
+    last_error     VARCHAR(1000),
+    dead           BOOLEAN       NOT NULL DEFAULT FALSE
+);
+
+-- Ordering guard of the relay: earlier pending events of the same aggregate
+CREATE INDEX IF NOT EXISTS idx_outbox_aggregate
+    ON outbox_events (aggregate_type, aggregate_id, id);
+CREATE INDEX IF NOT EXISTS idx_outbox_available_at
+    ON outbox_events (available_at);
+
+-- Lease of the relay: only the node holding it delivers events
+CREATE TABLE IF NOT EXISTS outbox_relay_lease (
+    name       VARCHAR(50)  PRIMARY KEY,
+    owner      VARCHAR(64)  NOT NULL,
+    expires_at TIMESTAMP    NOT NULL
+);
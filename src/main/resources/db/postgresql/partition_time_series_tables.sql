@@ -0,0 +1,137 @@
+-- =====================================================================
+-- JavaFlow - Monthly range partitioning for time-series tables
+--
+-- Converts workflow_executions (started_at), messages (created_at) and
+-- system_logs (created_at) into tables partitioned by month, named
+-- <table>_pYYYY_MM. Existing rows are copied into their partitions.
+--
+-- Run ONCE, in a maintenance window, after taking a backup:
+--   psql -d javaflow_db -f partition_time_series_tables.sql
+-- Then enable javaflow.partitioning.enabled so PartitionMaintenanceService
+-- keeps creating upcoming partitions and dropping expired ones.
+--
+-- Notes:
+--  * The primary key becomes (id, <partition column>): PostgreSQL only
+--    enforces uniqueness on partitioned tables through constraints that
+--    include the partition key. For the same reason the UNIQUE constraint
+--    on workflow_executions.process_instance_id becomes a plain index.
+--  * Foreign keys from messages/system_logs to workflow_executions(id)
+--    are dropped, since they would need a unique constraint on id alone.
+--  * Each table gets a DEFAULT partition (<table>_default) that catches
+--    rows outside the monthly partitions instead of failing the INSERT.
+--    It should stay empty: creating a monthly partition fails while the
+--    default holds rows for that month, so move them out first.
+--  * The id sequence of a serial column is re-owned by the new table, so
+--    dropping the legacy table does not drop it or the id default.
+--  * Use ddl-auto "validate" or "none" afterwards: Hibernate "update"
+--    would try to recreate the constraints above.
+-- =====================================================================
+
+BEGIN;
+
+-- 1. Drop foreign keys that reference workflow_executions(id)
+DO $$
+DECLARE
+    fk record;
+BEGIN
+    FOR fk IN
+        SELECT conrelid::regclass AS tbl, conname
+        FROM pg_constraint
+        WHERE contype = 'f' AND confrelid = 'workflow_executions'::regclass
+    LOOP
+        EXECUTE format('ALTER TABLE %s DROP CONSTRAINT %I', fk.tbl, fk.conname);
+    END LOOP;
+END $$;
+
+-- 2. Helper: rebuild a table as a monthly partitioned table and copy its rows
+CREATE OR REPLACE FUNCTION javaflow_partition_by_month(p_table text, p_column text)
+RETURNS void AS $$
+DECLARE
+    legacy      text := p_table || '_legacy';
+    id_sequence text;
+    month_start date;
+    last_month  date := (date_trunc('month', now()) + interval '2 months')::date;
+BEGIN
+    EXECUTE format('ALTER TABLE %I RENAME TO %I', p_table, legacy);
+    EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING IDENTITY) PARTITION BY RANGE (%I)',
+                   p_table, legacy, p_column);
+
+    EXECUTE format('SELECT COALESCE(date_trunc(''month'', min(%I)), date_trunc(''month'', now()))::date FROM %I',
+                   p_column, legacy)
+        INTO month_start;
+
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                       p_table || '_p' || to_char(month_start, 'YYYY_MM'),
+                       p_table, month_start, (month_start + interval '1 month')::date);
+        month_start := (month_start + interval '1 month')::date;
+    END LOOP;
+    EXECUTE format('CREATE TABLE %I PARTITION OF %I DEFAULT', p_table || '_default', p_table);
+
+    EXECUTE format('INSERT INTO %I SELECT * FROM %I', p_table, legacy);
+
+    -- A serial id keeps using the legacy sequence through the copied default:
+    -- move its ownership to the new table. Identity columns got their own
+    -- sequence from INCLUDING IDENTITY and cannot be re-owned.
+    IF NOT EXISTS (SELECT 1 FROM pg_attribute
+                   WHERE attrelid = p_table::regclass AND attname = 'id' AND attidentity <> '') THEN
+        id_sequence := pg_get_serial_sequence(legacy, 'id');
+        IF id_sequence IS NOT NULL THEN
+            EXECUTE format('ALTER SEQUENCE %s OWNED BY %I.id', id_sequence, p_table);
+        END IF;
+    END IF;
+    EXECUTE format('SELECT setval(pg_get_serial_sequence(%L, ''id''), (SELECT COALESCE(max(id), 0) + 1 FROM %I), false)',
+                   p_table, legacy);
+
+    -- Frees the legacy primary key, index and constraint names for the new table.
+    -- RESTRICT: anything still depending on the legacy table aborts the migration.
+    EXECUTE format('DROP TABLE %I RESTRICT', legacy);
+    EXECUTE format('ALTER TABLE %I ADD PRIMARY KEY (id, %I)', p_table, p_column);
+END;
+$$ LANGUAGE plpgsql;
+
+-- 3. Partition the tables
+SELECT javaflow_partition_by_month('workflow_executions', 'started_at');
+SELECT javaflow_partition_by_month('messages', 'created_at');
+SELECT javaflow_partition_by_month('system_logs', 'created_at');
+
+DROP FUNCTION javaflow_partition_by_month(text, text);
+
+-- 4. Indexes (created on the parent, propagated to every partition)
+ALTER TABLE workflow_executions
+    ADD CONSTRAINT fk_execution_workflow FOREIGN KEY (workflow_id) REFERENCES workflows(id),
+    ADD CONSTRAINT fk_execution_started_by FOREIGN KEY (started_by) REFERENCES users(id);
+CREATE INDEX idx_execution_workflow_status_started ON workflow_executions (workflow_id, status, started_at);
+CREATE INDEX idx_execution_status_started ON workflow_executions (status, started_at);
+CREATE INDEX idx_execution_started_by_started ON workflow_executions (started_by, started_at);
+CREATE INDEX idx_execution_started_at ON workflow_executions (started_at);
+CREATE INDEX idx_execution_error_prefix ON workflow_executions (error_message text_pattern_ops)
+    WHERE error_message IS NOT NULL;
+CREATE INDEX idx_execution_process_instance_id ON workflow_executions (process_instance_id);
+
+ALTER TABLE messages
+    ADD CONSTRAINT fk_message_bot FOREIGN KEY (bot_id) REFERENCES bot_configurations(id);
+CREATE INDEX idx_message_bot_id ON messages (bot_id);
+CREATE INDEX idx_message_chat_created ON messages (chat_id, created_at);
+CREATE INDEX idx_message_created_at ON messages (created_at);
+CREATE INDEX idx_message_workflow_execution_id ON messages (workflow_execution_id);
+
+-- Metadata indexes, when jsonb_metadata.sql has already been applied
+DO $$
+BEGIN
+    IF (SELECT data_type FROM information_schema.columns
+        WHERE table_name = 'messages' AND column_name = 'metadata') = 'jsonb' THEN
+        CREATE INDEX idx_message_metadata ON messages USING gin (metadata jsonb_path_ops);
+        CREATE INDEX idx_message_chat_thread ON messages (chat_id, (metadata ->> 'thread_id'), created_at)
+            WHERE metadata ->> 'thread_id' IS NOT NULL;
+        CREATE INDEX idx_message_language_created ON messages ((metadata ->> 'language'), created_at)
+            WHERE metadata ->> 'language' IS NOT NULL;
+    END IF;
+END $$;
+
+CREATE INDEX idx_log_created_at ON system_logs (created_at);
+CREATE INDEX idx_log_level ON system_logs (level);
+CREATE INDEX idx_log_workflow_execution_id ON system_logs (workflow_execution_id);
+CREATE INDEX idx_log_process_instance_id ON system_logs (process_instance_id);
+
+COMMIT;
@@ -0,0 +1,19 @@
+-- =====================================================================
+-- JavaFlow - Process instance column for system logs
+--
+-- Adds the process_instance_id column of SystemLog to an existing
+-- database (needed where ddl-auto is "validate" or "none", e.g. the
+-- supabase profile). Log entries are written with the Flowable process
+-- instance id and linked to workflow_executions through it.
+--
+--   psql -d javaflow_db -f system_log_process_instance_column.sql
+--
+-- ADD COLUMN without a default does not rewrite the table, and indexes
+-- created on a partitioned parent are propagated to every partition.
+-- =====================================================================
+
+ALTER TABLE system_logs
+    ADD COLUMN IF NOT EXISTS process_instance_id VARCHAR(64);
+
+CREATE INDEX IF NOT EXISTS idx_log_process_instance_id
+    ON system_logs (process_instance_id);
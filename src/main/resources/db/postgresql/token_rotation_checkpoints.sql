@@ -0,0 +1,21 @@
+-- =====================================================================
+-- JavaFlow - Checkpoints of the bot token re-encryption
+--
+-- Creates the table of the TokenRotationCheckpoint entity on an existing
+-- database (needed where ddl-auto is "validate" or "none"). Used by
+-- TokenRotationService when rotating javaflow.security.encryption.key.
+--
+--   psql -d javaflow_db -f token_rotation_checkpoints.sql
+-- =====================================================================
+
+CREATE TABLE IF NOT EXISTS token_rotation_checkpoints (
+    key_id      VARCHAR(32)   PRIMARY KEY,
+    last_bot_id BIGINT        NOT NULL,
+    total_bots  BIGINT        NOT NULL,
+    reencrypted BIGINT        NOT NULL,
+    failed      BIGINT        NOT NULL,
+    status      VARCHAR(20)   NOT NULL,
+    error       VARCHAR(1000),
+    started_at  TIMESTAMP     NOT NULL,
+    updated_at  TIMESTAMP     NOT NULL
+);
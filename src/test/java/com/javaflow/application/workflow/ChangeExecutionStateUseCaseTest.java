@@ -0,0 +1,129 @@
+package com.javaflow.application.workflow;
+
+import com.javaflow.application.workflow.command.ChangeExecutionStateCommand;
+import com.javaflow.application.workflow.result.WorkflowExecutionResult;
+import com.javaflow.domain.exception.WorkflowExecutionException;
+import com.javaflow.domain.exception.WorkflowExecutionNotFoundException;
+import com.javaflow.model.Workflow;
+import com.javaflow.model.WorkflowExecution;
+import com.javaflow.monitoring.MetricsService;
+import com.javaflow.repository.WorkflowExecutionRepository;
+import org.flowable.engine.RuntimeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeExecutionStateUseCaseTest {
+
+    @Mock
+    private WorkflowExecutionRepository executionRepository;
+
+    @Mock
+    private RuntimeService runtimeService;
+
+    @Mock
+    private MetricsService metricsService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private ChangeExecutionStateUseCase changeExecutionStateUseCase;
+
+    private Workflow workflow;
+
+    @BeforeEach
+    void setUp() {
+        workflow = Workflow.builder()
+                .id(1L)
+                .name("TestWorkflow")
+                .bpmnXml("<bpmn>test</bpmn>")
+                .status(Workflow.WorkflowStatus.ACTIVE)
+                .build();
+
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void execute_ShouldSuspendRunningExecution() {
+        when(executionRepository.findById(1L)).thenReturn(Optional.of(execution(WorkflowExecution.ExecutionStatus.RUNNING)));
+        when(executionRepository.saveAndFlush(any(WorkflowExecution.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        WorkflowExecutionResult result = changeExecutionStateUseCase.execute(ChangeExecutionStateCommand.suspend(1L));
+
+        assertThat(result.getStatus()).isEqualTo(WorkflowExecution.ExecutionStatus.SUSPENDED);
+        verify(runtimeService).suspendProcessInstanceById("process-123");
+    }
+
+    @Test
+    void execute_ShouldRetryWithCurrentState_WhenConcurrentUpdateConflicts() {
+        when(executionRepository.findById(1L))
+                .thenReturn(Optional.of(execution(WorkflowExecution.ExecutionStatus.SUSPENDED)))
+                .thenReturn(Optional.of(execution(WorkflowExecution.ExecutionStatus.SUSPENDED)));
+        when(executionRepository.saveAndFlush(any(WorkflowExecution.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(WorkflowExecution.class, 1L))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        WorkflowExecutionResult result = changeExecutionStateUseCase.execute(ChangeExecutionStateCommand.resume(1L));
+
+        assertThat(result.getStatus()).isEqualTo(WorkflowExecution.ExecutionStatus.RUNNING);
+        verify(executionRepository, times(2)).findById(1L);
+        verify(metricsService).recordOptimisticLockRetry("workflow_execution");
+    }
+
+    @Test
+    void execute_ShouldGiveUp_WhenConflictsExhaustAttempts() {
+        when(executionRepository.findById(1L))
+                .thenAnswer(invocation -> Optional.of(execution(WorkflowExecution.ExecutionStatus.RUNNING)));
+        when(executionRepository.saveAndFlush(any(WorkflowExecution.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(WorkflowExecution.class, 1L));
+
+        assertThatThrownBy(() -> changeExecutionStateUseCase.execute(ChangeExecutionStateCommand.suspend(1L)))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        verify(executionRepository, times(3)).saveAndFlush(any(WorkflowExecution.class));
+        verify(metricsService, times(2)).recordOptimisticLockRetry("workflow_execution");
+    }
+
+    @Test
+    void execute_ShouldRejectTransition_WhenStatusDoesNotAllowIt() {
+        when(executionRepository.findById(1L)).thenReturn(Optional.of(execution(WorkflowExecution.ExecutionStatus.COMPLETED)));
+
+        assertThatThrownBy(() -> changeExecutionStateUseCase.execute(ChangeExecutionStateCommand.resume(1L)))
+                .isInstanceOf(WorkflowExecutionException.class);
+
+        verifyNoInteractions(runtimeService);
+        verify(executionRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void execute_ShouldThrow_WhenExecutionNotFound() {
+        when(executionRepository.findById(999L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> changeExecutionStateUseCase.execute(ChangeExecutionStateCommand.suspend(999L)))
+                .isInstanceOf(WorkflowExecutionNotFoundException.class);
+    }
+
+    private WorkflowExecution execution(WorkflowExecution.ExecutionStatus status) {
+        return WorkflowExecution.builder()
+                .id(1L)
+                .workflow(workflow)
+                .processInstanceId("process-123")
+                .status(status)
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.javaflow.application.workflow;
 
 import com.javaflow.application.workflow.command.ExecuteWorkflowCommand;
 import com.javaflow.application.workflow.result.WorkflowExecutionResult;
+import com.javaflow.logging.SystemLogAppender;
 import com.javaflow.model.User;
 import com.javaflow.model.Workflow;
 import com.javaflow.model.WorkflowExecution;
@@ -39,6 +40,9 @@ class ExecuteWorkflowUseCaseTest {
     @Mock
     private RuntimeService runtimeService;
     
+    @Mock
+    private SystemLogAppender logAppender;
+    
     @InjectMocks
     private ExecuteWorkflowUseCase executeWorkflowUseCase;
 
@@ -105,6 +109,7 @@ class ExecuteWorkflowUseCaseTest {
         verify(userRepository).findById(1L);
         verify(runtimeService).startProcessInstanceByKey(eq("TestWorkflow"), anyMap());
         verify(executionRepository).save(any(WorkflowExecution.class));
+        verify(logAppender).linkExecution("process-123", 1L);
     }
 
     @Test
@@ -0,0 +1,138 @@
+package com.javaflow.application.workflow;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.javaflow.application.workflow.bundle.WorkflowBundleCodec;
+import com.javaflow.application.workflow.bundle.WorkflowBundleEntry;
+import com.javaflow.application.workflow.command.ImportWorkflowsCommand;
+import com.javaflow.application.workflow.result.WorkflowImportResult;
+import com.javaflow.cache.ClusterCacheInvalidator;
+import com.javaflow.cache.WorkflowCache;
+import com.javaflow.domain.service.WorkflowValidationService;
+import com.javaflow.model.User;
+import com.javaflow.model.Workflow;
+import com.javaflow.repository.UserRepository;
+import com.javaflow.repository.WorkflowRepository;
+import org.flowable.engine.RepositoryService;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.DeploymentBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportWorkflowsUseCaseTest {
+
+    private static final String BPMN = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <definitions xmlns="http://www.omg.org/spec/BPMN/20100524/MODEL">
+              <process id="%s"><startEvent id="start"/><endEvent id="end"/></process>
+            </definitions>
+            """;
+
+    @Mock
+    private WorkflowRepository workflowRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RepositoryService repositoryService;
+
+    private ImportWorkflowsUseCase importWorkflowsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        importWorkflowsUseCase = new ImportWorkflowsUseCase(
+                workflowRepository, userRepository, new WorkflowValidationService(), repositoryService,
+                new WorkflowCache(new ConcurrentMapCacheManager(WorkflowCache.BY_ID, WorkflowCache.LISTS),
+                        new StaticListableBeanFactory().getBeanProvider(ClusterCacheInvalidator.class)), 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        importWorkflowsUseCase.shutdown();
+    }
+
+    @Test
+    void bundle_ShouldRoundTripEntriesInOrder() throws Exception {
+        WorkflowBundleCodec codec = new WorkflowBundleCodec(
+                new ObjectMapper().registerModule(new JavaTimeModule()), 100, 1024 * 1024);
+        List<WorkflowBundleEntry> entries = List.of(
+                new WorkflowBundleEntry("Order Approval", "Approves orders", BPMN.formatted("order"), true),
+                new WorkflowBundleEntry("Order_Approval", null, BPMN.formatted("order2"), false));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        codec.write(entries, out);
+
+        assertThat(codec.read(new ByteArrayInputStream(out.toByteArray()))).containsExactlyElementsOf(entries);
+        assertThatThrownBy(() -> codec.read(new ByteArrayInputStream(new byte[]{1, 2, 3})))
+                .isInstanceOf(WorkflowBundleCodec.InvalidBundleException.class);
+    }
+
+    @Test
+    void execute_ShouldCheckNamesOnceAndActivateWithSingleDeployment() {
+        List<WorkflowBundleEntry> entries = IntStream.range(0, 50)
+                .mapToObj(i -> new WorkflowBundleEntry("Flow-" + i, null, BPMN.formatted("flow" + i), i % 2 == 0))
+                .toList();
+        when(workflowRepository.findExistingNames(anyCollection())).thenReturn(List.of());
+        when(userRepository.findById(1L)).thenReturn(Optional.of(User.builder().id(1L).username("admin").build()));
+        AtomicLong ids = new AtomicLong();
+        when(workflowRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Workflow> workflows = new ArrayList<>(invocation.getArgument(0));
+            workflows.stream().filter(w -> w.getId() == null).forEach(w -> w.setId(ids.incrementAndGet()));
+            return workflows;
+        });
+        DeploymentBuilder deploymentBuilder = mock(DeploymentBuilder.class, RETURNS_SELF);
+        Deployment deployment = mock(Deployment.class);
+        when(repositoryService.createDeployment()).thenReturn(deploymentBuilder);
+        when(deploymentBuilder.deploy()).thenReturn(deployment);
+        when(deployment.getId()).thenReturn("dep-1");
+
+        WorkflowImportResult result = importWorkflowsUseCase.execute(ImportWorkflowsCommand.of(entries, 1L));
+
+        assertThat(result.getWorkflows()).hasSize(50);
+        assertThat(result.getWorkflows().get(7).getName()).isEqualTo("Flow-7");
+        assertThat(result.getActivatedCount()).isEqualTo(25);
+        assertThat(result.getDeploymentId()).isEqualTo("dep-1");
+        verify(workflowRepository, times(1)).findExistingNames(anyCollection());
+        verify(repositoryService, times(1)).createDeployment();
+        verify(deploymentBuilder, times(25)).addString(anyString(), anyString());
+    }
+
+    @Test
+    void execute_ShouldRejectWholeBundle_WhenAnyWorkflowIsInvalidOrExists() {
+        List<WorkflowBundleEntry> entries = List.of(
+                new WorkflowBundleEntry("Valid Flow", null, BPMN.formatted("valid"), true),
+                new WorkflowBundleEntry("Broken Flow", null, "not xml", true));
+        when(workflowRepository.findExistingNames(anyCollection())).thenReturn(List.of());
+        when(userRepository.findById(1L)).thenReturn(Optional.of(User.builder().id(1L).username("admin").build()));
+
+        assertThatThrownBy(() -> importWorkflowsUseCase.execute(ImportWorkflowsCommand.of(entries, 1L)))
+                .isInstanceOf(ImportWorkflowsUseCase.InvalidWorkflowBundleException.class)
+                .hasMessageContaining("Broken Flow");
+        verify(workflowRepository, never()).saveAll(anyList());
+
+        when(workflowRepository.findExistingNames(anyCollection())).thenReturn(List.of("Valid Flow"));
+        assertThatThrownBy(() -> importWorkflowsUseCase.execute(ImportWorkflowsCommand.of(entries, 1L)))
+                .isInstanceOf(CreateWorkflowUseCase.WorkflowAlreadyExistsException.class);
+        verifyNoInteractions(repositoryService);
+    }
+}
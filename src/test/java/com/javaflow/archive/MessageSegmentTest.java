@@ -0,0 +1,74 @@
+package com.javaflow.archive;
+
+import com.javaflow.model.Message;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MessageSegmentTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 10, 12, 0, 0, 123_000_000);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void writeAndRead_ShouldRoundTripMessagesPerChat() throws IOException {
+        Path segment = directory.resolve("messages-1.seg");
+        ArchivedMessage first = message(1L, "chat-a", T0, "hola");
+        ArchivedMessage second = message(2L, "chat-a", T0.plusMinutes(5), null);
+        ArchivedMessage other = message(3L, "chat-b", T0.plusMinutes(1), "adiós ✓");
+
+        MessageSegmentWriter.write(segment, Map.of(
+                "chat-a", List.of(second, first),
+                "chat-b", List.of(other)));
+
+        try (MessageSegmentReader reader = MessageSegmentReader.open(segment)) {
+            assertThat(reader.read("chat-a", null, null)).containsExactly(first, second);
+            assertThat(reader.read("chat-b", null, null)).containsExactly(other);
+            assertThat(reader.read("chat-c", null, null)).isEmpty();
+            assertThat(reader.read("chat-a", T0.plusMinutes(1), null)).containsExactly(second);
+        }
+        assertThat(Files.exists(directory.resolve("messages-1.seg.tmp"))).isFalse();
+    }
+
+    @Test
+    void store_ShouldMergeSegmentsNewestFirst() throws IOException {
+        ArchivedMessage older = message(1L, "chat-a", T0, "uno");
+        ArchivedMessage newer = message(2L, "chat-a", T0.plusDays(1), "dos");
+        MessageSegmentWriter.write(directory.resolve("messages-1.seg"), Map.of("chat-a", List.of(older)));
+        MessageSegmentWriter.write(directory.resolve("messages-2.seg"), Map.of("chat-a", List.of(newer)));
+
+        MessageArchiveStore store = new MessageArchiveStore(directory.toString());
+        store.loadSegments();
+        try {
+            assertThat(store.segmentCount()).isEqualTo(2);
+            assertThat(store.findByChatId("chat-a")).containsExactly(newer, older);
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test
+    void open_ShouldRejectFilesThatAreNotSegments() throws IOException {
+        Path file = Files.write(directory.resolve("garbage.seg"), new byte[64]);
+
+        assertThatThrownBy(() -> MessageSegmentReader.open(file))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Not a message archive segment");
+    }
+
+    private static ArchivedMessage message(Long id, String chatId, LocalDateTime createdAt, String externalId) {
+        return new ArchivedMessage(id, 7L, externalId, chatId, "user-1", Message.MessageDirection.INBOUND,
+                Message.MessageType.TEXT, "contenido " + id, null, id % 2 == 0 ? 42L : null, createdAt);
+    }
+}
@@ -0,0 +1,97 @@
+package com.javaflow.bot.inbound;
+
+import com.javaflow.domain.events.BotMessageReceivedEvent;
+import com.javaflow.monitoring.MetricsService;
+import com.javaflow.service.BotService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class InboundMessageDispatcherTest {
+
+    private final BotService botService = mock(BotService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<String> processed = new CopyOnWriteArrayList<>();
+    private final CountDownLatch slowChatReleased = new CountDownLatch(1);
+
+    private InboundMessageDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        slowChatReleased.countDown();
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void submit_ShouldKeepChatOrderWhileOtherChatsRunInParallel() throws InterruptedException {
+        dispatcher = new InboundMessageDispatcher(botService, new MetricsService(meterRegistry), 4, 100, 1000);
+        dispatcher.start();
+        String slowChat = "chat-0";
+        String otherChat = chatOnAnotherStripe(slowChat);
+        CountDownLatch otherChatDone = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            BotMessageReceivedEvent event = invocation.getArgument(0);
+            if (event.chatId().equals(slowChat) && event.messageText().equals("1")) {
+                slowChatReleased.await(5, TimeUnit.SECONDS);
+            }
+            processed.add(event.chatId() + ":" + event.messageText());
+            if (event.chatId().equals(otherChat)) {
+                otherChatDone.countDown();
+            }
+            return null;
+        }).when(botService).handleBotMessageReceived(any());
+
+        for (int i = 1; i <= 3; i++) {
+            dispatcher.onBotMessageReceived(message(slowChat, String.valueOf(i)));
+        }
+        dispatcher.onBotMessageReceived(message(otherChat, "1"));
+
+        assertThat(otherChatDone.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(processed).containsExactly(otherChat + ":1");
+        slowChatReleased.countDown();
+        verify(botService, timeout(5000).times(4)).handleBotMessageReceived(any());
+        assertThat(processed).containsSubsequence(slowChat + ":1", slowChat + ":2", slowChat + ":3");
+    }
+
+    @Test
+    void trySubmit_ShouldRejectAndCountOverflow_WhenTheChatQueueIsFull() throws InterruptedException {
+        dispatcher = new InboundMessageDispatcher(botService, new MetricsService(meterRegistry), 1, 1, 0);
+        dispatcher.start();
+        CountDownLatch started = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            slowChatReleased.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(botService).handleBotMessageReceived(any());
+
+        assertThat(dispatcher.trySubmit(message("chat-1", "1"))).isTrue();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(dispatcher.trySubmit(message("chat-1", "2"))).isTrue();
+        assertThat(dispatcher.trySubmit(message("chat-2", "1"))).isFalse();
+
+        assertThat(dispatcher.queuedMessages()).isEqualTo(1);
+        assertThat(meterRegistry.counter("javaflow.bot.inbound.overflow", "stripe", "0").count()).isEqualTo(1);
+    }
+
+    private String chatOnAnotherStripe(String chatId) {
+        for (int i = 1; ; i++) {
+            String candidate = "chat-" + i;
+            if (dispatcher.stripeFor(1L, candidate).index() != dispatcher.stripeFor(1L, chatId).index()) {
+                return candidate;
+            }
+        }
+    }
+
+    private static BotMessageReceivedEvent message(String chatId, String text) {
+        return new BotMessageReceivedEvent(1L, chatId, "user-1", text, text);
+    }
+}
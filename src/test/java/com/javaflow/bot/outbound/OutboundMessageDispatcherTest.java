@@ -0,0 +1,159 @@
+package com.javaflow.bot.outbound;
+
+import com.javaflow.bot.port.BotPort;
+import com.javaflow.monitoring.MetricsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OutboundMessageDispatcherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RecordingBotPort botPort = new RecordingBotPort();
+
+    private OutboundMessageDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void submit_ShouldPaceEachChatWithoutDelayingOtherChats() throws Exception {
+        // 5 mensajes/s por chat: uno cada 200 ms; el bot no limita
+        dispatcher = new OutboundMessageDispatcher(new MetricsService(meterRegistry), 5, 1, 1000, 10, 2, 100, 3);
+
+        CompletableFuture<Void> last = null;
+        for (int i = 1; i <= 3; i++) {
+            last = dispatcher.submit(1L, "chat-a", botPort, "a" + i, OutboundMessageDispatcher.Priority.NORMAL);
+        }
+        CompletableFuture<Void> otherChat = dispatcher.submit(1L, "chat-b", botPort, "b1", OutboundMessageDispatcher.Priority.NORMAL);
+
+        last.get(5, TimeUnit.SECONDS);
+        otherChat.get(5, TimeUnit.SECONDS);
+
+        List<Sent> chatA = botPort.sent.stream().filter(sent -> sent.chatId().equals("chat-a")).toList();
+        assertThat(chatA).extracting(Sent::text).containsExactly("a1", "a2", "a3");
+        assertThat(chatA.get(1).atNanos() - chatA.get(0).atNanos()).isGreaterThan(TimeUnit.MILLISECONDS.toNanos(150));
+        assertThat(chatA.get(2).atNanos() - chatA.get(1).atNanos()).isGreaterThan(TimeUnit.MILLISECONDS.toNanos(150));
+        assertThat(botPort.sent).extracting(Sent::text).containsSubsequence("b1", "a2");
+        assertThat(dispatcher.queuedMessages()).isZero();
+    }
+
+    @Test
+    void submit_ShouldRetryAfterRateLimitAndSendHigherPriorityFirst() throws Exception {
+        dispatcher = new OutboundMessageDispatcher(new MetricsService(meterRegistry), 1000, 10, 1000, 10, 1, 100, 3);
+        botPort.rateLimitFirstSend(Duration.ofMillis(300));
+
+        CompletableFuture<Void> first = dispatcher.submit(1L, "chat-a", botPort, "first", OutboundMessageDispatcher.Priority.NORMAL);
+        // Encolados mientras el bot está pausado: salen por prioridad, la respuesta antes que el reintento
+        botPort.rateLimited.get(5, TimeUnit.SECONDS);
+        awaitQueued(1);
+        CompletableFuture<Void> broadcast = dispatcher.submit(1L, "chat-b", botPort, "broadcast", OutboundMessageDispatcher.Priority.LOW);
+        CompletableFuture<Void> reply = dispatcher.submit(1L, "chat-c", botPort, "reply", OutboundMessageDispatcher.Priority.HIGH);
+
+        CompletableFuture.allOf(first, broadcast, reply).get(5, TimeUnit.SECONDS);
+
+        assertThat(botPort.sent).extracting(Sent::text).containsExactly("first", "reply", "first", "broadcast");
+        assertThat(botPort.sent.get(1).atNanos() - botPort.sent.get(0).atNanos())
+                .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(300));
+        assertThat(meterRegistry.get("javaflow.bot.outbound.rate_limited").tag("bot_type", "fake").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void submit_ShouldFailTheFutureOnOtherErrors() {
+        dispatcher = new OutboundMessageDispatcher(new MetricsService(meterRegistry), 1000, 10, 1000, 10, 1, 100, 3);
+        botPort.failAll = true;
+
+        CompletableFuture<Void> sending = dispatcher.submit(1L, "chat-a", botPort, "hello", OutboundMessageDispatcher.Priority.NORMAL);
+
+        assertThatThrownBy(() -> sending.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(BotPort.SendFailedException.class);
+        assertThat(botPort.attempts.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("javaflow.bot.outbound.failed").tag("reason", "error").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void submit_ShouldFreeTheChatWhenASendThrowsAnError() throws Exception {
+        dispatcher = new OutboundMessageDispatcher(new MetricsService(meterRegistry), 1000, 10, 1000, 10, 1, 100, 3);
+        botPort.errorFirstSend = true;
+
+        CompletableFuture<Void> broken = dispatcher.submit(1L, "chat-a", botPort, "broken", OutboundMessageDispatcher.Priority.NORMAL);
+        CompletableFuture<Void> next = dispatcher.submit(1L, "chat-a", botPort, "next", OutboundMessageDispatcher.Priority.NORMAL);
+
+        assertThatThrownBy(() -> broken.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(LinkageError.class);
+        next.get(5, TimeUnit.SECONDS);
+        assertThat(botPort.sent).extracting(Sent::text).containsExactly("broken", "next");
+    }
+
+    private void awaitQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (dispatcher.queuedMessages() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(dispatcher.queuedMessages()).isEqualTo(expected);
+    }
+
+    private record Sent(String chatId, String text, long atNanos) {
+    }
+
+    /**
+     * Records every attempt; can reject the first one with a rate limit or every one with an error.
+     */
+    private static final class RecordingBotPort implements BotPort {
+
+        private final List<Sent> sent = new CopyOnWriteArrayList<>();
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final CompletableFuture<Void> rateLimited = new CompletableFuture<>();
+        private volatile Duration rateLimitFirst;
+        private volatile boolean failAll;
+        private volatile boolean errorFirstSend;
+
+        void rateLimitFirstSend(Duration retryAfter) {
+            this.rateLimitFirst = retryAfter;
+        }
+
+        @Override
+        public void sendMessage(String chatId, String text) {
+            sent.add(new Sent(chatId, text, System.nanoTime()));
+            int attempt = attempts.incrementAndGet();
+            if (attempt == 1 && errorFirstSend) {
+                throw new LinkageError("Adapter class could not be linked");
+            }
+            if (failAll) {
+                throw new SendFailedException("Bad Request: chat not found", null);
+            }
+            if (attempt == 1 && rateLimitFirst != null) {
+                rateLimited.complete(null);
+                throw new SendFailedException("Too Many Requests", rateLimitFirst, null);
+            }
+        }
+
+        @Override
+        public void sendMessageWithButtons(String chatId, String text, Map<String, String> buttons) {
+            sendMessage(chatId, text);
+        }
+
+        @Override
+        public String getBotType() {
+            return "fake";
+        }
+    }
+}
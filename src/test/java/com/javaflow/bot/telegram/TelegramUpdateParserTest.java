@@ -0,0 +1,68 @@
+package com.javaflow.bot.telegram;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.javaflow.domain.events.BotMessageReceivedEvent;
+import com.javaflow.model.Message;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TelegramUpdateParserTest {
+
+    private final TelegramUpdateParser parser = new TelegramUpdateParser();
+
+    @Test
+    void parse_ShouldReadMessageFieldsAndSkipEverythingElse() throws IOException {
+        String json = """
+                {"update_id": 912345678,
+                 "message": {
+                   "message_id": 42,
+                   "from": {"id": 1001, "is_bot": false, "first_name": "Ana", "language_code": "es"},
+                   "chat": {"id": -100200300, "type": "supergroup", "title": "Soporte"},
+                   "date": 1700000000,
+                   "message_thread_id": 7,
+                   "reply_to_message": {"message_id": 41, "chat": {"id": -100200300}, "text": "anterior",
+                                        "photo": [{"file_id": "a", "width": 90}]},
+                   "entities": [{"offset": 0, "length": 7, "type": "bot_command"}],
+                   "text": "/status hola"
+                 },
+                 "unknown_field": {"nested": [1, 2, {"deep": true}]}}
+                """;
+
+        TelegramUpdate update = parse(json);
+        BotMessageReceivedEvent event = update.toEvent(5L);
+
+        assertThat(update.updateId()).isEqualTo(912345678L);
+        assertThat(update.hasTextMessage()).isTrue();
+        assertThat(event.botId()).isEqualTo(5L);
+        assertThat(event.chatId()).isEqualTo("-100200300");
+        assertThat(event.userId()).isEqualTo("1001");
+        assertThat(event.messageText()).isEqualTo("/status hola");
+        assertThat(event.externalId()).isEqualTo("42");
+        assertThat(event.metadata())
+                .containsEntry(Message.METADATA_THREAD_ID, 7)
+                .containsEntry(Message.METADATA_LANGUAGE, "es")
+                .containsEntry(Message.METADATA_REPLY_TO, 41L);
+    }
+
+    @Test
+    void parse_ShouldAcceptUpdatesWithoutTextAndRejectInvalidPayloads() throws IOException {
+        TelegramUpdate callback = parse("{\"update_id\": 1, \"callback_query\": {\"id\": \"x\", \"data\": \"y\"}}");
+        TelegramUpdate photo = parse("{\"update_id\": 2, \"message\": {\"message_id\": 3, \"chat\": {\"id\": 4}, \"photo\": []}}");
+
+        assertThat(callback.hasTextMessage()).isFalse();
+        assertThat(photo.hasTextMessage()).isFalse();
+        assertThatThrownBy(() -> parse("[1, 2]")).isInstanceOf(JsonParseException.class);
+        assertThatThrownBy(() -> parse("{\"message\": {}}")).isInstanceOf(JsonParseException.class);
+        assertThatThrownBy(() -> parse("{\"update_id\": 1, ")).isInstanceOf(IOException.class);
+    }
+
+    private TelegramUpdate parse(String json) throws IOException {
+        return parser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
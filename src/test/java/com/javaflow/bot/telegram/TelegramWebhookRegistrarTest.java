@@ -0,0 +1,86 @@
+package com.javaflow.bot.telegram;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.javaflow.model.BotConfiguration;
+import com.javaflow.repository.BotConfigurationRepository;
+import com.javaflow.security.TokenEncryptionService;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * setWebhook against a local HTTP server standing in for the Telegram Bot API.
+ */
+class TelegramWebhookRegistrarTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TokenEncryptionService encryptionService = new TokenEncryptionService("");
+    private final BotConfigurationRepository botRepository = mock(BotConfigurationRepository.class);
+    private final Map<String, JsonNode> requests = new ConcurrentHashMap<>();
+
+    private HttpServer fakeTelegram;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        fakeTelegram = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        fakeTelegram.createContext("/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            requests.put(path, objectMapper.readTree(exchange.getRequestBody()));
+            boolean known = path.startsWith("/bot123:valid/");
+            byte[] response = (known ? "{\"ok\":true,\"result\":true}"
+                    : "{\"ok\":false,\"error_code\":401,\"description\":\"Unauthorized\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(known ? 200 : 401, response.length);
+            exchange.getResponseBody().write(response);
+            exchange.close();
+        });
+        fakeTelegram.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        fakeTelegram.stop(0);
+    }
+
+    @Test
+    void registerActiveBots_ShouldSetOneWebhookUrlPerBot() {
+        when(botRepository.findByTypeAndStatus(BotConfiguration.BotType.TELEGRAM, BotConfiguration.BotStatus.ACTIVE))
+                .thenReturn(List.of(bot(5L, "123:valid"), bot(6L, "999:revoked")));
+        TelegramWebhookRegistrar registrar = new TelegramWebhookRegistrar(botRepository, encryptionService, objectMapper,
+                "http://127.0.0.1:" + fakeTelegram.getAddress().getPort() + "/", "https://javaflow.example.com/",
+                "webhook-secret", 40);
+
+        registrar.registerActiveBots();
+
+        JsonNode setWebhook = requests.get("/bot123:valid/setWebhook");
+        assertThat(setWebhook).isNotNull();
+        assertThat(setWebhook.path("url").asText()).isEqualTo("https://javaflow.example.com/api/v1/telegram/webhook/5");
+        assertThat(setWebhook.path("secret_token").asText()).isEqualTo("webhook-secret");
+        assertThat(setWebhook.path("allowed_updates").get(0).asText()).isEqualTo("message");
+        assertThat(requests).containsKey("/bot999:revoked/setWebhook");
+        assertThat(registrar.register(bot(6L, "999:revoked"))).isFalse();
+        assertThat(registrar.register(bot(7L, null))).isFalse();
+    }
+
+    private BotConfiguration bot(Long id, String token) {
+        return BotConfiguration.builder()
+                .id(id)
+                .name("bot-" + id)
+                .type(BotConfiguration.BotType.TELEGRAM)
+                .status(BotConfiguration.BotStatus.ACTIVE)
+                .token(token != null ? encryptionService.encrypt(token) : null)
+                .build();
+    }
+}
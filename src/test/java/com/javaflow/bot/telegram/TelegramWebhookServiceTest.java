@@ -0,0 +1,86 @@
+package com.javaflow.bot.telegram;
+
+import com.javaflow.bot.inbound.InboundMessageDispatcher;
+import com.javaflow.domain.events.BotMessageReceivedEvent;
+import com.javaflow.model.BotConfiguration;
+import com.javaflow.monitoring.MetricsService;
+import com.javaflow.repository.BotConfigurationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TelegramWebhookServiceTest {
+
+    private static final String SECRET = "webhook-secret";
+
+    private final BotConfigurationRepository botRepository = mock(BotConfigurationRepository.class);
+    private final InboundMessageDispatcher inboundDispatcher = mock(InboundMessageDispatcher.class);
+
+    private TelegramWebhookService webhookService;
+
+    @BeforeEach
+    void setUp() {
+        when(botRepository.findById(5L)).thenReturn(Optional.of(BotConfiguration.builder()
+                .id(5L)
+                .name("soporte")
+                .type(BotConfiguration.BotType.TELEGRAM)
+                .status(BotConfiguration.BotStatus.ACTIVE)
+                .build()));
+        when(inboundDispatcher.trySubmit(any())).thenReturn(true);
+        webhookService = new TelegramWebhookService(botRepository, inboundDispatcher,
+                new MetricsService(new SimpleMeterRegistry()), SECRET, 10);
+    }
+
+    @Test
+    void accept_ShouldQueueTextUpdatesOnceWithTheBotOfTheUrl() throws IOException {
+        assertThat(webhookService.accept(5L, SECRET, update(10))).isEqualTo(TelegramWebhookService.Outcome.ACCEPTED);
+        assertThat(webhookService.accept(5L, SECRET, update(10))).isEqualTo(TelegramWebhookService.Outcome.DUPLICATE);
+
+        verify(inboundDispatcher).trySubmit(new BotMessageReceivedEvent(5L, "77", "88", "hola", "3", Map.of()));
+        verifyNoMoreInteractions(inboundDispatcher);
+    }
+
+    @Test
+    void accept_ShouldReportOverloadAndAcceptTheRedelivery_WhenTheChatQueueIsFull() throws IOException {
+        when(inboundDispatcher.trySubmit(any())).thenReturn(false, true);
+
+        assertThat(webhookService.accept(5L, SECRET, update(12))).isEqualTo(TelegramWebhookService.Outcome.OVERLOADED);
+        assertThat(webhookService.accept(5L, SECRET, update(12))).isEqualTo(TelegramWebhookService.Outcome.ACCEPTED);
+    }
+
+    @Test
+    void accept_ShouldRejectWrongSecretAndUnknownBots() throws IOException {
+        assertThat(webhookService.accept(5L, "other", update(11))).isEqualTo(TelegramWebhookService.Outcome.UNAUTHORIZED);
+        assertThat(webhookService.accept(5L, null, update(11))).isEqualTo(TelegramWebhookService.Outcome.UNAUTHORIZED);
+        assertThat(webhookService.accept(6L, SECRET, update(11))).isEqualTo(TelegramWebhookService.Outcome.UNKNOWN_BOT);
+        assertThat(webhookService.accept(5L, SECRET, update(11))).isEqualTo(TelegramWebhookService.Outcome.ACCEPTED);
+    }
+
+    @Test
+    void constructor_ShouldRefuseToStartWithoutSecretToken() {
+        MetricsService metricsService = new MetricsService(new SimpleMeterRegistry());
+
+        assertThatThrownBy(() -> new TelegramWebhookService(botRepository, inboundDispatcher, metricsService, "", 10))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new TelegramWebhookService(botRepository, inboundDispatcher, metricsService, "no spaces", 10))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static InputStream update(long updateId) {
+        String json = "{\"update_id\": " + updateId + ", \"message\": {\"message_id\": 3, \"from\": {\"id\": 88}, " +
+                "\"chat\": {\"id\": 77}, \"text\": \"hola\"}}";
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,148 @@
+package com.javaflow.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.javaflow.model.BotConfiguration;
+import com.javaflow.model.Workflow;
+import com.javaflow.monitoring.MetricsService;
+import com.javaflow.repository.BotConfigurationRepository;
+import com.javaflow.service.dto.WorkflowSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs without the test transaction: Hibernate does not cache entities loaded in the
+ * same transaction that inserted them.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private BotConfigurationRepository botRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private SessionFactoryImplementor sessionFactory;
+    private Long botId;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        BotConfiguration bot = BotConfiguration.builder()
+                .name("soporte")
+                .type(BotConfiguration.BotType.TELEGRAM)
+                .build();
+        botId = botRepository.save(bot).getId();
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    @AfterEach
+    void tearDown() {
+        botRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM cache_invalidations");
+    }
+
+    @Test
+    void findById_ShouldBeServedFromSecondLevelCache_AfterFirstLoad() {
+        Cache<Object, Object> region = ((CaffeineRegionFactory) sessionFactory.getCache().getRegionFactory())
+                .getCaches().get("bot-configurations");
+        long hitsBefore = region.stats().hitCount();
+
+        botRepository.findById(botId).orElseThrow();
+        BotConfiguration cached = botRepository.findById(botId).orElseThrow();
+
+        assertThat(cached.getName()).isEqualTo("soporte");
+        assertThat(sessionFactory.getCache().containsEntity(BotConfiguration.class, botId)).isTrue();
+        assertThat(region.stats().hitCount()).isGreaterThan(hitsBefore);
+    }
+
+    @Test
+    void pollOnce_ShouldEvictEntriesChangedByOtherNodesOnly() {
+        ClusterCacheInvalidator invalidator = new ClusterCacheInvalidator(
+                jdbcTemplate, entityManagerFactory, new ConcurrentMapCacheManager(),
+                new StaticListableBeanFactory().getBeanProvider(WorkflowCache.class), new MetricsService(new SimpleMeterRegistry()), 1000, 60);
+        botRepository.findById(botId).orElseThrow();
+        assertThat(sessionFactory.getCache().containsEntity(BotConfiguration.class, botId)).isTrue();
+        invalidator.pollOnce();
+
+        jdbcTemplate.update(ClusterCacheInvalidator.INSERT_SQL,
+                BotConfiguration.class.getName(), botId.toString(), invalidator.nodeId());
+        assertThat(invalidator.pollOnce()).isZero();
+        assertThat(sessionFactory.getCache().containsEntity(BotConfiguration.class, botId)).isTrue();
+
+        jdbcTemplate.update(ClusterCacheInvalidator.INSERT_SQL,
+                BotConfiguration.class.getName(), botId.toString(), "other-node");
+        assertThat(invalidator.pollOnce()).isEqualTo(1);
+        assertThat(sessionFactory.getCache().containsEntity(BotConfiguration.class, botId)).isFalse();
+    }
+
+    @Test
+    void pollOnce_ShouldEvictSpringCacheEntriesAndClearOnUntypedKeys() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(WorkflowCache.BY_ID, WorkflowCache.LISTS);
+        ClusterCacheInvalidator invalidator = new ClusterCacheInvalidator(
+                jdbcTemplate, entityManagerFactory, cacheManager,
+                new StaticListableBeanFactory().getBeanProvider(WorkflowCache.class), new MetricsService(new SimpleMeterRegistry()), 1000, 60);
+        org.springframework.cache.Cache byId = cacheManager.getCache(WorkflowCache.BY_ID);
+        org.springframework.cache.Cache lists = cacheManager.getCache(WorkflowCache.LISTS);
+        byId.put(7L, "flow-7");
+        byId.put(8L, "flow-8");
+        lists.put("summaries:g0", List.of());
+        invalidator.pollOnce();
+
+        String region = ClusterCacheInvalidator.SPRING_CACHE_PREFIX + WorkflowCache.BY_ID;
+        jdbcTemplate.update(ClusterCacheInvalidator.INSERT_SQL, region, ClusterCacheInvalidator.encodeKey(7L), "other-node");
+        jdbcTemplate.update(ClusterCacheInvalidator.INSERT_SQL, region, ClusterCacheInvalidator.encodeKey(7L), "other-node");
+        jdbcTemplate.update(ClusterCacheInvalidator.INSERT_SQL,
+                ClusterCacheInvalidator.SPRING_CACHE_PREFIX + WorkflowCache.LISTS, null, "other-node");
+
+        assertThat(invalidator.pollOnce()).isEqualTo(2);
+        assertThat(byId.get(7L)).isNull();
+        assertThat(byId.get(8L)).isNotNull();
+        assertThat(lists.get("summaries:g0")).isNull();
+    }
+
+    @Test
+    void pollOnce_ShouldEvictOnlyWorkflowListsContainingTheChangedWorkflow() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(WorkflowCache.BY_ID, WorkflowCache.LISTS);
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        WorkflowCache workflowCache = new WorkflowCache(cacheManager, beanFactory.getBeanProvider(ClusterCacheInvalidator.class));
+        beanFactory.addBean("workflowCache", workflowCache);
+        ClusterCacheInvalidator invalidator = new ClusterCacheInvalidator(
+                jdbcTemplate, entityManagerFactory, cacheManager,
+                beanFactory.getBeanProvider(WorkflowCache.class), new MetricsService(new SimpleMeterRegistry()), 1000, 60);
+        org.springframework.cache.Cache lists = cacheManager.getCache(WorkflowCache.LISTS);
+        String key = workflowCache.listKey(WorkflowCache.SUMMARIES);
+        lists.put(key, List.of(new WorkflowSummary(7L, "flow-7", null, Workflow.WorkflowStatus.DRAFT, 1, "admin",
+                LocalDateTime.now(), null, 0, 0, 0)));
+        invalidator.pollOnce();
+
+        String region = ClusterCacheInvalidator.SPRING_CACHE_PREFIX + WorkflowCache.LISTS;
+        jdbcTemplate.update(ClusterCacheInvalidator.INSERT_SQL, region, ClusterCacheInvalidator.encodeKey(9L), "other-node");
+        assertThat(invalidator.pollOnce()).isEqualTo(1);
+        assertThat(lists.get(key)).isNotNull();
+
+        jdbcTemplate.update(ClusterCacheInvalidator.INSERT_SQL, region, ClusterCacheInvalidator.encodeKey(7L), "other-node");
+        invalidator.pollOnce();
+        assertThat(lists.get(key)).isNull();
+    }
+}
@@ -0,0 +1,67 @@
+package com.javaflow.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.javaflow.monitoring.MetricsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpringCacheMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CaffeineCacheManager cacheManager;
+    private SpringCacheMetrics cacheMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cacheManager = new CaffeineCacheManager("users");
+        cacheManager.setCaffeine(Caffeine.newBuilder().maximumSize(100).recordStats());
+        cacheMetrics = new SpringCacheMetrics(cacheManager, new MetricsService(meterRegistry));
+    }
+
+    @Test
+    void sample_ShouldPublishHitsMissesAndRatioOfTheInterval() {
+        Cache users = cacheManager.getCache("users");
+        users.put(1L, "admin");
+        users.get(1L);
+        users.get(2L);
+        cacheMetrics.sample();
+
+        assertThat(cacheMetrics.recentHitRatio("users")).isEqualTo(0.5);
+        assertThat(meterRegistry.get("javaflow.cache.hit.ratio").tag("cache", "users").gauge().value()).isEqualTo(0.5);
+
+        users.get(1L);
+        users.get(1L);
+        users.get(1L);
+        cacheMetrics.sample();
+
+        assertThat(cacheMetrics.recentHitRatio("users")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("javaflow.cache.hits").tag("cache", "users").counter().count()).isEqualTo(4);
+        assertThat(meterRegistry.get("javaflow.cache.misses").tag("cache", "users").counter().count()).isEqualTo(1);
+
+        cacheMetrics.sample();
+        assertThat(cacheMetrics.recentHitRatio("users")).isNaN();
+    }
+
+    @Test
+    void endpoint_ShouldListStatsAndKeysWithoutValues() {
+        Cache users = cacheManager.getCache("users");
+        users.put(1L, "admin");
+        users.get(1L);
+        CacheStatsEndpoint endpoint = new CacheStatsEndpoint(cacheManager, cacheMetrics);
+
+        assertThat(endpoint.caches()).containsKey("users");
+        assertThat(endpoint.caches().get("users").hitCount()).isEqualTo(1);
+
+        CacheStatsEndpoint.CacheContents contents = endpoint.cache("users");
+        assertThat(contents.entries()).containsExactly(new CacheStatsEndpoint.Entry("1", "String"));
+        assertThat(contents.truncated()).isFalse();
+        assertThat(contents.stats().hitCount()).isEqualTo(1);
+        assertThat(endpoint.cache("missing")).isNull();
+    }
+}
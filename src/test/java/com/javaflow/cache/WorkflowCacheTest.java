@@ -0,0 +1,115 @@
+package com.javaflow.cache;
+
+import com.javaflow.model.User;
+import com.javaflow.model.Workflow;
+import com.javaflow.service.dto.WorkflowSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WorkflowCacheTest {
+
+    private ConcurrentMapCacheManager cacheManager;
+    private WorkflowCache workflowCache;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(WorkflowCache.BY_ID, WorkflowCache.LISTS);
+        workflowCache = new WorkflowCache(cacheManager,
+                new StaticListableBeanFactory().getBeanProvider(ClusterCacheInvalidator.class));
+    }
+
+    @Test
+    void workflowChanges_ShouldUpdateCachedListsInPlaceKeepingStats() {
+        Cache lists = cacheManager.getCache(WorkflowCache.LISTS);
+        String key = workflowCache.listKey(WorkflowCache.SUMMARIES);
+        lists.put(key, List.of(summary(1L, Workflow.WorkflowStatus.DRAFT, 10), summary(2L, Workflow.WorkflowStatus.DRAFT, 0)));
+
+        workflowCache.workflowChanged(workflow(1L, Workflow.WorkflowStatus.ACTIVE));
+        workflowCache.workflowCreated(workflow(3L, Workflow.WorkflowStatus.DRAFT));
+
+        List<WorkflowSummary> cached = cachedList(key);
+        assertThat(cached).extracting(WorkflowSummary::id).containsExactly(1L, 2L, 3L);
+        assertThat(cached.get(0).status()).isEqualTo(Workflow.WorkflowStatus.ACTIVE);
+        assertThat(cached.get(0).executionCount()).isEqualTo(10);
+        assertThat(cached.get(2).createdBy()).isEqualTo("admin");
+        assertThat(cacheManager.getCache(WorkflowCache.BY_ID).get(3L, WorkflowSummary.class)).isNotNull();
+
+        workflowCache.workflowRemoved(2L);
+        assertThat(cachedList(key)).extracting(WorkflowSummary::id).containsExactly(1L, 3L);
+
+        // Sin elemento previo no hay estadísticas que conservar: se descarta la lista
+        workflowCache.workflowChanged(workflow(4L, Workflow.WorkflowStatus.ACTIVE));
+        assertThat(cachedList(key)).isNull();
+        assertThat(cacheManager.getCache(WorkflowCache.BY_ID).get(4L)).isNull();
+    }
+
+    @Test
+    void listsChanged_ShouldMoveListsToNewGenerationAndKeepIdEntries() {
+        String before = workflowCache.listKey(WorkflowCache.SUMMARIES);
+        cacheManager.getCache(WorkflowCache.LISTS).put(before, List.of(summary(1L, Workflow.WorkflowStatus.DRAFT, 0)));
+        workflowCache.workflowCreated(workflow(1L, Workflow.WorkflowStatus.DRAFT));
+
+        workflowCache.listsChanged();
+
+        assertThat(workflowCache.listKey(WorkflowCache.SUMMARIES)).isNotEqualTo(before);
+        assertThat(cachedList(workflowCache.listKey(WorkflowCache.SUMMARIES))).isNull();
+        assertThat(cacheManager.getCache(WorkflowCache.BY_ID).get(1L)).isNotNull();
+    }
+
+    @Test
+    void summaries_ShouldNotStoreALoadThatOverlappedAChange() {
+        List<WorkflowSummary> stale = List.of(summary(1L, Workflow.WorkflowStatus.DRAFT, 0));
+
+        List<WorkflowSummary> loaded = workflowCache.summaries(() -> {
+            workflowCache.workflowChanged(workflow(1L, Workflow.WorkflowStatus.ACTIVE));
+            return stale;
+        });
+
+        assertThat(loaded).isSameAs(stale);
+        assertThat(cachedList(workflowCache.listKey(WorkflowCache.SUMMARIES))).isNull();
+
+        List<WorkflowSummary> fresh = List.of(summary(1L, Workflow.WorkflowStatus.ACTIVE, 0));
+        assertThat(workflowCache.summaries(() -> fresh)).isSameAs(fresh);
+        assertThat(workflowCache.summaries(() -> stale)).isSameAs(fresh);
+    }
+
+    @Test
+    void weigh_ShouldGrowWithContentAndListSize() {
+        WorkflowSummary small = summary(1L, Workflow.WorkflowStatus.DRAFT, 0);
+        WorkflowSummary large = new WorkflowSummary(2L, "flow-2", "x".repeat(1000), Workflow.WorkflowStatus.DRAFT,
+                1, "admin", LocalDateTime.now(), null, 0, 0, 0);
+
+        assertThat(WorkflowCache.weigh(1L, large)).isGreaterThan(WorkflowCache.weigh(1L, small) + 2000);
+        assertThat(WorkflowCache.weigh("summaries:g0", List.of(small, large)))
+                .isGreaterThan(WorkflowCache.weigh(1L, small) + WorkflowCache.weigh(2L, large));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<WorkflowSummary> cachedList(String key) {
+        Cache.ValueWrapper wrapper = cacheManager.getCache(WorkflowCache.LISTS).get(key);
+        return wrapper != null ? (List<WorkflowSummary>) wrapper.get() : null;
+    }
+
+    private static WorkflowSummary summary(Long id, Workflow.WorkflowStatus status, long executions) {
+        return new WorkflowSummary(id, "flow-" + id, null, status, 1, "admin",
+                LocalDateTime.now(), null, executions, executions, 0);
+    }
+
+    private static Workflow workflow(Long id, Workflow.WorkflowStatus status) {
+        return Workflow.builder()
+                .id(id)
+                .name("flow-" + id)
+                .bpmnXml("<definitions/>")
+                .status(status)
+                .createdBy(User.builder().id(1L).username("admin").build())
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.javaflow.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The actuator endpoint and the exports are not part of this web slice; stub controllers on their paths
+ * stand in for them.
+ */
+@WebMvcTest(controllers = {ApiSecurityConfigTest.TokenRotationStub.class, ApiSecurityConfigTest.ExportStub.class})
+@Import({ApiSecurityConfig.class, ApiSecurityConfigTest.Users.class,
+        ApiSecurityConfigTest.TokenRotationStub.class, ApiSecurityConfigTest.ExportStub.class})
+class ApiSecurityConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void startTokenRotation_ShouldBeAllowedForAdminWithHttpBasicAndNoCsrfToken() throws Exception {
+        mockMvc.perform(post("/actuator/tokenrotation").with(httpBasic("admin", "admin-secret")))
+                .andExpect(status().is2xxSuccessful());
+    }
+
+    @Test
+    void startTokenRotation_ShouldBeRejectedWithoutCredentials() throws Exception {
+        mockMvc.perform(post("/actuator/tokenrotation"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void startTokenRotation_ShouldBeForbiddenForNonAdmin() throws Exception {
+        mockMvc.perform(post("/actuator/tokenrotation").with(httpBasic("user", "password")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void exports_ShouldRequireAdmin() throws Exception {
+        mockMvc.perform(get("/api/v1/executions/export"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/v1/messages/export").with(httpBasic("user", "password")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/v1/messages/export").with(httpBasic("admin", "admin-secret")))
+                .andExpect(status().is2xxSuccessful());
+    }
+
+    @RestController
+    static class TokenRotationStub {
+
+        @PostMapping("/actuator/tokenrotation")
+        String start() {
+            return "started";
+        }
+    }
+
+    @RestController
+    static class ExportStub {
+
+        @GetMapping({"/api/v1/executions/export", "/api/v1/messages/export"})
+        String export() {
+            return "{}";
+        }
+    }
+
+    @TestConfiguration
+    static class Users {
+
+        @Bean
+        UserDetailsService userDetailsService() {
+            return new InMemoryUserDetailsManager(
+                    User.withUsername("admin").password("{noop}admin-secret").roles("ADMIN").build(),
+                    User.withUsername("user").password("{noop}password").roles("USER").build());
+        }
+    }
+}
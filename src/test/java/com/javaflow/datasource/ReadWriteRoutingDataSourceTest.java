@@ -0,0 +1,110 @@
+package com.javaflow.datasource;
+
+import com.javaflow.monitoring.MetricsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routes between two independent embedded H2 databases that identify themselves by a marker row.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String WHO_AM_I = "SELECT name FROM node";
+
+    private DataSource primary;
+    private DataSource replica;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        primary = embeddedDatabase("primary");
+        replica = embeddedDatabase("replica");
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldUseReplica() {
+        Routing routing = routing(replica, "SELECT 0");
+
+        assertThat(routing.readOnlyNode()).isEqualTo("replica");
+        assertThat(meterRegistry.counter("javaflow.datasource.replica.reads").count()).isEqualTo(1);
+    }
+
+    @Test
+    void writesAndNonTransactionalAccess_ShouldUsePrimary() {
+        Routing routing = routing(replica, "SELECT 0");
+
+        assertThat(routing.readWriteNode()).isEqualTo("primary");
+        assertThat(routing.jdbc().queryForObject(WHO_AM_I, String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    void staleReplica_ShouldFallBackToPrimary() {
+        // 10 seconds of lag against a 5 second bound
+        Routing routing = routing(replica, "SELECT 10");
+
+        assertThat(routing.readOnlyNode()).isEqualTo("primary");
+        assertThat(meterRegistry.counter("javaflow.datasource.replica.fallbacks", "reason", "stale").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void unreachableReplica_ShouldFallBackToPrimaryAndLeaveRotation() {
+        DriverManagerDataSource unreachable = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";IFEXISTS=TRUE", "sa", "");
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(unreachable, "SELECT 0", Duration.ofSeconds(5));
+        monitor.check();
+
+        assertThat(monitor.isUsable()).isFalse();
+        Routing routing = routing(monitor, unreachable);
+        assertThat(routing.readOnlyNode()).isEqualTo("primary");
+    }
+
+    private Routing routing(DataSource replicaDataSource, String lagQuery) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaDataSource, lagQuery, Duration.ofSeconds(5));
+        monitor.check();
+        return routing(monitor, replicaDataSource);
+    }
+
+    private Routing routing(ReplicaLagMonitor monitor, DataSource replicaDataSource) {
+        DataSource routing = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(
+                primary, replicaDataSource, monitor, new MetricsService(meterRegistry)));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return new Routing(new JdbcTemplate(routing), readOnly, new TransactionTemplate(transactionManager));
+    }
+
+    private static DataSource embeddedDatabase(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private record Routing(JdbcTemplate jdbc, TransactionTemplate readOnly, TransactionTemplate readWrite) {
+
+        String readOnlyNode() {
+            return readOnly.execute(status -> jdbc.queryForObject(WHO_AM_I, String.class));
+        }
+
+        String readWriteNode() {
+            return readWrite.execute(status -> jdbc.queryForObject(WHO_AM_I, String.class));
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.javaflow.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.javaflow.model.BotConfiguration;
+import com.javaflow.model.Message;
+import com.javaflow.model.Workflow;
+import com.javaflow.model.WorkflowExecution;
+import com.javaflow.monitoring.MetricsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class StreamingExportServiceTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private StreamingExportService exportService;
+    private Workflow workflow;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new StreamingExportService(
+                jdbcTemplate, transactionManager, new MetricsService(new SimpleMeterRegistry()), 2);
+
+        workflow = Workflow.builder()
+                .name("facturacion")
+                .bpmnXml("<definitions/>")
+                .status(Workflow.WorkflowStatus.ACTIVE)
+                .build();
+        entityManager.persist(workflow);
+    }
+
+    @Test
+    void exportExecutions_ShouldWriteOneJsonObjectPerMatchingRow() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            WorkflowExecution execution = WorkflowExecution.create(workflow, null);
+            execution.setProcessInstanceId("pi-" + i);
+            if (i % 2 == 0) {
+                execution.fail("Timeout " + i);
+            }
+            entityManager.persist(execution);
+        }
+        entityManager.flush();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = exportService.exportExecutions(ExecutionExportFilter.builder()
+                .workflowId(workflow.getId())
+                .statuses(Set.of(WorkflowExecution.ExecutionStatus.FAILED))
+                .build(), ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(3);
+        assertThat(lines).hasSize(3);
+        List<JsonNode> executions = new ArrayList<>();
+        for (String line : lines) {
+            executions.add(new ObjectMapper().readTree(line));
+        }
+        assertThat(executions).allSatisfy(execution -> {
+            assertThat(execution.get("workflow_id").isNumber()).isTrue();
+            assertThat(execution.get("workflow_name").asText()).isEqualTo("facturacion");
+            assertThat(execution.get("status").asText()).isEqualTo("FAILED");
+            assertThat(execution.get("error_message").asText()).startsWith("Timeout");
+            assertThat(execution.get("started_by").isNull()).isTrue();
+        });
+    }
+
+    @Test
+    void exportMessages_ShouldQuoteCsvFieldsAndEmbedMetadataInJson() throws Exception {
+        BotConfiguration bot = BotConfiguration.builder()
+                .name("soporte")
+                .type(BotConfiguration.BotType.TELEGRAM)
+                .build();
+        entityManager.persist(bot);
+        entityManager.persist(Message.builder()
+                .bot(bot)
+                .chatId("chat-1")
+                .direction(Message.MessageDirection.INBOUND)
+                .content("hola, \"amigo\"\nsegunda línea")
+                .build()
+                .putMetadata(Message.METADATA_LANGUAGE, "es"));
+        entityManager.persist(Message.builder()
+                .bot(bot)
+                .chatId("chat-2")
+                .direction(Message.MessageDirection.OUTBOUND)
+                .content("adiós")
+                .build());
+        entityManager.flush();
+
+        MessageExportFilter filter = MessageExportFilter.builder().botId(bot.getId()).chatId("chat-1").build();
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        exportService.exportMessages(filter, ExportFormat.CSV, csv);
+        exportService.exportMessages(filter, ExportFormat.NDJSON, ndjson);
+
+        String[] csvLines = csv.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(csvLines).hasSize(2);
+        assertThat(csvLines[0]).startsWith("id,bot_id,external_id,chat_id");
+        assertThat(csvLines[1]).contains(",chat-1,,INBOUND,TEXT,\"hola, \"\"amigo\"\"\nsegunda línea\",");
+
+        JsonNode message = new ObjectMapper().readTree(ndjson.toString(StandardCharsets.UTF_8));
+        assertThat(message.get("content").asText()).isEqualTo("hola, \"amigo\"\nsegunda línea");
+        assertThat(message.get("metadata").get(Message.METADATA_LANGUAGE).asText()).isEqualTo("es");
+    }
+}
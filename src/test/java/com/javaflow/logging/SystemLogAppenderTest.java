@@ -0,0 +1,98 @@
+package com.javaflow.logging;
+
+import com.javaflow.model.SystemLog.LogLevel;
+import com.javaflow.monitoring.MetricsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SystemLogAppenderTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private MetricsService metricsService;
+
+    private SystemLogAppender appender;
+
+    @BeforeEach
+    void setUp() {
+        // Capacity 10, watermark at 5 entries, keep 1 of every 2 sampled entries
+        appender = new SystemLogAppender(jdbcTemplate, metricsService, 10, 100, 250, 0.5, 2, "TRACE,DEBUG", "INFO");
+    }
+
+    @Test
+    void append_ShouldAcceptAllLevels_WhenBelowWatermark() {
+        assertThat(appender.append(event(LogLevel.DEBUG))).isTrue();
+        assertThat(appender.append(event(LogLevel.INFO))).isTrue();
+        assertThat(appender.append(event(LogLevel.ERROR))).isTrue();
+
+        assertThat(appender.pendingCount()).isEqualTo(3);
+        verifyNoInteractions(metricsService);
+    }
+
+    @Test
+    void append_ShouldDropDebugAndSampleInfo_WhenAboveWatermark() {
+        fillTo(5);
+
+        assertThat(appender.append(event(LogLevel.DEBUG))).isFalse();
+        assertThat(appender.append(event(LogLevel.INFO))).isTrue();
+        assertThat(appender.append(event(LogLevel.INFO))).isFalse();
+
+        verify(metricsService).recordSystemLogDropped("DEBUG", "overload");
+        verify(metricsService).recordSystemLogDropped("INFO", "sampled");
+    }
+
+    @Test
+    void append_ShouldKeepErrorsUntilBufferIsFull() {
+        fillTo(5);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(appender.append(event(LogLevel.ERROR))).isTrue();
+        }
+        assertThat(appender.append(event(LogLevel.FATAL))).isFalse();
+
+        verify(metricsService).recordSystemLogDropped("FATAL", "full");
+    }
+
+    @Test
+    void writeBatch_ShouldRecordDroppedEntries_WhenInsertFails() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any()))
+                .thenThrow(new org.springframework.dao.DataAccessResourceFailureException("down"));
+
+        appender.writeBatch(List.of(event(LogLevel.INFO), event(LogLevel.WARN)));
+
+        verify(metricsService).recordSystemLogDropped("INFO", "write-error");
+        verify(metricsService).recordSystemLogDropped("WARN", "write-error");
+        verify(metricsService, never()).recordSystemLogsWritten(anyInt());
+    }
+
+    @Test
+    void writeLinks_ShouldFillExecutionIdOfUnlinkedEntries() {
+        appender.writeLinks(List.of(new SystemLogAppender.ExecutionLink("process-1", 7L, 0)));
+
+        verify(jdbcTemplate).batchUpdate(eq(SystemLogAppender.LINK_SQL), anyList(), eq(1), any());
+    }
+
+    private void fillTo(int count) {
+        for (int i = 0; i < count; i++) {
+            appender.append(event(LogLevel.WARN));
+        }
+    }
+
+    private static SystemLogEvent event(LogLevel level) {
+        return new SystemLogEvent(level, "Test", "message", null, "process-1", LocalDateTime.now());
+    }
+}
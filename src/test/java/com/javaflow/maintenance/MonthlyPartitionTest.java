@@ -0,0 +1,43 @@
+package com.javaflow.maintenance;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MonthlyPartitionTest {
+
+    @Test
+    void name_ShouldFollowTableMonthConvention() {
+        MonthlyPartition partition = new MonthlyPartition("messages", YearMonth.of(2025, 3));
+
+        assertThat(partition.name()).isEqualTo("messages_p2025_03");
+        assertThat(partition.from()).isEqualTo(LocalDate.of(2025, 3, 1));
+        assertThat(partition.to()).isEqualTo(LocalDate.of(2025, 4, 1));
+    }
+
+    @Test
+    void parse_ShouldRoundTripPartitionName() {
+        assertThat(MonthlyPartition.parse("workflow_executions", "workflow_executions_p2024_12"))
+                .contains(new MonthlyPartition("workflow_executions", YearMonth.of(2024, 12)));
+    }
+
+    @Test
+    void parse_ShouldRejectForeignOrMalformedNames() {
+        assertThat(MonthlyPartition.parse("messages", "system_logs_p2024_12")).isEmpty();
+        assertThat(MonthlyPartition.parse("messages", "messages_legacy")).isEmpty();
+        assertThat(MonthlyPartition.parse("messages", "messages_p2024_13")).isEmpty();
+    }
+
+    @Test
+    void isExpired_ShouldKeepFullRetentionMonthsBeforeCurrentMonth() {
+        LocalDate today = LocalDate.of(2025, 6, 15);
+
+        // Retention of 3 months keeps March, April, May and June
+        assertThat(new MonthlyPartition("messages", YearMonth.of(2025, 2)).isExpired(today, 3)).isTrue();
+        assertThat(new MonthlyPartition("messages", YearMonth.of(2025, 3)).isExpired(today, 3)).isFalse();
+        assertThat(new MonthlyPartition("messages", YearMonth.of(2025, 6)).isExpired(today, 3)).isFalse();
+    }
+}
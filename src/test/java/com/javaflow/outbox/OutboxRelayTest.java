@@ -0,0 +1,144 @@
+package com.javaflow.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.javaflow.domain.events.WorkflowActivatedEvent;
+import com.javaflow.domain.events.WorkflowExecutedEvent;
+import com.javaflow.model.WorkflowExecution.ExecutionStatus;
+import com.javaflow.monitoring.MetricsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboxRelayTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 10, 12, 0);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final List<Object> delivered = new ArrayList<>();
+    private final Set<Long> failingExecutions = new HashSet<>();
+
+    private JdbcTemplate jdbcTemplate;
+    private MetricsService metricsService;
+    private OutboxWriter writer;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:outbox-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE outbox_events (id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "aggregate_type VARCHAR(100) NOT NULL, aggregate_id BIGINT, event_type VARCHAR(255) NOT NULL, " +
+                "payload TEXT NOT NULL, created_at TIMESTAMP NOT NULL, available_at TIMESTAMP NOT NULL, " +
+                "attempts INT NOT NULL, last_error VARCHAR(1000), dead BOOLEAN NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE outbox_relay_lease (name VARCHAR(50) PRIMARY KEY, " +
+                "owner VARCHAR(64) NOT NULL, expires_at TIMESTAMP NOT NULL)");
+
+        metricsService = new MetricsService(new SimpleMeterRegistry());
+        relay = newRelay();
+        writer = new OutboxWriter(jdbcTemplate, objectMapper, Optional.of(relay));
+    }
+
+    @Test
+    void relayBatch_ShouldDeliverStoredEventsInOrderAndDeleteThem() {
+        WorkflowActivatedEvent activated = new WorkflowActivatedEvent(1L, "facturacion", T0);
+        WorkflowExecutedEvent executed = new WorkflowExecutedEvent(10L, 1L, ExecutionStatus.RUNNING, T0.plusSeconds(1));
+        writer.store(activated);
+        writer.store(executed);
+
+        assertThat(relay.relayBatch()).isEqualTo(2);
+
+        assertThat(delivered).containsExactly(activated, executed);
+        assertThat(pendingCount()).isZero();
+    }
+
+    @Test
+    void relayBatch_ShouldHoldBackLaterEventsOfFailedAggregateOnly() {
+        failingExecutions.add(10L);
+        writer.store(executed(10L, ExecutionStatus.RUNNING));
+        writer.store(executed(20L, ExecutionStatus.RUNNING));
+        writer.store(executed(10L, ExecutionStatus.COMPLETED));
+
+        relay.relayBatch();
+        assertThat(delivered).containsExactly(executed(20L, ExecutionStatus.RUNNING));
+        assertThat(jdbcTemplate.queryForObject("SELECT MAX(attempts) FROM outbox_events", Integer.class)).isEqualTo(1);
+
+        failingExecutions.clear();
+        relay.relayBatch();
+        assertThat(delivered).containsExactly(
+                executed(20L, ExecutionStatus.RUNNING),
+                executed(10L, ExecutionStatus.RUNNING),
+                executed(10L, ExecutionStatus.COMPLETED));
+        assertThat(pendingCount()).isZero();
+    }
+
+    @Test
+    void relayBatch_ShouldMarkEventDeadAfterMaxAttempts() {
+        failingExecutions.add(10L);
+        writer.store(executed(10L, ExecutionStatus.RUNNING));
+
+        relay.relayBatch();
+        relay.relayBatch();
+        relay.relayBatch();
+        relay.relayBatch();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT attempts FROM outbox_events", Integer.class)).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT dead FROM outbox_events", Boolean.class)).isTrue();
+    }
+
+    @Test
+    void relayBatch_ShouldMarkEventDead_WhenTypeIsNotADomainEvent() {
+        jdbcTemplate.update("INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload, created_at, " +
+                "available_at, attempts, dead) VALUES ('Workflow', 1, 'java.lang.Runtime', '{}', ?, ?, 0, FALSE)", T0, T0);
+
+        relay.relayBatch();
+
+        assertThat(delivered).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT dead FROM outbox_events", Boolean.class)).isTrue();
+    }
+
+    @Test
+    void acquireLease_ShouldLetOnlyOneNodeRelayUntilTheLeaseExpires() {
+        OutboxRelay other = newRelay();
+
+        assertThat(relay.acquireLease()).isTrue();
+        assertThat(other.acquireLease()).isFalse();
+        assertThat(relay.acquireLease()).isTrue();
+
+        jdbcTemplate.update("UPDATE outbox_relay_lease SET expires_at = ?", LocalDateTime.now().minusSeconds(1));
+
+        assertThat(other.acquireLease()).isTrue();
+        assertThat(relay.acquireLease()).isFalse();
+    }
+
+    private OutboxRelay newRelay() {
+        return new OutboxRelay(jdbcTemplate, objectMapper, this::publish, metricsService, 100, 1000, 3, 0, 0, 30000);
+    }
+
+    private void publish(Object event) {
+        OutboxDelivery<?> delivery = (OutboxDelivery<?>) event;
+        if (delivery.event() instanceof WorkflowExecutedEvent executed && failingExecutions.contains(executed.executionId())) {
+            throw new IllegalStateException("listener failed");
+        }
+        delivered.add(delivery.event());
+    }
+
+    private long pendingCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events", Long.class);
+    }
+
+    private static WorkflowExecutedEvent executed(Long executionId, ExecutionStatus status) {
+        return new WorkflowExecutedEvent(executionId, 1L, status, T0);
+    }
+}
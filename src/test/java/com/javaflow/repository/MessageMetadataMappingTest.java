@@ -0,0 +1,68 @@
+package com.javaflow.repository;
+
+import com.javaflow.model.BotConfiguration;
+import com.javaflow.model.Message;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JSON mapping of Message.metadata and BotConfiguration.config.
+ * The jsonb queries themselves are PostgreSQL-only and not run against H2.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class MessageMetadataMappingTest {
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void metadataAndConfig_ShouldRoundTripAsJson() {
+        BotConfiguration bot = BotConfiguration.builder()
+                .name("soporte")
+                .type(BotConfiguration.BotType.TELEGRAM)
+                .config(Map.of("max_retries", 5, "greeting_enabled", true, "locale", "es"))
+                .build();
+        entityManager.persist(bot);
+
+        Message message = Message.builder()
+                .bot(bot)
+                .chatId("chat-1")
+                .direction(Message.MessageDirection.INBOUND)
+                .content("hola")
+                .build()
+                .putMetadata(Message.METADATA_THREAD_ID, 42)
+                .putMetadata(Message.METADATA_LANGUAGE, "es");
+        Long id = messageRepository.saveAndFlush(message).getId();
+        entityManager.clear();
+
+        Message loaded = messageRepository.findById(id).orElseThrow();
+        assertThat(loaded.getThreadId()).contains("42");
+        assertThat(loaded.getLanguage()).contains("es");
+        assertThat(loaded.getMetadataValue(Message.METADATA_REPLY_TO)).isEmpty();
+
+        BotConfiguration loadedBot = loaded.getBot();
+        assertThat(loadedBot.getConfigInt("max_retries", 1)).isEqualTo(5);
+        assertThat(loadedBot.getConfigBoolean("greeting_enabled", false)).isTrue();
+        assertThat(loadedBot.getConfigString("locale")).contains("es");
+        assertThat(loadedBot.getConfigInt("missing", 7)).isEqualTo(7);
+    }
+
+    @Test
+    void putMetadata_ShouldRemoveKey_WhenValueIsNull() {
+        Message message = Message.builder().build()
+                .putMetadata(Message.METADATA_LANGUAGE, "en")
+                .putMetadata(Message.METADATA_LANGUAGE, null);
+
+        assertThat(message.getLanguage()).isEmpty();
+        assertThat(message.getMetadata()).isEmpty();
+    }
+}
@@ -0,0 +1,164 @@
+package com.javaflow.repository;
+
+import com.javaflow.model.WorkflowExecution;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query-plan regression test for execution search.
+ *
+ * <p>Creates {@code workflow_executions} with the indexes declared on {@link WorkflowExecution} and checks
+ * that each search shape built by {@link WorkflowExecutionSpecifications} is planned on the expected index.
+ * Removing or reordering an index on the entity makes this test fail.</p>
+ *
+ * <p>H2 always runs. PostgreSQL runs when {@code JAVAFLOW_TEST_POSTGRES_URL} (and optionally
+ * {@code JAVAFLOW_TEST_POSTGRES_USER} / {@code JAVAFLOW_TEST_POSTGRES_PASSWORD}) is set; the test works in a
+ * throwaway schema and disables sequential scans so the result does not depend on table statistics.</p>
+ */
+class WorkflowExecutionQueryPlanTest {
+
+    private static final String SINCE = "TIMESTAMP '2025-01-01 00:00:00'";
+
+    static Stream<String> databases() {
+        return Stream.of("h2", "postgresql");
+    }
+
+    @ParameterizedTest
+    @MethodSource("databases")
+    void workflowStatusAndRange_ShouldUseWorkflowStatusStartedIndex(String database) {
+        try (PlanDatabase db = PlanDatabase.open(database)) {
+            assertThat(db.explain("SELECT id FROM workflow_executions WHERE workflow_id = 3 " +
+                    "AND status IN ('FAILED', 'CANCELLED') AND started_at >= " + SINCE + " ORDER BY started_at DESC"))
+                    .contains("idx_execution_workflow_status_started");
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("databases")
+    void statusAndRange_ShouldUseStatusStartedIndex(String database) {
+        try (PlanDatabase db = PlanDatabase.open(database)) {
+            assertThat(db.explain("SELECT id FROM workflow_executions WHERE status = 'FAILED' " +
+                    "AND started_at >= " + SINCE + " ORDER BY started_at DESC"))
+                    .contains("idx_execution_status_started");
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("databases")
+    void startedBy_ShouldUseStartedByIndex(String database) {
+        try (PlanDatabase db = PlanDatabase.open(database)) {
+            assertThat(db.explain("SELECT id FROM workflow_executions WHERE started_by = 7 " +
+                    "AND started_at >= " + SINCE + " ORDER BY started_at DESC"))
+                    .contains("idx_execution_started_by_started");
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("databases")
+    void rangeOnly_ShouldUseStartedAtIndex(String database) {
+        try (PlanDatabase db = PlanDatabase.open(database)) {
+            assertThat(db.explain("SELECT id FROM workflow_executions WHERE started_at >= " + SINCE +
+                    " ORDER BY started_at DESC"))
+                    .contains("idx_execution_started_at");
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("databases")
+    void errorPrefix_ShouldUsePatternOpsIndexOnPostgres(String database) {
+        Assumptions.assumeTrue("postgresql".equals(database), "text_pattern_ops index is PostgreSQL-only");
+        try (PlanDatabase db = PlanDatabase.open(database)) {
+            db.jdbc().execute("CREATE INDEX idx_execution_error_prefix ON workflow_executions " +
+                    "(error_message text_pattern_ops) WHERE error_message IS NOT NULL");
+            assertThat(db.explain("SELECT id FROM workflow_executions WHERE error_message LIKE 'Timeout%'"))
+                    .contains("idx_execution_error_prefix");
+        }
+    }
+
+    /**
+     * A database with a populated {@code workflow_executions} table and the entity's indexes.
+     */
+    private record PlanDatabase(String type, JdbcTemplate jdbc, Runnable cleanup) implements AutoCloseable {
+
+        static PlanDatabase open(String type) {
+            PlanDatabase db = "h2".equals(type) ? openH2() : openPostgres();
+            db.createSchema();
+            return db;
+        }
+
+        private static PlanDatabase openH2() {
+            DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                    "jdbc:h2:mem:plan-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+            JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+            return new PlanDatabase("h2", jdbc, () -> jdbc.execute("SHUTDOWN"));
+        }
+
+        private static PlanDatabase openPostgres() {
+            String url = System.getenv("JAVAFLOW_TEST_POSTGRES_URL");
+            Assumptions.assumeTrue(url != null && !url.isBlank(), "JAVAFLOW_TEST_POSTGRES_URL not set");
+
+            SingleConnectionDataSource dataSource = new SingleConnectionDataSource(url,
+                    System.getenv().getOrDefault("JAVAFLOW_TEST_POSTGRES_USER", "postgres"),
+                    System.getenv().getOrDefault("JAVAFLOW_TEST_POSTGRES_PASSWORD", "postgres"), true);
+            JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+            String schema = "plan_test_" + UUID.randomUUID().toString().replace("-", "");
+            jdbc.execute("CREATE SCHEMA " + schema);
+            jdbc.execute("SET search_path TO " + schema);
+            jdbc.execute("SET enable_seqscan = off");
+            return new PlanDatabase("postgresql", jdbc, () -> {
+                jdbc.execute("DROP SCHEMA " + schema + " CASCADE");
+                dataSource.destroy();
+            });
+        }
+
+        void createSchema() {
+            jdbc.execute("CREATE TABLE workflow_executions (" +
+                    "id BIGINT PRIMARY KEY, workflow_id BIGINT NOT NULL, process_instance_id VARCHAR(255), " +
+                    "status VARCHAR(50) NOT NULL, started_at TIMESTAMP NOT NULL, ended_at TIMESTAMP, " +
+                    "started_by BIGINT, error_message " + ("h2".equals(type) ? "VARCHAR(4000)" : "TEXT") + ")");
+
+            for (Index index : WorkflowExecution.class.getAnnotation(Table.class).indexes()) {
+                jdbc.execute("CREATE " + (index.unique() ? "UNIQUE " : "") + "INDEX " + index.name() +
+                        " ON workflow_executions (" + index.columnList() + ")");
+            }
+
+            String[] statuses = {"RUNNING", "COMPLETED", "FAILED", "CANCELLED", "SUSPENDED"};
+            LocalDateTime start = LocalDateTime.of(2024, 6, 1, 0, 0);
+            List<Object[]> rows = new ArrayList<>();
+            for (int i = 0; i < 5000; i++) {
+                rows.add(new Object[]{(long) i, (long) (i % 50), "pi-" + i, statuses[i % statuses.length],
+                        Timestamp.valueOf(start.plusMinutes(i * 60L)), (long) (i % 40),
+                        i % 5 == 2 ? "Timeout waiting for task " + i : null});
+            }
+            jdbc.batchUpdate("INSERT INTO workflow_executions " +
+                    "(id, workflow_id, process_instance_id, status, started_at, started_by, error_message) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+            jdbc.execute("h2".equals(type) ? "ANALYZE" : "ANALYZE workflow_executions");
+        }
+
+        String explain(String sql) {
+            return String.join("\n", jdbc.queryForList("EXPLAIN " + sql, String.class)).toLowerCase(Locale.ROOT);
+        }
+
+        @Override
+        public void close() {
+            cleanup.run();
+        }
+    }
+}
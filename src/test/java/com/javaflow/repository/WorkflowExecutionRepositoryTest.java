@@ -0,0 +1,88 @@
+package com.javaflow.repository;
+
+import com.javaflow.model.Workflow;
+import com.javaflow.model.WorkflowExecution;
+import com.javaflow.model.WorkflowExecution.ExecutionStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+class WorkflowExecutionRepositoryTest {
+
+    @Autowired
+    private WorkflowExecutionRepository executionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private WorkflowExecution execution;
+
+    @BeforeEach
+    void setUp() {
+        Workflow workflow = Workflow.builder()
+                .name("facturacion")
+                .bpmnXml("<definitions/>")
+                .status(Workflow.WorkflowStatus.ACTIVE)
+                .build();
+        entityManager.persist(workflow);
+
+        execution = WorkflowExecution.create(workflow, null);
+        execution.setProcessInstanceId("pi-1");
+        execution = executionRepository.saveAndFlush(execution);
+        entityManager.clear();
+    }
+
+    @Test
+    void compareAndSetStatus_ShouldApplyOnlyFromExpectedStatus() {
+        LocalDateTime endedAt = LocalDateTime.now();
+
+        int cancelled = executionRepository.compareAndSetStatus("pi-1",
+                ExecutionStatus.CANCELLED.allowedSources(), ExecutionStatus.CANCELLED, endedAt, null);
+        int completed = executionRepository.compareAndSetStatus("pi-1",
+                ExecutionStatus.COMPLETED.allowedSources(), ExecutionStatus.COMPLETED, LocalDateTime.now(), null);
+        entityManager.clear();
+
+        WorkflowExecution current = executionRepository.findByProcessInstanceId("pi-1").orElseThrow();
+        assertThat(cancelled).isEqualTo(1);
+        assertThat(completed).isZero();
+        assertThat(current.getStatus()).isEqualTo(ExecutionStatus.CANCELLED);
+        assertThat(current.getEndedAt()).isNotNull();
+        assertThat(current.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void compareAndSetStatus_ShouldKeepErrorAndEndWhenNotGiven() {
+        executionRepository.compareAndSetStatus("pi-1", ExecutionStatus.FAILED.allowedSources(),
+                ExecutionStatus.FAILED, LocalDateTime.now(), "Timeout");
+        executionRepository.compareAndSetStatus("pi-1", ExecutionStatus.SUSPENDED.allowedSources(),
+                ExecutionStatus.SUSPENDED, null, null);
+        entityManager.clear();
+
+        WorkflowExecution current = executionRepository.findByProcessInstanceId("pi-1").orElseThrow();
+        assertThat(current.getStatus()).isEqualTo(ExecutionStatus.FAILED);
+        assertThat(current.getErrorMessage()).isEqualTo("Timeout");
+    }
+
+    @Test
+    void save_ShouldRejectStaleCopyAfterConcurrentTransition() {
+        WorkflowExecution stale = executionRepository.findById(execution.getId()).orElseThrow();
+        entityManager.detach(stale);
+
+        executionRepository.compareAndSetStatus("pi-1", ExecutionStatus.CANCELLED.allowedSources(),
+                ExecutionStatus.CANCELLED, LocalDateTime.now(), null);
+        entityManager.clear();
+
+        stale.complete();
+        assertThatThrownBy(() -> executionRepository.saveAndFlush(stale))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+}
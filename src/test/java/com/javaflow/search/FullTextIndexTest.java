@@ -0,0 +1,112 @@
+package com.javaflow.search;
+
+import com.javaflow.monitoring.MetricsService;
+import com.javaflow.search.SearchDocument.DocumentType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FullTextIndexTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 10, 12, 0);
+
+    @TempDir
+    Path directory;
+
+    private FullTextIndex index;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (index != null) {
+            index.stop();
+        }
+    }
+
+    @Test
+    void segment_ShouldMatchAllTermsPrefixAndType() throws IOException {
+        Path segment = directory.resolve("segment-1.fts");
+        SearchSegmentWriter.write(segment, List.of(
+                message(1, "Hola, ¿cómo está la conexión?", T0),
+                message(2, "La conexión se cortó otra vez", T0.plusMinutes(1)),
+                error(3, "Timeout de conexión al servicio de pagos", T0.plusMinutes(2)),
+                message(4, "Nada que ver", T0.plusMinutes(3))));
+
+        try (SearchSegmentReader reader = SearchSegmentReader.open(segment)) {
+            assertThat(ids(reader.search(TextAnalyzer.parseQuery("CONEXION"), null, 10))).containsExactly(3L, 2L, 1L);
+            assertThat(ids(reader.search(TextAnalyzer.parseQuery("conexión cortó"), null, 10))).containsExactly(2L);
+            assertThat(ids(reader.search(TextAnalyzer.parseQuery("conexion"), DocumentType.MESSAGE, 10))).containsExactly(2L, 1L);
+            assertThat(ids(reader.search(TextAnalyzer.parseQuery("pag*"), null, 10))).containsExactly(3L);
+            assertThat(ids(reader.search(TextAnalyzer.parseQuery("conexion"), null, 1))).containsExactly(3L);
+            assertThat(reader.search(TextAnalyzer.parseQuery("inexistente"), null, 10)).isEmpty();
+
+            SearchDocument stored = reader.search(TextAnalyzer.parseQuery("nada"), null, 1).get(0);
+            assertThat(stored).isEqualTo(message(4, "Nada que ver", T0.plusMinutes(3)));
+        }
+        assertThat(Files.exists(directory.resolve("segment-1.fts.tmp"))).isFalse();
+    }
+
+    @Test
+    void indexBatch_ShouldMergeSmallestSegmentsAndKeepNewestCopy() {
+        index = newIndex();
+
+        IntStream.range(0, 3).forEach(i -> index.indexBatch(List.of(message(100 + i, "pedido número " + i, T0.plusMinutes(i)))));
+        index.indexBatch(List.of(message(100, "pedido corregido", T0.plusHours(1))));
+
+        // merge-factor 2: segment count never stays above 2
+        assertThat(index.segmentCount()).isLessThanOrEqualTo(2);
+        List<SearchHit> hits = index.search("pedido", null, 10);
+        assertThat(hits).extracting(SearchHit::sourceId).containsExactly(100L, 102L, 101L);
+        assertThat(hits.get(0).snippet()).isEqualTo("pedido corregido");
+    }
+
+    @Test
+    void index_ShouldBeSearchableAfterFlushAndSurviveRestart() throws Exception {
+        index = newIndex();
+        assertThat(index.index(error(7, "NullPointerException en paso enviarFactura", T0))).isTrue();
+        assertThat(index.index(message(8, "   ", T0))).isFalse();
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (index.search("nullpointerexception", null, 10).isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(index.search("nullpointerexception", DocumentType.EXECUTION_ERROR, 10))
+                .extracting(SearchHit::sourceId).containsExactly(7L);
+
+        index.stop();
+        index = newIndex();
+        assertThat(index.search("enviarfactura", null, 10)).hasSize(1);
+    }
+
+    private FullTextIndex newIndex() {
+        FullTextIndex fullTextIndex = new FullTextIndex(new MetricsService(new SimpleMeterRegistry()),
+                directory.toString(), 100, 50, 10, 2);
+        try {
+            fullTextIndex.start();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return fullTextIndex;
+    }
+
+    private static SearchDocument message(long id, String text, LocalDateTime timestamp) {
+        return new SearchDocument(DocumentType.MESSAGE, id, "chat-1", text, timestamp);
+    }
+
+    private static SearchDocument error(long id, String text, LocalDateTime timestamp) {
+        return new SearchDocument(DocumentType.EXECUTION_ERROR, id, "Facturación", text, timestamp);
+    }
+
+    private static List<Long> ids(List<SearchDocument> documents) {
+        return documents.stream().map(SearchDocument::sourceId).toList();
+    }
+}
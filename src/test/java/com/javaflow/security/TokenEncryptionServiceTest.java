@@ -11,6 +11,9 @@ class TokenEncryptionServiceTest {
     // 32-byte key encoded in Base64: "12345678901234567890123456789012"
     private static final String TEST_ENCRYPTION_KEY = "MTIzNDU2Nzg5MDEyMzQ1Njc4OTAxMjM0NTY3ODkwMTI=";
 
+    // 32-byte key encoded in Base64: "abcdefghijklmnopqrstuvwxyz012345"
+    private static final String ROTATED_ENCRYPTION_KEY = "YWJjZGVmZ2hpamtsbW5vcHFyc3R1dnd4eXowMTIzNDU=";
+
     @Test
     void shouldEncryptAndDecryptTokenSuccessfully() {
         // Given
@@ -47,4 +50,75 @@ class TokenEncryptionServiceTest {
         assertThatThrownBy(() -> service.decrypt("invalid-base64-token"))
                 .isInstanceOf(TokenEncryptionService.EncryptionException.class);
     }
+
+    @Test
+    void decrypt_ShouldServeCachedTokenAndWipeItOnEviction() {
+        // Given
+        TokenEncryptionService service = new TokenEncryptionService(TEST_ENCRYPTION_KEY, 1, 60);
+        String first = service.encrypt("first-bot-token");
+        String second = service.encrypt("second-bot-token");
+
+        // When
+        assertThat(service.decrypt(first)).isEqualTo("first-bot-token");
+        TokenEncryptionService.CachedToken cached = service.cachedToken(first);
+        assertThat(service.decrypt(first)).isEqualTo("first-bot-token");
+        service.decrypt(second);
+        service.clearTokenCache();
+
+        // Then
+        assertThat(cached).isNotNull();
+        assertThat(cached.reveal()).isNull();
+        assertThat(service.cachedToken(second)).isNull();
+        assertThat(service.decrypt(first)).isEqualTo("first-bot-token");
+    }
+
+    @Test
+    void cachedTokenWipe_ShouldZeroThePlaintext() {
+        // Given
+        char[] plaintext = "bot-token".toCharArray();
+        TokenEncryptionService.CachedToken cached = new TokenEncryptionService.CachedToken(plaintext);
+
+        // When
+        cached.wipe();
+
+        // Then
+        assertThat(plaintext).containsOnly('\0');
+        assertThat(cached.reveal()).isNull();
+    }
+
+    @Test
+    void decrypt_ShouldRejectTamperedCiphertext() {
+        // Given
+        TokenEncryptionService service = new TokenEncryptionService(TEST_ENCRYPTION_KEY);
+        byte[] encrypted = java.util.Base64.getDecoder().decode(service.encrypt("test-bot-token").substring("v1:".length()));
+        encrypted[encrypted.length - 1] ^= 1;
+
+        // When/Then
+        assertThatThrownBy(() -> service.decrypt("v1:" + java.util.Base64.getEncoder().encodeToString(encrypted)))
+                .isInstanceOf(TokenEncryptionService.EncryptionException.class);
+    }
+
+    @Test
+    void decrypt_ShouldAcceptPreviousKeysAndUnversionedCiphertexts_AfterRotation() {
+        // Given
+        TokenEncryptionService before = new TokenEncryptionService(TEST_ENCRYPTION_KEY);
+        String versioned = before.encrypt("old-bot-token");
+        String unversioned = before.encrypt("legacy-bot-token").substring("v1:".length());
+        TokenEncryptionService after = new TokenEncryptionService(
+                ROTATED_ENCRYPTION_KEY, "v2", "v1:" + TEST_ENCRYPTION_KEY, 100, 60);
+
+        // When
+        String reEncrypted = after.reEncrypt(versioned);
+
+        // Then
+        assertThat(after.encrypt("new-bot-token")).startsWith("v2:");
+        assertThat(after.decrypt(versioned)).isEqualTo("old-bot-token");
+        assertThat(after.decrypt(unversioned)).isEqualTo("legacy-bot-token");
+        assertThat(after.isActiveKey(versioned)).isFalse();
+        assertThat(reEncrypted).startsWith("v2:");
+        assertThat(after.decrypt(reEncrypted)).isEqualTo("old-bot-token");
+        assertThat(after.reEncrypt(reEncrypted)).isSameAs(reEncrypted);
+        assertThatThrownBy(() -> before.decrypt(reEncrypted))
+                .isInstanceOf(TokenEncryptionService.EncryptionException.class);
+    }
 }
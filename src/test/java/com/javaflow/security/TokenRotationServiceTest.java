@@ -0,0 +1,124 @@
+package com.javaflow.security;
+
+import com.javaflow.model.BotConfiguration;
+import com.javaflow.monitoring.MetricsService;
+import com.javaflow.repository.BotConfigurationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs without the test transaction: the batches commit from the rotation's worker threads.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TokenRotationServiceTest {
+
+    private static final String OLD_KEY = "MTIzNDU2Nzg5MDEyMzQ1Njc4OTAxMjM0NTY3ODkwMTI=";
+    private static final String NEW_KEY = "YWJjZGVmZ2hpamtsbW5vcHFyc3R1dnd4eXowMTIzNDU=";
+
+    @Autowired
+    private BotConfigurationRepository botRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final TokenEncryptionService oldKeyService = new TokenEncryptionService(OLD_KEY);
+    private final TokenEncryptionService newKeyService = new TokenEncryptionService(NEW_KEY, "v2", "v1:" + OLD_KEY, 100, 60);
+
+    private TokenRotationService rotationService;
+
+    @BeforeEach
+    void setUp() {
+        rotationService = new TokenRotationService(jdbcTemplate, transactionManager, botRepository, newKeyService,
+                new MetricsService(new SimpleMeterRegistry()), 2, 2, false);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        rotationService.shutdown();
+        botRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM token_rotation_checkpoints");
+    }
+
+    @Test
+    void startRotation_ShouldReEncryptEveryTokenInParallelBatches() throws InterruptedException {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            ids.add(saveBot("bot-" + i, oldKeyService.encrypt("token-" + i)));
+        }
+        Long unversioned = saveBot("legacy", oldKeyService.encrypt("legacy-token").substring("v1:".length()));
+        Long unknownKey = saveBot("unknown", "v0:" + oldKeyService.encrypt("lost-token").substring("v1:".length()));
+        saveBot("no-token", null);
+
+        TokenRotationProgress progress = awaitFinished(rotationService.startRotation());
+
+        assertThat(progress.status()).isEqualTo(TokenRotationProgress.Status.COMPLETED);
+        assertThat(progress.totalBots()).isEqualTo(9);
+        assertThat(progress.reEncrypted()).isEqualTo(8);
+        assertThat(progress.failed()).isEqualTo(1);
+        for (int i = 0; i < ids.size(); i++) {
+            String token = botRepository.findById(ids.get(i)).orElseThrow().getToken();
+            assertThat(token).startsWith("v2:");
+            assertThat(newKeyService.decrypt(token)).isEqualTo("token-" + i);
+        }
+        assertThat(newKeyService.decrypt(botRepository.findById(unversioned).orElseThrow().getToken())).isEqualTo("legacy-token");
+        assertThat(botRepository.findById(unknownKey).orElseThrow().getToken()).startsWith("v0:");
+        assertThat(rotationService.getProgress()).hasValueSatisfying(stored ->
+                assertThat(stored.percentComplete()).isEqualTo(100));
+    }
+
+    @Test
+    void startRotation_ShouldContinueFromCheckpoint() throws InterruptedException {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            ids.add(saveBot("bot-" + i, oldKeyService.encrypt("token-" + i)));
+        }
+        Timestamp startedAt = Timestamp.valueOf(LocalDateTime.now().minusMinutes(5));
+        jdbcTemplate.update("INSERT INTO token_rotation_checkpoints (key_id, last_bot_id, total_bots, reencrypted, failed, " +
+                "status, started_at, updated_at) VALUES ('v2', ?, 4, 2, 0, 'RUNNING', ?, ?)", ids.get(1), startedAt, startedAt);
+
+        TokenRotationProgress progress = awaitFinished(rotationService.startRotation());
+
+        assertThat(progress.status()).isEqualTo(TokenRotationProgress.Status.COMPLETED);
+        assertThat(progress.reEncrypted()).isEqualTo(4);
+        assertThat(progress.lastBotId()).isEqualTo(ids.get(3));
+        assertThat(botRepository.findById(ids.get(1)).orElseThrow().getToken()).startsWith("v1:");
+        assertThat(botRepository.findById(ids.get(2)).orElseThrow().getToken()).startsWith("v2:");
+        assertThat(botRepository.findById(ids.get(3)).orElseThrow().getToken()).startsWith("v2:");
+    }
+
+    private Long saveBot(String name, String token) {
+        return botRepository.save(BotConfiguration.builder()
+                .name(name)
+                .type(BotConfiguration.BotType.TELEGRAM)
+                .token(token)
+                .build()).getId();
+    }
+
+    private TokenRotationProgress awaitFinished(TokenRotationProgress started) throws InterruptedException {
+        TokenRotationProgress progress = started;
+        for (int i = 0; i < 100 && progress.status() == TokenRotationProgress.Status.RUNNING; i++) {
+            Thread.sleep(50);
+            progress = rotationService.getProgress().orElseThrow();
+        }
+        return progress;
+    }
+}
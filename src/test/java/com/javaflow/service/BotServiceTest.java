@@ -0,0 +1,137 @@
+package com.javaflow.service;
+
+import com.javaflow.archive.MessageArchiveStore;
+import com.javaflow.bot.outbound.OutboundMessageDispatcher;
+import com.javaflow.bot.command.BotCommandHandler;
+import com.javaflow.bot.command.StartCommandHandler;
+import com.javaflow.bot.command.UnknownCommandHandler;
+import com.javaflow.bot.port.BotPort;
+import com.javaflow.domain.events.BotMessageReceivedEvent;
+import com.javaflow.model.BotConfiguration;
+import com.javaflow.model.Message;
+import com.javaflow.monitoring.MetricsService;
+import com.javaflow.repository.BotConfigurationRepository;
+import com.javaflow.repository.MessageRepository;
+import com.javaflow.search.FullTextIndex;
+import com.javaflow.security.TokenEncryptionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationContext;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BotServiceTest {
+
+    @Mock
+    private BotConfigurationRepository botRepository;
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private BotPort telegramAdapter;
+
+    @Mock
+    private TokenEncryptionService encryptionService;
+
+    @Mock
+    private ApplicationContext applicationContext;
+
+    @Mock
+    private OutboundMessageDispatcher outboundDispatcher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BotService botService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        MetricsService metricsService = new MetricsService(meterRegistry);
+        botService = new BotService(botRepository, messageRepository, Map.of("telegramBotAdapter", telegramAdapter),
+                mock(WorkflowService.class), metricsService, encryptionService, applicationContext,
+                mock(UnknownCommandHandler.class), mock(MessageArchiveStore.class), mock(FullTextIndex.class),
+                mock(ConversationCache.class), outboundDispatcher, Runnable::run);
+        lenient().when(applicationContext.getBean("startCommandHandler", BotCommandHandler.class))
+                .thenReturn(new StartCommandHandler(botService, metricsService));
+        // Envío inmediato, sin límites: los límites se prueban en OutboundMessageDispatcherTest
+        lenient().when(outboundDispatcher.submit(any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            BotPort adapter = invocation.getArgument(2);
+            adapter.sendMessage(invocation.getArgument(1), invocation.getArgument(3));
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+
+    @Test
+    void handleBotMessageReceived_ShouldResolveBotOnceForMessageCommandAndReply() {
+        BotConfiguration bot = BotConfiguration.builder()
+                .id(1L)
+                .name("soporte")
+                .type(BotConfiguration.BotType.TELEGRAM)
+                .token("encrypted")
+                .build();
+        when(botRepository.findById(1L)).thenReturn(Optional.of(bot));
+        AtomicLong ids = new AtomicLong();
+        when(messageRepository.save(any(Message.class))).thenAnswer(invocation -> {
+            Message message = invocation.getArgument(0);
+            message.setId(ids.incrementAndGet());
+            return message;
+        });
+
+        botService.handleBotMessageReceived(new BotMessageReceivedEvent(1L, "chat-1", "user-1", "/start", "10"));
+
+        verify(botRepository, times(1)).findById(1L);
+        verify(telegramAdapter).sendMessage(eq("chat-1"), contains("Bienvenido"));
+        verify(outboundDispatcher).submit(eq(1L), eq("chat-1"), same(telegramAdapter), contains("Bienvenido"),
+                eq(OutboundMessageDispatcher.Priority.HIGH));
+        verify(messageRepository, times(2)).save(argThat(message -> message.getBot() == bot));
+        verifyNoInteractions(encryptionService);
+        assertThat(meterRegistry.get("javaflow.bot.message.db_calls").tag("bot_type", "telegram").summary().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void sendMessage_ShouldCountAndPropagateFailuresToSaveTheSentMessage() {
+        BotConfiguration bot = BotConfiguration.builder()
+                .id(1L)
+                .type(BotConfiguration.BotType.TELEGRAM)
+                .build();
+        when(botRepository.findById(1L)).thenReturn(Optional.of(bot));
+        when(messageRepository.save(any(Message.class)))
+                .thenThrow(new org.springframework.dao.DataAccessResourceFailureException("down"));
+
+        CompletableFuture<Message> sending = botService.sendMessage(1L, "chat-1", "hola");
+
+        assertThat(sending).isCompletedExceptionally();
+        verify(telegramAdapter).sendMessage("chat-1", "hola");
+        assertThat(meterRegistry.get("javaflow.bot.outbound.failed").tag("reason", "persist_error").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void resolveContext_ShouldNotDecryptTheToken() {
+        BotConfiguration bot = BotConfiguration.builder()
+                .id(1L)
+                .type(BotConfiguration.BotType.TELEGRAM)
+                .token("encrypted")
+                .build();
+        when(botRepository.findById(1L)).thenReturn(Optional.of(bot));
+
+        MessageContext context = botService.resolveContext(1L, "chat-1");
+
+        assertThat(context.bot()).isSameAs(bot);
+        assertThat(context.toString()).doesNotContain("encrypted");
+        verifyNoInteractions(encryptionService);
+    }
+}
@@ -0,0 +1,86 @@
+package com.javaflow.service;
+
+import com.javaflow.model.Message;
+import com.javaflow.monitoring.MetricsService;
+import com.javaflow.service.dto.ConversationTurn;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConversationCacheTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 10, 12, 0);
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void getRecent_ShouldLoadOnceAndKeepOnlyLastTurnsOnAppend() {
+        ConversationCache cache = new ConversationCache(new MetricsService(new SimpleMeterRegistry()), 3, 1);
+        IntFunction<List<ConversationTurn>> loader = countingLoader(List.of(turn(2), turn(1)));
+
+        assertThat(ids(cache.getRecent("chat-1", 3, loader))).containsExactly(2L, 1L);
+
+        cache.append(turn(3));
+        cache.append(turn(4));
+        cache.append(turn(4)); // duplicate delivery of the same message
+
+        assertThat(ids(cache.getRecent("chat-1", 3, loader))).containsExactly(4L, 3L, 2L);
+        assertThat(ids(cache.getRecent("chat-1", 1, loader))).containsExactly(4L);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void append_ShouldIgnoreChatsNotInCache() {
+        ConversationCache cache = new ConversationCache(new MetricsService(new SimpleMeterRegistry()), 3, 1);
+        cache.append(turn(1));
+
+        assertThat(cache.estimatedSize()).isZero();
+        assertThat(ids(cache.getRecent("chat-1", 2, countingLoader(List.of(turn(1)))))).containsExactly(1L);
+    }
+
+    @Test
+    void getRecent_ShouldBypassBufferWhenLimitExceedsCapacity() {
+        ConversationCache cache = new ConversationCache(new MetricsService(new SimpleMeterRegistry()), 2, 1);
+        List<ConversationTurn> all = LongStream.rangeClosed(1, 5).map(i -> 6 - i).mapToObj(ConversationCacheTest::turn).toList();
+
+        assertThat(cache.getRecent("chat-1", 5, countingLoader(all))).hasSize(5);
+        assertThat(cache.estimatedSize()).isZero();
+    }
+
+    @Test
+    void history_ShouldTrackWeightOfReplacedTurns() {
+        ConversationCache.History history = ConversationCache.History.of(2, List.of());
+        int empty = history.estimatedBytes();
+
+        history.add(turn(1));
+        history.add(turn(2));
+        int full = history.estimatedBytes();
+        history.add(turn(3));
+
+        assertThat(full).isGreaterThan(empty);
+        assertThat(history.estimatedBytes()).isEqualTo(full);
+    }
+
+    private IntFunction<List<ConversationTurn>> countingLoader(List<ConversationTurn> newestFirst) {
+        return n -> {
+            loads.incrementAndGet();
+            return newestFirst.stream().limit(n).toList();
+        };
+    }
+
+    private static ConversationTurn turn(long id) {
+        return new ConversationTurn(id, "chat-1", "user-1", Message.MessageDirection.INBOUND,
+                "mensaje " + id, T0.plusMinutes(id));
+    }
+
+    private static List<Long> ids(List<ConversationTurn> turns) {
+        return turns.stream().map(ConversationTurn::messageId).toList();
+    }
+}
@@ -0,0 +1,73 @@
+package com.javaflow.service;
+
+import com.javaflow.model.WorkflowExecution;
+import com.javaflow.service.dto.DashboardSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DashboardQueryServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private DashboardQueryService service;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:dashboard-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE workflows (id BIGINT PRIMARY KEY, name VARCHAR(255), status VARCHAR(50))");
+        jdbcTemplate.execute("CREATE TABLE bot_configurations (id BIGINT PRIMARY KEY, status VARCHAR(50))");
+        jdbcTemplate.execute("CREATE TABLE workflow_executions (id BIGINT PRIMARY KEY, workflow_id BIGINT, " +
+                "status VARCHAR(50), started_at TIMESTAMP)");
+
+        service = new DashboardQueryService(jdbcTemplate, new DataSourceTransactionManager(dataSource),
+                24, 10, 60_000, 60_000);
+    }
+
+    @Test
+    void getSnapshot_ShouldAggregateCountersAndLimitLatestExecutions() {
+        jdbcTemplate.update("INSERT INTO workflows VALUES (1, 'Onboarding', 'ACTIVE'), (2, 'Billing', 'DRAFT')");
+        jdbcTemplate.update("INSERT INTO bot_configurations VALUES (1, 'ACTIVE'), (2, 'INACTIVE')");
+        LocalDateTime now = LocalDateTime.now();
+        for (long i = 1; i <= 12; i++) {
+            insertExecution(i, now.minusMinutes(i));
+        }
+        insertExecution(13, now.minusDays(2));
+
+        DashboardSnapshot snapshot = service.getSnapshot();
+
+        assertThat(snapshot.totalWorkflows()).isEqualTo(2);
+        assertThat(snapshot.activeWorkflows()).isEqualTo(1);
+        assertThat(snapshot.activeBots()).isEqualTo(1);
+        assertThat(snapshot.recentExecutions()).isEqualTo(12);
+        assertThat(snapshot.latestExecutions()).hasSize(10);
+        assertThat(snapshot.latestExecutions().get(0).executionId()).isEqualTo(1L);
+        assertThat(snapshot.latestExecutions().get(0).workflowName()).isEqualTo("Onboarding");
+        assertThat(snapshot.latestExecutions().get(0).status()).isEqualTo(WorkflowExecution.ExecutionStatus.COMPLETED);
+    }
+
+    @Test
+    void getSnapshot_ShouldServeCachedSnapshotUntilInvalidated() {
+        DashboardSnapshot first = service.getSnapshot();
+        jdbcTemplate.update("INSERT INTO workflows VALUES (1, 'Onboarding', 'ACTIVE')");
+
+        assertThat(service.getSnapshot()).isSameAs(first);
+
+        service.invalidate();
+        assertThat(service.getSnapshot().totalWorkflows()).isEqualTo(1);
+    }
+
+    private void insertExecution(long id, LocalDateTime startedAt) {
+        jdbcTemplate.update("INSERT INTO workflow_executions VALUES (?, 1, 'COMPLETED', ?)",
+                id, Timestamp.valueOf(startedAt));
+    }
+}
@@ -0,0 +1,153 @@
+package com.javaflow.service;
+
+import com.javaflow.cache.ClusterCacheInvalidator;
+import com.javaflow.cache.WorkflowCache;
+import com.javaflow.domain.exception.WorkflowNotFoundException;
+import com.javaflow.model.BotConfiguration;
+import com.javaflow.model.Message;
+import com.javaflow.model.SystemLog;
+import com.javaflow.model.Workflow;
+import com.javaflow.model.WorkflowExecution;
+import com.javaflow.service.dto.WorkflowDeletionProgress;
+import jakarta.persistence.EntityManager;
+import org.flowable.engine.HistoryService;
+import org.flowable.engine.RepositoryService;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.history.HistoricProcessInstanceQuery;
+import org.flowable.engine.repository.ProcessDefinitionQuery;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.runtime.ProcessInstanceQuery;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * The deletion job is run synchronously inside the test transaction; Flowable is mocked.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class WorkflowDeletionServiceTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final RuntimeService runtimeService = mock(RuntimeService.class);
+    private final ProcessInstanceQuery processInstanceQuery = mock(ProcessInstanceQuery.class, RETURNS_SELF);
+
+    private WorkflowDeletionService deletionService;
+
+    @BeforeEach
+    void setUp() {
+        RepositoryService repositoryService = mock(RepositoryService.class);
+        HistoryService historyService = mock(HistoryService.class);
+        ProcessDefinitionQuery definitionQuery = mock(ProcessDefinitionQuery.class, RETURNS_SELF);
+        HistoricProcessInstanceQuery historicQuery = mock(HistoricProcessInstanceQuery.class, RETURNS_SELF);
+        when(repositoryService.createProcessDefinitionQuery()).thenReturn(definitionQuery);
+        when(definitionQuery.list()).thenReturn(List.of());
+        when(historyService.createHistoricProcessInstanceQuery()).thenReturn(historicQuery);
+        when(historicQuery.list()).thenReturn(List.of());
+        when(runtimeService.createProcessInstanceQuery()).thenReturn(processInstanceQuery);
+
+        deletionService = new WorkflowDeletionService(jdbcTemplate, transactionManager, repositoryService,
+                runtimeService, historyService,
+                new WorkflowCache(new ConcurrentMapCacheManager(WorkflowCache.BY_ID, WorkflowCache.LISTS),
+                        new StaticListableBeanFactory().getBeanProvider(ClusterCacheInvalidator.class)), 2, 60);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        deletionService.shutdown();
+    }
+
+    @Test
+    void run_ShouldDeleteExecutionsWithTheirMessagesAndLogsInBatches() {
+        Workflow workflow = persistWorkflow("facturacion");
+        Workflow other = persistWorkflow("soporte");
+        BotConfiguration bot = BotConfiguration.builder().name("bot").type(BotConfiguration.BotType.TELEGRAM).build();
+        entityManager.persist(bot);
+        for (int i = 0; i < 5; i++) {
+            WorkflowExecution execution = persistExecution(workflow, "pi-" + i);
+            if (i < 2) {
+                entityManager.persist(Message.builder().bot(bot).chatId("c").content("m" + i)
+                        .direction(Message.MessageDirection.OUTBOUND).workflowExecution(execution).build());
+            }
+        }
+        entityManager.persist(SystemLog.builder().level(SystemLog.LogLevel.INFO).message("log")
+                .processInstanceId("pi-3").build());
+        entityManager.persist(Message.builder().bot(bot).chatId("c").content("unrelated")
+                .direction(Message.MessageDirection.INBOUND).build());
+        persistExecution(other, "pi-other");
+        entityManager.flush();
+
+        ProcessInstance running = mock(ProcessInstance.class);
+        when(running.getId()).thenReturn("pi-1");
+        when(processInstanceQuery.list()).thenReturn(List.of(running), List.of());
+        when(processInstanceQuery.listPage(anyInt(), anyInt())).thenReturn(List.of());
+
+        WorkflowDeletionService.DeletionJob job =
+                new WorkflowDeletionService.DeletionJob("job-1", workflow.getId(), workflow.getName());
+        deletionService.run(job);
+
+        WorkflowDeletionProgress progress = job.snapshot();
+        assertThat(progress.status()).isEqualTo(WorkflowDeletionProgress.Status.COMPLETED);
+        assertThat(progress.percentComplete()).isEqualTo(100);
+        assertThat(progress.totalExecutions()).isEqualTo(5);
+        assertThat(progress.executionsDeleted()).isEqualTo(5);
+        assertThat(progress.messagesDeleted()).isEqualTo(2);
+        assertThat(progress.logsDeleted()).isEqualTo(1);
+        verify(runtimeService).bulkDeleteProcessInstances(eq(List.of("pi-1")), anyString());
+
+        assertThat(count("SELECT COUNT(*) FROM workflows WHERE id = ?", workflow.getId())).isZero();
+        assertThat(count("SELECT COUNT(*) FROM workflow_executions WHERE workflow_id = ?", other.getId())).isEqualTo(1);
+        assertThat(count("SELECT COUNT(*) FROM messages WHERE bot_id = ?", bot.getId())).isEqualTo(1);
+    }
+
+    @Test
+    void startDeletion_ShouldRejectUnknownWorkflow() {
+        assertThatThrownBy(() -> deletionService.startDeletion(-1L))
+                .isInstanceOf(WorkflowNotFoundException.class);
+        assertThatThrownBy(() -> deletionService.getProgress("missing"))
+                .isInstanceOf(WorkflowDeletionService.DeletionJobNotFoundException.class);
+    }
+
+    private Workflow persistWorkflow(String name) {
+        Workflow workflow = Workflow.builder()
+                .name(name)
+                .bpmnXml("<definitions/>")
+                .status(Workflow.WorkflowStatus.ACTIVE)
+                .build();
+        entityManager.persist(workflow);
+        return workflow;
+    }
+
+    private WorkflowExecution persistExecution(Workflow workflow, String processInstanceId) {
+        WorkflowExecution execution = WorkflowExecution.create(workflow, null);
+        execution.setProcessInstanceId(processInstanceId);
+        entityManager.persist(execution);
+        return execution;
+    }
+
+    private long count(String sql, Object arg) {
+        return jdbcTemplate.queryForObject(sql, Long.class, arg);
+    }
+}
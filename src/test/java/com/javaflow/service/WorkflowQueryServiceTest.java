@@ -0,0 +1,93 @@
+package com.javaflow.service;
+
+import com.javaflow.cache.ClusterCacheInvalidator;
+import com.javaflow.cache.WorkflowCache;
+import com.javaflow.domain.exception.WorkflowNotFoundException;
+import com.javaflow.model.User;
+import com.javaflow.model.Workflow;
+import com.javaflow.model.WorkflowExecution;
+import com.javaflow.service.dto.WorkflowSummary;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class WorkflowQueryServiceTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private WorkflowQueryService queryService;
+
+    @BeforeEach
+    void setUp() {
+        queryService = new WorkflowQueryService(jdbcTemplate, transactionManager,
+                new WorkflowCache(new ConcurrentMapCacheManager(WorkflowCache.BY_ID, WorkflowCache.LISTS),
+                        new StaticListableBeanFactory().getBeanProvider(ClusterCacheInvalidator.class)));
+    }
+
+    @Test
+    void getSummaries_ShouldAggregateExecutionStatsWithoutLoadingEntities() {
+        User admin = User.builder()
+                .username("admin")
+                .email("admin@javaflow.com")
+                .passwordHash("hash")
+                .role(User.UserRole.ADMIN)
+                .build();
+        entityManager.persist(admin);
+        Workflow withExecutions = workflow("facturacion", admin);
+        Workflow withoutExecutions = workflow("altas", null);
+        for (int i = 0; i < 4; i++) {
+            WorkflowExecution execution = WorkflowExecution.create(withExecutions, admin);
+            execution.setProcessInstanceId("pi-" + i);
+            if (i == 0) {
+                execution.fail("Timeout");
+            } else if (i < 3) {
+                execution.complete();
+            }
+            entityManager.persist(execution);
+        }
+        entityManager.flush();
+
+        List<WorkflowSummary> summaries = queryService.getSummaries();
+
+        assertThat(summaries).extracting(WorkflowSummary::name).containsExactly("facturacion", "altas");
+        WorkflowSummary first = summaries.get(0);
+        assertThat(first.createdBy()).isEqualTo("admin");
+        assertThat(first.executionCount()).isEqualTo(4);
+        assertThat(first.successfulExecutions()).isEqualTo(2);
+        assertThat(first.failedExecutions()).isEqualTo(1);
+        assertThat(first.successRate()).isEqualTo(50.0);
+        assertThat(summaries.get(1).executionCount()).isZero();
+        assertThat(queryService.getSummary(withoutExecutions.getId()).createdBy()).isNull();
+        assertThatThrownBy(() -> queryService.getSummary(-1L)).isInstanceOf(WorkflowNotFoundException.class);
+    }
+
+    private Workflow workflow(String name, User createdBy) {
+        Workflow workflow = Workflow.builder()
+                .name(name)
+                .bpmnXml("<definitions/>")
+                .status(Workflow.WorkflowStatus.ACTIVE)
+                .createdBy(createdBy)
+                .build();
+        entityManager.persist(workflow);
+        return workflow;
+    }
+}
@@ -10,6 +10,7 @@ import com.javaflow.application.workflow.result.WorkflowExecutionResult;
 import com.javaflow.application.workflow.result.WorkflowResult;
 import com.javaflow.model.Workflow;
 import com.javaflow.service.WorkflowService;
+import com.javaflow.service.dto.WorkflowSummary;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -105,16 +106,10 @@ class WorkflowRestControllerTest {
     @Test
     void getAllWorkflows_ShouldReturnWorkflowList() throws Exception {
         // Given
-        Workflow workflow = Workflow.builder()
-                .id(1L)
-                .name("Test Workflow")
-                .description("Test Description")
-                .status(Workflow.WorkflowStatus.ACTIVE)
-                .version(1)
-                .createdAt(LocalDateTime.now())
-                .build();
+        WorkflowSummary workflow = new WorkflowSummary(1L, "Test Workflow", "Test Description",
+                Workflow.WorkflowStatus.ACTIVE, 1, "admin", LocalDateTime.now(), null, 4, 3, 1);
 
-        when(workflowService.getAllWorkflows()).thenReturn(List.of(workflow));
+        when(workflowService.getWorkflowSummaries()).thenReturn(List.of(workflow));
 
         // When & Then
         mockMvc.perform(get("/api/v1/workflows"))
@@ -122,6 +117,7 @@ class WorkflowRestControllerTest {
                 .andExpect(jsonPath("$.content").isArray())
                 .andExpect(jsonPath("$.content[0].id").value(1))
                 .andExpect(jsonPath("$.content[0].name").value("Test Workflow"))
+                .andExpect(jsonPath("$.content[0].successRate").value(75.0))
                 .andExpect(jsonPath("$.totalElements").value(1));
     }
 